@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmhImplementation(project(":core:common-core"))
+    jmhImplementation(project(":core:identity-hub-core"))
+    jmhImplementation(project(":core:lib:accesstoken-lib"))
+    jmhImplementation(project(":core:lib:keypair-lib"))
+    jmhImplementation(project(":core:issuerservice:issuerservice-credentials"))
+    jmhImplementation(project(":core:issuerservice:issuerservice-issuance"))
+    jmhImplementation(libs.edc.spi.core)
+    jmhImplementation(libs.edc.lib.core) // token generation and validation, key parsers
+    jmhImplementation(libs.nimbus.jwt)
+    jmhImplementation(libs.edc.junit) // Mockito, for collaborators that have no in-memory implementation
+
+    // SQL store benchmarks, against a PostgreSQL database that is started with Testcontainers
+    jmhImplementation(project(":extensions:store:sql:identity-hub-credentials-store-sql"))
+    jmhImplementation(project(":spi:metrics-spi"))
+    jmhImplementation(libs.edc.sql.core)
+    jmhImplementation(libs.edc.transaction.local)
+    jmhImplementation(libs.testcontainers.postgres)
+    jmhImplementation(libs.postgres)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // run a subset of the benchmarks, e.g. -Pjmh.includes=CredentialQueryBenchmark
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
+
+edcBuild {
+    publish.set(false)
+}
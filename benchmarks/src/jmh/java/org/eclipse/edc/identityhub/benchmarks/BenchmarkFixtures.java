@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.benchmarks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
+import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.KeyPairUsage;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
+import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.eclipse.edc.spi.result.ServiceResult.success;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Shared test data for the benchmarks. All keys are generated locally, so no vault or key store is needed.
+ */
+final class BenchmarkFixtures {
+    static final String PARTICIPANT_CONTEXT_ID = "benchmark-participant";
+    static final String PARTICIPANT_DID = "did:web:benchmark-participant";
+    static final String PRIVATE_KEY_ALIAS = "benchmark-participant-alias";
+    static final String KEY_ID = PARTICIPANT_DID + "#key-1";
+
+    private BenchmarkFixtures() {
+    }
+
+    static ECKey generateKey(String keyId) {
+        try {
+            return new ECKeyGenerator(Curve.P_256).keyID(keyId).generate();
+        } catch (JOSEException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    static String signJwt(ECKey key, JWTClaimsSet claims) {
+        try {
+            var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(key.getKeyID()).build(), claims);
+            jwt.sign(new ECDSASigner(key));
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * A participant context service that returns the benchmark participant for every participant context ID.
+     */
+    static IdentityHubParticipantContextService participantContextService() {
+        IdentityHubParticipantContextService service = mock();
+        when(service.getParticipantContext(anyString())).thenReturn(success(IdentityHubParticipantContext.Builder.newInstance()
+                .participantContextId(PARTICIPANT_CONTEXT_ID)
+                .did(PARTICIPANT_DID)
+                .apiTokenAlias("benchmark-api-token")
+                .build()));
+        return service;
+    }
+
+    /**
+     * A key pair service that returns an active key pair with the given public key for every usage.
+     */
+    static KeyPairService keyPairService(ECKey key) {
+        KeyPairService service = mock();
+        when(service.getActiveKeyPairForUsage(anyString(), any(KeyPairUsage.class))).thenReturn(success(KeyPairResource.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .keyId(key.getKeyID())
+                .privateKeyAlias(PRIVATE_KEY_ALIAS)
+                .serializedPublicKey(key.toPublicJWK().toJSONString())
+                .participantContextId(PARTICIPANT_CONTEXT_ID)
+                .usage(KeyPairUsage.values())
+                .build()));
+        return service;
+    }
+
+    /**
+     * A signer provider that signs with the given key, regardless of the private key alias.
+     */
+    static JwsSignerProvider signerProvider(ECKey key) {
+        try {
+            var signer = new ECDSASigner(key);
+            return new StaticSignerProvider(signer);
+        } catch (JOSEException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    static VerifiableCredential credential(String type, String holderDid) {
+        var now = Instant.now();
+        return VerifiableCredential.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .types(List.of("VerifiableCredential", type))
+                .issuer(new Issuer("did:web:benchmark-issuer", Map.of()))
+                .issuanceDate(now.minus(1, ChronoUnit.DAYS))
+                .expirationDate(now.plus(365, ChronoUnit.DAYS))
+                .credentialSubject(CredentialSubject.Builder.newInstance()
+                        .id(holderDid)
+                        .claim("level", "gold")
+                        .build())
+                .build();
+    }
+
+    static VerifiableCredentialResource credentialResource(String participantContextId, String type, String rawVc) {
+        var credential = credential(type, PARTICIPANT_DID);
+        return VerifiableCredentialResource.Builder.newHolder()
+                .id(UUID.randomUUID().toString())
+                .state(VcStatus.ISSUED)
+                .credential(new VerifiableCredentialContainer(rawVc, CredentialFormat.VC1_0_JWT, credential))
+                .holderId(PARTICIPANT_DID)
+                .issuerId("did:web:benchmark-issuer")
+                .participantContextId(participantContextId)
+                .build();
+    }
+
+    private record StaticSignerProvider(JWSSigner signer) implements JwsSignerProvider {
+
+        @Override
+        public Result<JWSSigner> createJwsSigner(String privateKeyId) {
+            return Result.success(signer);
+        }
+
+        @Override
+        public Result<JWSSigner> createJwsSigner(String participantContextId, String privateKeyId) {
+            return Result.success(signer);
+        }
+    }
+}
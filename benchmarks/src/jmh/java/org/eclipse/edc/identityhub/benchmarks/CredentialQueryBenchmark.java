@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.benchmarks;
+
+import org.eclipse.edc.iam.decentralizedclaims.spi.model.PresentationQueryMessage;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.core.services.query.CredentialQueryResolverImpl;
+import org.eclipse.edc.identityhub.defaults.DiscriminatorMappingRegistryImpl;
+import org.eclipse.edc.identityhub.defaults.EdcScopeToCriterionTransformer;
+import org.eclipse.edc.identityhub.defaults.store.InMemoryCredentialStore;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.PARTICIPANT_CONTEXT_ID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.credentialResource;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures {@link CredentialQueryResolverImpl#query}, i.e. the credential lookup of a presentation query, against an
+ * {@link InMemoryCredentialStore}. The store holds credentials of {@value #TYPE_COUNT} types, spread over {@value #PARTICIPANT_COUNT}
+ * participants, and the query requests a single type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CredentialQueryBenchmark {
+    private static final int TYPE_COUNT = 10;
+    private static final int PARTICIPANT_COUNT = 10;
+    private static final String SCOPE = "org.eclipse.dspace.dcp.vc.type:BenchmarkCredential3:read";
+
+    @Param({ "100", "1000", "10000" })
+    private int credentialCount;
+
+    private CredentialQueryResolverImpl resolver;
+    private PresentationQueryMessage query;
+
+    @Setup
+    public void setup() {
+        var credentials = new ArrayList<VerifiableCredentialResource>();
+        for (var i = 0; i < credentialCount; i++) {
+            var participantContextId = i % PARTICIPANT_COUNT == 0 ? PARTICIPANT_CONTEXT_ID : "other-participant-" + i % PARTICIPANT_COUNT;
+            credentials.add(credentialResource(participantContextId, "BenchmarkCredential" + (i / PARTICIPANT_COUNT) % TYPE_COUNT, "raw-vc-" + i));
+        }
+        var store = new InMemoryCredentialStore();
+        store.createAll(credentials);
+        resolver = new CredentialQueryResolverImpl(store, new EdcScopeToCriterionTransformer(new DiscriminatorMappingRegistryImpl()), mock(), mock());
+        query = PresentationQueryMessage.Builder.newinstance().scopes(List.of(SCOPE)).build();
+    }
+
+    @Benchmark
+    public List<VerifiableCredentialContainer> query() {
+        return resolver.query(PARTICIPANT_CONTEXT_ID, query, List.of(SCOPE)).getContent().toList();
+    }
+}
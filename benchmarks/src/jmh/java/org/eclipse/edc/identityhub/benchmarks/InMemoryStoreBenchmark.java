@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.benchmarks;
+
+import org.eclipse.edc.identityhub.defaults.store.InMemoryCredentialStore;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.credentialResource;
+
+/**
+ * Measures reads and writes of the {@link InMemoryCredentialStore}: look-ups by ID, queries that are served by a secondary index,
+ * queries that scan all entities, creates, bulk creates, updates, and queries that run concurrently with updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryStoreBenchmark {
+    private static final int PARTICIPANT_COUNT = 100;
+
+    @Param({ "1000", "10000" })
+    private int storeSize;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private InMemoryCredentialStore store;
+    private List<VerifiableCredentialResource> credentials;
+    private List<VerifiableCredentialResource> newCredentials;
+    private QuerySpec indexedQuery;
+    private QuerySpec scanQuery;
+
+    @Setup
+    public void setup() {
+        credentials = IntStream.range(0, storeSize)
+                .mapToObj(i -> credentialResource("participant-" + i % PARTICIPANT_COUNT, "BenchmarkCredential", "raw-vc-" + i))
+                .toList();
+        // credentials that are not contained in the store
+        newCredentials = IntStream.range(0, storeSize)
+                .mapToObj(i -> credentialResource("participant-" + i % PARTICIPANT_COUNT, "BenchmarkCredential", "raw-vc-new-" + i))
+                .toList();
+        store = new InMemoryCredentialStore();
+        store.createAll(credentials);
+
+        indexedQuery = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("participantContextId", "=", "participant-42"))
+                .build();
+        // the issuer ID is not indexed
+        scanQuery = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("issuerId", "=", "did:web:someone-else"))
+                .build();
+    }
+
+    @Benchmark
+    public StoreResult<VerifiableCredentialResource> findById() {
+        return store.findById(next().getId());
+    }
+
+    @Benchmark
+    public StoreResult<Collection<VerifiableCredentialResource>> queryIndexed() {
+        return store.query(indexedQuery);
+    }
+
+    @Benchmark
+    public StoreResult<Collection<VerifiableCredentialResource>> queryScan() {
+        return store.query(scanQuery);
+    }
+
+    /**
+     * Creates a credential and deletes it again, so that the size of the store stays constant.
+     */
+    @Benchmark
+    public StoreResult<Void> create() {
+        var credential = newCredentials.get(Math.floorMod(counter.getAndIncrement(), newCredentials.size()));
+        store.create(credential);
+        return store.deleteById(credential.getId());
+    }
+
+    /**
+     * Creates all credentials in a single operation in an empty store.
+     */
+    @Benchmark
+    public StoreResult<Void> createAll() {
+        return new InMemoryCredentialStore().createAll(credentials);
+    }
+
+    @Benchmark
+    public StoreResult<Void> update() {
+        return store.update(next());
+    }
+
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(3)
+    public StoreResult<Collection<VerifiableCredentialResource>> readWhileWritingQuery() {
+        return store.query(indexedQuery);
+    }
+
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(1)
+    public StoreResult<Void> readWhileWritingUpdate() {
+        return store.update(next());
+    }
+
+    private VerifiableCredentialResource next() {
+        return credentials.get(Math.floorMod(counter.getAndIncrement(), credentials.size()));
+    }
+}
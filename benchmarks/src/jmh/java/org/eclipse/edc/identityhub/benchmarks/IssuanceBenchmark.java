@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.benchmarks;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.defaults.store.InMemoryCredentialStore;
+import org.eclipse.edc.issuerservice.credentials.CredentialStatusServiceImpl;
+import org.eclipse.edc.issuerservice.credentials.statuslist.bitstring.BitstringStatusListManager;
+import org.eclipse.edc.issuerservice.issuance.generator.CredentialGeneratorRegistryImpl;
+import org.eclipse.edc.issuerservice.issuance.generator.JwtCredentialGenerator;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.token.JwtGenerationService;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.KEY_ID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.PARTICIPANT_CONTEXT_ID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.credential;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.credentialResource;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.generateKey;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.keyPairService;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.participantContextService;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.signerProvider;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the steps that the {@code IssuanceProcessManagerImpl} performs for every issued credential: allocating an index in the
+ * active status list credential ({@link BitstringStatusListManager}) and signing the credential that contains the status entry
+ * ({@link CredentialGeneratorRegistryImpl#signCredential}). The credential store is an {@link InMemoryCredentialStore} that also
+ * contains {@code holderCredentialCount} unrelated credentials of the issuer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssuanceBenchmark {
+    private static final String HOLDER_DID = "did:web:benchmark-holder";
+
+    @Param({ "0", "10000" })
+    private int holderCredentialCount;
+
+    private BitstringStatusListManager statusListManager;
+    private CredentialStatusServiceImpl credentialStatusService;
+    private CredentialGeneratorRegistryImpl generatorRegistry;
+    private VerifiableCredential credential;
+
+    @Setup
+    public void setup() {
+        var signingKey = generateKey(KEY_ID);
+        var participantContextService = participantContextService();
+        generatorRegistry = new CredentialGeneratorRegistryImpl(mock(), participantContextService, mock(), keyPairService(signingKey));
+        generatorRegistry.addGenerator(CredentialFormat.VC1_0_JWT, new JwtCredentialGenerator(new JwtGenerationService(signerProvider(signingKey)), Clock.systemUTC()));
+
+        var store = new InMemoryCredentialStore();
+        store.createAll(IntStream.range(0, holderCredentialCount)
+                .mapToObj(i -> credentialResource(PARTICIPANT_CONTEXT_ID, "BenchmarkCredential", "raw-vc-" + i))
+                .toList());
+        var transactionContext = new NoopTransactionContext();
+        statusListManager = new BitstringStatusListManager(store, transactionContext, generatorRegistry, participantContextService,
+                resource -> Result.success("https://issuer.example.com/statuslist/" + resource.getId()));
+        credentialStatusService = new CredentialStatusServiceImpl(store, transactionContext, mock(), mock(), statusListManager, generatorRegistry);
+        credential = credential("BenchmarkCredential", HOLDER_DID);
+
+        // the first allocation creates and signs the status list credential, which is not what is measured
+        allocateStatusListIndex().orElseThrow(f -> new IllegalStateException(f.getFailureDetail()));
+    }
+
+    @Benchmark
+    public ServiceResult<Void> allocateStatusListIndex() {
+        return statusListManager.getActiveCredential(PARTICIPANT_CONTEXT_ID)
+                .compose(statusListManager::incrementIndex);
+    }
+
+    @Benchmark
+    public Result<VerifiableCredentialContainer> signCredential() {
+        return generatorRegistry.signCredential(PARTICIPANT_CONTEXT_ID, credential, CredentialFormat.VC1_0_JWT);
+    }
+
+    @Benchmark
+    public Result<VerifiableCredentialContainer> addToStatusListAndSign() {
+        var withStatus = credentialStatusService.addCredential(PARTICIPANT_CONTEXT_ID, credential);
+        return generatorRegistry.signCredential(PARTICIPANT_CONTEXT_ID, withStatus.getContent(), CredentialFormat.VC1_0_JWT);
+    }
+}
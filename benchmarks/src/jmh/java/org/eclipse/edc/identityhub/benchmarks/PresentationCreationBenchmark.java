@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.benchmarks;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.eclipse.edc.iam.decentralizedclaims.spi.model.PresentationResponseMessage;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.core.services.verifiablepresentation.PresentationCreatorRegistryImpl;
+import org.eclipse.edc.identityhub.core.services.verifiablepresentation.VerifiablePresentationServiceImpl;
+import org.eclipse.edc.identityhub.core.services.verifiablepresentation.generators.JwtPresentationGenerator;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.token.JwtGenerationService;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.KEY_ID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.PARTICIPANT_CONTEXT_ID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.PARTICIPANT_DID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.credential;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.generateKey;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.keyPairService;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.participantContextService;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.signJwt;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.signerProvider;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures {@link VerifiablePresentationServiceImpl#createPresentation} for JWT credentials, including the lookup of the signing key
+ * and the signing of the VP token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PresentationCreationBenchmark {
+
+    @Param({ "1", "5", "25" })
+    private int credentialCount;
+
+    private VerifiablePresentationServiceImpl presentationService;
+    private List<VerifiableCredentialContainer> credentials;
+
+    @Setup
+    public void setup() {
+        var signingKey = generateKey(KEY_ID);
+        var registry = new PresentationCreatorRegistryImpl(keyPairService(signingKey), participantContextService(), new NoopTransactionContext());
+        registry.addCreator(new JwtPresentationGenerator(Clock.systemUTC(), new JwtGenerationService(signerProvider(signingKey))), CredentialFormat.VC1_0_JWT);
+        presentationService = new VerifiablePresentationServiceImpl(registry, mock());
+
+        var issuerKey = generateKey("did:web:benchmark-issuer#key-1");
+        credentials = new ArrayList<>();
+        for (var i = 0; i < credentialCount; i++) {
+            var credential = credential("BenchmarkCredential" + i, PARTICIPANT_DID);
+            var rawVc = signJwt(issuerKey, new JWTClaimsSet.Builder()
+                    .issuer(credential.getIssuer().id())
+                    .subject(PARTICIPANT_DID)
+                    .claim("vc", Map.of("type", credential.getType(), "credentialSubject", Map.of("id", PARTICIPANT_DID, "level", "gold")))
+                    .build());
+            credentials.add(new VerifiableCredentialContainer(rawVc, CredentialFormat.VC1_0_JWT, credential));
+        }
+    }
+
+    @Benchmark
+    public Result<PresentationResponseMessage> createPresentation() {
+        return presentationService.createPresentation(PARTICIPANT_CONTEXT_ID, credentials, null, "did:web:verifier");
+    }
+}
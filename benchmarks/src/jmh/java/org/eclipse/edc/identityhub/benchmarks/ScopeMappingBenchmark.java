@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.benchmarks;
+
+import org.eclipse.edc.identityhub.defaults.ScopeMappingRegistryImpl;
+import org.eclipse.edc.spi.query.Criterion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link ScopeMappingRegistryImpl#map} depending on the number of registered mappings, with and without memoization of
+ * the mapped criteria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScopeMappingBenchmark {
+    private static final int SCOPE_COUNT = 100;
+
+    @Param({ "1", "10", "100" })
+    private int mappingCount;
+
+    @Param({ "0", "1000" })
+    private int cacheSize;
+
+    private ScopeMappingRegistryImpl registry;
+    private List<String> scopes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        registry = new ScopeMappingRegistryImpl(cacheSize);
+        for (var i = 0; i < mappingCount; i++) {
+            registry.addMapping("org\\.example\\.custom%d\\.vc\\.type:(.+):(read|\\*|all)".formatted(i),
+                    new Criterion("verifiableCredential.credential.type", "contains", "$1"));
+        }
+        scopes = IntStream.range(0, SCOPE_COUNT)
+                .mapToObj(i -> "org.example.custom%d.vc.type:BenchmarkCredential%d:read".formatted(i % mappingCount, i))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Criterion> map() {
+        next = (next + 1) % SCOPE_COUNT;
+        return registry.map(scopes.get(next));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.eclipse.edc.identityhub.accesstoken.rules.ClaimIsPresentRule;
+import org.eclipse.edc.identityhub.core.services.verification.SelfIssuedTokenVerifierImpl;
+import org.eclipse.edc.identityhub.defaults.store.InMemoryKeyPairResourceStore;
+import org.eclipse.edc.identityhub.publickey.KeyPairResourcePublicKeyResolver;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState;
+import org.eclipse.edc.keys.KeyParserRegistryImpl;
+import org.eclipse.edc.keys.keyparsers.JwkParser;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.token.TokenValidationRulesRegistryImpl;
+import org.eclipse.edc.token.TokenValidationServiceImpl;
+import org.eclipse.edc.token.rules.ExpirationIssuedAtValidationRule;
+import org.eclipse.edc.token.rules.NotBeforeValidationRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.KEY_ID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.PARTICIPANT_CONTEXT_ID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.PARTICIPANT_DID;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.generateKey;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.participantContextService;
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.signJwt;
+import static org.eclipse.edc.identityhub.spi.verification.SelfIssuedTokenConstants.ACCESS_TOKEN_SCOPE_CLAIM;
+import static org.eclipse.edc.identityhub.spi.verification.SelfIssuedTokenConstants.DCP_PRESENTATION_ACCESS_TOKEN_CONTEXT;
+import static org.eclipse.edc.identityhub.spi.verification.SelfIssuedTokenConstants.DCP_PRESENTATION_SELF_ISSUED_TOKEN_CONTEXT;
+import static org.eclipse.edc.identityhub.spi.verification.SelfIssuedTokenConstants.TOKEN_CLAIM;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures {@link SelfIssuedTokenVerifierImpl#verify}, i.e. the verification of the self-issued ID token of a presentation request
+ * and of the access token it contains. The access token key is resolved from an {@link InMemoryKeyPairResourceStore}, the key of the
+ * requesting participant is held in memory, so DID resolution is not part of the measurement. The JTI check is not active, the
+ * same token is verified over and over.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelfIssuedTokenVerificationBenchmark {
+    private static final String REQUESTER_DID = "did:web:benchmark-verifier";
+
+    private SelfIssuedTokenVerifierImpl verifier;
+    private String token;
+
+    @Setup
+    public void setup() {
+        var clock = Clock.systemUTC();
+        var rules = new TokenValidationRulesRegistryImpl();
+        rules.addRule(DCP_PRESENTATION_SELF_ISSUED_TOKEN_CONTEXT, new ClaimIsPresentRule(TOKEN_CLAIM));
+        rules.addRule(DCP_PRESENTATION_SELF_ISSUED_TOKEN_CONTEXT, new ExpirationIssuedAtValidationRule(clock, 5, true));
+        rules.addRule(DCP_PRESENTATION_SELF_ISSUED_TOKEN_CONTEXT, new NotBeforeValidationRule(clock, 5, true));
+        rules.addRule(DCP_PRESENTATION_ACCESS_TOKEN_CONTEXT, new ClaimIsPresentRule(ACCESS_TOKEN_SCOPE_CLAIM));
+
+        // the access token was issued by the STS of the participant, its public key is stored in the key pair store
+        var accessTokenKey = generateKey(KEY_ID);
+        var keyPairStore = new InMemoryKeyPairResourceStore();
+        keyPairStore.create(KeyPairResource.Builder.newTokenSigning()
+                .id(UUID.randomUUID().toString())
+                .keyId(KEY_ID)
+                .privateKeyAlias("sts-key-alias")
+                .serializedPublicKey(accessTokenKey.toPublicJWK().toJSONString())
+                .participantContextId(PARTICIPANT_CONTEXT_ID)
+                .state(KeyPairState.ACTIVATED)
+                .build());
+        var keyParserRegistry = new KeyParserRegistryImpl();
+        keyParserRegistry.register(new JwkParser(new ObjectMapper(), mock()));
+        var keyResolver = new KeyPairResourcePublicKeyResolver(keyPairStore, keyParserRegistry, mock(), id -> Result.failure("not found"));
+
+        var requesterKey = generateKey(REQUESTER_DID + "#key-1");
+        var requesterPublicKey = toPublicKey(requesterKey);
+        verifier = new SelfIssuedTokenVerifierImpl(new TokenValidationServiceImpl(), keyResolver, rules, id -> Result.success(requesterPublicKey), participantContextService());
+
+        var now = Instant.now();
+        var accessToken = signJwt(accessTokenKey, new JWTClaimsSet.Builder()
+                .issuer(PARTICIPANT_DID)
+                .subject(REQUESTER_DID)
+                .audience(PARTICIPANT_DID)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(1, ChronoUnit.DAYS)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim(ACCESS_TOKEN_SCOPE_CLAIM, "org.eclipse.dspace.dcp.vc.type:MembershipCredential:read")
+                .build());
+        token = signJwt(requesterKey, new JWTClaimsSet.Builder()
+                .issuer(REQUESTER_DID)
+                .subject(REQUESTER_DID)
+                .audience(PARTICIPANT_DID)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(1, ChronoUnit.DAYS)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim(TOKEN_CLAIM, accessToken)
+                .build());
+
+        var result = verifier.verify(token, PARTICIPANT_CONTEXT_ID);
+        if (result.failed()) {
+            throw new IllegalStateException("Benchmark token is not valid: " + result.getFailureDetail());
+        }
+    }
+
+    @Benchmark
+    public Result<List<String>> verify() {
+        return verifier.verify(token, PARTICIPANT_CONTEXT_ID);
+    }
+
+    private static PublicKey toPublicKey(ECKey key) {
+        try {
+            return key.toPublicKey();
+        } catch (JOSEException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.benchmarks;
+
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
+import org.eclipse.edc.identityhub.store.sql.credentials.CredentialStoreStatements;
+import org.eclipse.edc.identityhub.store.sql.credentials.SqlCredentialStore;
+import org.eclipse.edc.identityhub.store.sql.credentials.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.transaction.local.LocalDataSourceRegistry;
+import org.eclipse.edc.transaction.local.LocalTransactionContext;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+
+import static org.eclipse.edc.identityhub.benchmarks.BenchmarkFixtures.credentialResource;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.SQL_QUERY_DURATION;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the write throughput of the {@link SqlCredentialStore} against a PostgreSQL database that is started with Testcontainers,
+ * so Docker must be available. Next to the throughput, the number of SQL statements that are sent to the database is reported as the
+ * {@code statements} counter: dividing it by the score of the benchmark gives the number of round trips per operation.
+ * <p>
+ * Statements that are sent as a JDBC batch, as in {@code createAll}, are counted once per batch. The store does not send batches through
+ * the query executor, they are counted from the durations that the store records for them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlCredentialStoreBenchmark {
+    private static final String DATASOURCE_NAME = "benchmark";
+    private static final int STORE_SIZE = 1000;
+    private static final int BATCH_SIZE = 100;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final CredentialStoreStatements statements = new PostgresDialectStatements();
+    private PostgreSQLContainer<?> postgres;
+    private PooledDataSource dataSource;
+    private CountingQueryExecutor queryExecutor;
+    private SqlCredentialStore store;
+    private List<VerifiableCredentialResource> existing;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:17");
+        postgres.start();
+
+        var transactionContext = new LocalTransactionContext(mock());
+        var dataSourceRegistry = new LocalDataSourceRegistry(transactionContext);
+        dataSource = new PooledDataSource(postgres);
+        dataSourceRegistry.register(DATASOURCE_NAME, dataSource);
+        queryExecutor = new CountingQueryExecutor(new SqlQueryExecutor());
+        store = new SqlCredentialStore(dataSourceRegistry, DATASOURCE_NAME, transactionContext, new JacksonTypeManager().getMapper(),
+                queryExecutor, statements, SqlCredentialStore.COMPRESSION_DISABLED, null, queryExecutor);
+
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute(TestUtils.getResourceFileContentAsString("credentials-schema.sql"));
+        }
+        existing = IntStream.range(0, STORE_SIZE).mapToObj(i -> credential()).toList();
+        existing.forEach(store::create);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public StoreResult<Void> create(StatementCounter statementCounter) {
+        var result = store.create(credential());
+        statementCounter.statements += queryExecutor.takeCount();
+        return result;
+    }
+
+    @Benchmark
+    public StoreResult<Void> createAll(StatementCounter statementCounter) {
+        var result = store.createAll(IntStream.range(0, BATCH_SIZE).mapToObj(i -> credential()).toList());
+        statementCounter.statements += queryExecutor.takeCount();
+        return result;
+    }
+
+    @Benchmark
+    public StoreResult<Void> update(StatementCounter statementCounter) {
+        var result = store.update(existing.get(Math.floorMod(counter.getAndIncrement(), existing.size())));
+        statementCounter.statements += queryExecutor.takeCount();
+        return result;
+    }
+
+    @Benchmark
+    public StoreResult<VerifiableCredentialResource> findById(StatementCounter statementCounter) {
+        var result = store.findById(existing.get(Math.floorMod(counter.getAndIncrement(), existing.size())).getId());
+        statementCounter.statements += queryExecutor.takeCount();
+        return result;
+    }
+
+    private VerifiableCredentialResource credential() {
+        return credentialResource("participant-" + counter.getAndIncrement() % 100, "BenchmarkCredential", "raw-vc");
+    }
+
+    /**
+     * Number of SQL statements that were sent to the database during an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class StatementCounter {
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+
+    /**
+     * Counts the statements that are executed by the calling thread, including the batches whose duration the store records.
+     */
+    private static final class CountingQueryExecutor implements QueryExecutor, MetricRecorder {
+        private final QueryExecutor delegate;
+        private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+        CountingQueryExecutor(QueryExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int execute(Connection connection, String sql, Object... arguments) {
+            count.get()[0]++;
+            return delegate.execute(connection, sql, arguments);
+        }
+
+        @Override
+        public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+            count.get()[0]++;
+            return delegate.single(connection, closeConnection, resultSetMapper, sql, arguments);
+        }
+
+        @Override
+        public <T> Stream<T> query(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+            count.get()[0]++;
+            return delegate.query(connection, closeConnection, resultSetMapper, sql, arguments);
+        }
+
+        @Override
+        public void increment(String name, long amount, String... tags) {
+        }
+
+        @Override
+        public void record(String name, Duration duration, String... tags) {
+            if (SQL_QUERY_DURATION.equals(name)) {
+                count.get()[0]++;
+            }
+        }
+
+        int takeCount() {
+            var counter = count.get();
+            var value = counter[0];
+            counter[0] = 0;
+            return value;
+        }
+    }
+
+    /**
+     * Keeps physical connections open, like the connection pool of a runtime does, so that the benchmark does not measure the set-up of a
+     * connection for every operation. A connection that is closed is rolled back if needed and handed out again.
+     */
+    private static final class PooledDataSource implements DataSource, AutoCloseable {
+        private final PGSimpleDataSource delegate = new PGSimpleDataSource();
+        private final ConcurrentLinkedQueue<Connection> idle = new ConcurrentLinkedQueue<>();
+
+        PooledDataSource(PostgreSQLContainer<?> postgres) {
+            delegate.setUrl(postgres.getJdbcUrl());
+            delegate.setUser(postgres.getUsername());
+            delegate.setPassword(postgres.getPassword());
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            var connection = idle.poll();
+            return pooled(connection != null ? connection : delegate.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        @Override
+        public void close() {
+            Connection connection;
+            while ((connection = idle.poll()) != null) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // the database is stopped afterwards anyway
+                }
+            }
+        }
+
+        private Connection pooled(Connection physical) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{ Connection.class }, (proxy, method, args) -> {
+                if (method.getName().equals("close")) {
+                    if (!physical.getAutoCommit()) {
+                        physical.rollback();
+                        physical.setAutoCommit(true);
+                    }
+                    idle.offer(physical);
+                    return null;
+                }
+                try {
+                    return method.invoke(physical, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        @Override
+        public PrintWriter getLogWriter() throws SQLException {
+            return delegate.getLogWriter();
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) throws SQLException {
+            delegate.setLogWriter(out);
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+            delegate.setLoginTimeout(seconds);
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return delegate.getLoginTimeout();
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            return delegate.getParentLogger();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) throws SQLException {
+            return delegate.unwrap(type);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> type) throws SQLException {
+            return delegate.isWrapperFor(type);
+        }
+    }
+}
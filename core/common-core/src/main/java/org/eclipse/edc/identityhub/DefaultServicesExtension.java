@@ -18,12 +18,14 @@ import org.eclipse.edc.iam.decentralizedclaims.spi.verification.SignatureSuiteRe
 import org.eclipse.edc.identityhub.accesstoken.rules.ClaimIsPresentRule;
 import org.eclipse.edc.identityhub.defaults.EdcScopeToCriterionTransformer;
 import org.eclipse.edc.identityhub.defaults.RegexScopeToCriterionTransformer;
+import org.eclipse.edc.identityhub.defaults.SynchronousEventDispatchRegistry;
 import org.eclipse.edc.identityhub.defaults.store.InMemoryCredentialOfferStore;
 import org.eclipse.edc.identityhub.defaults.store.InMemoryCredentialStore;
 import org.eclipse.edc.identityhub.defaults.store.InMemoryHolderCredentialRequestStore;
 import org.eclipse.edc.identityhub.defaults.store.InMemoryKeyPairResourceStore;
 import org.eclipse.edc.identityhub.defaults.store.InMemorySignatureSuiteRegistry;
 import org.eclipse.edc.identityhub.spi.credential.request.store.HolderCredentialRequestStore;
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
 import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
 import org.eclipse.edc.identityhub.spi.transformation.DiscriminatorMappingRegistry;
 import org.eclipse.edc.identityhub.spi.transformation.ScopeMappingRegistry;
@@ -39,6 +41,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.security.token.jwt.DefaultJwsSignerProvider;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -96,6 +99,8 @@ public class DefaultServicesExtension implements ServiceExtension {
     private DiscriminatorMappingRegistry discriminatorMappingRegistry;
     @Inject
     private ScopeMappingRegistry scopeMappingRegistry;
+    @Inject
+    private EventRouter eventRouter;
 
     @Override
     public String name() {
@@ -160,6 +165,11 @@ public class DefaultServicesExtension implements ServiceExtension {
         return new InMemoryCredentialOfferStore(clock, criterionOperatorRegistry);
     }
 
+    @Provider(isDefault = true)
+    public EventDispatchRegistry createEventDispatchRegistry() {
+        return new SynchronousEventDispatchRegistry(eventRouter);
+    }
+
     private void cacheContextDocuments(ClassLoader classLoader) {
         try {
             jsonLd.registerCachedDocument(PRESENTATION_EXCHANGE_URL, classLoader.getResource(PRESENTATION_EXCHANGE_V_1_JSON).toURI());
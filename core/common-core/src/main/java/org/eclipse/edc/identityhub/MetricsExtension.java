@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub;
+
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import static org.eclipse.edc.identityhub.MetricsExtension.NAME;
+
+/**
+ * Provides a {@link MetricRecorder} that discards all measurements, unless a metrics backend extension (e.g. Micrometer) is present.
+ */
+@Extension(NAME)
+public class MetricsExtension implements ServiceExtension {
+    public static final String NAME = "Default Metrics Extension";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public MetricRecorder metricRecorder() {
+        return MetricRecorder.noop();
+    }
+}
@@ -35,8 +35,14 @@ public class ScopeMappingExtension implements ServiceExtension {
     public static final String NAME = "Scope Mapping Extension";
 
     public static final String CONFIG_PREFIX = "edc.identityhub.scope";
+    // must not start with CONFIG_PREFIX, all keys of which are interpreted as scope mappings
+    public static final String CACHE_SIZE = "edc.identityhub.criteria.cache.size";
+
     @Configuration(context = CONFIG_PREFIX)
     private Map<String, ScopeMapping> scopeMappings;
+    @Setting(key = CACHE_SIZE, min = 0, description = "Maximum number of scopes whose mapped criteria are cached. 0 disables the cache.",
+            defaultValue = ScopeMappingRegistryImpl.DEFAULT_CACHE_SIZE + "")
+    private int cacheSize;
 
     @Override
     public String name() {
@@ -45,7 +51,7 @@ public class ScopeMappingExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public ScopeMappingRegistry createScopeMappingRegistry() {
-        var scopeMappingRegistry = new ScopeMappingRegistryImpl();
+        var scopeMappingRegistry = new ScopeMappingRegistryImpl(cacheSize);
         scopeMappings.forEach((k, v) -> {
             scopeMappingRegistry.addMapping(v.pattern(), new Criterion(v.leftOperand(), v.operator(), v.rightOperand()));
         });
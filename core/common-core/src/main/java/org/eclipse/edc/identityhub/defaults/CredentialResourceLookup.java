@@ -33,6 +33,10 @@ import java.util.stream.Collectors;
 public class CredentialResourceLookup extends ReflectionPropertyLookup {
     @Override
     public Object getProperty(String key, Object object) {
+        // derived from the credential, see VerifiableCredentialResource#getExpirationTimestamp
+        if (VerifiableCredentialResource.EXPIRATION_TIMESTAMP.equals(key) && object instanceof VerifiableCredentialResource credentialResource) {
+            return credentialResource.getExpirationTimestamp();
+        }
         if (key.endsWith("@context")) {
             key = key.replace("@context", "context");
         }
@@ -18,56 +18,183 @@ import org.eclipse.edc.identityhub.spi.transformation.ScopeMappingRegistry;
 import org.eclipse.edc.spi.query.Criterion;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * An implementation of the {@link ScopeMappingRegistry} interface that maintains a list of regex-based scope mappings.
  * <p>
- * Thread-Safety: the class is designed to handle multiple threads concurrently accessing or modifying the mappings.
+ * Mappings are indexed by the literal prefix of their regular expression (e.g. {@code org.eclipse.custom.vc.type:} for
+ * {@code org\.eclipse\.custom\.vc\.type:(.+)}), so that only the patterns whose prefix matches the scope are evaluated. Criterion
+ * templates are parsed once, when the mapping is added. The criteria of recently mapped scopes are memoized in a bounded cache,
+ * which is discarded whenever a mapping is added.
+ * <p>
+ * Thread-Safety: the class is designed to handle multiple threads concurrently accessing or modifying the mappings. Readers work
+ * on an immutable snapshot of the index, which is replaced as a whole when a mapping is added.
  */
 public class ScopeMappingRegistryImpl implements ScopeMappingRegistry {
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private static final String METACHARACTERS = ".[](){}*+?|^$";
+    private static final String QUANTIFIERS = "?*+{";
 
+    private final int cacheSize;
     // this might be accessed from multiple threads (API requests), so it needs to be thread-safe
-    private final List<ScopeMapping> mappings = new CopyOnWriteArrayList<>();
+    private volatile Index index = new Index(List.of(), Map.of());
+
+    public ScopeMappingRegistryImpl() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates the registry.
+     *
+     * @param cacheSize the maximum number of scopes whose criteria are memoized. 0 disables memoization.
+     */
+    public ScopeMappingRegistryImpl(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
 
     @Override
-    public void addMapping(String regex, Criterion criterionTemplate) {
+    public synchronized void addMapping(String regex, Criterion criterionTemplate) {
         // Pattern.compile throws PatternSyntaxException on an invalid regex, surfacing config errors early
-        mappings.add(new ScopeMapping(Pattern.compile(regex), criterionTemplate));
+        var pattern = Pattern.compile(regex);
+        var groupCount = pattern.matcher("").groupCount();
+        var current = index;
+        var mapping = new ScopeMapping(current.mappings().size(), pattern,
+                compileOperand(criterionTemplate.getOperandLeft(), groupCount),
+                criterionTemplate.getOperator(),
+                compileOperand(criterionTemplate.getOperandRight(), groupCount));
+
+        var mappings = new ArrayList<>(current.mappings());
+        mappings.add(mapping);
+        var byPrefix = new HashMap<>(current.byPrefix());
+        var prefix = literalPrefix(regex);
+        var bucket = new ArrayList<>(byPrefix.getOrDefault(prefix, List.of()));
+        bucket.add(mapping);
+        byPrefix.put(prefix, List.copyOf(bucket));
+
+        index = new Index(List.copyOf(mappings), Map.copyOf(byPrefix));
     }
 
     @Override
     public List<Criterion> map(String scope) {
-        var result = new ArrayList<Criterion>();
         if (scope == null) {
-            return result;
+            return List.of();
+        }
+        var current = index;
+        if (current.mappings().isEmpty()) {
+            return List.of();
         }
-        for (var mapping : mappings) {
+
+        var cached = current.memo().get(scope);
+        if (cached != null) {
+            return cached;
+        }
+
+        var result = new ArrayList<Criterion>();
+        for (var mapping : current.candidates(scope)) {
             var matcher = mapping.pattern().matcher(scope);
             if (matcher.matches()) {
-                var template = mapping.template();
-                var left = substitute(matcher, template.getOperandLeft());
-                var right = substitute(matcher, template.getOperandRight());
-                result.add(new Criterion(left, template.getOperator(), right));
+                result.add(new Criterion(resolve(mapping.left(), matcher), mapping.operator(), resolve(mapping.right(), matcher)));
+            }
+        }
+
+        var criteria = List.copyOf(result);
+        if (cacheSize > 0) {
+            // the memo belongs to the snapshot, so results computed against a replaced snapshot never leak into the current one
+            if (current.memo().size() >= cacheSize) {
+                current.memo().clear();
+            }
+            current.memo().put(scope, criteria);
+        }
+        return criteria;
+    }
+
+    /**
+     * Determines the literal prefix of a regular expression, i.e. the characters every matching string starts with. The
+     * computation is conservative: as soon as it encounters a construct it does not understand, the prefix ends there. An
+     * expression with a top-level alternation has an empty prefix.
+     */
+    static String literalPrefix(String regex) {
+        if (hasTopLevelAlternation(regex)) {
+            return "";
+        }
+        var prefix = new StringBuilder();
+        var i = 0;
+        while (i < regex.length()) {
+            var c = regex.charAt(i);
+            char literal;
+            int next;
+            if (c == '\\') {
+                // escaped letters and digits are character classes (\d, \w), back references or quotes (\Q)
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    break;
+                }
+                literal = regex.charAt(i + 1);
+                next = i + 2;
+            } else if (METACHARACTERS.indexOf(c) >= 0) {
+                break;
+            } else {
+                literal = c;
+                next = i + 1;
+            }
+            // a quantifier makes the character optional or repeatable
+            if (next < regex.length() && QUANTIFIERS.indexOf(regex.charAt(next)) >= 0) {
+                break;
+            }
+            prefix.append(literal);
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(String regex) {
+        var depth = 0;
+        var classDepth = 0;
+        for (var i = 0; i < regex.length(); i++) {
+            var c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == 'Q') {
+                    var end = regex.indexOf("\\E", i + 2);
+                    i = end < 0 ? regex.length() : end + 1;
+                } else {
+                    i++;
+                }
+            } else if (c == '[') {
+                classDepth++;
+            } else if (c == ']' && classDepth > 0) {
+                classDepth--;
+            } else if (classDepth == 0) {
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                } else if (c == '|' && depth == 0) {
+                    return true;
+                }
             }
         }
-        return result;
+        return false;
     }
 
     /**
-     * Substitutes regex capture groups ({@code $0}, {@code $1}, {@code ${1}}, …) into a (String) operand. A group that
-     * did not participate in the match is substituted with an empty string, and a reference to a non-existent group is
-     * left as-is. Non-String operands are returned unchanged.
+     * Parses capture group references ({@code $0}, {@code $1}, {@code ${1}}, …) in a (String) operand. Returns the operand
+     * itself if it is not a String or does not contain any valid reference, an {@link OperandTemplate} otherwise. A reference
+     * to a non-existent group is kept as a literal.
      */
-    private static Object substitute(Matcher matcher, Object operand) {
+    private static Object compileOperand(Object operand, int groupCount) {
         if (!(operand instanceof String template)) {
             return operand;
         }
 
-        var sb = new StringBuilder();
+        var parts = new ArrayList<>();
+        var literal = new StringBuilder();
         var i = 0;
         while (i < template.length()) {
             var c = template.charAt(i);
@@ -83,17 +210,47 @@ public class ScopeMappingRegistryImpl implements ScopeMappingRegistry {
                     // the substring is all digits; parseInt can only fail on overflow, which can never be
                     // a valid group index, so an unparseable/out-of-range reference is left as a literal
                     var group = parseGroup(template.substring(start, j));
-                    if (group >= 0 && group <= matcher.groupCount()) {
-                        var value = matcher.group(group);
-                        sb.append(value == null ? "" : value);
+                    if (group >= 0 && group <= groupCount) {
+                        if (!literal.isEmpty()) {
+                            parts.add(literal.toString());
+                            literal.setLength(0);
+                        }
+                        parts.add(group);
                         i = braced ? j + 1 : j;
                         continue;
                     }
                 }
             }
-            sb.append(c);
+            literal.append(c);
             i++;
         }
+
+        if (parts.isEmpty()) {
+            return template;
+        }
+        if (!literal.isEmpty()) {
+            parts.add(literal.toString());
+        }
+        return new OperandTemplate(List.copyOf(parts));
+    }
+
+    /**
+     * Substitutes the capture groups into an operand. A group that did not participate in the match is substituted with an
+     * empty string. Operands without group references are returned unchanged.
+     */
+    private static Object resolve(Object operand, Matcher matcher) {
+        if (!(operand instanceof OperandTemplate template)) {
+            return operand;
+        }
+        var sb = new StringBuilder();
+        for (var part : template.parts()) {
+            if (part instanceof Integer group) {
+                var value = matcher.group(group);
+                sb.append(value == null ? "" : value);
+            } else {
+                sb.append(part);
+            }
+        }
         return sb.toString();
     }
 
@@ -106,6 +263,43 @@ public class ScopeMappingRegistryImpl implements ScopeMappingRegistry {
         }
     }
 
-    private record ScopeMapping(Pattern pattern, Criterion template) {
+    /**
+     * Immutable snapshot of the registered mappings, indexed by literal prefix, together with the memoized criteria.
+     */
+    private record Index(List<ScopeMapping> mappings, Map<String, List<ScopeMapping>> byPrefix, int[] prefixLengths,
+                         Map<String, List<Criterion>> memo) {
+
+        Index(List<ScopeMapping> mappings, Map<String, List<ScopeMapping>> byPrefix) {
+            this(mappings, byPrefix, byPrefix.keySet().stream().mapToInt(String::length).distinct().sorted().toArray(), new ConcurrentHashMap<>());
+        }
+
+        /**
+         * Returns the mappings whose literal prefix matches the scope, in the order in which they were added.
+         */
+        List<ScopeMapping> candidates(String scope) {
+            var candidates = new ArrayList<ScopeMapping>();
+            for (var length : prefixLengths) {
+                if (length > scope.length()) {
+                    break;
+                }
+                var bucket = byPrefix.get(scope.substring(0, length));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            if (prefixLengths.length > 1) {
+                candidates.sort(Comparator.comparingInt(ScopeMapping::ordinal));
+            }
+            return candidates;
+        }
+    }
+
+    private record ScopeMapping(int ordinal, Pattern pattern, Object left, String operator, Object right) {
+    }
+
+    /**
+     * A String operand with capture group references. The parts are either literal Strings or Integer group numbers.
+     */
+    private record OperandTemplate(List<Object> parts) {
     }
 }
@@ -14,21 +14,44 @@
 
 package org.eclipse.edc.identityhub.defaults.store;
 
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
 import org.eclipse.edc.identityhub.defaults.CredentialResourceLookup;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialProjection;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.identityhub.store.InMemoryEntityStore;
 import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.store.ReflectionBasedQueryResolver;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
 import static java.util.Optional.ofNullable;
 
 /**
  * In-memory variant of the {@link CredentialStore} that is thread-safe.
+ * <p>
+ * {@link VerifiableCredentialResource} is mutable, so {@link #query(QuerySpec)} and {@link #findById(String)} return copies of the stored
+ * instances. Like with a persistent store, changes made by the caller only take effect when the resource is passed to {@link #update(VerifiableCredentialResource)}.
  */
 public class InMemoryCredentialStore extends InMemoryEntityStore<VerifiableCredentialResource> implements CredentialStore {
 
+    public InMemoryCredentialStore() {
+        addIndex("id", VerifiableCredentialResource::getId);
+        addIndex("participantContextId", VerifiableCredentialResource::getParticipantContextId);
+        addIndex("state", VerifiableCredentialResource::getState);
+        addIndex("usage", VerifiableCredentialResource::getUsage);
+        addCollectionIndex("verifiableCredential.credential.type", resource -> ofNullable(resource.getVerifiableCredential())
+                .map(VerifiableCredentialContainer::credential)
+                .map(VerifiableCredential::getType)
+                .orElse(null));
+    }
+
     @Override
     protected String getId(VerifiableCredentialResource newObject) {
         return newObject.getId();
@@ -40,9 +63,40 @@ public class InMemoryCredentialStore extends InMemoryEntityStore<VerifiableCrede
         return new ReflectionBasedQueryResolver<>(VerifiableCredentialResource.class, criterionOperatorRegistry);
     }
 
+    @Override
+    public StoreResult<Void> updateStates(Map<String, VcStatus> states) {
+        var missing = new ArrayList<String>();
+        // the existing credentials are updated even if some are missing, so the write itself always succeeds
+        write(entities -> {
+            states.forEach((id, state) -> ofNullable(entities.get(id))
+                    .ifPresentOrElse(resource -> {
+                        // the stored instance may be held by readers of an earlier snapshot, so it must not be modified
+                        var updated = resource.copy();
+                        updated.setCredentialStatus(state);
+                        entities.put(id, updated);
+                    }, () -> missing.add(id)));
+            return StoreResult.success();
+        });
+        return missing.isEmpty() ?
+                StoreResult.success() :
+                StoreResult.notFound(notFoundErrorMessage(String.join(", ", missing)));
+    }
+
+    @Override
+    public StoreResult<Collection<VerifiableCredentialResource>> query(QuerySpec querySpec) {
+        return super.query(querySpec).map(resources -> resources.stream().map(VerifiableCredentialResource::copy).toList());
+    }
+
+    @Override
+    public StoreResult<Collection<VerifiableCredentialProjection>> queryWithoutRawVc(QuerySpec querySpec) {
+        // projections are immutable, so they can be created from the stored instances
+        return super.query(querySpec).map(resources -> resources.stream().map(VerifiableCredentialProjection::from).toList());
+    }
+
     @Override
     public StoreResult<VerifiableCredentialResource> findById(String credentialId) {
-        return ofNullable(this.store.get(credentialId))
+        return ofNullable(entities().get(credentialId))
+                .map(VerifiableCredentialResource::copy)
                 .map(StoreResult::success)
                 .orElseGet(() -> StoreResult.notFound(notFoundErrorMessage(credentialId)));
     }
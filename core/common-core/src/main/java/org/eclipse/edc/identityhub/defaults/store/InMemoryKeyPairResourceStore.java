@@ -18,9 +18,33 @@ import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
 import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
 import org.eclipse.edc.identityhub.store.InMemoryEntityStore;
 import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.store.ReflectionBasedQueryResolver;
 
 public class InMemoryKeyPairResourceStore extends InMemoryEntityStore<KeyPairResource> implements KeyPairResourceStore {
+
+    public InMemoryKeyPairResourceStore() {
+        addIndex("id", KeyPairResource::getId);
+        addIndex("participantContextId", KeyPairResource::getParticipantContextId);
+        addIndex("state", KeyPairResource::getState);
+    }
+
+    @Override
+    public StoreResult<Void> updateIfInState(KeyPairResource keyPairResource, int expectedState) {
+        var id = keyPairResource.getId();
+        return write(entities -> {
+            var existing = entities.get(id);
+            if (existing == null) {
+                return StoreResult.notFound("A KeyPairResource with ID '%s' does not exist.".formatted(id));
+            }
+            if (existing.getState() != expectedState) {
+                return StoreResult.alreadyLeased("KeyPairResource '%s' is expected to be in state %d, but was %d.".formatted(id, expectedState, existing.getState()));
+            }
+            entities.put(id, keyPairResource);
+            return StoreResult.success();
+        });
+    }
+
     @Override
     protected String getId(KeyPairResource newObject) {
         return newObject.getId();
@@ -16,9 +16,12 @@ package org.eclipse.edc.identityhub.defaults;
 
 import org.eclipse.edc.spi.query.Criterion;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.util.regex.PatternSyntaxException;
 
+import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -118,6 +121,68 @@ class ScopeMappingRegistryImplTest {
                 .satisfies(c -> assertThat(c.getOperandRight()).isEqualTo("$99999999999"));
     }
 
+    @Test
+    void map_shouldKeepRegistrationOrder_acrossPrefixes() {
+        registry.addMapping("(.+):(.+):read", new Criterion("first", "contains", "$2"));
+        registry.addMapping("vc:(.+):read", new Criterion("second", "contains", "$1"));
+        registry.addMapping("v(.+)", new Criterion("third", "contains", "$1"));
+
+        assertThat(registry.map("vc:Membership:read"))
+                .extracting(Criterion::getOperandLeft)
+                .containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void map_shouldReflectMappingsAddedAfterFirstCall() {
+        registry.addMapping("vc:(.+):read", new Criterion("type", "contains", "$1"));
+        assertThat(registry.map("vc:Membership:read")).hasSize(1);
+        assertThat(registry.map("other:Membership:read")).isEmpty();
+
+        registry.addMapping("(.+):(.+):read", new Criterion("$1", "contains", "$2"));
+
+        assertThat(registry.map("vc:Membership:read")).hasSize(2);
+        assertThat(registry.map("other:Membership:read")).singleElement()
+                .satisfies(c -> assertThat(c.getOperandLeft()).isEqualTo("other"));
+    }
+
+    @Test
+    void map_whenCacheDisabled() {
+        var uncached = new ScopeMappingRegistryImpl(0);
+        uncached.addMapping("vc:(.+):read", new Criterion("type", "contains", "$1"));
+
+        assertThat(uncached.map("vc:Membership:read")).singleElement()
+                .satisfies(c -> assertThat(c.getOperandRight()).isEqualTo("Membership"));
+        assertThat(uncached.map("vc:Membership:read")).hasSize(1);
+    }
+
+    @Test
+    void map_whenCacheFull_shouldStillMap() {
+        var smallCache = new ScopeMappingRegistryImpl(2);
+        smallCache.addMapping("vc:(.+):read", new Criterion("type", "contains", "$1"));
+
+        range(0, 5).forEach(i -> assertThat(smallCache.map("vc:Type%d:read".formatted(i))).singleElement()
+                .satisfies(c -> assertThat(c.getOperandRight()).isEqualTo("Type" + i)));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "org\\.eclipse\\.custom\\.vc\\.type:(.+):(read|\\*|all); org.eclipse.custom.vc.type:",
+            "vc:(.+); vc:",
+            "(.+):(.+):read; ''",
+            "^vc:(.+); ''",
+            "ab?c; a",
+            "ab{2}c; a",
+            "a\\d+; a",
+            "vc:[a-z]+; vc:",
+            "vc:(.+)|other:(.+); ''",
+            "vc:(a|b); vc:",
+            "vc:[|](.+); vc:",
+            "\\Qvc:\\E(.+); ''"
+    })
+    void literalPrefix(String regex, String expectedPrefix) {
+        assertThat(ScopeMappingRegistryImpl.literalPrefix(regex)).isEqualTo(expectedPrefix);
+    }
+
     @Test
     void addMapping_shouldThrow_whenRegexIsInvalid() {
         assertThatThrownBy(() -> registry.addMapping("vc:(.+", new Criterion("type", "contains", "$1")))
@@ -14,17 +14,155 @@
 
 package org.eclipse.edc.identityhub.defaults.store;
 
+import org.assertj.core.api.Assertions;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.identityhub.verifiablecredentials.store.CredentialStoreTestBase;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.queryByParticipantContextId;
 
 class InMemoryCredentialStoreTest extends CredentialStoreTestBase {
 
     private final InMemoryCredentialStore store = new InMemoryCredentialStore();
 
 
+    @Test
+    void query_byIndexedProperty_afterUpdateStates() {
+        var credential = createCredentialBuilder().state(VcStatus.ISSUED).build();
+        store.create(credential);
+
+        store.updateStates(Map.of(credential.getId(), VcStatus.REVOKED));
+
+        assertThat(store.query(byState(VcStatus.ISSUED))).isSucceeded().satisfies(list -> Assertions.assertThat(list).isEmpty());
+        assertThat(store.query(byState(VcStatus.REVOKED))).isSucceeded().satisfies(list -> Assertions.assertThat(list).hasSize(1));
+    }
+
+    @Test
+    void updateStates_shouldNotModifyCredentialsOfEarlierReads() {
+        var credential = createCredentialBuilder().state(VcStatus.ISSUED).build();
+        store.create(credential);
+        var found = store.findById(credential.getId()).getContent();
+        var queried = store.query(byState(VcStatus.ISSUED)).getContent();
+
+        store.updateStates(Map.of(credential.getId(), VcStatus.REVOKED));
+
+        Assertions.assertThat(found.getStateAsEnum()).isEqualTo(VcStatus.ISSUED);
+        Assertions.assertThat(queried).singleElement().satisfies(c -> Assertions.assertThat(c.getStateAsEnum()).isEqualTo(VcStatus.ISSUED));
+        assertThat(store.findById(credential.getId())).isSucceeded()
+                .satisfies(c -> Assertions.assertThat(c.getStateAsEnum()).isEqualTo(VcStatus.REVOKED));
+    }
+
+    @Test
+    void query_modifyingResult_shouldNotModifyStore() {
+        var credential = createCredentialBuilder().state(VcStatus.ISSUED).build();
+        store.create(credential);
+
+        store.query(byState(VcStatus.ISSUED)).getContent().forEach(c -> c.setCredentialStatus(VcStatus.REQUESTED));
+        store.findById(credential.getId()).getContent().setCredentialStatus(VcStatus.REQUESTED);
+
+        assertThat(store.findById(credential.getId())).isSucceeded()
+                .satisfies(c -> Assertions.assertThat(c.getStateAsEnum()).isEqualTo(VcStatus.ISSUED));
+        assertThat(store.query(byState(VcStatus.ISSUED))).isSucceeded().satisfies(list -> Assertions.assertThat(list).hasSize(1));
+    }
+
+    @Test
+    void query_byIndexedProperty_afterUpdate() {
+        var credential = createCredentialBuilder().participantContextId("participant1").build();
+        store.create(credential);
+
+        store.update(createCredentialBuilder().id(credential.getId()).participantContextId("participant2").build());
+
+        assertThat(store.query(queryByParticipantContextId("participant1").build())).isSucceeded()
+                .satisfies(list -> Assertions.assertThat(list).isEmpty());
+        assertThat(store.query(queryByParticipantContextId("participant2").build())).isSucceeded()
+                .satisfies(list -> Assertions.assertThat(list).hasSize(1));
+    }
+
+    @Test
+    void query_byIndexedAndNonIndexedProperty() {
+        store.create(createCredentialBuilder().state(VcStatus.ISSUED).holderId("holder1").build());
+        store.create(createCredentialBuilder().state(VcStatus.ISSUED).holderId("holder2").build());
+        store.create(createCredentialBuilder().state(VcStatus.REVOKED).holderId("holder1").build());
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("state", "in", List.of(VcStatus.ISSUED.code(), VcStatus.EXPIRED.code())))
+                .filter(new Criterion("holderId", "=", "holder1"))
+                .filter(new Criterion("verifiableCredential.credential.type", "contains", "VerifiableCredential"))
+                .build();
+
+        assertThat(store.query(query)).isSucceeded().satisfies(list -> Assertions.assertThat(list).hasSize(1)
+                .allSatisfy(c -> Assertions.assertThat(c.getHolderId()).isEqualTo("holder1")));
+    }
+
+    @Test
+    void concurrentReadsAndWrites_readersSeeCompleteWrites() throws Exception {
+        var participant = "stress-participant";
+        var writers = 4;
+        var readers = 4;
+        var iterations = 500;
+        var executor = Executors.newFixedThreadPool(writers + readers);
+        var failures = new ConcurrentLinkedQueue<Throwable>();
+        var done = new CountDownLatch(writers);
+        try {
+            for (var w = 0; w < writers; w++) {
+                executor.submit(() -> {
+                    try {
+                        for (var i = 0; i < iterations; i++) {
+                            var pair = List.of(createCredentialBuilder().participantContextId(participant).build(),
+                                    createCredentialBuilder().participantContextId(participant).build());
+                            assertThat(store.createAll(pair)).isSucceeded();
+                            store.updateStates(Map.of(pair.get(0).getId(), VcStatus.REVOKED, pair.get(1).getId(), VcStatus.REVOKED));
+                            if (i % 10 == 0) {
+                                store.deleteByQuery(queryByParticipantContextId(participant).limit(Integer.MAX_VALUE).build());
+                            }
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            for (var r = 0; r < readers; r++) {
+                executor.submit(() -> {
+                    try {
+                        while (done.getCount() > 0) {
+                            // credentials are always created and deleted in pairs, a reader must never observe half a write
+                            var credentials = store.query(queryByParticipantContextId(participant).limit(Integer.MAX_VALUE).build()).getContent();
+                            Assertions.assertThat(credentials.size() % 2).isZero();
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                });
+            }
+
+            Assertions.assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        } finally {
+            executor.shutdown();
+            Assertions.assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+        Assertions.assertThat(failures).isEmpty();
+    }
+
     @Override
     protected CredentialStore getStore() {
         return store;
     }
+
+    private QuerySpec byState(VcStatus state) {
+        return QuerySpec.Builder.newInstance().filter(new Criterion("state", "=", state.code())).build();
+    }
 }
 
@@ -12,6 +12,7 @@ dependencies {
     api(project(":protocols:dcp:dcp-spi"))
     implementation(project(":core:lib:accesstoken-lib"))
     implementation(project(":core:lib:common-lib"))
+    implementation(project(":spi:metrics-spi"))
     implementation(libs.edc.spi.dcp) //SignatureSuiteRegistry
     implementation(libs.edc.spi.core)
     implementation(libs.edc.verifiablecredentials)
@@ -34,11 +34,13 @@ import org.eclipse.edc.identityhub.core.services.verifiablepresentation.generato
 import org.eclipse.edc.identityhub.core.services.verifiablepresentation.generators.JwtPresentationGenerator;
 import org.eclipse.edc.identityhub.core.services.verifiablepresentation.generators.LdpPresentationGenerator;
 import org.eclipse.edc.identityhub.core.services.verification.SelfIssuedTokenVerifierImpl;
+import org.eclipse.edc.identityhub.metrics.MeteredJwsSignerProvider;
 import org.eclipse.edc.identityhub.publickey.KeyPairResourcePublicKeyResolver;
 import org.eclipse.edc.identityhub.spi.authentication.ParticipantSecureTokenService;
 import org.eclipse.edc.identityhub.spi.credential.request.store.HolderCredentialRequestStore;
 import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
 import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.model.IdentityHubConstants;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.transformation.ScopeToCriterionTransformer;
@@ -53,6 +55,7 @@ import org.eclipse.edc.identityhub.spi.verifiablecredentials.resolution.Credenti
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialOfferStore;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.identityhub.spi.verification.SelfIssuedTokenVerifier;
+import org.eclipse.edc.identityhub.statemachine.VirtualThreads;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.jsonld.util.JacksonJsonLd;
 import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
@@ -62,9 +65,11 @@ import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.security.signature.jws2020.Jws2020SignatureSuite;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -76,6 +81,7 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.verifiablecredentials.linkeddata.LdpIssuer;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
 
 import static org.eclipse.edc.identityhub.core.CoreServicesExtension.NAME;
 import static org.eclipse.edc.identityhub.protocols.dcp.spi.DcpConstants.DCP_SCOPE_V_1_0;
@@ -88,6 +94,18 @@ import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 public class CoreServicesExtension implements ServiceExtension {
 
     public static final String NAME = "IdentityHub Core Services Extension";
+    private static final String CREDENTIAL_REQUEST_PROCESSOR = "CredentialRequestProcessor";
+
+    @Setting(key = "edc.identityhub.credential.request.virtual-threads.enabled", defaultValue = "false",
+            description = "Process holder credential requests on virtual threads, so that up to 'edc.identityhub.credential.request.concurrency' batches " +
+                    "are processed concurrently. Requires Java 21 or later. Concurrency is then effectively bounded by the database connection pool.")
+    private boolean virtualThreadsEnabled;
+
+    @Setting(key = "edc.identityhub.credential.request.concurrency", min = 1, defaultValue = "8",
+            description = "Number of batches of holder credential requests that are processed concurrently, if virtual threads are enabled.")
+    private int concurrency;
+
+    private ExecutorService processorExecutor;
 
     private PresentationCreatorRegistryImpl presentationCreatorRegistry;
 
@@ -149,6 +167,10 @@ public class CoreServicesExtension implements ServiceExtension {
     private CredentialOfferStore credentialOfferStore;
     @Inject
     private EventRouter eventRouter;
+    @Inject
+    private MetricRecorder metricRecorder;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
     private CredentialRequestManagerImpl credentialRequestService;
     private CredentialOfferObservable credentialOfferObservable;
 
@@ -171,6 +193,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         credentialRequestService.stop();
+        if (processorExecutor != null) {
+            processorExecutor.shutdownNow();
+        }
     }
 
     @Provider
@@ -188,7 +213,7 @@ public class CoreServicesExtension implements ServiceExtension {
     public PresentationCreatorRegistry presentationCreatorRegistry(ServiceExtensionContext context) {
         if (presentationCreatorRegistry == null) {
             presentationCreatorRegistry = new PresentationCreatorRegistryImpl(keyPairService, participantContextService, transactionContext);
-            var jwtGenerationService = new JwtGenerationService(jwsSignerProvider);
+            var jwtGenerationService = new JwtGenerationService(new MeteredJwsSignerProvider(jwsSignerProvider, metricRecorder));
             presentationCreatorRegistry.addCreator(new JwtPresentationGenerator(clock, jwtGenerationService), CredentialFormat.VC1_0_JWT);
 
             var monitor = context.getMonitor();
@@ -220,6 +245,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Provider
     public CredentialRequestManager createDefaultCredentialRequestService(ServiceExtensionContext context) {
         if (credentialRequestService == null) {
+            if (virtualThreadsEnabled) {
+                processorExecutor = VirtualThreads.tryCreateExecutor(executorInstrumentation, CREDENTIAL_REQUEST_PROCESSOR, context.getMonitor());
+            }
             credentialRequestService = CredentialRequestManagerImpl.Builder.newInstance()
                     .store(credentialRequestStore)
                     .didResolverRegistry(didResolverRegistry)
@@ -229,6 +257,9 @@ public class CoreServicesExtension implements ServiceExtension {
                     .transactionContext(transactionContext)
                     .participantContextService(participantContextService)
                     .monitor(context.getMonitor())
+                    .metrics(metricRecorder)
+                    .executorInstrumentation(executorInstrumentation)
+                    .processorExecutor(processorExecutor, concurrency)
                     .build();
         }
         return credentialRequestService;
@@ -23,6 +23,7 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.identityhub.metrics.MeteredProcessor;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.model.CredentialRequestMessage;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.model.CredentialRequestSpecifier;
 import org.eclipse.edc.identityhub.spi.authentication.ParticipantSecureTokenService;
@@ -30,9 +31,11 @@ import org.eclipse.edc.identityhub.spi.credential.request.model.HolderCredential
 import org.eclipse.edc.identityhub.spi.credential.request.model.HolderRequestState;
 import org.eclipse.edc.identityhub.spi.credential.request.model.RequestedCredential;
 import org.eclipse.edc.identityhub.spi.credential.request.store.HolderCredentialRequestStore;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.CredentialRequestManager;
+import org.eclipse.edc.identityhub.statemachine.ConcurrentProcessor;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
@@ -57,6 +60,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
@@ -75,12 +79,17 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 public class CredentialRequestManagerImpl extends AbstractStateEntityManager<HolderCredentialRequest, HolderCredentialRequestStore>
         implements CredentialRequestManager {
+    private static final String METRICS_MANAGER_NAME = "holder-credential-request";
+
     private DidResolverRegistry didResolverRegistry;
     private TypeTransformerRegistry dcpTypeTransformerRegistry;
     private EdcHttpClient httpClient;
     private ParticipantSecureTokenService secureTokenService;
     private TransactionContext transactionContext;
     private IdentityHubParticipantContextService participantContextService;
+    private MetricRecorder metrics = MetricRecorder.noop();
+    private ExecutorService processorExecutor;
+    private int processorConcurrency = 1;
 
     private CredentialRequestManagerImpl() {
 
@@ -161,7 +170,8 @@ public class CredentialRequestManagerImpl extends AbstractStateEntityManager<Hol
 
     private Processor processRequestsInState(HolderRequestState state, Function<HolderCredentialRequest, CompletableFuture<StatusResult<Void>>> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending() };
-        return createProcessor(function, filter);
+        var processor = ConcurrentProcessor.concurrently(() -> createProcessor(function, filter), processorConcurrency, processorExecutor);
+        return new MeteredProcessor(processor, metrics, METRICS_MANAGER_NAME, state.name());
     }
 
     private ProcessorImpl<HolderCredentialRequest> createProcessor(Function<HolderCredentialRequest, CompletableFuture<StatusResult<Void>>> function, Criterion[] filter) {
@@ -252,7 +262,7 @@ public class CredentialRequestManagerImpl extends AbstractStateEntityManager<Hol
                             ISSUER, participantContext.getDid(),
                             SUBJECT, participantContext.getDid(),
                             EXPIRATION_TIME, Instant.now().plus(5, ChronoUnit.MINUTES).toString());
-                    return secureTokenService.createToken(participantContextId, siTokenClaims, null);
+                    return secureTokenService.createReusableToken(participantContextId, siTokenClaims, null);
                 });
     }
 
@@ -316,6 +326,21 @@ public class CredentialRequestManagerImpl extends AbstractStateEntityManager<Hol
             return this;
         }
 
+        public Builder metrics(MetricRecorder metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Processes up to {@code concurrency} batches of every state concurrently on the given executor, e.g. one that runs every task
+         * on a virtual thread. By default, batches are processed one after the other on the state machine thread.
+         */
+        public Builder processorExecutor(ExecutorService executor, int concurrency) {
+            manager.processorExecutor = executor;
+            manager.processorConcurrency = concurrency;
+            return this;
+        }
+
         public Builder transactionContext(TransactionContext transactionContext) {
             manager.transactionContext = transactionContext;
             return this;
@@ -15,9 +15,9 @@
 package org.eclipse.edc.identityhub.core.services.verifiablecredential;
 
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.CredentialStatusCheckService;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
-import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.Nullable;
@@ -41,7 +41,7 @@ public class CredentialStatusCheckServiceImpl implements CredentialStatusCheckSe
     }
 
     @Override
-    public Result<VcStatus> checkStatus(VerifiableCredentialResource credential) {
+    public Result<VcStatus> checkStatus(@Nullable VerifiableCredential credential) {
 
         try {
             if (isRevoked(credential)) {
@@ -69,9 +69,7 @@ public class CredentialStatusCheckServiceImpl implements CredentialStatusCheckSe
     }
 
     // returns true if the expiration date is not null and is before NOW
-    private boolean isExpired(VerifiableCredentialResource resource) {
-        var cred = resource.getVerifiableCredential().credential();
-
+    private boolean isExpired(@Nullable VerifiableCredential cred) {
         if (cred == null) {
             return false;
         }
@@ -81,8 +79,7 @@ public class CredentialStatusCheckServiceImpl implements CredentialStatusCheckSe
     }
 
     // returns true if the issuance date is after NOW
-    private boolean isNotYetValid(VerifiableCredentialResource resource) {
-        var cred = resource.getVerifiableCredential().credential();
+    private boolean isNotYetValid(@Nullable VerifiableCredential cred) {
         if (cred == null) {
             return false;
         }
@@ -93,18 +90,17 @@ public class CredentialStatusCheckServiceImpl implements CredentialStatusCheckSe
     }
 
     // returns true if the revocation service returns "suspension"
-    private boolean isSuspended(VerifiableCredentialResource resource) {
-        return SUSPENSION.equalsIgnoreCase(fetchRevocationStatus(resource));
+    private boolean isSuspended(@Nullable VerifiableCredential cred) {
+        return SUSPENSION.equalsIgnoreCase(fetchRevocationStatus(cred));
     }
 
     // returns true if the revocation service returns "revocation"
-    private boolean isRevoked(VerifiableCredentialResource resource) {
-        return REVOCATION.equalsIgnoreCase(fetchRevocationStatus(resource));
+    private boolean isRevoked(@Nullable VerifiableCredential cred) {
+        return REVOCATION.equalsIgnoreCase(fetchRevocationStatus(cred));
     }
 
     @Nullable
-    private String fetchRevocationStatus(VerifiableCredentialResource resource) {
-        var cred = resource.getVerifiableCredential().credential();
+    private String fetchRevocationStatus(@Nullable VerifiableCredential cred) {
         if (cred == null) {
             return null;
         }
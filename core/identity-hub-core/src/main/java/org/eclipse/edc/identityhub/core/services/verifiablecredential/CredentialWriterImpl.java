@@ -35,6 +35,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -77,7 +78,8 @@ public class CredentialWriterImpl implements CredentialWriter {
                 return ServiceResult.badRequest("HolderCredentialRequest is expected to be in any of the states '%s' but was '%s'".formatted(ALLOWED_STATES, holderRequest.stateAsString()));
             }
 
-            // store actual credentials
+            // validate all credentials first, and store them in one go afterwards
+            var resources = new ArrayList<VerifiableCredentialResource>();
             for (var writeRequest : writeRequests) { // use for loop to abort early: merging ServiceResults in a stream operation is not really possible
                 var convertResult = convertToResource(writeRequest, participantContextId);
                 if (convertResult.failed()) {
@@ -114,12 +116,12 @@ public class CredentialWriterImpl implements CredentialWriter {
 
                 // store the credential object ID for later use, e.g. automatic re-issuance
                 resource.getMetadata().put("credentialObjectId", requestedCredential.get().id());
+                resources.add(resource);
+            }
 
-                var createResult = credentialStore.create(resource);
-
-                if (createResult.failed()) {
-                    return from(createResult);
-                }
+            var createResult = credentialStore.createAll(resources);
+            if (createResult.failed()) {
+                return from(createResult);
             }
 
             //update holder request
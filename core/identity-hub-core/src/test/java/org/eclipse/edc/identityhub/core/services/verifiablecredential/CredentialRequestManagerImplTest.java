@@ -101,7 +101,7 @@ class CredentialRequestManagerImplTest {
     void setUp() {
         when(transformerRegistry.transform(any(CredentialRequestMessage.class), eq(JsonObject.class)))
                 .thenReturn(success(Json.createObjectBuilder().build()));
-        when(sts.createToken(anyString(), anyMap(), ArgumentMatchers.isNull())).thenReturn(success(TokenRepresentation.Builder.newInstance().build()));
+        when(sts.createReusableToken(anyString(), anyMap(), ArgumentMatchers.isNull())).thenReturn(success(TokenRepresentation.Builder.newInstance().build()));
         when(participantContextService.getParticipantContext(anyString())).thenReturn(ServiceResult.success(participantContext()));
         when(store.findById(anyString())).thenReturn(null);
         when(store.save(any())).thenReturn(StoreResult.success());
@@ -192,7 +192,7 @@ class CredentialRequestManagerImplTest {
                 var inOrder = inOrder(resolver, store, httpClient, sts);
                 inOrder.verify(resolver).resolve(eq(ISSUER_DID));
                 inOrder.verify(store).save(argThat(r -> r.getState() == REQUESTING.code()));
-                inOrder.verify(sts).createToken(anyString(), anyMap(), ArgumentMatchers.isNull());
+                inOrder.verify(sts).createReusableToken(anyString(), anyMap(), ArgumentMatchers.isNull());
                 inOrder.verify(httpClient).execute(any(), (Function<Response, Result<String>>) any());
                 inOrder.verify(store).save(argThat(r -> r.getState() == REQUESTED.code() && r.getIssuerPid() != null));
             });
@@ -254,7 +254,7 @@ class CredentialRequestManagerImplTest {
             var state = HolderRequestState.valueOf(stateString);
 
             when(resolver.resolve(eq(ISSUER_DID))).thenReturn(success(didDocument()));
-            when(sts.createToken(anyString(), anyMap(), ArgumentMatchers.isNull())).thenReturn(Result.failure("sts-failure"));
+            when(sts.createReusableToken(anyString(), anyMap(), ArgumentMatchers.isNull())).thenReturn(Result.failure("sts-failure"));
 
             var rq = createRequest()
                     .state(state.code())
@@ -268,7 +268,7 @@ class CredentialRequestManagerImplTest {
             await().atMost(MAX_DURATION).untilAsserted(() -> {
                 var inOrder = inOrder(resolver, store, httpClient, sts);
                 inOrder.verify(resolver).resolve(eq(ISSUER_DID));
-                inOrder.verify(sts).createToken(anyString(), anyMap(), ArgumentMatchers.isNull());
+                inOrder.verify(sts).createReusableToken(anyString(), anyMap(), ArgumentMatchers.isNull());
                 inOrder.verify(store, times(1)).save(argThat(r -> r.getState() == ERROR.code() && r.getErrorDetail().equals("sts-failure")));
             });
         }
@@ -292,7 +292,7 @@ class CredentialRequestManagerImplTest {
             await().atMost(MAX_DURATION).untilAsserted(() -> {
                 var inOrder = inOrder(resolver, store, httpClient, sts);
                 inOrder.verify(resolver).resolve(eq(ISSUER_DID));
-                inOrder.verify(sts).createToken(anyString(), anyMap(), ArgumentMatchers.isNull());
+                inOrder.verify(sts).createReusableToken(anyString(), anyMap(), ArgumentMatchers.isNull());
                 inOrder.verify(httpClient).execute(any(), (Function<Response, Result<String>>) any());
                 inOrder.verify(store, times(1)).save(argThat(r -> r.getState() == ERROR.code() && r.getErrorDetail().equals("issuer failure bad request")));
             });
@@ -45,6 +45,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -75,7 +76,7 @@ class CredentialWriterImplTest {
         when(credentialTransformerRegistry.transform(isA(String.class), eq(VerifiableCredential.class)))
                 .thenReturn(Result.success(createCredential().build()));
 
-        when(credentialStore.create(any())).thenReturn(StoreResult.success());
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.success());
 
         var result = credentialWriter.write("holderPid", "issuerPid", Set.of(new CredentialWriteRequest("raw-cred", TEST_CREDENTIAL_FORMAT)), PARTICIPANT_ID);
         assertThat(result).isSucceeded();
@@ -86,7 +87,7 @@ class CredentialWriterImplTest {
     void write_invalidFormat() {
         when(credentialTransformerRegistry.transform(isA(String.class), eq(VerifiableCredential.class))).thenReturn(Result.success(createCredential().build()));
 
-        when(credentialStore.create(any())).thenReturn(StoreResult.success());
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.success());
 
         var result = credentialWriter.write("holderPid", "issuerPid", Set.of(new CredentialWriteRequest("raw-cred", "invalid-format")), PARTICIPANT_ID);
         assertThat(result).isFailed().detail().contains("Invalid format");
@@ -96,7 +97,7 @@ class CredentialWriterImplTest {
     void write_typeNotRequested() {
         when(credentialTransformerRegistry.transform(isA(String.class), eq(VerifiableCredential.class))).thenReturn(Result.success(createCredential().types(List.of("NotRequestedCredential")).build()));
 
-        when(credentialStore.create(any())).thenReturn(StoreResult.success());
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.success());
 
         var result = credentialWriter.write("holderPid", "issuerPid", Set.of(new CredentialWriteRequest("raw-cred", TEST_CREDENTIAL_FORMAT)), PARTICIPANT_ID);
         assertThat(result).isFailed().detail().contains("No credential request was made for Credentials of type");
@@ -106,7 +107,7 @@ class CredentialWriterImplTest {
     void write_formatNotRequested() {
         when(credentialTransformerRegistry.transform(isA(String.class), eq(VerifiableCredential.class))).thenReturn(Result.success(createCredential().build()));
 
-        when(credentialStore.create(any())).thenReturn(StoreResult.success());
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.success());
 
         var result = credentialWriter.write("holderPid", "issuerPid", Set.of(new CredentialWriteRequest("raw-cred", CredentialFormat.VC2_0_COSE.toString())), PARTICIPANT_ID);
         assertThat(result).isFailed().detail().contains("No credential request was made for Credentials ");
@@ -117,7 +118,7 @@ class CredentialWriterImplTest {
         when(credentialTransformerRegistry.transform(isA(String.class), eq(VerifiableCredential.class)))
                 .thenReturn(Result.success(createCredential().build()));
 
-        when(credentialStore.create(any())).thenReturn(StoreResult.alreadyExists("foo"));
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.alreadyExists("foo"));
 
         var result = credentialWriter.write("holderPid", "issuerPid", Set.of(new CredentialWriteRequest("raw-cred", TEST_CREDENTIAL_FORMAT)), PARTICIPANT_ID);
         assertThat(result).isFailed().detail().isEqualTo("foo");
@@ -128,7 +129,7 @@ class CredentialWriterImplTest {
 
         when(credentialTransformerRegistry.transform(isA(String.class), eq(VerifiableCredential.class)))
                 .thenReturn(Result.failure("foo"));
-        when(credentialStore.create(any())).thenReturn(StoreResult.success());
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.success());
 
         var result = credentialWriter.write("holderPid", "issuerPid", Set.of(new CredentialWriteRequest("raw-cred", TEST_CREDENTIAL_FORMAT)), PARTICIPANT_ID);
         assertThat(result).isFailed().detail().isEqualTo("foo");
@@ -140,15 +141,37 @@ class CredentialWriterImplTest {
                 .thenReturn(Result.success(createCredential().build()))
                 .thenReturn(Result.failure("foo"));
 
-        when(credentialStore.create(any()))
-                .thenReturn(StoreResult.alreadyExists("bar"))
-                .thenReturn(StoreResult.success());
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.success());
 
         var result = credentialWriter.write("holderPid", "issuerPid", List.of(
                 new CredentialWriteRequest("raw-cred1", TEST_CREDENTIAL_FORMAT),
                 new CredentialWriteRequest("raw-cred2", CredentialFormat.VC2_0_JOSE.toString())), PARTICIPANT_ID);
         assertThat(result).isFailed().detail()
-                .containsSequence("bar");
+                .containsSequence("foo");
+        verify(credentialStore, never()).createAll(any());
+    }
+
+    @Test
+    void write_multiple_storedInOneBatch() {
+        when(holderCredentialRequestStore.findByIdAndLease(anyString())).thenReturn(StoreResult.success(HolderCredentialRequest.Builder.newInstance()
+                .issuerDid("did:web:issuer")
+                .requestedCredential("test-id", TEST_CREDENTIAL_TYPE, TEST_CREDENTIAL_FORMAT)
+                .requestedCredential("test-id2", "OtherCredential", TEST_CREDENTIAL_FORMAT)
+                .state(REQUESTED.code())
+                .participantContextId(PARTICIPANT_ID)
+                .build()));
+        when(credentialTransformerRegistry.transform(isA(String.class), eq(VerifiableCredential.class)))
+                .thenReturn(Result.success(createCredential().build()))
+                .thenReturn(Result.success(createCredential().types(List.of("OtherCredential")).build()));
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.success());
+
+        var result = credentialWriter.write("holderPid", "issuerPid", List.of(
+                new CredentialWriteRequest("raw-cred1", TEST_CREDENTIAL_FORMAT),
+                new CredentialWriteRequest("raw-cred2", TEST_CREDENTIAL_FORMAT)), PARTICIPANT_ID);
+
+        assertThat(result).isSucceeded();
+        verify(credentialStore).createAll(argThat(resources -> resources.size() == 2));
+        verify(credentialStore, never()).create(any());
     }
 
     @Test
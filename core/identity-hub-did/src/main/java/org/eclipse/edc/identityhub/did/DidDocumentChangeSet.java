@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.did;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Collects the pending modifications of the DID documents of one participant context, so that all of them can be applied to each
+ * document at once, followed by a single write and at most one publish.
+ * <p>
+ * Every modification is caused by a change of a key pair. The modification must only be applied once that change is committed, which is
+ * the case once the key pair is visible in one of the {@link Change#committedStates()}.
+ */
+class DidDocumentChangeSet {
+    private final List<Change> changes = new ArrayList<>();
+
+    /**
+     * Adds a modification.
+     *
+     * @param keyPairId       the ID of the key pair whose change caused the modification
+     * @param committedStates the states in which the key pair is, once its change is committed
+     * @param modification    the modification that is applied to every DID document of the participant context
+     * @param publish         whether the documents should be published after the modification, if the participant context is active
+     */
+    synchronized void add(String keyPairId, Set<KeyPairState> committedStates, Consumer<DidDocument> modification, boolean publish) {
+        changes.add(new Change(keyPairId, committedStates, modification, publish, 0));
+    }
+
+    /**
+     * Appends all changes of another change set, after the changes of this one.
+     */
+    synchronized void addAll(DidDocumentChangeSet other) {
+        changes.addAll(other.changes());
+    }
+
+    /**
+     * Removes the changes that are not yet committed.
+     *
+     * @param isCommitted decides whether the change of a key pair is committed
+     * @return the removed changes, with their attempt counted
+     */
+    synchronized DidDocumentChangeSet removeUncommitted(Predicate<Change> isCommitted) {
+        var uncommitted = new DidDocumentChangeSet();
+        changes.removeIf(change -> {
+            if (isCommitted.test(change)) {
+                return false;
+            }
+            uncommitted.changes.add(change.nextAttempt());
+            return true;
+        });
+        return uncommitted;
+    }
+
+    /**
+     * Removes the changes that were already attempted the given number of times.
+     *
+     * @return the removed changes
+     */
+    synchronized List<Change> removeExhausted(int maxAttempts) {
+        var exhausted = changes.stream().filter(change -> change.attempts() >= maxAttempts).toList();
+        changes.removeAll(exhausted);
+        return exhausted;
+    }
+
+    /**
+     * Applies all modifications to the given document, in the order in which they were added.
+     */
+    synchronized void applyTo(DidDocument document) {
+        changes.forEach(change -> change.modification().accept(document));
+    }
+
+    synchronized boolean isPublishRequested() {
+        return changes.stream().anyMatch(Change::publish);
+    }
+
+    synchronized boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    synchronized List<Change> changes() {
+        return List.copyOf(changes);
+    }
+
+    record Change(String keyPairId, Set<KeyPairState> committedStates, Consumer<DidDocument> modification, boolean publish, int attempts) {
+        Change nextAttempt() {
+            return new Change(keyPairId, committedStates, modification, publish, attempts + 1);
+        }
+    }
+}
@@ -26,7 +26,11 @@ import org.eclipse.edc.identityhub.spi.did.model.DidResource;
 import org.eclipse.edc.identityhub.spi.did.model.DidState;
 import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairActivated;
+import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairEvent;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairRevoked;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState;
+import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
 import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextUpdated;
 import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
@@ -41,19 +45,31 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
-import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.telemetry.TraceCarrier;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.KeyPair;
 import java.security.PublicKey;
 import java.text.ParseException;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState.ACTIVATED;
+import static org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState.REVOKED;
+import static org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState.ROTATED;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.queryByParticipantContextId;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.ServiceResult.success;
 
@@ -62,6 +78,7 @@ import static org.eclipse.edc.spi.result.ServiceResult.success;
  * publishing and un-publishing. All methods are executed transactionally.
  */
 public class DidDocumentServiceImpl implements DidDocumentService, EventSubscriber {
+    static final int MAX_FLUSH_ATTEMPTS = 10;
 
     private final TransactionContext transactionContext;
     private final DidResourceStore didResourceStore;
@@ -70,9 +87,32 @@ public class DidDocumentServiceImpl implements DidDocumentService, EventSubscrib
     private final Monitor monitor;
     private final KeyParserRegistry keyParserRegistry;
     private final Telemetry telemetry;
+    private final Duration coalescingWindow;
+    private final ScheduledExecutorService scheduler;
+    private final KeyPairResourceStore keyPairResourceStore;
+    private final Map<String, DidDocumentChangeSet> pendingChanges = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> flushLocks = new ConcurrentHashMap<>();
 
     public DidDocumentServiceImpl(TransactionContext transactionContext, DidResourceStore didResourceStore, DidDocumentPublisherRegistry registry,
                                   ParticipantContextStore participantContextStore, Monitor monitor, KeyParserRegistry keyParserRegistry, Telemetry telemetry) {
+        this(transactionContext, didResourceStore, registry, participantContextStore, monitor, keyParserRegistry, telemetry, Duration.ZERO, null, null);
+    }
+
+    /**
+     * Creates a service that collects the changes caused by {@link KeyPairActivated} and {@link KeyPairRevoked} events for the given
+     * coalescing window, and then applies them to the DID documents of the participant context with a single write per document.
+     * <p>
+     * The events may be received in the transaction that changes the key pair, so a collected change is only applied once the key pair is
+     * visible in its new state. Until then, it is kept for up to {@value #MAX_FLUSH_ATTEMPTS} windows, after which its transaction is
+     * assumed to be rolled back and the change is discarded.
+     *
+     * @param coalescingWindow     the time window in which changes are collected. If zero, every change is applied immediately.
+     * @param scheduler            the scheduler that applies the collected changes, may be null if the window is zero.
+     * @param keyPairResourceStore the store that is used to check whether a key pair change is committed, may be null if the window is zero.
+     */
+    public DidDocumentServiceImpl(TransactionContext transactionContext, DidResourceStore didResourceStore, DidDocumentPublisherRegistry registry,
+                                  ParticipantContextStore participantContextStore, Monitor monitor, KeyParserRegistry keyParserRegistry, Telemetry telemetry,
+                                  Duration coalescingWindow, ScheduledExecutorService scheduler, KeyPairResourceStore keyPairResourceStore) {
         this.transactionContext = transactionContext;
         this.didResourceStore = didResourceStore;
         this.registry = registry;
@@ -80,6 +120,9 @@ public class DidDocumentServiceImpl implements DidDocumentService, EventSubscrib
         this.monitor = monitor;
         this.keyParserRegistry = keyParserRegistry;
         this.telemetry = telemetry;
+        this.coalescingWindow = coalescingWindow;
+        this.scheduler = scheduler;
+        this.keyPairResourceStore = keyPairResourceStore;
     }
 
     @Override
@@ -281,45 +324,26 @@ public class DidDocumentServiceImpl implements DidDocumentService, EventSubscrib
 
     @WithSpan(value = "did-document.keypair-activated", kind = SpanKind.INTERNAL)
     private void keyPairActivated(KeyPairActivated event) {
-        transactionContext.execute(() -> {
-            var didResources = findByParticipantContextId(event.getParticipantContextId());
-            if (didResources.isEmpty()) {
-                monitor.warning("No DidResources were found for participant '%s'. No updated will be performed.".formatted(event.getParticipantContextId()));
-            }
-
-            // add the public key as verification method to all did resources
-            var serialized = event.getPublicKeySerialized();
-            
-            // only convert if not already in JWK format
-            var jwkResult = tryParseJwk(serialized)
-                    .onFailure(f -> monitor.debug("Serialized key is not JWK (message: %s), attempting to convert".formatted(f.getFailureDetail())))
-                    .recover(f -> keyParserRegistry.parse(serialized)
-                            .map(pk -> CryptoConverter.createJwk(new KeyPair((PublicKey) pk, null))));
-
-            if (jwkResult.failed()) {
-                monitor.warning("Error adding KeyPair '%s' to DID Document of participant '%s': %s".formatted(event.getKeyPairResource().getId(), event.getParticipantContextId(), jwkResult.getFailureDetail()));
-                return;
-            }
+        // only convert if not already in JWK format
+        var serialized = event.getPublicKeySerialized();
+        var jwkResult = tryParseJwk(serialized)
+                .onFailure(f -> monitor.debug("Serialized key is not JWK (message: %s), attempting to convert".formatted(f.getFailureDetail())))
+                .recover(f -> keyParserRegistry.parse(serialized)
+                        .map(pk -> CryptoConverter.createJwk(new KeyPair((PublicKey) pk, null))));
+
+        if (jwkResult.failed()) {
+            monitor.warning("Error adding KeyPair '%s' to DID Document of participant '%s': %s".formatted(event.getKeyPairResource().getId(), event.getParticipantContextId(), jwkResult.getFailureDetail()));
+            return;
+        }
 
-            var errors = didResources.stream()
-                    .map(dd -> {
-                        dd.getDocument().getVerificationMethod().add(VerificationMethod.Builder.newInstance()
-                                .id(event.getKeyId())
-                                .publicKeyJwk(jwkResult.getContent().toJSONObject())
-                                .controller(dd.getDocument().getId())
-                                .type(event.getKeyType())
-                                .build());
-                        return ServiceResult.from(didResourceStore.update(dd))
-                                .compose(v -> publish(dd.getDid()));
-                    })
-                    .filter(ServiceResult::failed)
-                    .map(AbstractResult::getFailureDetail)
-                    .collect(Collectors.joining(","));
-
-            if (!errors.isEmpty()) {
-                monitor.warning("Updating DID documents after activating a KeyPair failed: %s".formatted(errors));
-            }
-        });
+        // add the public key as verification method to all did resources
+        var publicKeyJwk = jwkResult.getContent().toJSONObject();
+        submit(event, Set.of(ACTIVATED, ROTATED, REVOKED), document -> document.getVerificationMethod().add(VerificationMethod.Builder.newInstance()
+                .id(event.getKeyId())
+                .publicKeyJwk(publicKeyJwk)
+                .controller(document.getId())
+                .type(event.getKeyType())
+                .build()), true);
     }
 
     private Result<JWK> tryParseJwk(String serialized) {
@@ -332,23 +356,15 @@ public class DidDocumentServiceImpl implements DidDocumentService, EventSubscrib
 
     @WithSpan(value = "did-document.keypair-revoked", kind = SpanKind.INTERNAL)
     private void keypairRevoked(KeyPairRevoked event) {
-        var didResources = findByParticipantContextId(event.getParticipantContextId());
         var keyId = event.getKeyId();
-
-        var errors = didResources.stream()
-                .peek(didResource -> didResource.getDocument().getVerificationMethod().removeIf(vm -> vm.getId().equals(keyId)))
-                .map(didResourceStore::update)
-                .filter(StoreResult::failed)
-                .map(AbstractResult::getFailureDetail)
-                .collect(Collectors.joining(","));
-
-        if (!errors.isEmpty()) {
-            monitor.warning("Updating DID documents after revoking a KeyPair failed: %s".formatted(errors));
-        }
+        submit(event, Set.of(REVOKED), document -> document.getVerificationMethod().removeIf(vm -> vm.getId().equals(keyId)), false);
     }
 
     @WithSpan(value = "did-document.updated", kind = SpanKind.INTERNAL)
     private void updated(ParticipantContextUpdated event) {
+        // pending changes must be applied before the documents are (un-)published
+        flush(event.getParticipantContextId());
+
         var newState = event.getNewState();
         var forParticipant = findByParticipantContextId(event.getParticipantContextId());
         var errors = forParticipant
@@ -367,6 +383,155 @@ public class DidDocumentServiceImpl implements DidDocumentService, EventSubscrib
         }
     }
 
+    /**
+     * Applies all changes that are pending because the coalescing window has not yet elapsed. Called on shutdown.
+     */
+    public void flushAll() {
+        pendingChanges.keySet().forEach(this::flush);
+    }
+
+    /**
+     * Submits a modification of the DID documents of a participant context. If a coalescing window is configured, the modification is
+     * collected together with all other modifications of the same participant context that arrive within the window, and they are
+     * applied together once the window has elapsed. Otherwise, the modification is applied immediately.
+     */
+    private void submit(KeyPairEvent event, Set<KeyPairState> committedStates, Consumer<DidDocument> modification, boolean publish) {
+        var changes = new DidDocumentChangeSet();
+        changes.add(event.getKeyPairResource().getId(), committedStates, modification, publish);
+        if (scheduler == null || coalescingWindow.isZero() || coalescingWindow.isNegative()) {
+            transactionContext.execute(() -> apply(event.getParticipantContextId(), changes));
+            return;
+        }
+        enqueue(event.getParticipantContextId(), changes);
+    }
+
+    /**
+     * Adds changes after the pending changes of a participant context, and schedules a flush if none is scheduled yet.
+     */
+    private void enqueue(String participantContextId, DidDocumentChangeSet changes) {
+        pendingChanges.compute(participantContextId, (id, pending) -> {
+            if (pending == null) {
+                scheduler.schedule(() -> flush(id), coalescingWindow.toMillis(), TimeUnit.MILLISECONDS);
+                return changes;
+            }
+            pending.addAll(changes);
+            return pending;
+        });
+    }
+
+    /**
+     * Applies the pending changes of a participant context whose key pair changes are committed. Flushes of the same participant context
+     * are serialized, because the scheduled flush and the flush before a state change would otherwise overwrite each other's documents.
+     */
+    private void flush(String participantContextId) {
+        var lock = flushLocks.computeIfAbsent(participantContextId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            var changes = pendingChanges.remove(participantContextId);
+            if (changes == null) {
+                return;
+            }
+            var uncommitted = transactionContext.execute(() -> {
+                var keyPairStates = findKeyPairStates(changes);
+                var notYetCommitted = changes.removeUncommitted(change -> isCommitted(change, keyPairStates));
+                if (!changes.isEmpty()) {
+                    apply(participantContextId, changes);
+                }
+                return notYetCommitted;
+            });
+            uncommitted.removeExhausted(MAX_FLUSH_ATTEMPTS).forEach(change -> monitor.warning(("The change of key pair '%s' was not committed within %d attempts, " +
+                    "it is not applied to the DID documents of participant '%s'").formatted(change.keyPairId(), MAX_FLUSH_ATTEMPTS, participantContextId)));
+            if (!uncommitted.isEmpty()) {
+                enqueueBefore(participantContextId, uncommitted);
+            }
+        } catch (Exception e) {
+            monitor.severe("Error applying pending changes to the DID documents of participant '%s'".formatted(participantContextId), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts changes that are not yet committed back in front of the changes that arrived in the meantime, so that the order of the
+     * modifications is preserved.
+     */
+    private void enqueueBefore(String participantContextId, DidDocumentChangeSet retained) {
+        pendingChanges.compute(participantContextId, (id, pending) -> {
+            if (pending == null) {
+                scheduler.schedule(() -> flush(id), coalescingWindow.toMillis(), TimeUnit.MILLISECONDS);
+            } else {
+                retained.addAll(pending);
+            }
+            return retained;
+        });
+    }
+
+    private boolean isCommitted(DidDocumentChangeSet.Change change, @Nullable Map<String, KeyPairState> keyPairStates) {
+        if (keyPairStates == null) {
+            return true;
+        }
+        var state = keyPairStates.get(change.keyPairId());
+        return state != null && change.committedStates().contains(state);
+    }
+
+    /**
+     * Returns the current state of every key pair that caused one of the changes, or null if the states cannot be checked.
+     */
+    private @Nullable Map<String, KeyPairState> findKeyPairStates(DidDocumentChangeSet changes) {
+        if (keyPairResourceStore == null) {
+            return null;
+        }
+        var ids = changes.changes().stream().map(DidDocumentChangeSet.Change::keyPairId).distinct().toList();
+        var query = QuerySpec.Builder.newInstance().filter(criterion("id", "in", ids)).limit(ids.size()).build();
+        return keyPairResourceStore.query(query)
+                .map(keyPairs -> keyPairs.stream()
+                        .filter(kp -> KeyPairState.from(kp.getState()) != null)
+                        .collect(Collectors.toMap(KeyPairResource::getId, kp -> KeyPairState.from(kp.getState()))))
+                .orElse(f -> Map.<String, KeyPairState>of());
+    }
+
+    /**
+     * Applies a set of changes to all DID documents of a participant context. Every document is written exactly once: if the participant
+     * context is active, and the document is published already or the changes request publishing, the modified document is handed to the
+     * publisher, which stores it together with its new state. Otherwise, the modified document is stored as-is.
+     */
+    private void apply(String participantContextId, DidDocumentChangeSet changes) {
+        var didResources = findByParticipantContextId(participantContextId);
+        if (didResources.isEmpty()) {
+            monitor.warning("No DidResources were found for participant '%s'. No updated will be performed.".formatted(participantContextId));
+            return;
+        }
+
+        var participantContext = participantContextStore.findById(participantContextId);
+        var isActive = participantContext.succeeded() && participantContext.getContent().getStateAsEnum() == ParticipantContextState.ACTIVATED;
+
+        var errors = didResources.stream()
+                .map(didResource -> {
+                    changes.applyTo(didResource.getDocument());
+                    var publish = isActive && (changes.isPublishRequested() || didResource.getState() == DidState.PUBLISHED.code());
+                    return publish ? publishModified(didResource) : ServiceResult.from(didResourceStore.update(didResource));
+                })
+                .filter(AbstractResult::failed)
+                .map(AbstractResult::getFailureDetail)
+                .collect(Collectors.joining(","));
+
+        if (!errors.isEmpty()) {
+            monitor.warning("Updating DID documents of participant '%s' failed: %s".formatted(participantContextId, errors));
+        }
+    }
+
+    private ServiceResult<Void> publishModified(DidResource didResource) {
+        var did = didResource.getDid();
+        var publisher = registry.getPublisher(did);
+        if (publisher == null) {
+            return ServiceResult.badRequest(noPublisherFoundMessage(did));
+        }
+        var publishResult = publisher.publish(didResource, didResourceStore);
+        return publishResult.succeeded() ?
+                success() :
+                ServiceResult.badRequest(publishResult.getFailureDetail());
+    }
+
     private Collection<DidResource> findByParticipantContextId(String participantContextId) {
         return didResourceStore.query(queryByParticipantContextId(participantContextId).build());
     }
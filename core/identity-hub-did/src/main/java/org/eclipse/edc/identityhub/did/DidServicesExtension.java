@@ -17,38 +17,61 @@ package org.eclipse.edc.identityhub.did;
 import org.eclipse.edc.identityhub.spi.did.DidDocumentPublisherRegistry;
 import org.eclipse.edc.identityhub.spi.did.DidDocumentService;
 import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairActivated;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairRevoked;
+import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
 import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextUpdated;
 import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
-import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 import static org.eclipse.edc.identityhub.did.DidServicesExtension.NAME;
 
 @Extension(value = NAME)
 public class DidServicesExtension implements ServiceExtension {
     public static final String NAME = "DID Service Extension";
+    public static final long DEFAULT_COALESCING_WINDOW_MILLIS = 0;
+    private static final String SUBSCRIBER_ID = "did-document-service";
+
+    @Setting(description = "Time window (in ms) in which key pair changes of a participant context are collected and then applied to its DID documents " +
+            "with one update and one publish per document. A change is only applied once the key pair change is committed. " +
+            "0 applies every change immediately, in the transaction of the event. Collected changes are only held in memory, so changes that are " +
+            "pending when the runtime crashes are not applied to the DID documents.",
+            min = 0, defaultValue = DEFAULT_COALESCING_WINDOW_MILLIS + "", key = "edc.did.update.coalesce.window")
+    private long coalescingWindowMillis;
+
     @Inject
     private TransactionContext transactionContext;
     @Inject
     private DidResourceStore didResourceStore;
     @Inject
-    private EventRouter eventRouter;
+    private EventDispatchRegistry eventDispatchRegistry;
     @Inject
     private KeyParserRegistry keyParserRegistry;
     @Inject
     private ParticipantContextStore participantContextStore;
+    @Inject
+    private KeyPairResourceStore keyPairResourceStore;
     private DidDocumentPublisherRegistry didPublisherRegistry;
     @Inject
     private Telemetry telemetry;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    private ScheduledExecutorService scheduledExecutorService;
+    private DidDocumentServiceImpl didDocumentService;
 
     @Override
     public String name() {
@@ -63,13 +86,28 @@ public class DidServicesExtension implements ServiceExtension {
         return didPublisherRegistry;
     }
 
+    @Override
+    public void shutdown() {
+        if (didDocumentService != null) {
+            didDocumentService.flushAll();
+        }
+        if (scheduledExecutorService != null) {
+            scheduledExecutorService.shutdownNow();
+        }
+    }
+
     @Provider
     public DidDocumentService createDidDocumentService(ServiceExtensionContext context) {
+        if (coalescingWindowMillis > 0) {
+            scheduledExecutorService = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "DidDocumentUpdates");
+        }
         var service = new DidDocumentServiceImpl(transactionContext, didResourceStore,
-                getDidPublisherRegistry(), participantContextStore, context.getMonitor().withPrefix("DidDocumentService"), keyParserRegistry, telemetry);
-        eventRouter.registerSync(ParticipantContextUpdated.class, service);
-        eventRouter.registerSync(KeyPairRevoked.class, service);
-        eventRouter.registerSync(KeyPairActivated.class, service);
+                getDidPublisherRegistry(), participantContextStore, context.getMonitor().withPrefix("DidDocumentService"), keyParserRegistry, telemetry,
+                Duration.ofMillis(coalescingWindowMillis), scheduledExecutorService, keyPairResourceStore);
+        eventDispatchRegistry.register(ParticipantContextUpdated.class, SUBSCRIBER_ID, service);
+        eventDispatchRegistry.register(KeyPairRevoked.class, SUBSCRIBER_ID, service);
+        eventDispatchRegistry.register(KeyPairActivated.class, SUBSCRIBER_ID, service);
+        didDocumentService = service;
         return service;
     }
 }
@@ -31,6 +31,8 @@ import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairActivated;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairRevoked;
 import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState;
+import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
 import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextUpdated;
 import org.eclipse.edc.keys.KeyParserRegistryImpl;
 import org.eclipse.edc.keys.keyparsers.JwkParser;
@@ -48,25 +50,36 @@ import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.net.URI;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.iam.did.spi.document.DidConstants.JSON_WEB_KEY_2020;
 import static org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext.API_TOKEN_ALIAS;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -79,19 +92,21 @@ class DidDocumentServiceImplTest {
     private final DidDocumentPublisherRegistry publisherRegistry = mock();
     private final DidDocumentPublisher publisherMock = mock();
     private final ParticipantContextStore participantContextServiceMock = mock();
+    private final KeyPairResourceStore keyPairResourceStoreMock = mock();
     private DidDocumentServiceImpl service;
     private Monitor monitorMock;
+    private KeyParserRegistryImpl keyParserRegistry;
 
     @BeforeEach
     void setUp() {
         var trx = new NoopTransactionContext();
         when(publisherRegistry.getPublisher(startsWith("did:web:"))).thenReturn(publisherMock);
 
-        var registry = new KeyParserRegistryImpl();
-        registry.register(new JwkParser(new ObjectMapper(), mock()));
-        registry.register(new PemParser(mock()));
+        keyParserRegistry = new KeyParserRegistryImpl();
+        keyParserRegistry.register(new JwkParser(new ObjectMapper(), mock()));
+        keyParserRegistry.register(new PemParser(mock()));
         monitorMock = mock();
-        service = new DidDocumentServiceImpl(trx, didResourceStoreMock, publisherRegistry, participantContextServiceMock, monitorMock, registry, new Telemetry());
+        service = new DidDocumentServiceImpl(trx, didResourceStoreMock, publisherRegistry, participantContextServiceMock, monitorMock, keyParserRegistry, new Telemetry());
 
         when(participantContextServiceMock.findById(any())).thenReturn(StoreResult.success(ParticipantContext.Builder.newInstance()
                 .participantContextId(TEST_PARTICIPANT_ID)
@@ -554,9 +569,7 @@ class DidDocumentServiceImplTest {
         var didResource = DidResource.Builder.newInstance().did(did).state(DidState.GENERATED).document(doc).build();
 
         when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
-        when(didResourceStoreMock.update(any())).thenReturn(StoreResult.success());
-        when(didResourceStoreMock.findById(eq(did))).thenReturn(didResource);
-        when(publisherMock.publish(did)).thenReturn(Result.success());
+        when(publisherMock.publish(any(DidResource.class), any())).thenReturn(Result.success());
 
         var event = EventEnvelope.Builder.newInstance()
                 .at(System.currentTimeMillis())
@@ -572,10 +585,8 @@ class DidDocumentServiceImplTest {
         service.on(event);
 
         verify(didResourceStoreMock).query(any(QuerySpec.class));
-        verify(didResourceStoreMock).update(argThat(dr -> dr.getDocument().getVerificationMethod().stream().anyMatch(vm -> vm.getId().equals(keyId))));
-        verify(didResourceStoreMock).findById(did); // happens during the publishing
+        verify(publisherMock).publish(argThat((DidResource dr) -> dr.getDocument().getVerificationMethod().stream().anyMatch(vm -> vm.getId().equals(keyId))), eq(didResourceStoreMock));
         verifyNoMoreInteractions(didResourceStoreMock);
-        verify(publisherMock).publish(eq(did));
     }
 
     @SuppressWarnings("unchecked")
@@ -596,9 +607,7 @@ class DidDocumentServiceImplTest {
         var didResource = DidResource.Builder.newInstance().did(did).state(DidState.GENERATED).document(doc).build();
 
         when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
-        when(didResourceStoreMock.update(any())).thenReturn(StoreResult.success());
-        when(didResourceStoreMock.findById(eq(did))).thenReturn(didResource);
-        when(publisherMock.publish(did)).thenReturn(Result.success());
+        when(publisherMock.publish(any(DidResource.class), any())).thenReturn(Result.success());
 
         var event = EventEnvelope.Builder.newInstance()
                 .at(System.currentTimeMillis())
@@ -614,13 +623,11 @@ class DidDocumentServiceImplTest {
         service.on(event);
 
         verify(didResourceStoreMock).query(any(QuerySpec.class));
-        verify(didResourceStoreMock).update(argThat(dr ->
+        verify(publisherMock).publish(argThat((DidResource dr) ->
                 dr.getDocument().getVerificationMethod().stream().anyMatch(vm -> vm.getId().equals(keyId) &&
                         vm.getPublicKeyJwk().containsKey("x5u") &&
-                        vm.getPublicKeyJwk().containsKey("alg"))));
-        verify(didResourceStoreMock).findById(did); // happens during the publishing
+                        vm.getPublicKeyJwk().containsKey("alg"))), eq(didResourceStoreMock));
         verifyNoMoreInteractions(didResourceStoreMock);
-        verify(publisherMock).publish(eq(did));
     }
 
     @SuppressWarnings("unchecked")
@@ -636,9 +643,7 @@ class DidDocumentServiceImplTest {
         var didResource = DidResource.Builder.newInstance().did(did).state(DidState.GENERATED).document(doc).build();
 
         when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
-        when(didResourceStoreMock.update(any())).thenReturn(StoreResult.success());
-        when(didResourceStoreMock.findById(eq(did))).thenReturn(didResource);
-        when(publisherMock.publish(did)).thenReturn(Result.success());
+        when(publisherMock.publish(any(DidResource.class), any())).thenReturn(Result.success());
 
         var event = EventEnvelope.Builder.newInstance()
                 .at(System.currentTimeMillis())
@@ -654,10 +659,8 @@ class DidDocumentServiceImplTest {
         service.on(event);
 
         verify(didResourceStoreMock).query(any(QuerySpec.class));
-        verify(didResourceStoreMock).update(argThat(dr -> dr.getDocument().getVerificationMethod().stream().anyMatch(vm -> vm.getId().equals(keyId))));
-        verify(didResourceStoreMock).findById(did);
+        verify(publisherMock).publish(argThat((DidResource dr) -> dr.getDocument().getVerificationMethod().stream().anyMatch(vm -> vm.getId().equals(keyId))), eq(didResourceStoreMock));
         verifyNoMoreInteractions(didResourceStoreMock);
-        verify(publisherMock).publish(eq(did));
     }
 
     @SuppressWarnings("unchecked")
@@ -684,9 +687,7 @@ class DidDocumentServiceImplTest {
         service.on(event);
 
         verify(monitorMock).warning(anyString());
-        verify(didResourceStoreMock).query(any(QuerySpec.class));
-        verifyNoMoreInteractions(didResourceStoreMock);
-        verifyNoInteractions(publisherMock);
+        verifyNoInteractions(didResourceStoreMock, publisherMock);
     }
 
     @SuppressWarnings("unchecked")
@@ -723,6 +724,205 @@ class DidDocumentServiceImplTest {
         verifyNoInteractions(publisherMock);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void onKeyPairActivated_participantNotActive_shouldOnlyUpdate() throws JOSEException {
+        var keyId = "key-id";
+        var doc = createDidDocument().build();
+        var didResource = DidResource.Builder.newInstance().did(doc.getId()).state(DidState.GENERATED).document(doc).build();
+        when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
+        when(didResourceStoreMock.update(any())).thenReturn(StoreResult.success());
+        when(participantContextServiceMock.findById(any())).thenReturn(StoreResult.success(ParticipantContext.Builder.newInstance()
+                .participantContextId(TEST_PARTICIPANT_ID)
+                .identity("did:web:testdid")
+                .property(API_TOKEN_ALIAS, "token")
+                .state(ParticipantContextState.CREATED)
+                .build()));
+
+        service.on(keyPairActivated(keyId, new ECKeyGenerator(Curve.P_256).keyID(keyId).generate().toPublicJWK().toJSONString()));
+
+        verify(didResourceStoreMock).query(any(QuerySpec.class));
+        verify(didResourceStoreMock).update(argThat(dr -> dr.getDocument().getVerificationMethod().stream().anyMatch(vm -> vm.getId().equals(keyId))));
+        verifyNoMoreInteractions(didResourceStoreMock);
+        verifyNoInteractions(publisherMock);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void onKeyPairRevoked_whenPublished_shouldRepublish() throws JOSEException {
+        var keyId = "key-id";
+        var doc = createDidDocument().verificationMethod(List.of(VerificationMethod.Builder.newInstance()
+                        .id(keyId)
+                        .publicKeyJwk(new ECKeyGenerator(Curve.P_256).keyID(keyId).generate().toJSONObject())
+                        .build()))
+                .build();
+        var didResource = DidResource.Builder.newInstance().did(doc.getId()).state(DidState.PUBLISHED).document(doc).build();
+        when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
+        when(publisherMock.publish(any(DidResource.class), any())).thenReturn(Result.success());
+
+        service.on(keyPairRevoked(keyId));
+
+        verify(didResourceStoreMock).query(any(QuerySpec.class));
+        verify(publisherMock).publish(argThat((DidResource dr) -> dr.getDocument().getVerificationMethod().stream().noneMatch(vm -> vm.getId().equals(keyId))), eq(didResourceStoreMock));
+        verifyNoMoreInteractions(didResourceStoreMock, publisherMock);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void onKeyPairEvents_withCoalescingWindow_shouldApplyOnce() throws JOSEException {
+        var scheduler = mock(ScheduledExecutorService.class);
+        service = new DidDocumentServiceImpl(new NoopTransactionContext(), didResourceStoreMock, publisherRegistry, participantContextServiceMock, monitorMock,
+                keyParserRegistry, new Telemetry(), Duration.ofSeconds(1), scheduler, keyPairResourceStoreMock);
+        var doc = createDidDocument().build();
+        var didResource = DidResource.Builder.newInstance().did(doc.getId()).state(DidState.GENERATED).document(doc).build();
+        when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
+        when(publisherMock.publish(any(DidResource.class), any())).thenReturn(Result.success());
+        when(keyPairResourceStoreMock.query(any())).thenReturn(StoreResult.success(List.of(
+                keyPair("keypair-1", KeyPairState.ACTIVATED), keyPair("keypair-2", KeyPairState.ACTIVATED), keyPair("keypair-3", KeyPairState.REVOKED))));
+
+        service.on(keyPairActivated("keypair-1", "key-1", new ECKeyGenerator(Curve.P_256).keyID("key-1").generate().toPublicJWK().toJSONString()));
+        service.on(keyPairActivated("keypair-2", "key-2", new ECKeyGenerator(Curve.P_256).keyID("key-2").generate().toPublicJWK().toJSONString()));
+        service.on(keyPairRevoked("keypair-3", TEST_DID + "#key-1"));
+
+        verifyNoInteractions(didResourceStoreMock, publisherMock);
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        flush.getValue().run();
+
+        verify(didResourceStoreMock).query(any(QuerySpec.class));
+        verify(participantContextServiceMock).findById(TEST_PARTICIPANT_ID);
+        verify(publisherMock).publish(argThat((DidResource dr) -> dr.getDocument().getVerificationMethod().stream().map(VerificationMethod::getId).toList()
+                .equals(List.of("key-1", "key-2"))), eq(didResourceStoreMock));
+        verifyNoMoreInteractions(didResourceStoreMock, publisherMock);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void onParticipantContextUpdated_withPendingChanges_shouldApplyThemFirst() throws JOSEException {
+        var scheduler = mock(ScheduledExecutorService.class);
+        service = new DidDocumentServiceImpl(new NoopTransactionContext(), didResourceStoreMock, publisherRegistry, participantContextServiceMock, monitorMock,
+                keyParserRegistry, new Telemetry(), Duration.ofSeconds(1), scheduler, keyPairResourceStoreMock);
+        var doc = createDidDocument().build();
+        var did = doc.getId();
+        var didResource = DidResource.Builder.newInstance().did(did).state(DidState.GENERATED).document(doc).build();
+        when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
+        when(didResourceStoreMock.findById(eq(did))).thenReturn(didResource);
+        when(publisherMock.publish(any(DidResource.class), any())).thenReturn(Result.success());
+        when(publisherMock.publish(anyString())).thenReturn(Result.success());
+        when(keyPairResourceStoreMock.query(any())).thenReturn(StoreResult.success(List.of(keyPair("keypair-1", KeyPairState.ACTIVATED))));
+
+        service.on(keyPairActivated("keypair-1", "key-1", new ECKeyGenerator(Curve.P_256).keyID("key-1").generate().toPublicJWK().toJSONString()));
+        service.on(EventEnvelope.Builder.newInstance()
+                .payload(ParticipantContextUpdated.Builder.newInstance()
+                        .newState(ParticipantContextState.ACTIVATED)
+                        .participantContextId(TEST_PARTICIPANT_ID)
+                        .build())
+                .at(System.currentTimeMillis())
+                .id(UUID.randomUUID().toString())
+                .build());
+
+        var inOrder = inOrder(publisherMock);
+        inOrder.verify(publisherMock).publish(any(DidResource.class), eq(didResourceStoreMock));
+        inOrder.verify(publisherMock).publish(did);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void onKeyPairActivated_withCoalescingWindow_notCommitted_shouldKeepChangeUntilCommitted() throws JOSEException {
+        var scheduler = mock(ScheduledExecutorService.class);
+        service = new DidDocumentServiceImpl(new NoopTransactionContext(), didResourceStoreMock, publisherRegistry, participantContextServiceMock, monitorMock,
+                keyParserRegistry, new Telemetry(), Duration.ofSeconds(1), scheduler, keyPairResourceStoreMock);
+        var doc = createDidDocument().build();
+        var didResource = DidResource.Builder.newInstance().did(doc.getId()).state(DidState.GENERATED).document(doc).build();
+        when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
+        when(publisherMock.publish(any(DidResource.class), any())).thenReturn(Result.success());
+        when(keyPairResourceStoreMock.query(any()))
+                .thenReturn(StoreResult.success(List.of(keyPair("keypair-1", KeyPairState.CREATED))))
+                .thenReturn(StoreResult.success(List.of(keyPair("keypair-1", KeyPairState.ACTIVATED))));
+
+        service.on(keyPairActivated("keypair-1", "key-1", new ECKeyGenerator(Curve.P_256).keyID("key-1").generate().toPublicJWK().toJSONString()));
+
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        flush.getValue().run();
+        verifyNoInteractions(didResourceStoreMock, publisherMock);
+
+        verify(scheduler, times(2)).schedule(flush.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        flush.getValue().run();
+        verify(publisherMock).publish(argThat((DidResource dr) -> dr.getDocument().getVerificationMethod().stream().anyMatch(vm -> vm.getId().equals("key-1"))),
+                eq(didResourceStoreMock));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void onKeyPairActivated_withCoalescingWindow_rolledBack_shouldDiscardChange() throws JOSEException {
+        var scheduler = mock(ScheduledExecutorService.class);
+        service = new DidDocumentServiceImpl(new NoopTransactionContext(), didResourceStoreMock, publisherRegistry, participantContextServiceMock, monitorMock,
+                keyParserRegistry, new Telemetry(), Duration.ofSeconds(1), scheduler, keyPairResourceStoreMock);
+        when(keyPairResourceStoreMock.query(any())).thenReturn(StoreResult.success(List.of()));
+
+        service.on(keyPairActivated("keypair-1", "key-1", new ECKeyGenerator(Curve.P_256).keyID("key-1").generate().toPublicJWK().toJSONString()));
+
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        for (var attempt = 1; attempt <= DidDocumentServiceImpl.MAX_FLUSH_ATTEMPTS; attempt++) {
+            verify(scheduler, times(attempt)).schedule(flush.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+            flush.getValue().run();
+        }
+
+        verifyNoMoreInteractions(scheduler);
+        verifyNoInteractions(didResourceStoreMock, publisherMock);
+        verify(monitorMock).warning(contains("keypair-1"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_concurrentWithScheduledFlush_shouldBeSerialized() throws Exception {
+        var scheduler = mock(ScheduledExecutorService.class);
+        service = new DidDocumentServiceImpl(new NoopTransactionContext(), didResourceStoreMock, publisherRegistry, participantContextServiceMock, monitorMock,
+                keyParserRegistry, new Telemetry(), Duration.ofSeconds(1), scheduler, keyPairResourceStoreMock);
+        var doc = createDidDocument().build();
+        var didResource = DidResource.Builder.newInstance().did(doc.getId()).state(DidState.GENERATED).document(doc).build();
+        when(didResourceStoreMock.query(any(QuerySpec.class))).thenReturn(List.of(didResource));
+        when(didResourceStoreMock.findById(any())).thenReturn(didResource);
+        when(keyPairResourceStoreMock.query(any())).thenReturn(StoreResult.success(List.of(
+                keyPair("keypair-1", KeyPairState.ACTIVATED), keyPair("keypair-2", KeyPairState.ACTIVATED))));
+        var inPublish = new CountDownLatch(1);
+        var releasePublish = new CountDownLatch(1);
+        var concurrentPublishes = new AtomicInteger();
+        var maxConcurrentPublishes = new AtomicInteger();
+        when(publisherMock.publish(any(DidResource.class), any())).thenAnswer(invocation -> {
+            maxConcurrentPublishes.accumulateAndGet(concurrentPublishes.incrementAndGet(), Math::max);
+            inPublish.countDown();
+            releasePublish.await(5, TimeUnit.SECONDS);
+            concurrentPublishes.decrementAndGet();
+            return Result.success();
+        });
+        when(publisherMock.publish(anyString())).thenReturn(Result.success());
+
+        service.on(keyPairActivated("keypair-1", "key-1", new ECKeyGenerator(Curve.P_256).keyID("key-1").generate().toPublicJWK().toJSONString()));
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        var scheduledFlush = CompletableFuture.runAsync(flush.getValue());
+        assertThat(inPublish.await(5, TimeUnit.SECONDS)).isTrue();
+
+        service.on(keyPairActivated("keypair-2", "key-2", new ECKeyGenerator(Curve.P_256).keyID("key-2").generate().toPublicJWK().toJSONString()));
+        var updated = CompletableFuture.runAsync(() -> service.on(EventEnvelope.Builder.newInstance()
+                .payload(ParticipantContextUpdated.Builder.newInstance()
+                        .newState(ParticipantContextState.ACTIVATED)
+                        .participantContextId(TEST_PARTICIPANT_ID)
+                        .build())
+                .at(System.currentTimeMillis())
+                .id(UUID.randomUUID().toString())
+                .build()));
+        Thread.sleep(100);
+        releasePublish.countDown();
+        CompletableFuture.allOf(scheduledFlush, updated).get(5, TimeUnit.SECONDS);
+
+        assertThat(maxConcurrentPublishes).hasValue(1);
+        verify(publisherMock, times(2)).publish(any(DidResource.class), eq(didResourceStoreMock));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void onOtherEvent_shouldLogWarning() {
@@ -739,6 +939,43 @@ class DidDocumentServiceImplTest {
         verify(monitorMock).warning(startsWith("Received event with unexpected payload type: "));
     }
 
+    private EventEnvelope<?> keyPairActivated(String keyId, String publicKey) {
+        return keyPairActivated(UUID.randomUUID().toString(), keyId, publicKey);
+    }
+
+    private EventEnvelope<?> keyPairActivated(String keyPairId, String keyId, String publicKey) {
+        return EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .id(UUID.randomUUID().toString())
+                .payload(KeyPairActivated.Builder.newInstance()
+                        .keyId(keyId)
+                        .keyPairResource(KeyPairResource.Builder.newPresentationSigning().id(keyPairId).build())
+                        .participantContextId(TEST_PARTICIPANT_ID)
+                        .publicKey(publicKey, JSON_WEB_KEY_2020)
+                        .build())
+                .build();
+    }
+
+    private EventEnvelope<?> keyPairRevoked(String keyId) {
+        return keyPairRevoked(UUID.randomUUID().toString(), keyId);
+    }
+
+    private EventEnvelope<?> keyPairRevoked(String keyPairId, String keyId) {
+        return EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .id(UUID.randomUUID().toString())
+                .payload(KeyPairRevoked.Builder.newInstance()
+                        .keyId(keyId)
+                        .keyPairResource(KeyPairResource.Builder.newPresentationSigning().id(keyPairId).build())
+                        .participantContextId(TEST_PARTICIPANT_ID)
+                        .build())
+                .build();
+    }
+
+    private KeyPairResource keyPair(String id, KeyPairState state) {
+        return KeyPairResource.Builder.newPresentationSigning().id(id).state(state).build();
+    }
+
     private DidDocument.Builder createDidDocument() {
         return DidDocument.Builder.newInstance()
                 .id(TEST_DID)
@@ -20,6 +20,7 @@ dependencies {
     api(project(":spi:keypair-spi"))
     api(libs.edc.spi.core)
     implementation(project(":core:lib:keypair-lib"))
+    implementation(project(":spi:identity-hub-spi"))
     implementation(libs.edc.lib.core)
     implementation(libs.opentelemetry.api)
     implementation(libs.opentelemetry.instrumentation.annotations)
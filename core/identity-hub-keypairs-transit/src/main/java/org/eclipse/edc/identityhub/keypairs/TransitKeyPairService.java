@@ -40,21 +40,20 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
-import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
-import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.identityhub.transit.TransitEngine.SUPPORTED_KEY_TYPES;
@@ -153,52 +152,45 @@ public class TransitKeyPairService implements KeyPairService, EventSubscriber {
             if (oldKey == null) {
                 return ServiceResult.notFound("A KeyPairResource with ID '%s' does not exist.".formatted(oldId));
             }
-
-            var participantContextId = oldKey.getParticipantContextId();
-
-            // deactivate the old key
-            oldKey.rotate(duration);
-
-            var res = keyPairResourceStore.update(oldKey);
-            if (res.failed()) {
-                return ServiceResult.from(res);
-            }
-
-            // have Transit rotate the key, and create a copy of the keypairResource
-
-            var keyName = oldKey.getPrivateKeyAlias();
-            var transitRotateResult = transitEngine.rotateKey(keyName)
-                    .compose(u -> transitEngine.getKey(keyName))
-                    .compose(tkd -> transitEngine.setMinEncryptionKeyVersion(keyName, tkd.getData().getLatestVersion()).compose(u -> Result.success(tkd)))
-                    .compose(TransitKeyDescriptor::getLatestVersion);
-
-            if (transitRotateResult.failed()) {
-                return ServiceResult.from(transitRotateResult.mapFailure());
-            }
-            var keyVersion = transitRotateResult.getContent();
-            var newKeyPairResource = KeyPairResource.Builder.newInstance()
-                    .usage(oldKey.getUsage())
-                    .id(ofNullable(newKeyDesc).map(KeyDescriptor::getResourceId).orElse(UUID.randomUUID().toString()))
-                    .keyId(ofNullable(newKeyDesc).map(KeyDescriptor::getKeyId).orElse(oldKey.getKeyId()))
-                    .state(KeyPairState.ACTIVATED)
-                    .isDefaultPair(true)
-                    .privateKeyAlias(keyName)
-                    .serializedPublicKey(decodePublicKeyToJwk(keyVersion.getPublicKey()))
-                    .timestamp(Instant.now().toEpochMilli())
-                    .participantContextId(participantContextId)
-                    .keyContext(oldKey.getKeyContext())
-                    .build();
-
-            var storeResult = keyPairResourceStore.create(newKeyPairResource)
-                    .onSuccess(v -> observable.invokeForEach(l -> {
-                        l.rotated(oldKey, newKeyDesc);
-                        l.added(newKeyPairResource, oldKey.getKeyContext());
-                        l.activated(newKeyPairResource, oldKey.getKeyContext());
-                    }));
-            return ServiceResult.from(storeResult);
+            return rotateKeyPair(oldKey, newKeyDesc, duration);
         });
     }
 
+    /**
+     * Rotates several key pairs in one transaction. All key pairs are looked up and validated before Transit rotates any key. If a key
+     * pair cannot be rotated, the transaction is rolled back. Since Transit does not participate in the transaction, key versions that
+     * Transit created up to that point remain, but the key pair resources that reference them are not stored.
+     */
+    @Override
+    @WithSpan(value = "keypairs.rotate-bulk", kind = SpanKind.INTERNAL)
+    public ServiceResult<Void> rotateKeyPairs(String participantContextId, Collection<String> keyPairIds, long duration) {
+        try {
+            return transactionContext.execute(() -> {
+                var oldKeys = new ArrayList<KeyPairResource>();
+                for (var id : keyPairIds) {
+                    var oldKey = findById(id);
+                    if (oldKey == null) {
+                        return ServiceResult.<Void>notFound("A KeyPairResource with ID '%s' does not exist.".formatted(id));
+                    }
+                    if (!participantContextId.equals(oldKey.getParticipantContextId())) {
+                        return ServiceResult.<Void>badRequest("KeyPairResource '%s' does not belong to participant '%s'.".formatted(id, participantContextId));
+                    }
+                    oldKeys.add(oldKey);
+                }
+                for (var oldKey : oldKeys) {
+                    // Transit creates the new key version itself, so there is no need to derive a successor
+                    var result = rotateKeyPair(oldKey, null, duration);
+                    if (result.failed()) {
+                        throw new RotationFailedException(result);
+                    }
+                }
+                return success();
+            });
+        } catch (RuntimeException e) {
+            return RotationFailedException.find(e).orElseThrow(() -> e).result;
+        }
+    }
+
     @Override
     @WithSpan(value = "keypairs.revoke", kind = SpanKind.INTERNAL)
     public ServiceResult<Void> revokeKey(String id, @Nullable KeyDescriptor newKeyDesc) {
@@ -365,30 +357,87 @@ public class TransitKeyPairService implements KeyPairService, EventSubscriber {
 
     private void deleted(ParticipantContextDeleted event) {
         //hard-delete all keypairs that are associated with the deleted participant
-        var query = queryByParticipantContextId(event.getParticipantContextId()).build();
+        var query = queryByParticipantContextId(event.getParticipantContextId()).limit(Integer.MAX_VALUE).build();
         transactionContext.execute(() -> {
+            // the key aliases are needed to remove the keys from the transit engine once the resources are gone
             keyPairResourceStore.query(query)
-                    .compose(list -> {
-                        var errors = list.stream()
-                                .map(r -> keyPairResourceStore.deleteById(r.getId())
-                                        .onSuccess(v -> transitEngine.deleteKey(r.getPrivateKeyAlias())
-                                                .onFailure(f -> monitor.warning("Failed to delete key '%s' from Vault Transit engine: %s".formatted(r.getPrivateKeyAlias(), f.getFailureDetail())))))
-                                .filter(StoreResult::failed)
-                                .map(AbstractResult::getFailureDetail)
-                                .collect(Collectors.joining(","));
-
-                        if (errors.isEmpty()) {
-                            return StoreResult.success();
-                        }
-                        return StoreResult.generalError("An error occurred when deleting KeyPairResources: %s".formatted(errors));
-                    })
+                    .compose(list -> keyPairResourceStore.deleteByQuery(query)
+                            .onSuccess(count -> list.forEach(r -> transitEngine.deleteKey(r.getPrivateKeyAlias())
+                                    .onFailure(f -> monitor.warning("Failed to delete key '%s' from Vault Transit engine: %s".formatted(r.getPrivateKeyAlias(), f.getFailureDetail()))))))
                     .onFailure(f -> monitor.warning("Removing key pairs from a deleted ParticipantContext failed: %s".formatted(f.getFailureDetail())));
         });
     }
 
+    private ServiceResult<Void> rotateKeyPair(KeyPairResource oldKey, @Nullable KeyDescriptor newKeyDesc, long duration) {
+        var participantContextId = oldKey.getParticipantContextId();
+
+        // deactivate the old key, unless it was changed concurrently, e.g. rotated by another runtime
+        var previousState = oldKey.getState();
+        oldKey.rotate(duration);
+
+        var res = keyPairResourceStore.updateIfInState(oldKey, previousState);
+        if (res.failed()) {
+            return ServiceResult.from(res);
+        }
+
+        // have Transit rotate the key, and create a copy of the keypairResource
+
+        var keyName = oldKey.getPrivateKeyAlias();
+        var transitRotateResult = transitEngine.rotateKey(keyName)
+                .compose(u -> transitEngine.getKey(keyName))
+                .compose(tkd -> transitEngine.setMinEncryptionKeyVersion(keyName, tkd.getData().getLatestVersion()).compose(u -> Result.success(tkd)))
+                .compose(TransitKeyDescriptor::getLatestVersion);
+
+        if (transitRotateResult.failed()) {
+            return ServiceResult.from(transitRotateResult.mapFailure());
+        }
+        var keyVersion = transitRotateResult.getContent();
+        var newKeyPairResource = KeyPairResource.Builder.newInstance()
+                .usage(oldKey.getUsage())
+                .id(ofNullable(newKeyDesc).map(KeyDescriptor::getResourceId).orElse(UUID.randomUUID().toString()))
+                .keyId(ofNullable(newKeyDesc).map(KeyDescriptor::getKeyId).orElse(oldKey.getKeyId()))
+                .state(KeyPairState.ACTIVATED)
+                .isDefaultPair(true)
+                .privateKeyAlias(keyName)
+                .serializedPublicKey(decodePublicKeyToJwk(keyVersion.getPublicKey()))
+                .timestamp(Instant.now().toEpochMilli())
+                .participantContextId(participantContextId)
+                .keyContext(oldKey.getKeyContext())
+                .build();
+
+        var storeResult = keyPairResourceStore.create(newKeyPairResource)
+                .onSuccess(v -> observable.invokeForEach(l -> {
+                    l.rotated(oldKey, newKeyDesc);
+                    l.added(newKeyPairResource, oldKey.getKeyContext());
+                    l.activated(newKeyPairResource, oldKey.getKeyContext());
+                }));
+        return ServiceResult.from(storeResult);
+    }
+
     private KeyPairResource findById(String oldId) {
         var q = QuerySpec.Builder.newInstance()
                 .filter(new Criterion("id", "=", oldId)).build();
         return keyPairResourceStore.query(q).map(list -> list.stream().findFirst().orElse(null)).orElse(f -> null);
     }
+
+    /**
+     * Thrown from within a transaction to roll it back when an operation failed.
+     */
+    private static final class RotationFailedException extends EdcException {
+        private final ServiceResult<Void> result;
+
+        private RotationFailedException(ServiceResult<Void> result) {
+            super(result.getFailureDetail());
+            this.result = result;
+        }
+
+        private static Optional<RotationFailedException> find(Throwable throwable) {
+            for (var t = throwable; t != null; t = t.getCause()) {
+                if (t instanceof RotationFailedException e) {
+                    return Optional.of(e);
+                }
+            }
+            return Optional.empty();
+        }
+    }
 }
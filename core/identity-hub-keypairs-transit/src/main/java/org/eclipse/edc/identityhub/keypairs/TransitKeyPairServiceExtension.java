@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.identityhub.keypairs;
 
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
 import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairObservable;
 import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
@@ -23,7 +24,6 @@ import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
-import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -33,12 +33,14 @@ import static org.eclipse.edc.identityhub.keypairs.TransitKeyPairServiceExtensio
 @Extension(NAME)
 public class TransitKeyPairServiceExtension implements ServiceExtension {
     public static final String NAME = "Hashicorp Transit KeyPair Service Extension";
+    // same ID as the default key pair service, which this service replaces
+    private static final String SUBSCRIBER_ID = "keypair-service";
 
 
     @Inject
     private KeyPairResourceStore keyPairResourceStore;
     @Inject
-    private EventRouter eventRouter;
+    private EventDispatchRegistry eventDispatchRegistry;
     @Inject
     private TransactionContext transactionContext;
     @Inject
@@ -59,7 +61,7 @@ public class TransitKeyPairServiceExtension implements ServiceExtension {
     @Provider
     public KeyPairService createKeyPairService(ServiceExtensionContext context) {
         var service = new TransitKeyPairService(keyPairResourceStore, context.getMonitor().withPrefix("KeyPairService"), keyPairObservable, transactionContext, participantContextService, transitEngine);
-        eventRouter.registerSync(ParticipantContextDeleted.class, service);
+        eventDispatchRegistry.register(ParticipantContextDeleted.class, SUBSCRIBER_ID, service);
         return service;
     }
 }
@@ -468,7 +468,7 @@ class TransitKeyPairServiceTest {
                         assertThat(keyPairService.rotateKeyPair(oldId, kd, Duration.ofDays(100).toMillis())).isSucceeded();
 
                         verify(keyPairResourceStore).query(any());
-                        verify(keyPairResourceStore).update(argThat(kpr -> kpr.getId().equals(oldId)));
+                        verify(keyPairResourceStore).updateIfInState(argThat(kpr -> kpr.getId().equals(oldId)), anyInt());
                         verify(keyPairResourceStore).create(any());
                         verify(transitEngine).rotateKey(anyString());
                         verify(transitEngine).getKey(anyString());
@@ -498,11 +498,11 @@ class TransitKeyPairServiceTest {
             var oldId = "old-id";
             var oldKey = createKeyPairResource().id(oldId).build();
             when(keyPairResourceStore.query(any())).thenReturn(success(List.of(oldKey)));
-            when(keyPairResourceStore.update(any())).thenReturn(StoreResult.generalError("update failed"));
+            when(keyPairResourceStore.updateIfInState(any(), anyInt())).thenReturn(StoreResult.generalError("update failed"));
 
             assertThat(keyPairService.rotateKeyPair(oldId, null, Duration.ofDays(100).toMillis())).isFailed();
 
-            verify(keyPairResourceStore).update(any());
+            verify(keyPairResourceStore).updateIfInState(any(), anyInt());
             verifyNoMoreInteractions(observableMock, transitEngine);
         }
 
@@ -550,6 +550,79 @@ class TransitKeyPairServiceTest {
         }
     }
 
+    @Nested
+    class RotateKeyPairs {
+        @Test
+        void rotateKeyPairs() {
+            var first = createKeyPairResource().build();
+            var second = createKeyPairResource().build();
+            when(keyPairResourceStore.query(any())).thenReturn(success(List.of(first)), success(List.of(second)));
+            when(keyPairResourceStore.updateIfInState(any(), anyInt())).thenReturn(success());
+            when(keyPairResourceStore.create(any())).thenReturn(success());
+            when(transitEngine.rotateKey(anyString())).thenReturn(Result.success());
+            when(transitEngine.getKey(anyString())).thenReturn(Result.success(transitKeyDescriptor()));
+            when(transitEngine.setMinEncryptionKeyVersion(anyString(), anyInt())).thenReturn(Result.success());
+
+            assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of(first.getId(), second.getId()), Duration.ofDays(100).toMillis())).isSucceeded();
+
+            verify(transitEngine, times(2)).rotateKey(anyString());
+            verify(keyPairResourceStore, times(2)).create(any());
+        }
+
+        @Test
+        void rotateKeyPairs_whenOneNotFound_shouldNotRotateAny() {
+            var existing = createKeyPairResource().build();
+            when(keyPairResourceStore.query(any())).thenReturn(success(List.of(existing)), success(List.of()));
+
+            assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of(existing.getId(), "not-exist"), Duration.ofDays(100).toMillis())).isFailed()
+                    .detail().isEqualTo("A KeyPairResource with ID 'not-exist' does not exist.");
+
+            verify(keyPairResourceStore, times(2)).query(any());
+            verifyNoMoreInteractions(keyPairResourceStore);
+            verifyNoInteractions(transitEngine, observableMock);
+        }
+
+        @Test
+        void rotateKeyPairs_whenOtherParticipant_shouldNotRotateAny() {
+            var own = createKeyPairResource().build();
+            var foreign = createKeyPairResource().participantContextId("another-participant").build();
+            when(keyPairResourceStore.query(any())).thenReturn(success(List.of(own)), success(List.of(foreign)));
+
+            assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of(own.getId(), foreign.getId()), Duration.ofDays(100).toMillis())).isFailed();
+
+            verifyNoInteractions(transitEngine, observableMock);
+        }
+
+        @Test
+        void rotateKeyPairs_whenRotateFails_shouldFail() {
+            var first = createKeyPairResource().build();
+            var second = createKeyPairResource().build();
+            when(keyPairResourceStore.query(any())).thenReturn(success(List.of(first)), success(List.of(second)));
+            when(keyPairResourceStore.updateIfInState(any(), anyInt())).thenReturn(success());
+            when(keyPairResourceStore.create(any())).thenReturn(success());
+            when(transitEngine.rotateKey(anyString())).thenReturn(Result.success(), Result.failure("rotate failed"));
+            when(transitEngine.getKey(anyString())).thenReturn(Result.success(transitKeyDescriptor()));
+            when(transitEngine.setMinEncryptionKeyVersion(anyString(), anyInt())).thenReturn(Result.success());
+
+            assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of(first.getId(), second.getId()), Duration.ofDays(100).toMillis())).isFailed()
+                    .detail().contains("rotate failed");
+
+            verify(transitEngine, times(2)).rotateKey(anyString());
+        }
+
+        @Test
+        void rotateKeyPairs_whenRotatedConcurrently_shouldNotRotateInTransit() {
+            var oldKey = createKeyPairResource().build();
+            when(keyPairResourceStore.query(any())).thenReturn(success(List.of(oldKey)));
+            when(keyPairResourceStore.updateIfInState(any(), anyInt())).thenReturn(StoreResult.alreadyLeased("already rotated"));
+
+            assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of(oldKey.getId()), Duration.ofDays(100).toMillis())).isFailed()
+                    .detail().contains("already rotated");
+
+            verifyNoInteractions(transitEngine, observableMock);
+        }
+    }
+
     @Nested
     class AddKeyPair {
         // Transit does indeed support importing externally generated keys, but our implementation does not (yet?) support it
@@ -633,12 +706,12 @@ class TransitKeyPairServiceTest {
             var kp1 = createKeyPairResource().id("kp-1").privateKeyAlias("alias-1").build();
             var kp2 = createKeyPairResource().id("kp-2").privateKeyAlias("alias-2").build();
             when(keyPairResourceStore.query(any())).thenReturn(success(List.of(kp1, kp2)));
+            when(keyPairResourceStore.deleteByQuery(any())).thenReturn(success(2));
             when(transitEngine.deleteKey(anyString())).thenReturn(Result.success());
 
             keyPairService.on(deletedEvent());
 
-            verify(keyPairResourceStore).deleteById("kp-1");
-            verify(keyPairResourceStore).deleteById("kp-2");
+            verify(keyPairResourceStore).deleteByQuery(argThat(q -> q.getLimit() == Integer.MAX_VALUE));
             verify(transitEngine).deleteKey("alias-1");
             verify(transitEngine).deleteKey("alias-2");
         }
@@ -657,11 +730,11 @@ class TransitKeyPairServiceTest {
         void onParticipantContextDeleted_whenStoreDeleteFails_logsWarning() {
             var kp1 = createKeyPairResource().id("kp-1").privateKeyAlias("alias-1").build();
             when(keyPairResourceStore.query(any())).thenReturn(success(List.of(kp1)));
-            when(keyPairResourceStore.deleteById(anyString())).thenReturn(StoreResult.generalError("delete failed"));
+            when(keyPairResourceStore.deleteByQuery(any())).thenReturn(StoreResult.generalError("delete failed"));
 
             keyPairService.on(deletedEvent());
 
-            verify(keyPairResourceStore).deleteById("kp-1");
+            verify(keyPairResourceStore).deleteByQuery(any());
             verifyNoMoreInteractions(transitEngine);
         }
 
@@ -670,13 +743,13 @@ class TransitKeyPairServiceTest {
             var kp1 = createKeyPairResource().id("kp-1").privateKeyAlias("alias-1").build();
             var kp2 = createKeyPairResource().id("kp-2").privateKeyAlias("alias-2").build();
             when(keyPairResourceStore.query(any())).thenReturn(success(List.of(kp1, kp2)));
+            when(keyPairResourceStore.deleteByQuery(any())).thenReturn(success(2));
             when(transitEngine.deleteKey("alias-1")).thenReturn(Result.failure("vault error"));
             when(transitEngine.deleteKey("alias-2")).thenReturn(Result.success());
 
             keyPairService.on(deletedEvent());
 
-            verify(keyPairResourceStore).deleteById("kp-1");
-            verify(keyPairResourceStore).deleteById("kp-2");
+            verify(keyPairResourceStore).deleteByQuery(any());
             verify(transitEngine).deleteKey("alias-1");
             verify(transitEngine).deleteKey("alias-2");
             verifyNoMoreInteractions(transitEngine);
@@ -685,10 +758,12 @@ class TransitKeyPairServiceTest {
         @Test
         void onParticipantContextDeleted_whenNoKeyPairs_doesNothing() {
             when(keyPairResourceStore.query(any())).thenReturn(success(List.of()));
+            when(keyPairResourceStore.deleteByQuery(any())).thenReturn(success(0));
 
             keyPairService.on(deletedEvent());
 
             verify(keyPairResourceStore).query(any());
+            verify(keyPairResourceStore).deleteByQuery(any());
             verifyNoMoreInteractions(keyPairResourceStore, transitEngine);
         }
 
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.keypairs;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+
+import java.security.KeyPair;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of pre-generated key pairs, so that key generation is not on the critical path of {@link KeyPairServiceImpl#addKeyPair}.
+ * <p>
+ * There is one pool per distinct set of key generator parameters (algorithm, curve, length), which is created when a key pair with those
+ * parameters is requested for the first time. Whenever a key pair is taken from a pool, the pool is refilled up to its capacity on a
+ * background thread. If a pool is empty, the key pair is generated synchronously.
+ * <p>
+ * Note that pooled key pairs are held in memory until they are used. A capacity of zero disables pooling altogether.
+ */
+class KeyPairPool {
+    private static final int MAX_POOLS = 16;
+
+    private final int capacity;
+    private final Executor executor;
+    private final Monitor monitor;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    KeyPairPool(int capacity, Executor executor, Monitor monitor) {
+        this.capacity = capacity;
+        this.executor = executor;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Creates a pool that never holds any key pairs, i.e. all key pairs are generated synchronously.
+     */
+    static KeyPairPool disabled() {
+        return new KeyPairPool(0, Runnable::run, null);
+    }
+
+    /**
+     * Takes a pre-generated key pair from the pool, or generates one if the pool is empty.
+     *
+     * @param parameters the key generator parameters, c.f. {@link KeyPairGenerator#generateKeyPair(Map)}
+     * @return the key pair, or a failure if the key pair could not be generated.
+     */
+    Result<KeyPair> take(Map<String, Object> parameters) {
+        if (capacity <= 0) {
+            return KeyPairGenerator.generateKeyPair(parameters);
+        }
+
+        var key = poolKey(parameters);
+        var pool = pools.get(key);
+        if (pool != null) {
+            var keyPair = pool.poll();
+            pool.refill();
+            if (keyPair != null) {
+                return Result.success(keyPair);
+            }
+            return KeyPairGenerator.generateKeyPair(parameters);
+        }
+
+        // only create pools for parameters that are known to work
+        var result = KeyPairGenerator.generateKeyPair(parameters);
+        if (result.succeeded() && pools.size() < MAX_POOLS) {
+            pools.computeIfAbsent(key, k -> new Pool(new TreeMap<>(parameters))).refill();
+        }
+        return result;
+    }
+
+    /**
+     * The number of pre-generated key pairs that are currently available for the given parameters.
+     */
+    int available(Map<String, Object> parameters) {
+        var pool = pools.get(poolKey(parameters));
+        return pool == null ? 0 : pool.size.get();
+    }
+
+    private String poolKey(Map<String, Object> parameters) {
+        var normalized = new TreeMap<String, String>();
+        parameters.forEach((k, v) -> normalized.put(k.toLowerCase(), v == null ? "" : v.toString().toLowerCase()));
+        return normalized.toString();
+    }
+
+    private class Pool {
+        private final Map<String, Object> parameters;
+        private final ConcurrentLinkedQueue<KeyPair> keyPairs = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        Pool(Map<String, Object> parameters) {
+            this.parameters = parameters;
+        }
+
+        KeyPair poll() {
+            var keyPair = keyPairs.poll();
+            if (keyPair != null) {
+                size.decrementAndGet();
+            }
+            return keyPair;
+        }
+
+        void refill() {
+            if (size.get() >= capacity || !refilling.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::fill);
+            } catch (RejectedExecutionException e) {
+                refilling.set(false);
+            }
+        }
+
+        private void fill() {
+            try {
+                while (size.get() < capacity && !Thread.currentThread().isInterrupted()) {
+                    var result = KeyPairGenerator.generateKeyPair(parameters);
+                    if (result.failed()) {
+                        monitor.warning("Error pre-generating key pairs: %s".formatted(result.getFailureDetail()));
+                        return;
+                    }
+                    keyPairs.add(result.getContent());
+                    size.incrementAndGet();
+                }
+            } finally {
+                refilling.set(false);
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.identityhub.keypairs;
 
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
 import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairObservable;
 import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
@@ -22,19 +23,31 @@ import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.identityhub.keypairs.KeyPairServiceExtension.NAME;
 
 @Extension(NAME)
 public class KeyPairServiceExtension implements ServiceExtension {
     public static final String NAME = "KeyPair Service Extension";
+    public static final int DEFAULT_POOL_SIZE = 0;
+    private static final String KEYPAIR_POOL = "KeyPairPool";
+    private static final String SUBSCRIBER_ID = "keypair-service";
+
+    @Setting(description = "Number of key pairs that are pre-generated in the background for each combination of key generator parameters, to speed up " +
+            "the creation of participant contexts. Pooled private keys are held in memory until they are used. Configuring a number <=0 disables the pool.",
+            min = 0, defaultValue = DEFAULT_POOL_SIZE + "", key = "edc.iam.keypair.pool.size")
+    private int poolSize;
 
     @Inject
     private Vault vault;
@@ -43,12 +56,17 @@ public class KeyPairServiceExtension implements ServiceExtension {
     @Inject
     private EventRouter eventRouter;
     @Inject
+    private EventDispatchRegistry eventDispatchRegistry;
+    @Inject
     private Clock clock;
     @Inject
     private TransactionContext transactionContext;
     @Inject
     private ParticipantContextStore participantContextService;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
 
+    private ExecutorService poolExecutorService;
 
     private KeyPairObservable observable;
 
@@ -59,11 +77,19 @@ public class KeyPairServiceExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public KeyPairService createParticipantService(ServiceExtensionContext context) {
-        var service = new KeyPairServiceImpl(keyPairResourceStore, vault, context.getMonitor().withPrefix("KeyPairService"), keyPairObservable(), transactionContext, participantContextService);
-        eventRouter.registerSync(ParticipantContextDeleted.class, service);
+        var service = new KeyPairServiceImpl(keyPairResourceStore, vault, context.getMonitor().withPrefix("KeyPairService"), keyPairObservable(), transactionContext, participantContextService,
+                keyPairPool(context));
+        eventDispatchRegistry.register(ParticipantContextDeleted.class, SUBSCRIBER_ID, service);
         return service;
     }
 
+    @Override
+    public void shutdown() {
+        if (poolExecutorService != null) {
+            poolExecutorService.shutdownNow();
+        }
+    }
+
     @Provider
     public KeyPairObservable keyPairObservable() {
         if (observable == null) {
@@ -72,4 +98,12 @@ public class KeyPairServiceExtension implements ServiceExtension {
         }
         return observable;
     }
+
+    private KeyPairPool keyPairPool(ServiceExtensionContext context) {
+        if (poolSize <= 0) {
+            return KeyPairPool.disabled();
+        }
+        poolExecutorService = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), KEYPAIR_POOL);
+        return new KeyPairPool(poolSize, poolExecutorService, context.getMonitor().withPrefix(KEYPAIR_POOL));
+    }
 }
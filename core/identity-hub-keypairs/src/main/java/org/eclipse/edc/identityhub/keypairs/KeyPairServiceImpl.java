@@ -14,6 +14,10 @@
 
 package org.eclipse.edc.identityhub.keypairs;
 
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
@@ -28,28 +32,30 @@ import org.eclipse.edc.identityhub.spi.participantcontext.model.KeyPairUsage;
 import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContextState;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
-import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
-import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.text.ParseException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantContextState.ACTIVATED;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantContextState.CREATED;
@@ -57,75 +63,35 @@ import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.q
 import static org.eclipse.edc.spi.result.ServiceResult.success;
 
 public class KeyPairServiceImpl implements KeyPairService, EventSubscriber {
+    private static final String ROTATION_SUFFIX = "-r";
+    private static final Pattern ROTATION_SUFFIX_PATTERN = Pattern.compile(ROTATION_SUFFIX + "\\d+$");
     private final KeyPairResourceStore keyPairResourceStore;
     private final Vault vault;
     private final Monitor monitor;
     private final KeyPairObservable observable;
     private final TransactionContext transactionContext;
     private final ParticipantContextStore participantContextService;
+    private final KeyPairPool keyPairPool;
 
     public KeyPairServiceImpl(KeyPairResourceStore keyPairResourceStore, Vault vault, Monitor monitor, KeyPairObservable observable, TransactionContext transactionContext, ParticipantContextStore participantContextService) {
+        this(keyPairResourceStore, vault, monitor, observable, transactionContext, participantContextService, KeyPairPool.disabled());
+    }
+
+    KeyPairServiceImpl(KeyPairResourceStore keyPairResourceStore, Vault vault, Monitor monitor, KeyPairObservable observable, TransactionContext transactionContext,
+                       ParticipantContextStore participantContextService, KeyPairPool keyPairPool) {
         this.keyPairResourceStore = keyPairResourceStore;
         this.vault = vault;
         this.monitor = monitor;
         this.observable = observable;
         this.transactionContext = transactionContext;
         this.participantContextService = participantContextService;
+        this.keyPairPool = keyPairPool;
     }
 
     @Override
     @WithSpan(value = "keypairs.add", kind = SpanKind.INTERNAL)
     public ServiceResult<Void> addKeyPair(String participantContextId, KeyDescriptor keyDescriptor, boolean makeDefault) {
-
-        return transactionContext.execute(() -> {
-
-            var result = checkParticipantState(participantContextId, ACTIVATED, CREATED);
-
-            if (result.failed()) {
-                return result.mapEmpty();
-            }
-
-            var key = generateOrGetKey(participantContextId, keyDescriptor);
-            if (key.failed()) {
-                return ServiceResult.badRequest(key.getFailureDetail());
-            }
-
-            // check if the new key is not active, and no other active key exists
-            if (!keyDescriptor.isActive()) {
-
-                var hasActiveKeys = keyPairResourceStore.query(queryByParticipantContextId(participantContextId).build())
-                        .orElse(failure -> Collections.emptySet())
-                        .stream().filter(kpr -> kpr.getState() == KeyPairState.ACTIVATED.code())
-                        .findAny()
-                        .isEmpty();
-
-                if (!hasActiveKeys) {
-                    monitor.warning("Participant '%s' has no active key pairs, and adding an inactive one will prevent the participant from becoming operational.");
-                }
-            }
-
-            var newResource = KeyPairResource.Builder.newInstance()
-                    .usage(keyDescriptor.getUsage())
-                    .id(keyDescriptor.getResourceId())
-                    .keyId(keyDescriptor.getKeyId())
-                    .state(keyDescriptor.isActive() ? KeyPairState.ACTIVATED : KeyPairState.CREATED)
-                    .isDefaultPair(makeDefault)
-                    .privateKeyAlias(keyDescriptor.getPrivateKeyAlias())
-                    .serializedPublicKey(key.getContent())
-                    .timestamp(Instant.now().toEpochMilli())
-                    .participantContextId(participantContextId)
-                    .keyContext(keyDescriptor.getType())
-                    .build();
-
-            return ServiceResult.from(keyPairResourceStore.create(newResource))
-                    .onSuccess(v -> observable.invokeForEach(l -> l.added(newResource, keyDescriptor.getType())))
-                    .compose(v -> {
-                        if (keyDescriptor.isActive()) {
-                            return activateKeyPair(newResource);
-                        }
-                        return success();
-                    });
-        });
+        return transactionContext.execute(() -> addKeyPair(participantContextId, keyDescriptor, makeDefault, new VaultChanges(false)));
     }
 
     @Override
@@ -135,25 +101,35 @@ public class KeyPairServiceImpl implements KeyPairService, EventSubscriber {
             if (oldKey == null) {
                 return ServiceResult.notFound("A KeyPairResource with ID '%s' does not exist.".formatted(oldId));
             }
-
-            var participantContextId = oldKey.getParticipantContextId();
-            boolean wasDefault = oldKey.isDefaultPair();
-
-            // deactivate the old key
-            var oldAlias = oldKey.getPrivateKeyAlias();
-            vault.deleteSecret(oldKey.getParticipantContextId(), oldAlias);
-            oldKey.rotate(duration);
-            var updateResult = ServiceResult.from(keyPairResourceStore.update(oldKey))
-                    .onSuccess(v -> observable.invokeForEach(l -> l.rotated(oldKey, newKeyDesc)));
-
-            if (newKeyDesc != null) {
-                return updateResult.compose(v -> addKeyPair(participantContextId, newKeyDesc, wasDefault));
-            }
-            monitor.warning("Rotating keys without a successor key may leave the participant without an active keypair.");
-            return updateResult;
+            return rotateKeyPair(oldKey, newKeyDesc, duration, new VaultChanges(false));
         });
     }
 
+    /**
+     * Rotates several key pairs in one transaction. If any of them cannot be rotated, the transaction is rolled back. Since the vault does
+     * not participate in the transaction, the private keys of the successors are deleted from the vault in that case, and the private
+     * keys of the rotated key pairs are only deleted from the vault after the transaction has completed.
+     */
+    @Override
+    @WithSpan(value = "keypairs.rotate-bulk", kind = SpanKind.INTERNAL)
+    public ServiceResult<Void> rotateKeyPairs(String participantContextId, Collection<String> keyPairIds, long duration) {
+        var vaultChanges = new VaultChanges(true);
+        try {
+            var result = transactionContext.execute(() -> {
+                var rotation = rotateKeyPairs(participantContextId, keyPairIds, duration, vaultChanges);
+                if (rotation.failed()) {
+                    throw new RotationFailedException(rotation);
+                }
+                return rotation;
+            });
+            vaultChanges.completed();
+            return result;
+        } catch (RuntimeException e) {
+            vaultChanges.rolledBack();
+            return RotationFailedException.find(e).orElseThrow(() -> e).result;
+        }
+    }
+
     @Override
     public ServiceResult<Void> revokeKey(String id, @Nullable KeyDescriptor newKeyDesc) {
         return transactionContext.execute(() -> {
@@ -180,6 +156,95 @@ public class KeyPairServiceImpl implements KeyPairService, EventSubscriber {
         });
     }
 
+    private ServiceResult<Void> addKeyPair(String participantContextId, KeyDescriptor keyDescriptor, boolean makeDefault, VaultChanges vaultChanges) {
+        var result = checkParticipantState(participantContextId, ACTIVATED, CREATED);
+
+        if (result.failed()) {
+            return result.mapEmpty();
+        }
+
+        var key = generateOrGetKey(participantContextId, keyDescriptor, vaultChanges);
+        if (key.failed()) {
+            return ServiceResult.badRequest(key.getFailureDetail());
+        }
+
+        // check if the new key is not active, and no other active key exists
+        if (!keyDescriptor.isActive()) {
+
+            var hasActiveKeys = keyPairResourceStore.query(queryByParticipantContextId(participantContextId).build())
+                    .orElse(failure -> Collections.emptySet())
+                    .stream().filter(kpr -> kpr.getState() == KeyPairState.ACTIVATED.code())
+                    .findAny()
+                    .isEmpty();
+
+            if (!hasActiveKeys) {
+                monitor.warning("Participant '%s' has no active key pairs, and adding an inactive one will prevent the participant from becoming operational.");
+            }
+        }
+
+        var newResource = KeyPairResource.Builder.newInstance()
+                .usage(keyDescriptor.getUsage())
+                .id(keyDescriptor.getResourceId())
+                .keyId(keyDescriptor.getKeyId())
+                .state(keyDescriptor.isActive() ? KeyPairState.ACTIVATED : KeyPairState.CREATED)
+                .isDefaultPair(makeDefault)
+                .privateKeyAlias(keyDescriptor.getPrivateKeyAlias())
+                .serializedPublicKey(key.getContent())
+                .timestamp(Instant.now().toEpochMilli())
+                .participantContextId(participantContextId)
+                .keyContext(keyDescriptor.getType())
+                .build();
+
+        return ServiceResult.from(keyPairResourceStore.create(newResource))
+                .onSuccess(v -> observable.invokeForEach(l -> l.added(newResource, keyDescriptor.getType())))
+                .compose(v -> {
+                    if (keyDescriptor.isActive()) {
+                        return activateKeyPair(newResource);
+                    }
+                    return success();
+                });
+    }
+
+    private ServiceResult<Void> rotateKeyPair(KeyPairResource oldKey, @Nullable KeyDescriptor newKeyDesc, long duration, VaultChanges vaultChanges) {
+        var participantContextId = oldKey.getParticipantContextId();
+        boolean wasDefault = oldKey.isDefaultPair();
+
+        // deactivate the old key, unless it was changed concurrently, e.g. rotated by another runtime
+        vaultChanges.deleteSecret(participantContextId, oldKey.getPrivateKeyAlias());
+        var previousState = oldKey.getState();
+        oldKey.rotate(duration);
+        var updateResult = ServiceResult.from(keyPairResourceStore.updateIfInState(oldKey, previousState))
+                .onSuccess(v -> observable.invokeForEach(l -> l.rotated(oldKey, newKeyDesc)));
+
+        if (newKeyDesc != null) {
+            return updateResult.compose(v -> addKeyPair(participantContextId, newKeyDesc, wasDefault, vaultChanges));
+        }
+        monitor.warning("Rotating keys without a successor key may leave the participant without an active keypair.");
+        return updateResult;
+    }
+
+    private ServiceResult<Void> rotateKeyPairs(String participantContextId, Collection<String> keyPairIds, long duration, VaultChanges vaultChanges) {
+        var suffix = ROTATION_SUFFIX + Instant.now().toEpochMilli();
+        for (var id : keyPairIds) {
+            var oldKey = findById(id);
+            if (oldKey == null) {
+                return ServiceResult.notFound("A KeyPairResource with ID '%s' does not exist.".formatted(id));
+            }
+            if (!participantContextId.equals(oldKey.getParticipantContextId())) {
+                return ServiceResult.badRequest("KeyPairResource '%s' does not belong to participant '%s'.".formatted(id, participantContextId));
+            }
+            var successor = successorOf(oldKey, suffix);
+            if (successor.failed()) {
+                return ServiceResult.badRequest("Cannot derive a successor for KeyPairResource '%s': %s".formatted(id, successor.getFailureDetail()));
+            }
+            var result = rotateKeyPair(oldKey, successor.getContent(), duration, vaultChanges);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return success();
+    }
+
     @Override
     public ServiceResult<Collection<KeyPairResource>> query(QuerySpec querySpec) {
         return ServiceResult.from(keyPairResourceStore.query(querySpec));
@@ -275,21 +340,10 @@ public class KeyPairServiceImpl implements KeyPairService, EventSubscriber {
 
     private void deleted(ParticipantContextDeleted event) {
         //hard-delete all keypairs that are associated with the deleted participant
-        var query = queryByParticipantContextId(event.getParticipantContextId()).build();
+        var query = queryByParticipantContextId(event.getParticipantContextId()).limit(Integer.MAX_VALUE).build();
         transactionContext.execute(() -> {
-            keyPairResourceStore.query(query)
-                    .compose(list -> {
-                        var errors = list.stream()
-                                .map(r -> keyPairResourceStore.deleteById(r.getId()))
-                                .filter(StoreResult::failed)
-                                .map(AbstractResult::getFailureDetail)
-                                .collect(Collectors.joining(","));
-
-                        if (errors.isEmpty()) {
-                            return StoreResult.success();
-                        }
-                        return StoreResult.generalError("An error occurred when deleting KeyPairResources: %s".formatted(errors));
-                    })
+            keyPairResourceStore.deleteByQuery(query)
+                    .onSuccess(count -> monitor.debug("Removed %d key pairs of deleted ParticipantContext '%s'".formatted(count, event.getParticipantContextId())))
                     .onFailure(f -> monitor.warning("Removing key pairs from a deleted ParticipantContext failed: %s".formatted(f.getFailureDetail())));
         });
     }
@@ -300,16 +354,53 @@ public class KeyPairServiceImpl implements KeyPairService, EventSubscriber {
         return keyPairResourceStore.query(q).map(list -> list.stream().findFirst().orElse(null)).orElse(f -> null);
     }
 
-    private Result<String> generateOrGetKey(String participantContextId, KeyDescriptor keyDescriptor) {
+    /**
+     * Creates a {@link KeyDescriptor} for a newly generated key, that has the same usage, type and algorithm as the given key.
+     */
+    private Result<KeyDescriptor> successorOf(KeyPairResource oldKey, String suffix) {
+        return generatorParamsOf(oldKey.getSerializedPublicKey())
+                .map(params -> KeyDescriptor.Builder.newInstance()
+                        .keyId(successorName(oldKey.getKeyId(), suffix))
+                        .privateKeyAlias(successorName(oldKey.getPrivateKeyAlias(), suffix))
+                        .type(oldKey.getKeyContext())
+                        .usage(oldKey.getUsage())
+                        .keyGeneratorParams(params)
+                        .active(true)
+                        .build());
+    }
+
+    private String successorName(String name, String suffix) {
+        return ROTATION_SUFFIX_PATTERN.matcher(name).replaceFirst("") + suffix;
+    }
+
+    private Result<Map<String, Object>> generatorParamsOf(String serializedPublicKey) {
+        try {
+            var jwk = JWK.parse(serializedPublicKey);
+            if (jwk instanceof OctetKeyPair okp) {
+                return Result.success(Map.of("algorithm", KeyPairGenerator.ALGORITHM_EDDSA, "curve", okp.getCurve().getName()));
+            }
+            if (jwk instanceof ECKey ec) {
+                return Result.success(Map.of("algorithm", KeyPairGenerator.ALGORITHM_EC, "curve", ec.getCurve().getStdName()));
+            }
+            if (jwk instanceof RSAKey rsa) {
+                return Result.success(Map.of("algorithm", KeyPairGenerator.ALGORITHM_RSA, "length", rsa.size()));
+            }
+            return Result.failure("Unsupported key type '%s'".formatted(jwk.getKeyType()));
+        } catch (ParseException e) {
+            return Result.failure("Public key is not in JWK format: %s".formatted(e.getMessage()));
+        }
+    }
+
+    private Result<String> generateOrGetKey(String participantContextId, KeyDescriptor keyDescriptor, VaultChanges vaultChanges) {
         String publicKeySerialized;
         if (keyDescriptor.getKeyGeneratorParams() != null) {
-            var keyPair = KeyPairGenerator.generateKeyPair(keyDescriptor.getKeyGeneratorParams());
+            var keyPair = keyPairPool.take(keyDescriptor.getKeyGeneratorParams());
             if (keyPair.failed()) {
                 return keyPair.mapFailure();
             }
             var privateJwk = CryptoConverter.createJwk(keyPair.getContent(), keyDescriptor.getKeyId());
             publicKeySerialized = privateJwk.toPublicJWK().toJSONString();
-            vault.storeSecret(participantContextId, keyDescriptor.getPrivateKeyAlias(), privateJwk.toJSONString());
+            vaultChanges.storeSecret(participantContextId, keyDescriptor.getPrivateKeyAlias(), privateJwk.toJSONString());
         } else {
             // either take the public key from the JWK structure or the PEM field
             publicKeySerialized = Optional.ofNullable(keyDescriptor.getPublicKeyJwk())
@@ -318,4 +409,65 @@ public class KeyPairServiceImpl implements KeyPairService, EventSubscriber {
         }
         return Result.success(publicKeySerialized);
     }
+
+    /**
+     * Vault operations of one service call. The vault does not participate in database transactions, so when a call must be rolled back as
+     * a whole, secret deletions are deferred until the transaction has completed, and stored secrets are removed again on rollback.
+     */
+    private final class VaultChanges {
+        private final boolean deferred;
+        private final List<SecretReference> storedSecrets = new ArrayList<>();
+        private final List<SecretReference> deletedSecrets = new ArrayList<>();
+
+        private VaultChanges(boolean deferred) {
+            this.deferred = deferred;
+        }
+
+        void storeSecret(String participantContextId, String alias, String secret) {
+            vault.storeSecret(participantContextId, alias, secret);
+            if (deferred) {
+                storedSecrets.add(new SecretReference(participantContextId, alias));
+            }
+        }
+
+        void deleteSecret(String participantContextId, String alias) {
+            if (deferred) {
+                deletedSecrets.add(new SecretReference(participantContextId, alias));
+            } else {
+                vault.deleteSecret(participantContextId, alias);
+            }
+        }
+
+        void completed() {
+            deletedSecrets.forEach(s -> vault.deleteSecret(s.participantContextId(), s.alias()));
+        }
+
+        void rolledBack() {
+            storedSecrets.forEach(s -> vault.deleteSecret(s.participantContextId(), s.alias()));
+        }
+    }
+
+    private record SecretReference(String participantContextId, String alias) {
+    }
+
+    /**
+     * Thrown from within a transaction to roll it back when an operation failed.
+     */
+    private static final class RotationFailedException extends EdcException {
+        private final ServiceResult<Void> result;
+
+        private RotationFailedException(ServiceResult<Void> result) {
+            super(result.getFailureDetail());
+            this.result = result;
+        }
+
+        private static Optional<RotationFailedException> find(Throwable throwable) {
+            for (var t = throwable; t != null; t = t.getCause()) {
+                if (t instanceof RotationFailedException e) {
+                    return Optional.of(e);
+                }
+            }
+            return Optional.empty();
+        }
+    }
 }
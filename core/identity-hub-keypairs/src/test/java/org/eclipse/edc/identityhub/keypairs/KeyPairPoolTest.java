@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.keypairs;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KeyPairPoolTest {
+
+    private static final Map<String, Object> ED25519 = Map.of("algorithm", "EdDSA", "curve", "Ed25519");
+    private final Monitor monitor = mock();
+
+    @Test
+    void take_firstRequest_generatesAndFillsPool() {
+        var pool = new KeyPairPool(3, Runnable::run, monitor);
+
+        assertThat(pool.take(ED25519)).isSucceeded();
+
+        assertThat(pool.available(ED25519)).isEqualTo(3);
+    }
+
+    @Test
+    void take_servesFromPool_andRefills() {
+        var pool = new KeyPairPool(3, Runnable::run, monitor);
+        pool.take(ED25519);
+
+        var first = pool.take(ED25519);
+        var second = pool.take(ED25519);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded();
+        assertThat(first.getContent()).isNotSameAs(second.getContent());
+        assertThat(pool.available(ED25519)).isEqualTo(3);
+    }
+
+    @Test
+    void take_parametersAreNormalized() {
+        var pool = new KeyPairPool(2, Runnable::run, monitor);
+        pool.take(ED25519);
+
+        assertThat(pool.available(Map.of("algorithm", "EDDSA", "curve", "ed25519"))).isEqualTo(2);
+        assertThat(pool.available(Map.of("algorithm", "EC", "curve", "secp256r1"))).isZero();
+    }
+
+    @Test
+    void take_refillNotExecuted_generatesSynchronously() {
+        var pool = new KeyPairPool(2, r -> { }, monitor);
+
+        assertThat(pool.take(ED25519)).isSucceeded();
+        assertThat(pool.take(ED25519)).isSucceeded();
+        assertThat(pool.available(ED25519)).isZero();
+    }
+
+    @Test
+    void take_invalidParameters_noPoolCreated() {
+        var pool = new KeyPairPool(2, Runnable::run, monitor);
+        var invalid = Map.<String, Object>of("algorithm", "EdDSA", "curve", "foobar");
+
+        assertThat(pool.take(invalid)).isFailed();
+        assertThat(pool.available(invalid)).isZero();
+    }
+
+    @Test
+    void take_disabled() {
+        var pool = KeyPairPool.disabled();
+
+        assertThat(pool.take(ED25519)).isSucceeded();
+        assertThat(pool.available(ED25519)).isZero();
+    }
+}
@@ -50,6 +50,7 @@ import static org.eclipse.edc.identityhub.spi.participantcontext.model.KeyPairUs
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.result.StoreResult.success;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -57,6 +58,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -204,7 +206,7 @@ class KeyPairServiceImplTest {
         assertThat(keyPairService.rotateKeyPair(oldId, newKey, Duration.ofDays(100).toMillis())).isSucceeded();
 
         verify(keyPairResourceStore).query(any());
-        verify(keyPairResourceStore).update(argThat(kpr -> kpr.getId().equals(oldId)));
+        verify(keyPairResourceStore).updateIfInState(argThat(kpr -> kpr.getId().equals(oldId)), anyInt());
         verify(keyPairResourceStore).create(any());
         // new key is set to active - expect an update in the DB
         verify(keyPairResourceStore).update(argThat(kpr -> !kpr.getId().equals(oldId) && kpr.getState() == KeyPairState.ACTIVATED.code()));
@@ -224,7 +226,7 @@ class KeyPairServiceImplTest {
         assertThat(keyPairService.rotateKeyPair(oldId, null, Duration.ofDays(100).toMillis())).isSucceeded();
 
         verify(keyPairResourceStore).query(any());
-        verify(keyPairResourceStore).update(argThat(kpr -> kpr.getId().equals(oldId)));
+        verify(keyPairResourceStore).updateIfInState(argThat(kpr -> kpr.getId().equals(oldId)), anyInt());
         verify(vault).deleteSecret(anyString(), eq(oldKey.getPrivateKeyAlias())); //deletes old private key
         verify(observableMock).invokeForEach(any());
         verifyNoMoreInteractions(keyPairResourceStore, vault, observableMock);
@@ -246,7 +248,7 @@ class KeyPairServiceImplTest {
         assertThat(keyPairService.rotateKeyPair(oldId, newKey, Duration.ofDays(100).toMillis())).isSucceeded();
 
         verify(keyPairResourceStore).query(any());
-        verify(keyPairResourceStore).update(argThat(kpr -> kpr.getId().equals(oldId)));
+        verify(keyPairResourceStore).updateIfInState(argThat(kpr -> kpr.getId().equals(oldId)), anyInt());
         verify(keyPairResourceStore).create(any());
         // new key is set to active - expect an update in the DB
         verify(keyPairResourceStore).update(argThat(kpr -> !kpr.getId().equals(oldId) && kpr.getState() == KeyPairState.ACTIVATED.code()));
@@ -272,7 +274,7 @@ class KeyPairServiceImplTest {
         assertThat(keyPairService.rotateKeyPair(oldId, newKey, Duration.ofDays(100).toMillis())).isSucceeded();
 
         verify(keyPairResourceStore).query(any());
-        verify(keyPairResourceStore).update(argThat(kpr -> kpr.getId().equals(oldId)));
+        verify(keyPairResourceStore).updateIfInState(argThat(kpr -> kpr.getId().equals(oldId)), anyInt());
         verify(keyPairResourceStore).create(argThat(KeyPairResource::isDefaultPair));
         // new key is set to active - expect an update in the DB
         verify(keyPairResourceStore).update(argThat(kpr -> !kpr.getId().equals(oldId) && kpr.getState() == KeyPairState.ACTIVATED.code()));
@@ -297,6 +299,85 @@ class KeyPairServiceImplTest {
     }
 
 
+    @Test
+    void rotateKeyPairs_generatesSuccessorWithSameAlgorithm() throws JOSEException {
+        var oldKey = createKeyPairResource().id("old-id").keyId("test-key-r1700000000000")
+                .serializedPublicKey(new OctetKeyPairGenerator(Curve.Ed25519).generate().toPublicJWK().toJSONString())
+                .build();
+
+        when(keyPairResourceStore.query(any())).thenReturn(success(List.of(oldKey)));
+        when(keyPairResourceStore.create(any())).thenReturn(success());
+
+        assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of("old-id"), Duration.ofDays(1).toMillis())).isSucceeded();
+
+        verify(keyPairResourceStore).updateIfInState(argThat(kpr -> kpr.getId().equals("old-id") && kpr.getState() == KeyPairState.ROTATED.code()), anyInt());
+        verify(keyPairResourceStore).create(argThat(kpr -> kpr.getKeyId().matches("test-key-r\\d+") &&
+                !kpr.getKeyId().equals(oldKey.getKeyId()) &&
+                kpr.getUsage().equals(oldKey.getUsage()) &&
+                kpr.getSerializedPublicKey().contains("Ed25519")));
+        verify(vault).storeSecret(anyString(), argThat(alias -> alias.startsWith("private-key-alias-r")), anyString());
+        verify(vault).deleteSecret(PARTICIPANT_ID, oldKey.getPrivateKeyAlias());
+    }
+
+    @Test
+    void rotateKeyPairs_whenRotatedConcurrently_shouldFail() throws JOSEException {
+        var oldKey = createKeyPairResource().id("old-id")
+                .serializedPublicKey(new OctetKeyPairGenerator(Curve.Ed25519).generate().toPublicJWK().toJSONString())
+                .build();
+
+        when(keyPairResourceStore.query(any())).thenReturn(success(List.of(oldKey)));
+        when(keyPairResourceStore.updateIfInState(any(), anyInt())).thenReturn(StoreResult.alreadyLeased("already rotated"));
+
+        assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of("old-id"), Duration.ofDays(1).toMillis())).isFailed()
+                .detail().contains("already rotated");
+
+        verify(keyPairResourceStore, never()).create(any());
+        // neither the private key of the old key pair is deleted, nor a successor stored
+        verifyNoInteractions(vault);
+    }
+
+    @Test
+    void rotateKeyPairs_secondKeyFails_removesStoredSuccessorsAndKeepsOldSecrets() throws JOSEException {
+        var rotatable = createKeyPairResource().id("key1").privateKeyAlias("alias1")
+                .serializedPublicKey(new OctetKeyPairGenerator(Curve.Ed25519).generate().toPublicJWK().toJSONString())
+                .build();
+        var notRotatable = createKeyPairResource().id("key2").privateKeyAlias("alias2").build();
+        when(keyPairResourceStore.query(any())).thenReturn(success(List.of(rotatable)), success(List.of(notRotatable)));
+        when(keyPairResourceStore.create(any())).thenReturn(success());
+
+        assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of("key1", "key2"), Duration.ofDays(1).toMillis())).isFailed()
+                .detail().contains("Cannot derive a successor");
+
+        verify(vault).storeSecret(eq(PARTICIPANT_ID), argThat(alias -> alias.startsWith("alias1-r")), anyString());
+        verify(vault).deleteSecret(eq(PARTICIPANT_ID), argThat(alias -> alias.startsWith("alias1-r")));
+        verify(vault, never()).deleteSecret(PARTICIPANT_ID, "alias1");
+        verify(vault, never()).deleteSecret(PARTICIPANT_ID, "alias2");
+    }
+
+    @Test
+    void rotateKeyPairs_keyOfOtherParticipant() {
+        var oldKey = createKeyPairResource().id("old-id").participantContextId("other-participant").build();
+        when(keyPairResourceStore.query(any())).thenReturn(success(List.of(oldKey)));
+
+        assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of("old-id"), Duration.ofDays(1).toMillis())).isFailed()
+                .detail().contains("does not belong to participant");
+
+        verify(keyPairResourceStore, never()).update(any());
+        verifyNoInteractions(vault);
+    }
+
+    @Test
+    void rotateKeyPairs_pemKey_cannotDeriveSuccessor() {
+        var oldKey = createKeyPairResource().id("old-id").build();
+        when(keyPairResourceStore.query(any())).thenReturn(success(List.of(oldKey)));
+
+        assertThat(keyPairService.rotateKeyPairs(PARTICIPANT_ID, List.of("old-id"), Duration.ofDays(1).toMillis())).isFailed()
+                .detail().contains("Cannot derive a successor");
+
+        verify(keyPairResourceStore, never()).update(any());
+        verifyNoInteractions(vault);
+    }
+
     @Test
     void revokeKey_withNewKey() {
         var oldId = "old-id";
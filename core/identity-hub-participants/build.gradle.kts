@@ -7,10 +7,13 @@ dependencies {
     api(project(":spi:participant-context-spi"))
     api(libs.edc.spi.core)
     implementation(project(":spi:keypair-spi"))
+    implementation(project(":spi:identity-hub-spi"))
+    implementation(project(":spi:metrics-spi"))
     implementation(libs.edc.spi.controlplane)
     runtimeOnly(libs.bouncyCastle.bcprovJdk18on)
     implementation(libs.opentelemetry.instrumentation.annotations)
 
     testImplementation(libs.edc.lib.core)
     testImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":spi:metrics-spi")))
 }
@@ -41,6 +41,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Optional.ofNullable;
@@ -54,7 +55,9 @@ import static org.eclipse.edc.spi.result.ServiceResult.success;
  * Default implementation of the {@link IdentityHubParticipantContextService}. Uses a {@link Vault} to store API tokens and a {@link ApiTokenGenerator}
  * to generate API tokens. Please use a generator that produces Strings of a reasonable length.
  * <p>
- * This service is transactional.
+ * This service is transactional. Lookups by ID are served from a {@link ParticipantContextCache} if possible. The cache is invalidated by
+ * the listeners while a participant context is modified, and again after the transaction has completed: a concurrent lookup may read the
+ * previous state until the transaction has committed, so only invalidating before the commit could cache that state.
  */
 public class IdentityHubParticipantContextServiceImpl implements IdentityHubParticipantContextService {
 
@@ -67,6 +70,7 @@ public class IdentityHubParticipantContextServiceImpl implements IdentityHubPart
     private final ParticipantContextObservable observable;
     private final StsAccountProvisioner stsAccountProvisioner;
     private final ParticipantContextConfigService configService;
+    private final ParticipantContextCache cache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     public IdentityHubParticipantContextServiceImpl(ParticipantContextStore participantContextStore,
@@ -76,6 +80,17 @@ public class IdentityHubParticipantContextServiceImpl implements IdentityHubPart
                                                     ParticipantContextObservable observable,
                                                     StsAccountProvisioner stsAccountProvisioner,
                                                     ParticipantContextConfigService configService) {
+        this(participantContextStore, didResourceStore, vault, transactionContext, observable, stsAccountProvisioner, configService, ParticipantContextCache.disabled());
+    }
+
+    IdentityHubParticipantContextServiceImpl(ParticipantContextStore participantContextStore,
+                                             DidResourceStore didResourceStore,
+                                             Vault vault,
+                                             TransactionContext transactionContext,
+                                             ParticipantContextObservable observable,
+                                             StsAccountProvisioner stsAccountProvisioner,
+                                             ParticipantContextConfigService configService,
+                                             ParticipantContextCache cache) {
         this.participantContextStore = participantContextStore;
         this.didResourceStore = didResourceStore;
         this.vault = vault;
@@ -83,13 +98,14 @@ public class IdentityHubParticipantContextServiceImpl implements IdentityHubPart
         this.observable = observable;
         this.stsAccountProvisioner = stsAccountProvisioner;
         this.configService = configService;
+        this.cache = cache;
         this.tokenGenerator = new ApiTokenGenerator();
     }
 
     @WithSpan(value = "participant-context.create", kind = SpanKind.INTERNAL)
     @Override
     public ServiceResult<CreateParticipantContextResponse> createParticipantContext(ParticipantManifest manifest) {
-        return transactionContext.execute(() -> {
+        return invalidateAfterCompletion(manifest.getParticipantContextId(), () -> transactionContext.execute(() -> {
             if (didResourceStore.findById(manifest.getDid()) != null) {
                 return ServiceResult.conflict("Another participant with the same DID '%s' already exists.".formatted(manifest.getDid()));
             }
@@ -113,18 +129,24 @@ public class IdentityHubParticipantContextServiceImpl implements IdentityHubPart
                                 });
                     })
                     .onSuccess(apiToken -> observable.invokeForEach(l -> l.created(context, manifest)));
-        });
+        }));
     }
 
     @Override
     public ServiceResult<IdentityHubParticipantContext> getParticipantContext(String participantContextId) {
+        var cached = cache.get(participantContextId);
+        if (cached != null) {
+            return success(convert(cached));
+        }
+        var generation = cache.generation();
         return transactionContext.execute(() -> ServiceResult.from(participantContextStore.findById(participantContextId))
-                .map(this::convert));
+                .map(this::convert))
+                .onSuccess(participantContext -> cache.put(convert(participantContext), generation));
     }
 
     @Override
     public ServiceResult<Void> deleteParticipantContext(String participantContextId) {
-        return transactionContext.execute(() -> {
+        return invalidateAfterCompletion(participantContextId, () -> transactionContext.execute(() -> {
             var participantContext = findByIdInternal(participantContextId);
             if (participantContext == null) {
                 return ServiceResult.notFound("A ParticipantContext with ID '%s' does not exist.");
@@ -143,24 +165,24 @@ public class IdentityHubParticipantContextServiceImpl implements IdentityHubPart
                         observable.invokeForEach(l -> l.deleted(participantContext));
                         return ServiceResult.success();
                     });
-        });
+        }));
     }
 
     @Override
     public ServiceResult<String> regenerateApiToken(String participantContextId) {
-        return transactionContext.execute(() -> {
-            var participantContext = getParticipantContext(participantContextId);
-            if (participantContext.failed()) {
-                return participantContext.map(pc -> null);
-            }
-            return createTokenAndStoreInVault(participantContext.getContent());
-        });
+        var participantContext = getParticipantContext(participantContextId);
+        if (participantContext.failed()) {
+            return participantContext.map(pc -> null);
+        }
+        // listeners are notified once the transaction has completed, so that a concurrent read cannot re-populate a cache with the old token
+        return transactionContext.execute(() -> createTokenAndStoreInVault(participantContext.getContent()))
+                .onSuccess(token -> observable.invokeForEach(l -> l.apiTokenRegenerated(participantContext.getContent())));
     }
 
     @Override
     @WithSpan(value = "participant-context.update", kind = SpanKind.INTERNAL)
     public ServiceResult<Void> updateParticipant(String participantContextId, Consumer<IdentityHubParticipantContext> modificationFunction) {
-        return transactionContext.execute(() -> {
+        return invalidateAfterCompletion(participantContextId, () -> transactionContext.execute(() -> {
             var participant = findByIdInternal(participantContextId);
             if (participant == null) {
                 return notFound("ParticipantContext with ID '%s' not found.".formatted(participantContextId));
@@ -169,8 +191,7 @@ public class IdentityHubParticipantContextServiceImpl implements IdentityHubPart
             var res = participantContextStore.update(participant)
                     .onSuccess(u -> observable.invokeForEach(l -> l.updated(participant)));
             return res.succeeded() ? success() : fromFailure(res);
-        });
-
+        }));
     }
 
     @Override
@@ -180,6 +201,19 @@ public class IdentityHubParticipantContextServiceImpl implements IdentityHubPart
                         .collect(Collectors.toList())));
     }
 
+    /**
+     * Runs the operation and invalidates the cache entry of the participant context afterwards, regardless of the outcome. If the operation
+     * runs within a transaction of the caller, the entry is invalidated before that transaction commits, so the time-to-live of the cache
+     * bounds how long the previous state may be served.
+     */
+    private <T> ServiceResult<T> invalidateAfterCompletion(String participantContextId, Supplier<ServiceResult<T>> operation) {
+        try {
+            return operation.get();
+        } finally {
+            cache.invalidate(participantContextId);
+        }
+    }
+
     private ServiceResult<String> createTokenAndStoreInVault(IdentityHubParticipantContext participantContext) {
         var alias = participantContext.getApiTokenAlias();
         var newToken = tokenGenerator.generate(participantContext.getParticipantContextId());
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.participantcontext;
+
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextListener;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantManifest;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.CACHE_REQUEST_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_HIT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_MISS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_CACHE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
+
+/**
+ * Read-through cache of {@link IdentityHubParticipantContext} objects, used by the {@link IdentityHubParticipantContextServiceImpl} to
+ * avoid a database roundtrip for every participant context lookup.
+ * <p>
+ * Entries are invalidated synchronously whenever a participant context is created, updated (which includes state changes such as
+ * deactivation) or deleted on this node, and once more by the service after the transaction that made the change has completed. Entries
+ * expire after the configured time-to-live, which bounds the staleness in clustered deployments, where the participant context may be
+ * modified on another node. A TTL of zero disables the cache.
+ * <p>
+ * Hits and misses are recorded as {@link org.eclipse.edc.identityhub.spi.metrics.MetricNames#CACHE_REQUEST_COUNT}.
+ * <p>
+ * Cached objects are owned by the cache, callers must hand out copies.
+ */
+class ParticipantContextCache implements ParticipantContextListener {
+    /**
+     * The value of the cache tag of the metrics of this cache.
+     */
+    static final String CACHE_NAME = "participant-context";
+
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final int maxEntries;
+    private final Map<String, CachedParticipantContext> entries = new ConcurrentHashMap<>();
+    private final MetricRecorder metrics;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    ParticipantContextCache(Clock clock, Duration timeToLive, int maxEntries, MetricRecorder metrics) {
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.maxEntries = maxEntries;
+        this.metrics = metrics;
+    }
+
+    static ParticipantContextCache disabled() {
+        return new ParticipantContextCache(Clock.systemUTC(), Duration.ZERO, 0, MetricRecorder.noop());
+    }
+
+    /**
+     * Returns the cached participant context, or null if there is none or it has expired.
+     */
+    @Nullable
+    IdentityHubParticipantContext get(String participantContextId) {
+        if (!isEnabled()) {
+            return null;
+        }
+        var cached = entries.get(participantContextId);
+        if (cached != null && !clock.instant().isBefore(cached.expiresAt())) {
+            entries.remove(participantContextId, cached);
+            cached = null;
+        }
+        if (cached == null) {
+            metrics.increment(CACHE_REQUEST_COUNT, TAG_CACHE, CACHE_NAME, TAG_OUTCOME, OUTCOME_MISS);
+            return null;
+        }
+        metrics.increment(CACHE_REQUEST_COUNT, TAG_CACHE, CACHE_NAME, TAG_OUTCOME, OUTCOME_HIT);
+        return cached.participantContext();
+    }
+
+    /**
+     * Returns the current generation of the cache, which must be obtained <em>before</em> the participant context is read from the
+     * database and passed to {@link #put(IdentityHubParticipantContext, long)}.
+     */
+    long generation() {
+        return invalidations.get();
+    }
+
+    /**
+     * Stores a participant context that was read from the database. The entry is discarded if any entry was invalidated since the given
+     * generation was obtained, because the participant context may have been modified in the meantime.
+     *
+     * @param participantContext the participant context, which must not be referenced by anybody else
+     * @param generation         the generation of the cache before the participant context was read
+     */
+    void put(IdentityHubParticipantContext participantContext, long generation) {
+        if (!isEnabled() || invalidations.get() != generation) {
+            return;
+        }
+        var now = clock.instant();
+        var id = participantContext.getParticipantContextId();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(e -> !now.isBefore(e.expiresAt()));
+        }
+        if (entries.size() < maxEntries || entries.containsKey(id)) {
+            entries.put(id, new CachedParticipantContext(participantContext, now.plus(timeToLive)));
+        }
+    }
+
+    /**
+     * Removes the entry of the participant context and increments the generation, so that participant contexts that are being read
+     * concurrently are not cached.
+     */
+    void invalidate(String participantContextId) {
+        invalidations.incrementAndGet();
+        entries.remove(participantContextId);
+    }
+
+    @Override
+    public void created(IdentityHubParticipantContext newContext, ParticipantManifest manifest) {
+        invalidate(newContext.getParticipantContextId());
+    }
+
+    @Override
+    public void updated(IdentityHubParticipantContext updatedContext) {
+        invalidate(updatedContext.getParticipantContextId());
+    }
+
+    @Override
+    public void deleting(IdentityHubParticipantContext deletedContext) {
+        invalidate(deletedContext.getParticipantContextId());
+    }
+
+    @Override
+    public void deleted(IdentityHubParticipantContext deletedContext) {
+        invalidate(deletedContext.getParticipantContextId());
+    }
+
+    private boolean isEnabled() {
+        return !timeToLive.isZero() && !timeToLive.isNegative() && maxEntries > 0;
+    }
+
+    private record CachedParticipantContext(IdentityHubParticipantContext participantContext, Instant expiresAt) {
+    }
+}
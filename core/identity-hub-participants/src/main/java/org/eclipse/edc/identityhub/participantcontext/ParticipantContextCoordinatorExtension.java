@@ -15,6 +15,7 @@
 package org.eclipse.edc.identityhub.participantcontext;
 
 import org.eclipse.edc.identityhub.spi.did.DidDocumentService;
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
 import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextCreated;
@@ -33,6 +34,7 @@ import static org.eclipse.edc.identityhub.participantcontext.ParticipantContextE
 @Extension(NAME)
 public class ParticipantContextCoordinatorExtension implements ServiceExtension {
     public static final String NAME = "ParticipantContext Coordinator Extension";
+    private static final String SUBSCRIBER_ID = "participant-context-coordinator";
 
     @Inject
     private DidDocumentService didDocumentService;
@@ -43,6 +45,8 @@ public class ParticipantContextCoordinatorExtension implements ServiceExtension
     @Inject
     private EventRouter eventRouter;
     @Inject
+    private EventDispatchRegistry eventDispatchRegistry;
+    @Inject
     private IdentityHubParticipantContextService participantContextService;
     @Inject
     private Telemetry telemetry;
@@ -57,7 +61,8 @@ public class ParticipantContextCoordinatorExtension implements ServiceExtension
         var coordinator = new ParticipantContextEventCoordinator(context.getMonitor().withPrefix("ParticipantContextEventCoordinator"),
                 didDocumentService, keyPairService, participantContextService, telemetry);
 
-        eventRouter.registerSync(ParticipantContextCreated.class, coordinator);
+        eventDispatchRegistry.register(ParticipantContextCreated.class, SUBSCRIBER_ID, coordinator);
+        // must run before the deletion is committed, so it is never dispatched asynchronously
         eventRouter.registerSync(ParticipantContextDeleting.class, coordinator);
     }
 }
@@ -15,7 +15,9 @@
 package org.eclipse.edc.identityhub.participantcontext;
 
 import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.ParticipantOnboardingService;
 import org.eclipse.edc.identityhub.spi.participantcontext.StsAccountProvisioner;
 import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextObservable;
 import org.eclipse.edc.participantcontext.spi.config.service.ParticipantContextConfigService;
@@ -23,19 +25,45 @@ import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.identityhub.participantcontext.ParticipantContextExtension.NAME;
 
 @Extension(NAME)
 public class ParticipantContextExtension implements ServiceExtension {
     public static final String NAME = "ParticipantContext Extension";
+    public static final int DEFAULT_ONBOARDING_BATCH_SIZE = 100;
+    public static final int DEFAULT_ONBOARDING_PARALLELISM = 4;
+    public static final long DEFAULT_CACHE_TTL_SECONDS = 30;
+    public static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    @Setting(description = "Number of participant contexts that are created in one transaction by the bulk onboarding API.",
+            min = 1, defaultValue = DEFAULT_ONBOARDING_BATCH_SIZE + "", key = "edc.participants.onboarding.batchsize")
+    private int onboardingBatchSize;
+
+    @Setting(description = "Number of batches that are processed in parallel by the bulk onboarding API.",
+            min = 1, defaultValue = DEFAULT_ONBOARDING_PARALLELISM + "", key = "edc.participants.onboarding.parallelism")
+    private int onboardingParallelism;
+
+    @Setting(description = "Time (in seconds) for which participant contexts are cached. Changes made on this node take effect immediately, " +
+            "this bounds the time it takes for changes made on other nodes to become visible. Configuring a number <=0 disables the cache.",
+            min = 0, defaultValue = DEFAULT_CACHE_TTL_SECONDS + "", key = "edc.participants.cache.ttl")
+    private long cacheTtlSeconds;
+
+    @Setting(description = "Maximum number of participant contexts held in the cache.", min = 0, defaultValue = DEFAULT_CACHE_SIZE + "", key = "edc.participants.cache.size")
+    private int cacheSize;
 
     @Inject
     private ParticipantContextStore participantContextStore;
@@ -58,6 +86,13 @@ public class ParticipantContextExtension implements ServiceExtension {
     private ParticipantContextConfigService configService;
     @Inject
     private Telemetry telemetry;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    private MetricRecorder metricRecorder;
+
+    private IdentityHubParticipantContextService participantContextService;
+    private ExecutorService onboardingExecutor;
 
     @Override
     public String name() {
@@ -66,7 +101,19 @@ public class ParticipantContextExtension implements ServiceExtension {
 
     @Provider
     public IdentityHubParticipantContextService createParticipantService() {
-        return new IdentityHubParticipantContextServiceImpl(participantContextStore, didResourceStore, vault, transactionContext, participantContextObservable(), stsAccountProvisioner, configService);
+        if (participantContextService == null) {
+            var cache = new ParticipantContextCache(clock, Duration.ofSeconds(cacheTtlSeconds), cacheSize, metricRecorder);
+            participantContextObservable().registerListener(cache);
+            participantContextService = new IdentityHubParticipantContextServiceImpl(participantContextStore, didResourceStore, vault, transactionContext, participantContextObservable(), stsAccountProvisioner, configService, cache);
+        }
+        return participantContextService;
+    }
+
+    @Provider
+    public ParticipantOnboardingService createParticipantOnboardingService(ServiceExtensionContext context) {
+        onboardingExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(onboardingParallelism), "ParticipantOnboarding");
+        return new ParticipantOnboardingServiceImpl(createParticipantService(), participantContextStore, didResourceStore, transactionContext,
+                onboardingExecutor, context.getMonitor().withPrefix("ParticipantOnboarding"), onboardingBatchSize, onboardingParallelism);
     }
 
     @Provider
@@ -77,4 +124,11 @@ public class ParticipantContextExtension implements ServiceExtension {
         }
         return participantContextObservable;
     }
+
+    @Override
+    public void shutdown() {
+        if (onboardingExecutor != null) {
+            onboardingExecutor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.participantcontext;
+
+import org.eclipse.edc.identityhub.spi.did.model.DidResource;
+import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
+import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.ParticipantOnboardingService;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantManifest;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingSummary;
+import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Default implementation of the {@link ParticipantOnboardingService}. The stream is read and checked for duplicates completely before
+ * anything is written, then the manifests are processed in batches. Every batch is
+ * checked against the database with one query for existing participant contexts and one for existing DIDs, and is then created in one
+ * transaction. Up to {@code parallelism} batches are processed at the same time, which also parallelizes the DID and key pair cascade
+ * that is triggered by the creation of a participant context.
+ * <p>
+ * If a batch cannot be committed, for example because a subscriber of the creation event threw an exception, its manifests are retried
+ * one by one, so that one faulty manifest does not fail the entire batch.
+ */
+public class ParticipantOnboardingServiceImpl implements ParticipantOnboardingService {
+    private final IdentityHubParticipantContextService participantContextService;
+    private final ParticipantContextStore participantContextStore;
+    private final DidResourceStore didResourceStore;
+    private final TransactionContext transactionContext;
+    private final ExecutorService executor;
+    private final Monitor monitor;
+    private final int batchSize;
+    private final int parallelism;
+
+    public ParticipantOnboardingServiceImpl(IdentityHubParticipantContextService participantContextService, ParticipantContextStore participantContextStore,
+                                            DidResourceStore didResourceStore, TransactionContext transactionContext, ExecutorService executor,
+                                            Monitor monitor, int batchSize, int parallelism) {
+        this.participantContextService = participantContextService;
+        this.participantContextStore = participantContextStore;
+        this.didResourceStore = didResourceStore;
+        this.transactionContext = transactionContext;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public ServiceResult<ParticipantOnboardingSummary> onboard(Stream<ParticipantManifest> manifests, Consumer<ParticipantOnboardingResult> resultConsumer) {
+        var run = new OnboardingRun(resultConsumer);
+
+        // the whole input is checked for duplicates before the first batch is written
+        var unique = manifests.filter(manifest -> {
+            if (run.isUnique(manifest)) {
+                return true;
+            }
+            run.report(ParticipantOnboardingResult.failed(manifest.getParticipantContextId(), "Duplicate participant context ID or DID in the input."));
+            return false;
+        }).toList();
+
+        var inFlight = new ArrayDeque<CompletableFuture<Void>>();
+        for (var from = 0; from < unique.size(); from += batchSize) {
+            submit(unique.subList(from, Math.min(from + batchSize, unique.size())), run, inFlight);
+        }
+        inFlight.forEach(CompletableFuture::join);
+
+        var summary = run.summary();
+        monitor.info("Bulk onboarding completed: %d created, %d skipped, %d failed".formatted(summary.created(), summary.skipped(), summary.failed()));
+        return ServiceResult.success(summary);
+    }
+
+    private void submit(List<ParticipantManifest> batch, OnboardingRun run, ArrayDeque<CompletableFuture<Void>> inFlight) {
+        while (inFlight.size() >= parallelism) {
+            inFlight.poll().join();
+        }
+        inFlight.add(CompletableFuture.runAsync(() -> processBatch(batch, run), executor)
+                .exceptionally(throwable -> {
+                    // only manifests that were not reported before the batch failed
+                    batch.forEach(m -> run.reportOnce(ParticipantOnboardingResult.failed(m.getParticipantContextId(), throwable.getMessage())));
+                    return null;
+                }));
+    }
+
+    private void processBatch(List<ParticipantManifest> batch, OnboardingRun run) {
+        var existingIds = findExistingParticipantContextIds(batch);
+        var existingDids = findExistingDids(batch);
+
+        var toCreate = new ArrayList<ParticipantManifest>();
+        for (var manifest : batch) {
+            if (existingIds.contains(manifest.getParticipantContextId())) {
+                run.reportOnce(ParticipantOnboardingResult.skipped(manifest.getParticipantContextId()));
+            } else if (existingDids.contains(manifest.getDid())) {
+                run.reportOnce(ParticipantOnboardingResult.failed(manifest.getParticipantContextId(),
+                        "Another participant with the same DID '%s' already exists.".formatted(manifest.getDid())));
+            } else {
+                toCreate.add(manifest);
+            }
+        }
+
+        List<ParticipantOnboardingResult> results;
+        try {
+            results = transactionContext.execute(() -> toCreate.stream().map(this::create).toList());
+        } catch (Exception e) {
+            monitor.warning("Failed to onboard a batch of %d participants, retrying them individually".formatted(toCreate.size()), e);
+            results = toCreate.stream().map(this::createIndividually).toList();
+        }
+        results.forEach(run::reportOnce);
+        run.logProgress();
+    }
+
+    private ParticipantOnboardingResult create(ParticipantManifest manifest) {
+        return participantContextService.createParticipantContext(manifest)
+                .map(response -> ParticipantOnboardingResult.created(manifest.getParticipantContextId(), response))
+                .orElse(failure -> ParticipantOnboardingResult.failed(manifest.getParticipantContextId(), failure.getFailureDetail()));
+    }
+
+    private ParticipantOnboardingResult createIndividually(ParticipantManifest manifest) {
+        try {
+            return create(manifest);
+        } catch (Exception e) {
+            return ParticipantOnboardingResult.failed(manifest.getParticipantContextId(), e.getMessage());
+        }
+    }
+
+    private Set<String> findExistingParticipantContextIds(List<ParticipantManifest> batch) {
+        var ids = batch.stream().map(ParticipantManifest::getParticipantContextId).toList();
+        var query = QuerySpec.Builder.newInstance().filter(criterion("participantContextId", "in", ids)).limit(ids.size()).build();
+        return transactionContext.execute(() -> participantContextStore.query(query)
+                .map(contexts -> contexts.stream().map(ParticipantContext::getParticipantContextId).collect(Collectors.toSet()))
+                .orElse(f -> Set.of()));
+    }
+
+    private Set<String> findExistingDids(List<ParticipantManifest> batch) {
+        var dids = batch.stream().map(ParticipantManifest::getDid).toList();
+        var query = QuerySpec.Builder.newInstance().filter(criterion("did", "in", dids)).limit(dids.size()).build();
+        return transactionContext.execute(() -> didResourceStore.query(query).stream()
+                .map(DidResource::getDid)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * State of one invocation of {@link #onboard(Stream, Consumer)}.
+     */
+    private class OnboardingRun {
+        private final Consumer<ParticipantOnboardingResult> resultConsumer;
+        private final Set<String> participantContextIds = new HashSet<>();
+        private final Set<String> dids = new HashSet<>();
+        private final Set<String> reported = new HashSet<>();
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private boolean consumerFailed;
+
+        OnboardingRun(Consumer<ParticipantOnboardingResult> resultConsumer) {
+            this.resultConsumer = resultConsumer;
+        }
+
+        boolean isUnique(ParticipantManifest manifest) {
+            var isUniqueId = participantContextIds.add(manifest.getParticipantContextId());
+            var isUniqueDid = dids.add(manifest.getDid());
+            return isUniqueId && isUniqueDid;
+        }
+
+        /**
+         * Counts the result and passes it to the consumer. A consumer that fails, for example because the client disconnected, does not
+         * abort the run: the failure is logged once and the remaining results are only counted.
+         */
+        synchronized void report(ParticipantOnboardingResult result) {
+            switch (result.status()) {
+                case CREATED -> created.incrementAndGet();
+                case SKIPPED -> skipped.incrementAndGet();
+                case FAILED -> failed.incrementAndGet();
+            }
+            if (consumerFailed) {
+                return;
+            }
+            try {
+                resultConsumer.accept(result);
+            } catch (RuntimeException e) {
+                consumerFailed = true;
+                monitor.warning("Failed to deliver bulk onboarding results, the remaining results are not reported", e);
+            }
+        }
+
+        /**
+         * Reports the result of a manifest that was submitted for creation, unless a result was already reported for it. The IDs of those
+         * manifests are unique, because duplicates are removed before the first batch is submitted.
+         */
+        synchronized void reportOnce(ParticipantOnboardingResult result) {
+            if (reported.add(result.participantContextId())) {
+                report(result);
+            }
+        }
+
+        void logProgress() {
+            monitor.debug(() -> "Bulk onboarding progress: %d created, %d skipped, %d failed".formatted(created.get(), skipped.get(), failed.get()));
+        }
+
+        ParticipantOnboardingSummary summary() {
+            return new ParticipantOnboardingSummary(created.get(), skipped.get(), failed.get());
+        }
+    }
+}
@@ -19,8 +19,10 @@ import com.nimbusds.jose.jwk.Curve;
 import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
 import org.eclipse.edc.identityhub.spi.did.model.DidResource;
 import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.AccountCredentials;
 import org.eclipse.edc.identityhub.spi.participantcontext.StsAccountProvisioner;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextListener;
 import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextObservable;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.KeyDescriptor;
@@ -39,17 +41,27 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext.ResultTransactionBlock;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.CACHE_REQUEST_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_HIT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_MISS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_CACHE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -59,6 +71,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -300,6 +313,92 @@ class IdentityHubIdentityHubParticipantContextServiceImplTest {
         verifyNoMoreInteractions(vault);
     }
 
+    @Test
+    void getParticipantContext_servedFromCache() {
+        var metrics = new InMemoryMetricRecorder();
+        var cache = new ParticipantContextCache(Clock.systemUTC(), Duration.ofHours(1), 100, metrics);
+        var service = new IdentityHubParticipantContextServiceImpl(participantContextStore, didResourceStore, vault, new NoopTransactionContext(), observableMock, stsAccountProvisioner, configService, cache);
+        when(participantContextStore.findById(any())).thenReturn(StoreResult.success(createContext()));
+
+        var first = service.getParticipantContext("test-id");
+        var second = service.getParticipantContext("test-id");
+
+        assertThat(second).isSucceeded().usingRecursiveComparison().isEqualTo(first.getContent());
+        assertThat(second.getContent()).isNotSameAs(first.getContent());
+        assertThat(metrics.count(CACHE_REQUEST_COUNT, TAG_CACHE, ParticipantContextCache.CACHE_NAME, TAG_OUTCOME, OUTCOME_HIT)).isEqualTo(1);
+        assertThat(metrics.count(CACHE_REQUEST_COUNT, TAG_CACHE, ParticipantContextCache.CACHE_NAME, TAG_OUTCOME, OUTCOME_MISS)).isEqualTo(1);
+        verify(participantContextStore).findById("test-id");
+    }
+
+    @Test
+    void getParticipantContext_deactivated_rejectedImmediately() {
+        var metrics = new InMemoryMetricRecorder();
+        var observable = new ParticipantContextObservableImpl();
+        var cache = new ParticipantContextCache(Clock.systemUTC(), Duration.ofHours(1), 100, metrics);
+        observable.registerListener(cache);
+        var service = new IdentityHubParticipantContextServiceImpl(participantContextStore, didResourceStore, vault, new NoopTransactionContext(), observable, stsAccountProvisioner, configService, cache);
+        var stored = new AtomicReference<>(IdentityHubParticipantContext.Builder.newInstance()
+                .participantContextId("test-id")
+                .did("did:web:test-id")
+                .state(ParticipantContextState.ACTIVATED)
+                .apiTokenAlias("test-alias")
+                .build());
+        when(participantContextStore.findById(any())).thenAnswer(i -> StoreResult.success(stored.get()));
+        when(participantContextStore.update(any())).thenAnswer(i -> {
+            stored.set(i.getArgument(0));
+            return StoreResult.success();
+        });
+
+        assertThat(service.getParticipantContext("test-id")).isSucceeded()
+                .extracting(IdentityHubParticipantContext::getStateAsEnum).isEqualTo(ParticipantContextState.ACTIVATED);
+        assertThat(service.getParticipantContext("test-id")).isSucceeded();
+        assertThat(metrics.count(CACHE_REQUEST_COUNT, TAG_CACHE, ParticipantContextCache.CACHE_NAME, TAG_OUTCOME, OUTCOME_HIT)).isEqualTo(1);
+
+        assertThat(service.updateParticipant("test-id", IdentityHubParticipantContext::deactivate)).isSucceeded();
+
+        assertThat(service.getParticipantContext("test-id")).isSucceeded()
+                .extracting(IdentityHubParticipantContext::getStateAsEnum).isEqualTo(ParticipantContextState.DEACTIVATED);
+    }
+
+    @Test
+    void updateParticipant_readBeforeCommit_notServedFromCacheAfterCommit() {
+        var committed = new AtomicReference<>(IdentityHubParticipantContext.Builder.newInstance()
+                .participantContextId("test-id")
+                .did("did:web:test-id")
+                .state(ParticipantContextState.ACTIVATED)
+                .apiTokenAlias("test-alias")
+                .build());
+        var pending = new AtomicReference<IdentityHubParticipantContext>();
+        var service = new AtomicReference<IdentityHubParticipantContextServiceImpl>();
+        // a lookup on another thread sees the committed state until the transaction has completed
+        var transactionContext = new NoopTransactionContext() {
+            @Override
+            public <T> T execute(ResultTransactionBlock<T> block) {
+                var result = super.execute(block);
+                var modified = pending.getAndSet(null);
+                if (modified != null) {
+                    service.get().getParticipantContext("test-id");
+                    committed.set(modified);
+                }
+                return result;
+            }
+        };
+        var observable = new ParticipantContextObservableImpl();
+        var cache = new ParticipantContextCache(Clock.systemUTC(), Duration.ofHours(1), 100, new InMemoryMetricRecorder());
+        observable.registerListener(cache);
+        service.set(new IdentityHubParticipantContextServiceImpl(participantContextStore, didResourceStore, vault, transactionContext, observable, stsAccountProvisioner, configService, cache));
+        when(participantContextStore.findById(any())).thenAnswer(i -> StoreResult.success(committed.get()));
+        when(participantContextStore.update(any())).thenAnswer(i -> {
+            pending.set(i.getArgument(0));
+            return StoreResult.success();
+        });
+
+        assertThat(service.get().updateParticipant("test-id", IdentityHubParticipantContext::deactivate)).isSucceeded();
+
+        assertThat(service.get().getParticipantContext("test-id")).isSucceeded()
+                .extracting(IdentityHubParticipantContext::getStateAsEnum).isEqualTo(ParticipantContextState.DEACTIVATED);
+    }
+
     @Test
     void getParticipantContext_whenNotExists() {
         when(participantContextStore.findById(anyString())).thenReturn(StoreResult.notFound("foo"));
@@ -370,6 +469,38 @@ class IdentityHubIdentityHubParticipantContextServiceImplTest {
 
         verify(participantContextStore).findById(anyString());
         verify(vault).storeSecret(anyString(), eq("test-alias"), argThat(s -> s.length() >= 64));
+        verify(observableMock).invokeForEach(any());
+    }
+
+    @Test
+    void regenerateApiToken_notifiesListenersAfterTransaction() {
+        var inTransaction = new AtomicBoolean();
+        var transactionContext = new NoopTransactionContext() {
+            @Override
+            public <T> T execute(ResultTransactionBlock<T> block) {
+                inTransaction.set(true);
+                try {
+                    return super.execute(block);
+                } finally {
+                    inTransaction.set(false);
+                }
+            }
+        };
+        var notifiedInTransaction = new AtomicReference<Boolean>();
+        var observable = new ParticipantContextObservableImpl();
+        observable.registerListener(new ParticipantContextListener() {
+            @Override
+            public void apiTokenRegenerated(IdentityHubParticipantContext participantContext) {
+                notifiedInTransaction.set(inTransaction.get());
+            }
+        });
+        var service = new IdentityHubParticipantContextServiceImpl(participantContextStore, didResourceStore, vault, transactionContext, observable, stsAccountProvisioner, configService);
+        when(participantContextStore.findById(anyString())).thenReturn(StoreResult.success(createContext()));
+        when(vault.storeSecret(anyString(), eq("test-alias"), anyString())).thenReturn(Result.success());
+
+        assertThat(service.regenerateApiToken("test-id")).isSucceeded();
+
+        assertThat(notifiedInTransaction.get()).isFalse();
     }
 
     @Test
@@ -381,6 +512,7 @@ class IdentityHubIdentityHubParticipantContextServiceImplTest {
 
         verify(participantContextStore).findById(anyString());
         verify(vault).storeSecret(anyString(), eq("test-alias"), anyString());
+        verifyNoInteractions(observableMock);
     }
 
     @Test
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.participantcontext;
+
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.CACHE_REQUEST_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_HIT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_MISS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_CACHE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParticipantContextCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final InMemoryMetricRecorder metrics = new InMemoryMetricRecorder();
+
+    @Test
+    void get_countsHitsAndMisses() {
+        when(clock.instant()).thenReturn(now);
+        var cache = new ParticipantContextCache(clock, TTL, 10, metrics);
+
+        assertThat(cache.get("test-id")).isNull();
+        cache.put(createContext("test-id"), cache.generation());
+
+        assertThat(cache.get("test-id")).isNotNull();
+        assertThat(metrics.count(CACHE_REQUEST_COUNT, TAG_CACHE, ParticipantContextCache.CACHE_NAME, TAG_OUTCOME, OUTCOME_HIT)).isEqualTo(1);
+        assertThat(metrics.count(CACHE_REQUEST_COUNT, TAG_CACHE, ParticipantContextCache.CACHE_NAME, TAG_OUTCOME, OUTCOME_MISS)).isEqualTo(1);
+    }
+
+    @Test
+    void get_expired() {
+        when(clock.instant()).thenReturn(now, now.plus(TTL));
+        var cache = new ParticipantContextCache(clock, TTL, 10, metrics);
+        cache.put(createContext("test-id"), cache.generation());
+
+        assertThat(cache.get("test-id")).isNull();
+        assertThat(metrics.count(CACHE_REQUEST_COUNT, TAG_CACHE, ParticipantContextCache.CACHE_NAME, TAG_OUTCOME, OUTCOME_MISS)).isEqualTo(1);
+    }
+
+    @Test
+    void updated_invalidates() {
+        when(clock.instant()).thenReturn(now);
+        var cache = new ParticipantContextCache(clock, TTL, 10, metrics);
+        var context = createContext("test-id");
+        cache.put(context, cache.generation());
+
+        cache.updated(context);
+
+        assertThat(cache.get("test-id")).isNull();
+    }
+
+    @Test
+    void deleted_invalidates() {
+        when(clock.instant()).thenReturn(now);
+        var cache = new ParticipantContextCache(clock, TTL, 10, metrics);
+        var context = createContext("test-id");
+        cache.put(context, cache.generation());
+
+        cache.deleted(context);
+
+        assertThat(cache.get("test-id")).isNull();
+    }
+
+    @Test
+    void put_invalidatedSinceRead_discarded() {
+        when(clock.instant()).thenReturn(now);
+        var cache = new ParticipantContextCache(clock, TTL, 10, metrics);
+        var generation = cache.generation();
+
+        cache.updated(createContext("test-id"));
+        cache.put(createContext("test-id"), generation);
+
+        assertThat(cache.get("test-id")).isNull();
+    }
+
+    @Test
+    void put_full_notCached() {
+        when(clock.instant()).thenReturn(now);
+        var cache = new ParticipantContextCache(clock, TTL, 1, metrics);
+        cache.put(createContext("test-id-1"), cache.generation());
+
+        cache.put(createContext("test-id-2"), cache.generation());
+
+        assertThat(cache.get("test-id-1")).isNotNull();
+        assertThat(cache.get("test-id-2")).isNull();
+    }
+
+    @Test
+    void disabled() {
+        var cache = ParticipantContextCache.disabled();
+        cache.put(createContext("test-id"), cache.generation());
+
+        assertThat(cache.get("test-id")).isNull();
+    }
+
+    private IdentityHubParticipantContext createContext(String id) {
+        return IdentityHubParticipantContext.Builder.newInstance()
+                .participantContextId(id)
+                .did("did:web:" + id)
+                .apiTokenAlias("test-alias")
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.participantcontext;
+
+import org.eclipse.edc.identityhub.spi.did.model.DidResource;
+import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
+import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.CreateParticipantContextResponse;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantManifest;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult;
+import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult.Status.CREATED;
+import static org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult.Status.FAILED;
+import static org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult.Status.SKIPPED;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipantOnboardingServiceImplTest {
+
+    private final IdentityHubParticipantContextService participantContextService = mock();
+    private final ParticipantContextStore participantContextStore = mock();
+    private final DidResourceStore didResourceStore = mock();
+    private final List<ParticipantOnboardingResult> results = new ArrayList<>();
+    private ExecutorService executor;
+    private ParticipantOnboardingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        service = new ParticipantOnboardingServiceImpl(participantContextService, participantContextStore, didResourceStore, new NoopTransactionContext(),
+                executor, mock(Monitor.class), 2, 2);
+        when(participantContextStore.query(any())).thenReturn(StoreResult.success(List.of()));
+        when(didResourceStore.query(any())).thenReturn(List.of());
+        when(participantContextService.createParticipantContext(any())).thenReturn(ServiceResult.success(new CreateParticipantContextResponse("apiKey", null, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void onboard_createsAll() {
+        var manifests = IntStream.range(0, 5).mapToObj(i -> manifest("participant" + i));
+
+        var summary = service.onboard(manifests, results::add);
+
+        assertThat(summary).isSucceeded().satisfies(s -> {
+            assertThat(s.created()).isEqualTo(5);
+            assertThat(s.skipped()).isZero();
+            assertThat(s.failed()).isZero();
+        });
+        assertThat(results).hasSize(5).allSatisfy(r -> assertThat(r.status()).isEqualTo(CREATED));
+        verify(participantContextService, times(5)).createParticipantContext(any());
+    }
+
+    @Test
+    void onboard_participantContextExists_skipped() {
+        var existing = IdentityHubParticipantContext.Builder.newInstance().participantContextId("participant1").did("did:web:participant1")
+                .apiTokenAlias("alias").build();
+        when(participantContextStore.query(any())).thenReturn(StoreResult.success(List.<ParticipantContext>of(existing)));
+
+        service.onboard(Stream.of(manifest("participant1"), manifest("participant2")), results::add);
+
+        assertThat(results).extracting(ParticipantOnboardingResult::participantContextId, ParticipantOnboardingResult::status)
+                .containsExactlyInAnyOrder(tuple("participant1", SKIPPED), tuple("participant2", CREATED));
+        verify(participantContextService, never()).createParticipantContext(argThat(m -> m.getParticipantContextId().equals("participant1")));
+    }
+
+    @Test
+    void onboard_didExists_failed() {
+        when(didResourceStore.query(any())).thenReturn(List.of(DidResource.Builder.newInstance().did("did:web:participant1").build()));
+
+        service.onboard(Stream.of(manifest("participant1")), results::add);
+
+        assertThat(results).singleElement().satisfies(r -> assertThat(r.status()).isEqualTo(FAILED));
+        verify(participantContextService, never()).createParticipantContext(any());
+    }
+
+    @Test
+    void onboard_duplicateInInput_failed() {
+        service.onboard(Stream.of(manifest("participant1"), manifest("participant1")), results::add);
+
+        assertThat(results).extracting(ParticipantOnboardingResult::status).containsExactlyInAnyOrder(CREATED, FAILED);
+        verify(participantContextService, times(1)).createParticipantContext(any());
+    }
+
+    @Test
+    void onboard_duplicateInLaterBatch_reportedBeforeAnyCreation() {
+        var manifests = Stream.of(manifest("participant1"), manifest("participant2"), manifest("participant3"), manifest("participant1"));
+
+        service.onboard(manifests, results::add);
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).status()).isEqualTo(FAILED);
+        assertThat(results.subList(1, 4)).extracting(ParticipantOnboardingResult::status).containsOnly(CREATED);
+    }
+
+    @Test
+    void onboard_consumerThrows_everyManifestReportedOnce() {
+        var invocations = new AtomicInteger();
+        var manifests = IntStream.range(0, 5).mapToObj(i -> manifest("participant" + i));
+
+        var summary = service.onboard(manifests, result -> {
+            invocations.incrementAndGet();
+            throw new EdcException("client disconnected");
+        });
+
+        assertThat(summary).isSucceeded().satisfies(s -> {
+            assertThat(s.created()).isEqualTo(5);
+            assertThat(s.failed()).isZero();
+        });
+        assertThat(invocations).hasValue(1);
+        verify(participantContextService, times(5)).createParticipantContext(any());
+    }
+
+    @Test
+    void onboard_batchFails_retriedIndividually() {
+        when(participantContextService.createParticipantContext(argThat(m -> m.getParticipantContextId().equals("participant2"))))
+                .thenThrow(new EdcException("test"));
+
+        var summary = service.onboard(Stream.of(manifest("participant1"), manifest("participant2")), results::add);
+
+        assertThat(summary).isSucceeded().satisfies(s -> {
+            assertThat(s.created()).isEqualTo(1);
+            assertThat(s.failed()).isEqualTo(1);
+        });
+    }
+
+    private ParticipantManifest manifest(String participantContextId) {
+        return ParticipantManifest.Builder.newInstance()
+                .participantContextId(participantContextId)
+                .did("did:web:" + participantContextId)
+                .build();
+    }
+}
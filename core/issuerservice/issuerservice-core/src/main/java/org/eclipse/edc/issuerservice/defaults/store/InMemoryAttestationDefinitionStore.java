@@ -26,7 +26,7 @@ public class InMemoryAttestationDefinitionStore extends InMemoryEntityStore<Atte
 
     @Override
     public @Nullable AttestationDefinition resolveDefinition(String id) {
-        return store.get(id);
+        return entities().get(id);
     }
 
     @Override
@@ -29,45 +29,36 @@ public class InMemoryCredentialDefinitionStore extends InMemoryEntityStore<Crede
 
     @Override
     public StoreResult<Void> create(CredentialDefinition credentialDefinition) {
-        lock.writeLock().lock();
-        try {
-            if (store.containsKey(credentialDefinition.getId())) {
+        return write(entities -> {
+            if (entities.contains(credentialDefinition.getId())) {
                 return alreadyExists(alreadyExistsErrorMessage(credentialDefinition.getId()));
             }
-            store.put(credentialDefinition.getId(), credentialDefinition);
+            entities.put(credentialDefinition.getId(), credentialDefinition);
             return success(null);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        });
     }
 
     @Override
     public StoreResult<Void> update(CredentialDefinition credentialDefinition) {
-        lock.writeLock().lock();
-        try {
-            if (!store.containsKey(credentialDefinition.getId())) {
+        return write(entities -> {
+            if (!entities.contains(credentialDefinition.getId())) {
                 return notFound(notFoundErrorMessage(credentialDefinition.getId()));
             }
-            store.put(credentialDefinition.getId(), credentialDefinition);
+            entities.put(credentialDefinition.getId(), credentialDefinition);
 
             return success();
-        } finally {
-            lock.writeLock().unlock();
-        }
+        });
     }
 
     @Override
     public StoreResult<Void> deleteById(String id) {
-        lock.writeLock().lock();
-        try {
-            if (!store.containsKey(id)) {
+        return write(entities -> {
+            if (!entities.contains(id)) {
                 return notFound(notFoundErrorMessage(id));
             }
-            store.remove(id);
+            entities.remove(id);
             return success();
-        } finally {
-            lock.writeLock().unlock();
-        }
+        });
     }
 
     @Override
@@ -8,6 +8,7 @@ dependencies {
     api(project(":spi:issuerservice:issuerservice-holder-spi"))
     api(project(":spi:issuerservice:issuerservice-issuance-spi"))
     api(project(":spi:identity-hub-spi"))
+    api(project(":spi:metrics-spi"))
     api(project(":protocols:dcp:dcp-spi")) // CredentialOfferMessage
     api(libs.edc.spi.core) // for the Request
     implementation(project(":protocols:dcp:dcp-issuer:dcp-issuer-spi"))
@@ -17,5 +18,6 @@ dependencies {
 
     implementation(libs.edc.spi.core)
     testImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":spi:metrics-spi")))
 
 }
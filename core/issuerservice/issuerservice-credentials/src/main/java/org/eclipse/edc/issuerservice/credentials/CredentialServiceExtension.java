@@ -18,6 +18,7 @@ import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.decentralizedclaims.spi.CredentialServiceUrlResolver;
 import org.eclipse.edc.identityhub.protocols.dcp.issuer.spi.DcpIssuerMetadataService;
 import org.eclipse.edc.identityhub.spi.authentication.ParticipantSecureTokenService;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.issuerservice.credentials.offers.IssuerCredentialOfferServiceImpl;
@@ -69,6 +70,8 @@ public class CredentialServiceExtension implements ServiceExtension {
     private StatusListInfoFactoryRegistry statusListInfoFactoryRegistry;
     @Inject
     private StatusListManager statusListManager;
+    @Inject
+    private MetricRecorder metricRecorder;
 
     @Override
     public String name() {
@@ -79,7 +82,7 @@ public class CredentialServiceExtension implements ServiceExtension {
     public CredentialStatusService getStatusListService(ServiceExtensionContext context) {
         statusListInfoFactoryRegistry.register(BITSTRING_STATUS_LIST_ENTRY, new BitstringStatusListFactory(store));
 
-        return new CredentialStatusServiceImpl(store, transactionContext, context.getMonitor(), statusListInfoFactoryRegistry, statusListManager, registry);
+        return new CredentialStatusServiceImpl(store, transactionContext, context.getMonitor(), statusListInfoFactoryRegistry, statusListManager, registry, metricRecorder);
     }
 
     @Provider
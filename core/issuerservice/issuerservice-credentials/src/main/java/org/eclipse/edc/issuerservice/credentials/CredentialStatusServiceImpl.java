@@ -15,6 +15,7 @@
 package org.eclipse.edc.issuerservice.credentials;
 
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.issuerservice.credentials.statuslist.bitstring.BitstringConstants;
@@ -30,10 +31,19 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_FAILURE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_SUCCESS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.STATUS_LIST_UPDATE_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.STATUS_LIST_UPDATE_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OPERATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
 import static org.eclipse.edc.spi.result.ServiceResult.badRequest;
 import static org.eclipse.edc.spi.result.ServiceResult.from;
 import static org.eclipse.edc.spi.result.ServiceResult.success;
@@ -46,21 +56,37 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
     private final StatusListInfoFactoryRegistry statusListInfoFactoryRegistry;
     private final StatusListManager statusListManager;
     private final CredentialGeneratorRegistry credentialGeneratorRegistry;
+    private final MetricRecorder metrics;
 
     public CredentialStatusServiceImpl(CredentialStore credentialStore, TransactionContext transactionContext, Monitor monitor,
                                        StatusListInfoFactoryRegistry statusListInfoFactoryRegistry, StatusListManager statusListManager,
                                        CredentialGeneratorRegistry credentialGeneratorRegistry) {
+        this(credentialStore, transactionContext, monitor, statusListInfoFactoryRegistry, statusListManager, credentialGeneratorRegistry, MetricRecorder.noop());
+    }
+
+    public CredentialStatusServiceImpl(CredentialStore credentialStore, TransactionContext transactionContext, Monitor monitor,
+                                       StatusListInfoFactoryRegistry statusListInfoFactoryRegistry, StatusListManager statusListManager,
+                                       CredentialGeneratorRegistry credentialGeneratorRegistry, MetricRecorder metrics) {
         this.credentialStore = credentialStore;
         this.transactionContext = transactionContext;
         this.monitor = monitor;
         this.statusListInfoFactoryRegistry = statusListInfoFactoryRegistry;
         this.statusListManager = statusListManager;
         this.credentialGeneratorRegistry = credentialGeneratorRegistry;
+        this.metrics = metrics;
     }
 
     @Override
     public ServiceResult<VerifiableCredential> addCredential(String participantContextId, VerifiableCredential credential) {
+        return metered("add", () -> addToStatusList(participantContextId, credential));
+    }
 
+    @Override
+    public ServiceResult<Void> revokeCredential(String holderCredentialId) {
+        return metered("revoke", () -> revoke(holderCredentialId));
+    }
+
+    private ServiceResult<VerifiableCredential> addToStatusList(String participantContextId, VerifiableCredential credential) {
         var entryResult = statusListManager.getActiveCredential(participantContextId);
         if (entryResult.failed()) {
             return entryResult.mapFailure();
@@ -74,8 +100,7 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
         return statusListManager.incrementIndex(entry).compose(v -> success(cred));
     }
 
-    @Override
-    public ServiceResult<Void> revokeCredential(String holderCredentialId) {
+    private ServiceResult<Void> revoke(String holderCredentialId) {
         return transactionContext.execute(() -> {
 
             var result = getCredential(holderCredentialId)
@@ -131,11 +156,34 @@ public class CredentialStatusServiceImpl implements CredentialStatusService {
         return ServiceResult.from(credentialStore.query(query));
     }
 
+    @Override
+    public ServiceResult<Stream<VerifiableCredentialResource>> streamCredentials(QuerySpec query) {
+        return ServiceResult.from(credentialStore.stream(query));
+    }
+
     @Override
     public ServiceResult<VerifiableCredentialResource> getCredentialById(String credentialId) {
         return getCredential(credentialId);
     }
 
+    /**
+     * Executes a status list update and records its duration and outcome.
+     */
+    private <T> ServiceResult<T> metered(String operation, Supplier<ServiceResult<T>> update) {
+        var start = System.nanoTime();
+        var outcome = OUTCOME_FAILURE;
+        try {
+            var result = update.get();
+            if (result.succeeded()) {
+                outcome = OUTCOME_SUCCESS;
+            }
+            return result;
+        } finally {
+            metrics.record(STATUS_LIST_UPDATE_DURATION, Duration.ofNanos(System.nanoTime() - start), TAG_OPERATION, operation, TAG_OUTCOME, outcome);
+            metrics.increment(STATUS_LIST_UPDATE_COUNT, TAG_OPERATION, operation, TAG_OUTCOME, outcome);
+        }
+    }
+
     private ServiceResult<Void> update(VerifiableCredentialResource... credentials) {
         return Arrays.stream(credentials).map(credentialStore::update)
                 .reduce(StoreResult.success(), (a, b) -> a.compose(i -> b))
@@ -29,6 +29,7 @@ import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
@@ -52,6 +53,12 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_FAILURE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_SUCCESS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.STATUS_LIST_UPDATE_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.STATUS_LIST_UPDATE_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OPERATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
 import static org.eclipse.edc.issuerservice.credentials.statuslist.TestData.EXAMPLE_CREDENTIAL;
 import static org.eclipse.edc.issuerservice.credentials.statuslist.TestData.EXAMPLE_CREDENTIAL_JWT;
 import static org.eclipse.edc.issuerservice.credentials.statuslist.TestData.EXAMPLE_REVOCATION_CREDENTIAL;
@@ -89,6 +96,7 @@ class CredentialStatusServiceImplTest {
     private final Monitor monitor = mock();
     private final TestStatusListInfo statusListInfo = spy(new TestStatusListInfo());
     private final CredentialGeneratorRegistry credentialGeneratorRegistry = mock();
+    private final InMemoryMetricRecorder metrics = new InMemoryMetricRecorder();
     private CredentialStatusServiceImpl revocationService;
 
     @BeforeEach
@@ -103,7 +111,7 @@ class CredentialStatusServiceImplTest {
         when(bitstringStatusListFactory.create(any())).thenReturn(ServiceResult.success(statusListInfo));
 
         revocationService = new CredentialStatusServiceImpl(credentialStore, new NoopTransactionContext(),
-                monitor, statusListInfoFactoryRegistry, mock(), credentialGeneratorRegistry);
+                monitor, statusListInfoFactoryRegistry, mock(), credentialGeneratorRegistry, metrics);
     }
 
     @Nested
@@ -121,6 +129,8 @@ class CredentialStatusServiceImplTest {
             assertThat(result).isSucceeded();
             verify(credentialGeneratorRegistry).signCredential(anyString(), any(), any());
             verify(credentialStore, times(2)).update(any());
+            assertThat(metrics.count(STATUS_LIST_UPDATE_COUNT, TAG_OPERATION, "revoke", TAG_OUTCOME, OUTCOME_SUCCESS)).isEqualTo(1);
+            assertThat(metrics.durations(STATUS_LIST_UPDATE_DURATION, TAG_OPERATION, "revoke", TAG_OUTCOME, OUTCOME_SUCCESS)).hasSize(1);
         }
 
         @Test
@@ -135,6 +145,7 @@ class CredentialStatusServiceImplTest {
             assertThat(result.getFailure().getReason()).isEqualTo(NOT_FOUND);
             verifyNoInteractions(tokenGenerationService);
             verify(credentialStore, never()).update(any());
+            assertThat(metrics.count(STATUS_LIST_UPDATE_COUNT, TAG_OPERATION, "revoke", TAG_OUTCOME, OUTCOME_FAILURE)).isEqualTo(1);
         }
 
         @Test
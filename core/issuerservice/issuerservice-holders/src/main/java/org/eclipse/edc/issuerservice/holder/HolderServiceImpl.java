@@ -22,6 +22,7 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 import static org.eclipse.edc.spi.result.ServiceResult.from;
 
@@ -54,6 +55,13 @@ public class HolderServiceImpl implements HolderService {
         return transactionContext.execute(() -> from(holderStore.query(querySpec)));
     }
 
+    @Override
+    public ServiceResult<Stream<Holder>> streamHolders(QuerySpec querySpec) {
+        // not run in the transaction context, which would end before the stream is read: the store reads the stream in a database
+        // transaction of its own, which ends when the stream is closed
+        return from(holderStore.stream(querySpec));
+    }
+
     @Override
     public ServiceResult<Holder> findById(String holderId) {
         return transactionContext.execute(() -> from(holderStore.findById(holderId)));
@@ -9,6 +9,7 @@ dependencies {
     api(project(":spi:verifiable-credential-spi"))
     api(project(":spi:keypair-spi"))
     implementation(project(":core:lib:common-lib"))
+    implementation(project(":spi:metrics-spi"))
     implementation(project(":core:lib:issuerservice-common-lib"))
     implementation(libs.edc.spi.core)
     implementation(libs.edc.lib.core)
@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.issuerservice.issuance;
 
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
+import org.eclipse.edc.identityhub.statemachine.VirtualThreads;
 import org.eclipse.edc.issuerservice.issuance.process.IssuanceProcessManagerImpl;
 import org.eclipse.edc.issuerservice.issuance.process.IssuanceProcessServiceImpl;
 import org.eclipse.edc.issuerservice.spi.credentials.CredentialStatusService;
@@ -30,6 +32,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.runtime.metamodel.annotation.SettingContext;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -39,6 +42,7 @@ import org.eclipse.edc.statemachine.StateMachineConfiguration;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
 
 import static org.eclipse.edc.issuerservice.issuance.IssuanceCoreExtension.NAME;
 
@@ -46,11 +50,23 @@ import static org.eclipse.edc.issuerservice.issuance.IssuanceCoreExtension.NAME;
 public class IssuanceCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Issuance Core Extension";
+    private static final String ISSUANCE_PROCESSOR = "IssuanceProcessor";
 
     @SettingContext("edc.issuer.issuance")
     @Configuration
     private StateMachineConfiguration stateMachineConfiguration;
 
+    @Setting(key = "edc.issuer.issuance.virtual-threads.enabled", defaultValue = "false",
+            description = "Process issuance processes on virtual threads, so that up to 'edc.issuer.issuance.concurrency' batches are processed " +
+                    "concurrently. Requires Java 21 or later. Concurrency is then effectively bounded by the database connection pool.")
+    private boolean virtualThreadsEnabled;
+
+    @Setting(key = "edc.issuer.issuance.concurrency", min = 1, defaultValue = "8",
+            description = "Number of batches of issuance processes that are processed concurrently, if virtual threads are enabled.")
+    private int concurrency;
+
+    private ExecutorService processorExecutor;
+
     private IssuanceProcessManager issuanceProcessManager;
 
     @Inject
@@ -92,11 +108,17 @@ public class IssuanceCoreExtension implements ServiceExtension {
     @Inject
     private IssuanceObservable issuanceObservable;
 
+    @Inject
+    private MetricRecorder metricRecorder;
+
     @Provider
     public IssuanceProcessManager createIssuanceProcessManager() {
 
         if (issuanceProcessManager == null) {
             var waitStrategy = retryStrategy != null ? retryStrategy : stateMachineConfiguration.iterationWaitExponentialWaitStrategy();
+            if (virtualThreadsEnabled) {
+                processorExecutor = VirtualThreads.tryCreateExecutor(executorInstrumentation, ISSUANCE_PROCESSOR, monitor);
+            }
             issuanceProcessManager = IssuanceProcessManagerImpl.Builder.newInstance()
                     .store(issuanceProcessStore)
                     .monitor(monitor)
@@ -112,6 +134,8 @@ public class IssuanceCoreExtension implements ServiceExtension {
                     .credentialStatusService(credentialStatusService)
                     .entityRetryProcessConfiguration(stateMachineConfiguration.entityRetryProcessConfiguration())
                     .observable(issuanceObservable)
+                    .metrics(metricRecorder)
+                    .processorExecutor(processorExecutor, concurrency)
                     .build();
         }
         return issuanceProcessManager;
@@ -133,5 +157,8 @@ public class IssuanceCoreExtension implements ServiceExtension {
         if (issuanceProcessManager != null) {
             issuanceProcessManager.stop();
         }
+        if (processorExecutor != null) {
+            processorExecutor.shutdownNow();
+        }
     }
 }
@@ -15,11 +15,14 @@
 package org.eclipse.edc.issuerservice.issuance;
 
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
+import org.eclipse.edc.identityhub.metrics.MeteredJwsSignerProvider;
 import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.issuerservice.issuance.attestation.AttestationDefinitionServiceImpl;
 import org.eclipse.edc.issuerservice.issuance.attestation.AttestationDefinitionValidatorRegistryImpl;
 import org.eclipse.edc.issuerservice.issuance.attestation.AttestationPipelineImpl;
+import org.eclipse.edc.issuerservice.issuance.credentialdefinition.CredentialDefinitionObservableImpl;
 import org.eclipse.edc.issuerservice.issuance.credentialdefinition.CredentialDefinitionServiceImpl;
 import org.eclipse.edc.issuerservice.issuance.events.IssuanceEventPublisher;
 import org.eclipse.edc.issuerservice.issuance.events.IssuanceObservableImpl;
@@ -36,6 +39,7 @@ import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationDefinit
 import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationDefinitionValidatorRegistry;
 import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationPipeline;
 import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationSourceFactoryRegistry;
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionObservable;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionService;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.store.CredentialDefinitionStore;
 import org.eclipse.edc.issuerservice.spi.issuance.events.IssuanceObservable;
@@ -87,6 +91,9 @@ public class IssuanceServicesExtension implements ServiceExtension {
     @Inject
     private EventRouter eventRouter;
 
+    @Inject
+    private MetricRecorder metricRecorder;
+
     private AttestationPipelineImpl attestationPipeline;
 
     private CredentialRuleFactoryRegistry ruleFactoryRegistry;
@@ -97,10 +104,19 @@ public class IssuanceServicesExtension implements ServiceExtension {
 
     private IssuanceClaimsMapper issuanceClaimsMapper;
     private IssuanceObservable issuanceObservable;
+    private CredentialDefinitionObservable credentialDefinitionObservable;
 
     @Provider
     public CredentialDefinitionService createParticipantService() {
-        return new CredentialDefinitionServiceImpl(transactionContext, store, attestationDefinitionStore, credentialRuleDefinitionValidatorRegistry());
+        return new CredentialDefinitionServiceImpl(transactionContext, store, attestationDefinitionStore, credentialRuleDefinitionValidatorRegistry(), credentialDefinitionObservable());
+    }
+
+    @Provider
+    public CredentialDefinitionObservable credentialDefinitionObservable() {
+        if (credentialDefinitionObservable == null) {
+            credentialDefinitionObservable = new CredentialDefinitionObservableImpl();
+        }
+        return credentialDefinitionObservable;
     }
 
     @Provider
@@ -153,7 +169,7 @@ public class IssuanceServicesExtension implements ServiceExtension {
     public CredentialGeneratorRegistry createCredentialGeneratorRegistry() {
         var generator = new CredentialGeneratorRegistryImpl(issuanceClaimsMapper(), participantContextService, holderService, keyPairService);
 
-        var jwtGenerationService = new JwtGenerationService(jwsSignerProvider);
+        var jwtGenerationService = new JwtGenerationService(new MeteredJwsSignerProvider(jwsSignerProvider, metricRecorder));
         generator.addGenerator(CredentialFormat.VC1_0_JWT, new JwtCredentialGenerator(jwtGenerationService, clock));
         generator.addGenerator(CredentialFormat.VC2_0_JOSE, new JoseVcdm20CredentialGenerator(jwtGenerationService, clock));
         return generator;
@@ -0,0 +1,22 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.issuerservice.issuance.credentialdefinition;
+
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionListener;
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionObservable;
+import org.eclipse.edc.spi.observe.ObservableImpl;
+
+public class CredentialDefinitionObservableImpl extends ObservableImpl<CredentialDefinitionListener> implements CredentialDefinitionObservable {
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.issuerservice.issuance.credentialdefinition;
 
 import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationDefinitionStore;
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionObservable;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionService;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.store.CredentialDefinitionStore;
 import org.eclipse.edc.issuerservice.spi.issuance.model.AttestationDefinition;
@@ -36,31 +37,46 @@ public class CredentialDefinitionServiceImpl implements CredentialDefinitionServ
     private final CredentialDefinitionStore credentialDefinitionStore;
     private final AttestationDefinitionStore attestationDefinitionStore;
     private final CredentialRuleDefinitionValidatorRegistry ruleDefinitionValidatorRegistry;
+    private final CredentialDefinitionObservable observable;
 
     public CredentialDefinitionServiceImpl(TransactionContext transactionContext,
                                            CredentialDefinitionStore credentialDefinitionStore,
                                            AttestationDefinitionStore attestationDefinitionStore,
                                            CredentialRuleDefinitionValidatorRegistry ruleDefinitionValidatorRegistry) {
+        this(transactionContext, credentialDefinitionStore, attestationDefinitionStore, ruleDefinitionValidatorRegistry, new CredentialDefinitionObservableImpl());
+    }
+
+    public CredentialDefinitionServiceImpl(TransactionContext transactionContext,
+                                           CredentialDefinitionStore credentialDefinitionStore,
+                                           AttestationDefinitionStore attestationDefinitionStore,
+                                           CredentialRuleDefinitionValidatorRegistry ruleDefinitionValidatorRegistry,
+                                           CredentialDefinitionObservable observable) {
         this.transactionContext = transactionContext;
         this.credentialDefinitionStore = credentialDefinitionStore;
         this.attestationDefinitionStore = attestationDefinitionStore;
         this.ruleDefinitionValidatorRegistry = ruleDefinitionValidatorRegistry;
+        this.observable = observable;
     }
 
     @Override
     public ServiceResult<Void> createCredentialDefinition(CredentialDefinition credentialDefinition) {
-        return transactionContext.execute(() -> internalCreate(credentialDefinition));
-
+        return transactionContext.execute(() -> internalCreate(credentialDefinition))
+                .onSuccess(v -> observable.invokeForEach(l -> l.created(credentialDefinition)));
     }
 
     @Override
     public ServiceResult<Void> deleteCredentialDefinition(String credentialDefinitionId) {
-        return transactionContext.execute(() -> from(credentialDefinitionStore.deleteById(credentialDefinitionId)));
+        return transactionContext.execute(() -> from(credentialDefinitionStore.findById(credentialDefinitionId))
+                        .compose(credentialDefinition -> from(credentialDefinitionStore.deleteById(credentialDefinitionId))
+                                .map(v -> credentialDefinition)))
+                .onSuccess(credentialDefinition -> observable.invokeForEach(l -> l.deleted(credentialDefinition)))
+                .mapEmpty();
     }
 
     @Override
     public ServiceResult<Void> updateCredentialDefinition(CredentialDefinition credentialDefinition) {
-        return transactionContext.execute(() -> internalUpdate(credentialDefinition));
+        return transactionContext.execute(() -> internalUpdate(credentialDefinition))
+                .onSuccess(v -> observable.invokeForEach(l -> l.updated(credentialDefinition)));
     }
 
     @Override
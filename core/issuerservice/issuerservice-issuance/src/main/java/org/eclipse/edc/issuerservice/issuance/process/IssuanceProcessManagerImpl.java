@@ -18,9 +18,12 @@ import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.metrics.MeteredProcessor;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
+import org.eclipse.edc.identityhub.statemachine.ConcurrentProcessor;
 import org.eclipse.edc.issuerservice.spi.credentials.CredentialStatusService;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.store.CredentialDefinitionStore;
 import org.eclipse.edc.issuerservice.spi.issuance.delivery.CredentialStorageClient;
@@ -46,20 +49,28 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.ISSUANCE_PROCESS_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
 import static org.eclipse.edc.statemachine.retry.processor.Process.result;
 
 public class IssuanceProcessManagerImpl extends AbstractStateEntityManager<IssuanceProcess, IssuanceProcessStore> implements IssuanceProcessManager {
 
+    private static final String METRICS_MANAGER_NAME = "issuance-process";
+
     private IssuanceObservable observable;
     private CredentialGeneratorRegistry credentialGenerator;
     private CredentialDefinitionStore credentialDefinitionStore;
     private CredentialStore credentialStore;
     private CredentialStorageClient credentialStorageClient;
     private CredentialStatusService credentialStatusService;
+    private MetricRecorder metrics = MetricRecorder.noop();
+    private ExecutorService processorExecutor;
+    private int processorConcurrency = 1;
 
     private IssuanceProcessManagerImpl() {
     }
@@ -83,10 +94,14 @@ public class IssuanceProcessManagerImpl extends AbstractStateEntityManager<Issua
                 .doProcess(result("Store Credentials", this::storeCredential))
                 .onSuccess((t, credentials) -> {
                     transitionToDelivered(t);
+                    metrics.increment(ISSUANCE_PROCESS_COUNT, TAG_OUTCOME, "delivered");
                     observable.invokeForEach(l -> l.delivered(process, credentials));
                 })
                 .onFailure((t, throwable) -> transitionToApproved(t))
-                .onFinalFailure(this::transitionToError)
+                .onFinalFailure((t, throwable) -> {
+                    transitionToError(t, throwable);
+                    metrics.increment(ISSUANCE_PROCESS_COUNT, TAG_OUTCOME, "error");
+                })
                 .execute();
     }
 
@@ -140,12 +155,10 @@ public class IssuanceProcessManagerImpl extends AbstractStateEntityManager<Issua
     }
 
     private StatusResult<Collection<VerifiableCredentialContainer>> storeCredential(IssuanceProcess process, Collection<VerifiableCredentialContainer> credentials) {
-        for (var credential : credentials) {
-            var resource = toResource(process, credential);
-            var result = credentialStore.create(resource);
-            if (result.failed()) {
-                return StatusResult.failure(ResponseStatus.ERROR_RETRY, result.getFailureDetail());
-            }
+        var resources = credentials.stream().map(credential -> toResource(process, credential)).toList();
+        var result = credentialStore.createAll(resources);
+        if (result.failed()) {
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY, result.getFailureDetail());
         }
         return StatusResult.success(credentials);
     }
@@ -199,7 +212,8 @@ public class IssuanceProcessManagerImpl extends AbstractStateEntityManager<Issua
 
     private Processor processIssuanceInState(IssuanceProcessStates state, Function<IssuanceProcess, CompletableFuture<StatusResult<Void>>> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending() };
-        return createProcessor(function, filter);
+        var processor = ConcurrentProcessor.concurrently(() -> createProcessor(function, filter), processorConcurrency, processorExecutor);
+        return new MeteredProcessor(processor, metrics, METRICS_MANAGER_NAME, state.name());
     }
 
     private ProcessorImpl<IssuanceProcess> createProcessor(Function<IssuanceProcess, CompletableFuture<StatusResult<Void>>> function, Criterion[] filter) {
@@ -246,6 +260,21 @@ public class IssuanceProcessManagerImpl extends AbstractStateEntityManager<Issua
             return this;
         }
 
+        public Builder metrics(MetricRecorder metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Processes up to {@code concurrency} batches of every state concurrently on the given executor, e.g. one that runs every task
+         * on a virtual thread. By default, batches are processed one after the other on the state machine thread.
+         */
+        public Builder processorExecutor(ExecutorService executor, int concurrency) {
+            manager.processorExecutor = executor;
+            manager.processorConcurrency = concurrency;
+            return this;
+        }
+
         public Builder observable(IssuanceObservable observable) {
             manager.observable = observable;
             return this;
@@ -14,8 +14,10 @@
 
 package org.eclipse.edc.issuerservice.issuance.issuance.credentialdefinition;
 
+import org.eclipse.edc.issuerservice.issuance.credentialdefinition.CredentialDefinitionObservableImpl;
 import org.eclipse.edc.issuerservice.issuance.credentialdefinition.CredentialDefinitionServiceImpl;
 import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationDefinitionStore;
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionListener;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionService;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.store.CredentialDefinitionStore;
 import org.eclipse.edc.issuerservice.spi.issuance.model.AttestationDefinition;
@@ -37,6 +39,7 @@ import static org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialForm
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -47,7 +50,8 @@ public class CredentialDefinitionServiceImplTest {
     private final CredentialDefinitionStore credentialDefinitionStore = mock();
     private final AttestationDefinitionStore attestationDefinitionStore = mock();
     private final CredentialRuleDefinitionValidatorRegistry ruleDefinitionValidatorRegistry = mock();
-    private final CredentialDefinitionService credentialDefinitionService = new CredentialDefinitionServiceImpl(new NoopTransactionContext(), credentialDefinitionStore, attestationDefinitionStore, ruleDefinitionValidatorRegistry);
+    private final CredentialDefinitionListener listener = mock();
+    private final CredentialDefinitionService credentialDefinitionService = createService();
 
     @Test
     void createCredentialDefinition() {
@@ -64,6 +68,7 @@ public class CredentialDefinitionServiceImplTest {
         assertThat(credentialDefinitionService.createCredentialDefinition(definition)).isSucceeded();
 
         verify(credentialDefinitionStore).create(definition);
+        verify(listener).created(definition);
     }
 
     @Test
@@ -77,6 +82,7 @@ public class CredentialDefinitionServiceImplTest {
         when(credentialDefinitionStore.create(definition)).thenReturn(StoreResult.alreadyExists("already exists"));
         when(ruleDefinitionValidatorRegistry.validateDefinition(any())).thenReturn(ValidationResult.success());
         assertThat(credentialDefinitionService.createCredentialDefinition(definition)).isFailed();
+        verifyNoInteractions(listener);
 
     }
 
@@ -127,6 +133,7 @@ public class CredentialDefinitionServiceImplTest {
         assertThat(credentialDefinitionService.updateCredentialDefinition(definition)).isSucceeded();
 
         verify(credentialDefinitionStore).update(definition);
+        verify(listener).updated(definition);
     }
 
     @Test
@@ -217,23 +224,48 @@ public class CredentialDefinitionServiceImplTest {
     @Test
     void deleteCredentialDefinition() {
 
-        var id = UUID.randomUUID().toString();
+        var definition = credentialDefinition();
+        var id = definition.getId();
 
+        when(credentialDefinitionStore.findById(id)).thenReturn(StoreResult.success(definition));
         when(credentialDefinitionStore.deleteById(id)).thenReturn(StoreResult.success());
 
         assertThat(credentialDefinitionService.deleteCredentialDefinition(id))
                 .isSucceeded();
+        verify(listener).deleted(definition);
     }
 
     @Test
     void deleteCredentialDefinition_whenStoreFails() {
 
+        var definition = credentialDefinition();
+        var id = definition.getId();
+
+        when(credentialDefinitionStore.findById(id)).thenReturn(StoreResult.success(definition));
+        when(credentialDefinitionStore.deleteById(id)).thenReturn(StoreResult.generalError("error"));
+
+        assertThat(credentialDefinitionService.deleteCredentialDefinition(id))
+                .isFailed();
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void deleteCredentialDefinition_whenNotFound() {
+
         var id = UUID.randomUUID().toString();
 
-        when(credentialDefinitionStore.deleteById(id)).thenReturn(StoreResult.notFound("not found"));
+        when(credentialDefinitionStore.findById(id)).thenReturn(StoreResult.notFound("not found"));
 
         assertThat(credentialDefinitionService.deleteCredentialDefinition(id))
                 .isFailed();
+        verify(credentialDefinitionStore, never()).deleteById(id);
+        verifyNoInteractions(listener);
+    }
+
+    private CredentialDefinitionService createService() {
+        var observable = new CredentialDefinitionObservableImpl();
+        observable.registerListener(listener);
+        return new CredentialDefinitionServiceImpl(new NoopTransactionContext(), credentialDefinitionStore, attestationDefinitionStore, ruleDefinitionValidatorRegistry, observable);
     }
 
     private CredentialDefinition credentialDefinition() {
@@ -46,6 +46,7 @@ import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -135,7 +136,7 @@ public class IssuanceProcessManagerImplTest {
         when(issuanceProcessStore.nextNotLeased(anyInt(), stateIs(APPROVED.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
         when(credentialDefinitionStore.query(any())).thenReturn(StoreResult.success(List.of(credentialDefinition)));
         when(credentialGenerator.generateCredentials("participantContextId", "holderId", List.of(generationRequests), process.getClaims())).thenReturn(Result.success(List.of(credential)));
-        when(credentialStore.create(any())).thenReturn(StoreResult.success());
+        when(credentialStore.createAll(any())).thenReturn(StoreResult.success());
         when(issuanceProcessStore.save(any())).thenReturn(StoreResult.success());
         when(credentialStorageClient.deliverCredentials(process, List.of(credential))).thenReturn(Result.success());
         when(credentialStatusService.addCredential(any(), any())).thenReturn(ServiceResult.success(credential.credential()));
@@ -146,9 +147,11 @@ public class IssuanceProcessManagerImplTest {
         await().untilAsserted(() -> {
             // raw vc should be null
 
-            var captor = ArgumentCaptor.forClass(VerifiableCredentialResource.class);
-            verify(credentialStore).create(captor.capture());
-            var cred = captor.getValue();
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<VerifiableCredentialResource>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(credentialStore).createAll(captor.capture());
+            assertThat(captor.getValue()).hasSize(1);
+            var cred = captor.getValue().iterator().next();
 
             assertThat(cred.getState()).isEqualTo(VcStatus.ISSUED.code());
             assertThat(cred.getHolderId()).isEqualTo("did:example:holder");
@@ -3,8 +3,11 @@ plugins {
 }
 
 dependencies {
+    api(project(":spi:metrics-spi"))
     implementation(libs.edc.spi.core)
     implementation(libs.edc.lib.core)
+    implementation(libs.edc.lib.controlplane) // state machine Processor
+    implementation(libs.nimbus.jwt)
     testImplementation(libs.edc.junit)
-    testImplementation(libs.nimbus.jwt)
+    testImplementation(testFixtures(project(":spi:metrics-spi")))
 }
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.jca.JCAContext;
+import com.nimbusds.jose.util.Base64URL;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_FAILURE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_SUCCESS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.SIGNING_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_ALGORITHM;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
+
+/**
+ * Decorates a {@link JwsSignerProvider}, so that the duration of every signing operation is recorded as
+ * {@link org.eclipse.edc.identityhub.spi.metrics.MetricNames#SIGNING_DURATION}. This includes the time spent in remote signing
+ * backends, such as the Vault Transit engine.
+ */
+public class MeteredJwsSignerProvider implements JwsSignerProvider {
+    private final JwsSignerProvider delegate;
+    private final MetricRecorder metrics;
+
+    public MeteredJwsSignerProvider(JwsSignerProvider delegate, MetricRecorder metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Result<JWSSigner> createJwsSigner(String privateKeyId) {
+        return delegate.createJwsSigner(privateKeyId).map(this::metered);
+    }
+
+    @Override
+    public Result<JWSSigner> createJwsSigner(String participantContextId, String privateKeyId) {
+        return delegate.createJwsSigner(participantContextId, privateKeyId).map(this::metered);
+    }
+
+    private JWSSigner metered(JWSSigner signer) {
+        return new MeteredJwsSigner(signer);
+    }
+
+    private class MeteredJwsSigner implements JWSSigner {
+        private final JWSSigner signer;
+
+        MeteredJwsSigner(JWSSigner signer) {
+            this.signer = signer;
+        }
+
+        @Override
+        public Base64URL sign(JWSHeader header, byte[] signingInput) throws JOSEException {
+            var outcome = OUTCOME_FAILURE;
+            var start = System.nanoTime();
+            try {
+                var signature = signer.sign(header, signingInput);
+                outcome = OUTCOME_SUCCESS;
+                return signature;
+            } finally {
+                metrics.record(SIGNING_DURATION, Duration.ofNanos(System.nanoTime() - start),
+                        TAG_ALGORITHM, header.getAlgorithm().getName(), TAG_OUTCOME, outcome);
+            }
+        }
+
+        @Override
+        public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+            return signer.supportedJWSAlgorithms();
+        }
+
+        @Override
+        public JCAContext getJCAContext() {
+            return signer.getJCAContext();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics;
+
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.statemachine.Processor;
+
+import java.time.Duration;
+
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.STATE_MACHINE_BATCH_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.STATE_MACHINE_PROCESSED_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_MANAGER;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_STATE;
+
+/**
+ * Decorates a state machine {@link Processor}, so that the duration of every batch and the number of processed entities are recorded
+ * as {@link org.eclipse.edc.identityhub.spi.metrics.MetricNames#STATE_MACHINE_BATCH_DURATION} and
+ * {@link org.eclipse.edc.identityhub.spi.metrics.MetricNames#STATE_MACHINE_PROCESSED_COUNT}. Empty batches are not recorded, so that
+ * idle state machines do not skew the latency distribution.
+ */
+public class MeteredProcessor implements Processor {
+    private final Processor delegate;
+    private final MetricRecorder metrics;
+    private final String[] tags;
+
+    /**
+     * Creates a metered processor.
+     *
+     * @param delegate the processor
+     * @param metrics  the metric recorder
+     * @param manager  the name of the state machine, e.g. {@code issuance-process}
+     * @param state    the state of the entities the processor handles
+     */
+    public MeteredProcessor(Processor delegate, MetricRecorder metrics, String manager, String state) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.tags = new String[]{ TAG_MANAGER, manager, TAG_STATE, state };
+    }
+
+    @Override
+    public Long process() {
+        var start = System.nanoTime();
+        var processed = delegate.process();
+        if (processed != null && processed > 0) {
+            metrics.record(STATE_MACHINE_BATCH_DURATION, Duration.ofNanos(System.nanoTime() - start), tags);
+            metrics.increment(STATE_MACHINE_PROCESSED_COUNT, processed, tags);
+        }
+        return processed;
+    }
+}
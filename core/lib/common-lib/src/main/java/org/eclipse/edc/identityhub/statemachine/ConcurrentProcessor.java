@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.statemachine;
+
+import org.eclipse.edc.statemachine.Processor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Runs several processors of the same state concurrently on an executor, and waits until all of them are done. Each processor leases
+ * its own batch of entities, so with {@code n} processors up to {@code n} batches are processed at the same time.
+ * <p>
+ * This is intended for state machines whose processing blocks on I/O (database, vault, outbound HTTP). Together with a
+ * {@link VirtualThreads virtual-thread} executor, concurrency is bounded by the number of processors and by the connection pools,
+ * rather than by the size of a thread pool.
+ */
+public class ConcurrentProcessor implements Processor {
+    private final List<Processor> processors;
+    private final Executor executor;
+
+    public ConcurrentProcessor(List<Processor> processors, Executor executor) {
+        this.processors = List.copyOf(processors);
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a processor that runs {@code concurrency} processors concurrently on the given executor. If no executor is given, or the
+     * concurrency is 1, a single processor is returned, which processes its batch on the state machine thread.
+     *
+     * @param factory     creates the processors
+     * @param concurrency the number of processors
+     * @param executor    the executor, may be null
+     * @return the processor
+     */
+    public static Processor concurrently(Supplier<? extends Processor> factory, int concurrency, Executor executor) {
+        if (executor == null || concurrency <= 1) {
+            return factory.get();
+        }
+        return new ConcurrentProcessor(Stream.generate(factory).limit(concurrency).map(Processor.class::cast).toList(), executor);
+    }
+
+    @Override
+    public Long process() {
+        var futures = processors.stream()
+                .map(processor -> CompletableFuture.supplyAsync(processor::process, executor))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.statemachine;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors that run every task on a new virtual thread. Virtual threads are looked up reflectively, so that this code
+ * compiles against the Java 17 baseline but uses virtual threads when the runtime is Java 21 or later.
+ */
+public final class VirtualThreads {
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findFactoryMethod();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether the runtime supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for every task. The number of threads is not bounded, so concurrency must
+     * be bounded by the caller, or by the resources the tasks block on (e.g. the size of the connection pool).
+     *
+     * @throws EdcException if the runtime does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new EdcException("Virtual threads are not supported by this Java runtime (%s), Java 21 or later is required."
+                    .formatted(Runtime.version()));
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor that is instrumented with the given {@link ExecutorInstrumentation}. If the runtime
+     * does not support virtual threads, a warning is logged and null is returned, so that callers can fall back to their default.
+     *
+     * @param instrumentation the executor instrumentation
+     * @param name            the name of the executor
+     * @param monitor         the monitor
+     * @return the executor, or null
+     */
+    @Nullable
+    public static ExecutorService tryCreateExecutor(ExecutorInstrumentation instrumentation, String name, Monitor monitor) {
+        if (!isSupported()) {
+            monitor.warning("Virtual threads were enabled for '%s', but are not supported by this Java runtime (%s). Falling back to the default executor."
+                    .formatted(name, Runtime.version()));
+            return null;
+        }
+        return instrumentation.instrument(newVirtualThreadPerTaskExecutor(), name);
+    }
+
+    private static Method findFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -12,6 +12,7 @@
  *
  */
 
+
 package org.eclipse.edc.identityhub.store;
 
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
@@ -21,9 +22,14 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.eclipse.edc.spi.result.StoreResult.alreadyExists;
 import static org.eclipse.edc.spi.result.StoreResult.notFound;
@@ -31,12 +37,24 @@ import static org.eclipse.edc.spi.result.StoreResult.success;
 
 /**
  * Base class for in-mem entity stores, that implement basic CRUD operations.
+ * <p>
+ * The entities are held in an immutable snapshot. Readers work on the snapshot that is current when they start, without taking a
+ * lock, so they never block writers or each other. Writers are serialized: each write operation derives a new snapshot from the
+ * current one and publishes it atomically, so readers either see all changes of a write operation or none. Entities and indexes are
+ * held in {@link PersistentHashMap}s, which share all unmodified parts between snapshots, so a write costs time logarithmic in the
+ * number of entities per modified entity.
+ * <p>
+ * Subclasses can declare secondary indexes on frequently queried properties using {@link #addIndex(String, Function)}. Queries that
+ * contain an equality, {@code in} or {@code contains} criterion on an indexed property only evaluate the entities found in the index,
+ * instead of scanning the entire store.
+ * <p>
+ * Subclasses implement custom write operations with {@link #write(Function)}, and custom read operations on {@link #entities()}.
  */
 public abstract class InMemoryEntityStore<T> {
-    protected final Map<String, T> store = new HashMap<>();
-    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
     protected final QueryResolver<T> queryResolver;
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot<T> snapshot = new Snapshot<>(PersistentHashMap.empty(), Map.of());
 
     protected InMemoryEntityStore() {
         criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
@@ -45,13 +63,8 @@ public abstract class InMemoryEntityStore<T> {
 
 
     public StoreResult<T> findById(String id) {
-        lock.readLock().lock();
-        try {
-            var result = store.get(id);
-            return result == null ? notFound("An entity with ID '%s' does not exist.".formatted(id)) : success(result);
-        } finally {
-            lock.readLock().unlock();
-        }
+        var result = entities().get(id);
+        return result == null ? notFound("An entity with ID '%s' does not exist.".formatted(id)) : success(result);
     }
 
     /**
@@ -61,17 +74,34 @@ public abstract class InMemoryEntityStore<T> {
      * @return failure if an object with the same ID already exists.
      */
     public StoreResult<Void> create(T newObject) {
-        lock.writeLock().lock();
         var id = getId(newObject);
-        try {
-            if (store.containsKey(id)) {
+        return write(entities -> {
+            if (entities.contains(id)) {
                 return alreadyExists("An entity with ID %s already exists".formatted(id));
             }
-            store.put(id, newObject);
+            entities.put(id, newObject);
             return success(null);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        });
+    }
+
+    /**
+     * Creates several new entities, if none of them exists.
+     *
+     * @param newObjects the new objects to insert.
+     * @return failure if an object with the same ID already exists, in which case no object is inserted.
+     */
+    public StoreResult<Void> createAll(Collection<T> newObjects) {
+        return write(entities -> {
+            var ids = new HashSet<String>();
+            for (var newObject : newObjects) {
+                var id = getId(newObject);
+                if (entities.contains(id) || !ids.add(id)) {
+                    return alreadyExists("An entity with ID %s already exists".formatted(id));
+                }
+            }
+            newObjects.forEach(newObject -> entities.put(getId(newObject), newObject));
+            return success();
+        });
     }
 
     /**
@@ -81,14 +111,9 @@ public abstract class InMemoryEntityStore<T> {
      * @return A (potentially empty) Stream of objects. Callers must close the stream.
      */
     public StoreResult<Collection<T>> query(QuerySpec querySpec) {
-        lock.readLock().lock();
-        try {
-            // if no filter is present, we return true
-            var result = queryResolver.query(store.values().stream(), querySpec);
-            return success(result.toList());
-        } finally {
-            lock.readLock().unlock();
-        }
+        // if no filter is present, we return true
+        var result = queryResolver.query(snapshot.candidates(querySpec), querySpec);
+        return success(result.toList());
     }
 
     /**
@@ -98,17 +123,14 @@ public abstract class InMemoryEntityStore<T> {
      * @return failure if an object with the same ID was not found.
      */
     public StoreResult<Void> update(T newObject) {
-        lock.writeLock().lock();
-        try {
-            var id = getId(newObject);
-            if (!store.containsKey(id)) {
+        var id = getId(newObject);
+        return write(entities -> {
+            if (!entities.contains(id)) {
                 return notFound("An entity with ID '%s' does not exist.".formatted(id));
             }
-            store.put(id, newObject);
+            entities.put(id, newObject);
             return success();
-        } finally {
-            lock.writeLock().unlock();
-        }
+        });
     }
 
     /**
@@ -118,19 +140,170 @@ public abstract class InMemoryEntityStore<T> {
      * @return failure if an object with the given ID was not found.
      */
     public StoreResult<Void> deleteById(String id) {
-        lock.writeLock().lock();
-        try {
-            if (!store.containsKey(id)) {
+        return write(entities -> {
+            if (!entities.contains(id)) {
                 return notFound("An entity with ID '%s' does not exist.".formatted(id));
             }
-            store.remove(id);
+            entities.remove(id);
             return success();
+        });
+    }
+
+    /**
+     * Deletes all objects that match the given query. Limit and offset of the query are honored.
+     *
+     * @param querySpec A non-null QuerySpec.
+     * @return the number of deleted objects.
+     */
+    public StoreResult<Integer> deleteByQuery(QuerySpec querySpec) {
+        return write(entities -> {
+            // writers are serialized, so the current snapshot is the base of the working copy
+            var ids = queryResolver.query(snapshot.candidates(querySpec), querySpec).map(this::getId).toList();
+            ids.forEach(entities::remove);
+            return success(ids.size());
+        });
+    }
+
+    /**
+     * Declares a secondary index on a single-valued property, that serves {@code =} and {@code in} criteria. Should be invoked in the
+     * constructor of the subclass.
+     *
+     * @param property  the property path as used in the {@link org.eclipse.edc.spi.query.Criterion#getOperandLeft()}
+     * @param extractor extracts the property value from an entity
+     */
+    protected void addIndex(String property, Function<T, Object> extractor) {
+        addIndex(property, extractor, false);
+    }
+
+    /**
+     * Declares a secondary index on a collection-valued property, that serves {@code contains} criteria. Should be invoked in the
+     * constructor of the subclass.
+     *
+     * @param property  the property path as used in the {@link org.eclipse.edc.spi.query.Criterion#getOperandLeft()}
+     * @param extractor extracts the property values from an entity
+     */
+    protected void addCollectionIndex(String property, Function<T, Collection<?>> extractor) {
+        addIndex(property, extractor::apply, true);
+    }
+
+    /**
+     * Returns all entities of the current snapshot, keyed by ID. The map is immutable.
+     */
+    protected Map<String, T> entities() {
+        return snapshot.entities();
+    }
+
+    /**
+     * Executes a write operation on a working copy of the entities. If the operation succeeds, the working copy is published as the new
+     * snapshot, otherwise it is discarded. Write operations are serialized.
+     *
+     * @param operation the write operation
+     * @return the result of the operation
+     */
+    protected <R> StoreResult<R> write(Function<WorkingCopy, StoreResult<R>> operation) {
+        writeLock.lock();
+        try {
+            var current = snapshot;
+            var workingCopy = new WorkingCopy(current.entities());
+            var result = operation.apply(workingCopy);
+            if (result.succeeded() && workingCopy.isModified()) {
+                snapshot = current.next(workingCopy.entities, workingCopy.changes());
+            }
+            return result;
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
     protected abstract String getId(T newObject);
 
     protected abstract QueryResolver<T> createQueryResolver();
+
+    private void addIndex(String property, Function<T, Object> extractor, boolean multiValued) {
+        writeLock.lock();
+        try {
+            var current = snapshot;
+            var index = new SecondaryIndex<>(extractor, multiValued).with(current.entities());
+            var indexes = new HashMap<>(current.indexes());
+            indexes.put(property, index);
+            snapshot = new Snapshot<>(current.entities(), Collections.unmodifiableMap(indexes));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Mutable view of the entities, handed to a {@link #write(Function)} operation. Modifications derive new versions of the entity map
+     * and never affect the current snapshot. Note that entities that are modified in place must be {@link #put(String, Object) put}
+     * again, so that the indexes are updated.
+     */
+    protected final class WorkingCopy {
+        private final Map<String, T> changes = new HashMap<>();
+        private PersistentHashMap<String, T> entities;
+
+        private WorkingCopy(PersistentHashMap<String, T> entities) {
+            this.entities = entities;
+        }
+
+        public T get(String id) {
+            return entities.get(id);
+        }
+
+        public boolean contains(String id) {
+            return entities.containsKey(id);
+        }
+
+        public void put(String id, T entity) {
+            entities = entities.plus(id, entity);
+            changes.put(id, entity);
+        }
+
+        public void remove(String id) {
+            if (entities.containsKey(id)) {
+                entities = entities.minus(id);
+                changes.put(id, null);
+            }
+        }
+
+        private boolean isModified() {
+            return !changes.isEmpty();
+        }
+
+        private Map<String, T> changes() {
+            return changes;
+        }
+    }
+
+    /**
+     * An immutable version of the entities and their indexes.
+     */
+    private record Snapshot<T>(PersistentHashMap<String, T> entities, Map<String, SecondaryIndex<T>> indexes) {
+
+        Snapshot<T> next(PersistentHashMap<String, T> entities, Map<String, T> changes) {
+            var nextIndexes = new HashMap<String, SecondaryIndex<T>>();
+            indexes.forEach((property, index) -> nextIndexes.put(property, index.with(changes)));
+            return new Snapshot<>(entities, Collections.unmodifiableMap(nextIndexes));
+        }
+
+        /**
+         * Returns the entities that may match the query: the intersection of the index lookups of all indexed criteria, or all
+         * entities if none of the criteria is indexed.
+         */
+        Stream<T> candidates(QuerySpec querySpec) {
+            Set<String> ids = null;
+            for (var criterion : querySpec.getFilterExpression()) {
+                var index = indexes.get(String.valueOf(criterion.getOperandLeft()));
+                var matches = index != null ? index.lookup(criterion.getOperator(), criterion.getOperandRight()) : null;
+                if (matches == null) {
+                    continue;
+                }
+                if (ids == null) {
+                    ids = matches;
+                } else {
+                    ids.retainAll(matches);
+                }
+            }
+            return ids == null ? entities.values().stream() : ids.stream().map(entities::get);
+        }
+    }
 }
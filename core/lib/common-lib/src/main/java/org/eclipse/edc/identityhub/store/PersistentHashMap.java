@@ -0,0 +1,354 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable hash map, from which modified versions are derived with {@link #plus(Object, Object)} and {@link #minus(Object)}. The map is
+ * a hash array mapped trie: a modification copies only the nodes on the path to the modified entry, which takes time logarithmic in the
+ * size of the map, and shares all other nodes with its predecessor.
+ * <p>
+ * Null keys and values are not supported. The {@link java.util.Map} mutators throw an {@link UnsupportedOperationException}.
+ */
+final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map that contains all entries of this map and the given entry, which replaces an existing entry with the same key.
+     */
+    PersistentHashMap<K, V> plus(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        var hash = key.hashCode();
+        var leaf = new Leaf(hash, key, value);
+        if (root == null) {
+            return new PersistentHashMap<>(new Node(1 << index(hash, 0), new Object[]{ leaf }), 1);
+        }
+        var newSize = containsKey(key) ? size : size + 1;
+        var newRoot = root.plus(leaf, 0);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, newSize);
+    }
+
+    /**
+     * Returns a map that contains all entries of this map except the one with the given key.
+     */
+    PersistentHashMap<K, V> minus(Object key) {
+        if (root == null || key == null) {
+            return this;
+        }
+        var newRoot = root.minus(key.hashCode(), key, 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (root == null || key == null) {
+            return null;
+        }
+        var leaf = root.find(key.hashCode(), key, 0);
+        return leaf == null ? null : (V) leaf.getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int index(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    /**
+     * Combines two slots with different keys into a node at the given shift, or a collision if their hashes are equal. As the hashes of
+     * different slots differ in at least one of their 32 bits, the recursion ends at the last level.
+     */
+    private static Object merge(Object slot, int slotHash, Leaf leaf, int shift) {
+        if (slotHash == leaf.hash) {
+            var leaves = slot instanceof Collision collision ? collision.leaves : new Leaf[]{ (Leaf) slot };
+            var merged = Arrays.copyOf(leaves, leaves.length + 1);
+            merged[leaves.length] = leaf;
+            return new Collision(slotHash, merged);
+        }
+        var slotIndex = index(slotHash, shift);
+        var leafIndex = index(leaf.hash, shift);
+        if (slotIndex == leafIndex) {
+            return new Node(1 << slotIndex, new Object[]{ merge(slot, slotHash, leaf, shift + BITS) });
+        }
+        var slots = slotIndex < leafIndex ? new Object[]{ slot, leaf } : new Object[]{ leaf, slot };
+        return new Node((1 << slotIndex) | (1 << leafIndex), slots);
+    }
+
+    private static int hashOf(Object slot) {
+        return slot instanceof Leaf leaf ? leaf.hash : ((Collision) slot).hash;
+    }
+
+    /**
+     * An entry of the map.
+     */
+    private static final class Leaf extends SimpleImmutableEntry<Object, Object> {
+        private final int hash;
+
+        private Leaf(int hash, Object key, Object value) {
+            super(key, value);
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Entries whose keys have the same hash.
+     */
+    private record Collision(int hash, Leaf[] leaves) {
+
+        Object plus(Leaf leaf) {
+            for (var i = 0; i < leaves.length; i++) {
+                if (leaves[i].getKey().equals(leaf.getKey())) {
+                    if (leaves[i].getValue() == leaf.getValue()) {
+                        return this;
+                    }
+                    var newLeaves = leaves.clone();
+                    newLeaves[i] = leaf;
+                    return new Collision(hash, newLeaves);
+                }
+            }
+            var newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+            newLeaves[leaves.length] = leaf;
+            return new Collision(hash, newLeaves);
+        }
+
+        /**
+         * Returns this collision without the given key, or the remaining leaf if only one is left.
+         */
+        Object minus(Object key) {
+            for (var i = 0; i < leaves.length; i++) {
+                if (leaves[i].getKey().equals(key)) {
+                    if (leaves.length == 2) {
+                        return leaves[1 - i];
+                    }
+                    var newLeaves = new Leaf[leaves.length - 1];
+                    System.arraycopy(leaves, 0, newLeaves, 0, i);
+                    System.arraycopy(leaves, i + 1, newLeaves, i, leaves.length - i - 1);
+                    return new Collision(hash, newLeaves);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * An inner node of the trie. Each bit of the bitmap denotes an occupied slot, which is either a {@link Leaf}, a {@link Collision} or
+     * a {@link Node} for the next {@link #BITS} bits of the hash.
+     */
+    private record Node(int bitmap, Object[] slots) {
+
+        Leaf find(int hash, Object key, int shift) {
+            var bit = 1 << index(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            var slot = slots[position(bit)];
+            if (slot instanceof Node node) {
+                return node.find(hash, key, shift + BITS);
+            }
+            if (slot instanceof Collision collision) {
+                if (collision.hash == hash) {
+                    for (var leaf : collision.leaves) {
+                        if (leaf.getKey().equals(key)) {
+                            return leaf;
+                        }
+                    }
+                }
+                return null;
+            }
+            var leaf = (Leaf) slot;
+            return leaf.hash == hash && leaf.getKey().equals(key) ? leaf : null;
+        }
+
+        Node plus(Leaf leaf, int shift) {
+            var bit = 1 << index(leaf.hash, shift);
+            var position = position(bit);
+            if ((bitmap & bit) == 0) {
+                var newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, position);
+                newSlots[position] = leaf;
+                System.arraycopy(slots, position, newSlots, position + 1, slots.length - position);
+                return new Node(bitmap | bit, newSlots);
+            }
+            var slot = slots[position];
+            Object newSlot;
+            if (slot instanceof Node node) {
+                newSlot = node.plus(leaf, shift + BITS);
+            } else if (slot instanceof Collision collision && collision.hash == leaf.hash) {
+                newSlot = collision.plus(leaf);
+            } else if (slot instanceof Leaf existing && existing.hash == leaf.hash && existing.getKey().equals(leaf.getKey())) {
+                newSlot = existing.getValue() == leaf.getValue() ? existing : leaf;
+            } else {
+                newSlot = merge(slot, hashOf(slot), leaf, shift + BITS);
+            }
+            return newSlot == slot ? this : withSlot(position, newSlot);
+        }
+
+        /**
+         * Returns this node without the given key, or null if the node is empty afterward.
+         */
+        Node minus(int hash, Object key, int shift) {
+            var bit = 1 << index(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            var position = position(bit);
+            var slot = slots[position];
+            Object newSlot;
+            if (slot instanceof Node node) {
+                var newNode = node.minus(hash, key, shift + BITS);
+                // a node with a single entry is replaced by the entry itself, so that the trie does not degenerate
+                newSlot = newNode != null && newNode.slots.length == 1 && !(newNode.slots[0] instanceof Node) ? newNode.slots[0] : newNode;
+            } else if (slot instanceof Collision collision) {
+                newSlot = collision.hash == hash ? collision.minus(key) : collision;
+            } else {
+                var leaf = (Leaf) slot;
+                newSlot = leaf.hash == hash && leaf.getKey().equals(key) ? null : leaf;
+            }
+            if (newSlot == slot) {
+                return this;
+            }
+            if (newSlot != null) {
+                return withSlot(position, newSlot);
+            }
+            if (slots.length == 1) {
+                return null;
+            }
+            var newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, position);
+            System.arraycopy(slots, position + 1, newSlots, position, slots.length - position - 1);
+            return new Node(bitmap & ~bit, newSlots);
+        }
+
+        private Node withSlot(int position, Object slot) {
+            var newSlots = slots.clone();
+            newSlots[position] = slot;
+            return new Node(bitmap, newSlots);
+        }
+
+        private int position(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    /**
+     * Iterates the entries of the trie depth-first.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        // the trie has at most seven levels of nodes, plus the level of the collisions
+        private final Object[][] path = new Object[8][];
+        private final int[] positions = new int[8];
+        private int depth = -1;
+        private Leaf next;
+
+        private EntryIterator(Node root) {
+            if (root != null) {
+                push(root.slots);
+                advance();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            var current = next;
+            advance();
+            return (Entry<K, V>) (Entry<?, ?>) current;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                var slots = path[depth];
+                if (positions[depth] == slots.length) {
+                    depth--;
+                    continue;
+                }
+                var slot = slots[positions[depth]++];
+                if (slot instanceof Node node) {
+                    push(node.slots);
+                } else if (slot instanceof Collision collision) {
+                    push(collision.leaves);
+                } else {
+                    next = (Leaf) slot;
+                    return;
+                }
+            }
+        }
+
+        private void push(Object[] slots) {
+            depth++;
+            path[depth] = slots;
+            positions[depth] = 0;
+        }
+    }
+}
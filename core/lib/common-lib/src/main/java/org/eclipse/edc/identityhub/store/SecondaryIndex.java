@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.lang.Boolean.TRUE;
+import static java.util.Collections.emptySet;
+
+/**
+ * Maps the values of one property to the IDs of the entities that have that value. Values are normalized to strings, so that a
+ * lookup may return more entities than an exact comparison would, but never fewer. The {@link InMemoryEntityStore} therefore uses
+ * the index only to narrow down the candidates, the query itself is still evaluated against each candidate.
+ * <p>
+ * Indexes are immutable, every modification creates a new version that shares all unmodified parts with its predecessor. As the
+ * index is built from {@link PersistentHashMap}s, a modification takes time logarithmic in the number of indexed entities.
+ */
+final class SecondaryIndex<T> {
+    private static final String EQUAL = "=";
+    private static final String IN = "in";
+    private static final String CONTAINS = "contains";
+
+    private final Function<T, Object> extractor;
+    private final boolean multiValued;
+    private final PersistentHashMap<String, PersistentHashMap<String, Boolean>> idsByValue;
+    private final PersistentHashMap<String, Set<String>> valuesById;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param extractor   extracts the indexed value from an entity
+     * @param multiValued whether the extracted value is a collection, in which case the index serves {@code contains} criteria,
+     *                    otherwise it serves {@code =} and {@code in} criteria.
+     */
+    SecondaryIndex(Function<T, Object> extractor, boolean multiValued) {
+        this(extractor, multiValued, PersistentHashMap.empty(), PersistentHashMap.empty());
+    }
+
+    private SecondaryIndex(Function<T, Object> extractor, boolean multiValued, PersistentHashMap<String, PersistentHashMap<String, Boolean>> idsByValue,
+                           PersistentHashMap<String, Set<String>> valuesById) {
+        this.extractor = extractor;
+        this.multiValued = multiValued;
+        this.idsByValue = idsByValue;
+        this.valuesById = valuesById;
+    }
+
+    /**
+     * Returns a new version of this index, in which the given entities are (re-)indexed.
+     *
+     * @param changes the changed entities, keyed by ID. A null value denotes a removed entity.
+     */
+    SecondaryIndex<T> with(Map<String, T> changes) {
+        var nextIdsByValue = idsByValue;
+        var nextValuesById = valuesById;
+
+        for (var change : changes.entrySet()) {
+            var id = change.getKey();
+            var oldValues = nextValuesById.getOrDefault(id, emptySet());
+            var newValues = change.getValue() != null ? valuesOf(extractor.apply(change.getValue())) : Set.<String>of();
+            // only the buckets of values that were added or removed are modified
+            for (var value : oldValues) {
+                if (!newValues.contains(value)) {
+                    nextIdsByValue = minusId(nextIdsByValue, value, id);
+                }
+            }
+            for (var value : newValues) {
+                if (!oldValues.contains(value)) {
+                    nextIdsByValue = plusId(nextIdsByValue, value, id);
+                }
+            }
+            nextValuesById = newValues.isEmpty() ? nextValuesById.minus(id) : nextValuesById.plus(id, newValues);
+        }
+        return new SecondaryIndex<>(extractor, multiValued, nextIdsByValue, nextValuesById);
+    }
+
+    /**
+     * Returns the IDs of all entities that may satisfy a criterion with the given operator and right operand, or null if this index
+     * cannot serve the criterion.
+     */
+    Set<String> lookup(String operator, Object operandRight) {
+        var operands = operands(operator.toLowerCase(), operandRight);
+        if (operands == null) {
+            return null;
+        }
+        var ids = new HashSet<String>();
+        operands.forEach(operand -> ids.addAll(idsByValue.getOrDefault(normalize(operand), PersistentHashMap.empty()).keySet()));
+        return ids;
+    }
+
+    private Collection<?> operands(String operator, Object operandRight) {
+        if (multiValued) {
+            return CONTAINS.equals(operator) && !isCollection(operandRight) ? List.of(operandRight) : null;
+        }
+        if (EQUAL.equals(operator) && !isCollection(operandRight)) {
+            return List.of(operandRight);
+        }
+        if (IN.equals(operator)) {
+            if (operandRight instanceof Collection<?> collection) {
+                return collection;
+            }
+            if (operandRight instanceof Object[] array) {
+                return Arrays.asList(array);
+            }
+        }
+        return null;
+    }
+
+    private static PersistentHashMap<String, PersistentHashMap<String, Boolean>> plusId(PersistentHashMap<String, PersistentHashMap<String, Boolean>> idsByValue,
+                                                                                        String value, String id) {
+        return idsByValue.plus(value, idsByValue.getOrDefault(value, PersistentHashMap.empty()).plus(id, TRUE));
+    }
+
+    private static PersistentHashMap<String, PersistentHashMap<String, Boolean>> minusId(PersistentHashMap<String, PersistentHashMap<String, Boolean>> idsByValue,
+                                                                                         String value, String id) {
+        var ids = idsByValue.get(value);
+        if (ids == null) {
+            return idsByValue;
+        }
+        var remaining = ids.minus(id);
+        return remaining.isEmpty() ? idsByValue.minus(value) : idsByValue.plus(value, remaining);
+    }
+
+    private Set<String> valuesOf(Object value) {
+        var values = new HashSet<String>();
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> addNormalized(values, element));
+        } else {
+            addNormalized(values, value);
+        }
+        return values;
+    }
+
+    private void addNormalized(Set<String> values, Object value) {
+        if (value instanceof Enum<?> enumValue) {
+            // criteria may reference enums by their name or by their string representation
+            values.add(enumValue.name());
+        }
+        values.add(normalize(value));
+    }
+
+    private static String normalize(Object value) {
+        if (value instanceof Number number) {
+            try {
+                return new BigDecimal(number.toString()).stripTrailingZeros().toPlainString();
+            } catch (NumberFormatException e) {
+                return number.toString();
+            }
+        }
+        return String.valueOf(value);
+    }
+
+    private static boolean isCollection(Object value) {
+        return value instanceof Collection<?> || value instanceof Object[];
+    }
+}
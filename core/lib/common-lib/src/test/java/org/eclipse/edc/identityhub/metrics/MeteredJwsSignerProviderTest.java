@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
+import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_SUCCESS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.SIGNING_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_ALGORITHM;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredJwsSignerProviderTest {
+
+    private final JwsSignerProvider delegate = mock();
+    private final InMemoryMetricRecorder metrics = new InMemoryMetricRecorder();
+    private final MeteredJwsSignerProvider provider = new MeteredJwsSignerProvider(delegate, metrics);
+
+    @Test
+    void sign_recordsDuration() throws JOSEException {
+        var key = new ECKeyGenerator(Curve.P_256).generate();
+        when(delegate.createJwsSigner(any(), any())).thenReturn(Result.success(new ECDSASigner(key)));
+
+        var signer = provider.createJwsSigner("participant", "key-id");
+        assertThat(signer).isSucceeded();
+        signer.getContent().sign(new JWSHeader(JWSAlgorithm.ES256), "payload".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(metrics.durations(SIGNING_DURATION, TAG_ALGORITHM, "ES256", TAG_OUTCOME, OUTCOME_SUCCESS)).hasSize(1);
+    }
+
+    @Test
+    void createJwsSigner_whenFails_recordsNothing() {
+        when(delegate.createJwsSigner(any())).thenReturn(Result.failure("no key"));
+
+        assertThat(provider.createJwsSigner("key-id")).isFailed();
+
+        assertThat(metrics.timerCount(SIGNING_DURATION)).isZero();
+    }
+}
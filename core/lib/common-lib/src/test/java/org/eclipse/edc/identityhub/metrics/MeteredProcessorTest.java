@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics;
+
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
+import org.eclipse.edc.statemachine.Processor;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.STATE_MACHINE_BATCH_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.STATE_MACHINE_PROCESSED_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_MANAGER;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_STATE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredProcessorTest {
+
+    private final Processor delegate = mock();
+    private final InMemoryMetricRecorder metrics = new InMemoryMetricRecorder();
+    private final MeteredProcessor processor = new MeteredProcessor(delegate, metrics, "test-manager", "APPROVED");
+
+    @Test
+    void process_recordsBatch() {
+        when(delegate.process()).thenReturn(3L);
+
+        assertThat(processor.process()).isEqualTo(3L);
+
+        assertThat(metrics.count(STATE_MACHINE_PROCESSED_COUNT, TAG_MANAGER, "test-manager", TAG_STATE, "APPROVED")).isEqualTo(3);
+        assertThat(metrics.durations(STATE_MACHINE_BATCH_DURATION, TAG_MANAGER, "test-manager", TAG_STATE, "APPROVED")).hasSize(1);
+    }
+
+    @Test
+    void process_emptyBatch_recordsNothing() {
+        when(delegate.process()).thenReturn(0L);
+
+        assertThat(processor.process()).isZero();
+
+        assertThat(metrics.timerCount(STATE_MACHINE_BATCH_DURATION)).isZero();
+        assertThat(metrics.count(STATE_MACHINE_PROCESSED_COUNT, TAG_MANAGER, "test-manager", TAG_STATE, "APPROVED")).isZero();
+    }
+}
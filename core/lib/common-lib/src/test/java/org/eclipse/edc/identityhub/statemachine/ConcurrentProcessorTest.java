@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.statemachine;
+
+import org.eclipse.edc.statemachine.Processor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrentProcessorTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void process_sumsResults() {
+        Processor first = mock();
+        Processor second = mock();
+        Processor third = mock();
+        when(first.process()).thenReturn(2L);
+        when(second.process()).thenReturn(3L);
+        when(third.process()).thenReturn(null);
+
+        var processor = new ConcurrentProcessor(List.of(first, second, third), executor);
+
+        assertThat(processor.process()).isEqualTo(5L);
+        verify(first).process();
+        verify(second).process();
+        verify(third).process();
+    }
+
+    @Test
+    void process_runsProcessorsConcurrently() {
+        var latch = new CountDownLatch(3);
+        Processor blocking = () -> {
+            latch.countDown();
+            try {
+                // only returns if all processors are running at the same time
+                return latch.await(5, TimeUnit.SECONDS) ? 1L : 0L;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0L;
+            }
+        };
+
+        var processor = ConcurrentProcessor.concurrently(() -> blocking, 3, executor);
+
+        assertThat(processor).isInstanceOf(ConcurrentProcessor.class);
+        assertThat(processor.process()).isEqualTo(3L);
+    }
+
+    @Test
+    void concurrently_noExecutor_returnsSingleProcessor() {
+        Processor delegate = mock();
+
+        assertThat(ConcurrentProcessor.concurrently(() -> delegate, 4, null)).isSameAs(delegate);
+    }
+
+    @Test
+    void concurrently_concurrencyOne_returnsSingleProcessor() {
+        Processor delegate = mock();
+
+        assertThat(ConcurrentProcessor.concurrently(() -> delegate, 1, executor)).isSameAs(delegate);
+    }
+}
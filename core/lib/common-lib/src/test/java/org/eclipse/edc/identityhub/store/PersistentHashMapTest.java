@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PersistentHashMapTest {
+
+    @Test
+    void plus_shouldNotModifyPreviousVersion() {
+        var empty = PersistentHashMap.<String, String>empty();
+        var first = empty.plus("key", "value1");
+        var second = first.plus("key", "value2");
+
+        assertThat(empty).isEmpty();
+        assertThat(first).containsExactly(Map.entry("key", "value1"));
+        assertThat(second).containsExactly(Map.entry("key", "value2"));
+    }
+
+    @Test
+    void minus_shouldNotModifyPreviousVersion() {
+        var map = PersistentHashMap.<String, String>empty().plus("key1", "value1").plus("key2", "value2");
+
+        var removed = map.minus("key1");
+
+        assertThat(map).hasSize(2).containsKeys("key1", "key2");
+        assertThat(removed).hasSize(1).containsOnlyKeys("key2");
+        assertThat(removed.minus("unknown")).isSameAs(removed);
+    }
+
+    @Test
+    void plus_whenHashesCollide() {
+        var key1 = new CollidingKey("key1");
+        var key2 = new CollidingKey("key2");
+
+        var map = PersistentHashMap.<CollidingKey, String>empty().plus(key1, "value1").plus(key2, "value2");
+
+        assertThat(map).hasSize(2).containsEntry(key1, "value1").containsEntry(key2, "value2");
+        assertThat(map.minus(key1)).hasSize(1).containsEntry(key2, "value2");
+        assertThat(map.minus(key1).minus(key2)).isEmpty();
+    }
+
+    @Test
+    void plus_whenNull_shouldThrow() {
+        var map = PersistentHashMap.<String, String>empty();
+
+        assertThatThrownBy(() -> map.plus(null, "value")).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> map.plus("key", null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void put_shouldThrow() {
+        var map = PersistentHashMap.<String, String>empty().plus("key", "value");
+
+        assertThatThrownBy(() -> map.put("key", "other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.remove("key")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void randomModifications_shouldMatchHashMap() {
+        var random = new Random(42);
+        var expected = new HashMap<Object, Integer>();
+        var map = PersistentHashMap.<Object, Integer>empty();
+
+        for (var i = 0; i < 20_000; i++) {
+            // every fourth key has a colliding hash, to exercise collisions on all levels of the trie
+            Object key = i % 4 == 0 ? new CollidingKey("key" + random.nextInt(500)) : "key" + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                var value = random.nextInt(10);
+                expected.put(key, value);
+                map = map.plus(key, value);
+            }
+        }
+
+        assertThat(map).hasSize(expected.size()).isEqualTo(expected);
+    }
+
+    private record CollidingKey(String name) {
+        @Override
+        public int hashCode() {
+            return 0x40000001;
+        }
+    }
+}
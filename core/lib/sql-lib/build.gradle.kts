@@ -0,0 +1,9 @@
+plugins {
+    `java-library`
+}
+
+dependencies {
+    implementation(libs.edc.spi.core)
+    implementation(libs.edc.sql.bootstrapper) // ResultSetMapper
+    testImplementation(libs.edc.junit)
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.sql;
+
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.ResultSetMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+
+/**
+ * Runs a query whose result is read lazily with a database cursor, for store operations that return a {@link Stream}.
+ * <p>
+ * Drivers like the PostgreSQL driver only read a result in chunks of the fetch size if auto-commit is off, otherwise they load the whole
+ * result when the statement is executed. The query therefore runs in a transaction of its own, on a connection of its own, that lasts
+ * until the stream is closed.
+ * <p>
+ * The stream owns its connection: it obtains the connection from the datasource, and closes it when the stream is closed. It must
+ * therefore not be started within a {@code TransactionContext}, which may hand out the connection of its current transaction, and would
+ * end that transaction before the stream is consumed. Should the connection nevertheless have auto-commit switched off, the transaction
+ * it belongs to is left untouched, i.e. neither committed nor rolled back.
+ */
+public final class CursorQuery {
+    /**
+     * The number of rows that are read from the database at once.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    private CursorQuery() {
+    }
+
+    /**
+     * Executes the query on a new connection, and returns its result as a lazily populated stream. The connection is released when the
+     * stream is closed, or immediately if the query fails.
+     *
+     * @param dataSource the datasource to obtain the connection from
+     * @param fetchSize  the number of rows that are read from the database at once
+     * @param mapper     maps a row to an object
+     * @param sql        the query
+     * @param arguments  the arguments of the query
+     * @return the stream of mapped rows, which <em>must</em> be closed by the caller
+     * @throws EdcPersistenceException if the query could not be executed
+     */
+    public static <T> Stream<T> stream(DataSource dataSource, int fetchSize, ResultSetMapper<T> mapper, String sql, Object... arguments) {
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new EdcPersistenceException(e);
+        }
+        var cursor = new Cursor<>(connection, mapper);
+        try {
+            cursor.open(fetchSize, sql, arguments);
+        } catch (SQLException e) {
+            cursor.close();
+            throw new EdcPersistenceException(e);
+        }
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Connection connection;
+        private final ResultSetMapper<T> mapper;
+        private boolean ownTransaction;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+
+        Cursor(Connection connection, ResultSetMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.connection = connection;
+            this.mapper = mapper;
+        }
+
+        void open(int fetchSize, String sql, Object... arguments) throws SQLException {
+            ownTransaction = connection.getAutoCommit();
+            if (ownTransaction) {
+                connection.setAutoCommit(false);
+            }
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (var i = 0; i < arguments.length; i++) {
+                statement.setObject(i + 1, arguments[i]);
+            }
+            resultSet = statement.executeQuery();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                action.accept(mapper.mapResultSet(resultSet));
+                return true;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e);
+            }
+        }
+
+        void close() {
+            try (connection) {
+                try (var ignoredStatement = statement; var ignoredResultSet = resultSet) {
+                    // closes the cursor before the transaction ends
+                }
+                if (ownTransaction) {
+                    // nothing was written, ending the transaction only releases the cursor and the snapshot it read from
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        }
+    }
+}
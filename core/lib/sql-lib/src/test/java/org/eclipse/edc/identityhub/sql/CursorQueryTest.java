@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.sql;
+
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CursorQueryTest {
+
+    private final DataSource dataSource = mock();
+    private final Connection connection = mock();
+    private final PreparedStatement statement = mock();
+    private final ResultSet resultSet = mock();
+
+    @BeforeEach
+    void setup() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString("id")).thenReturn("id1", "id2");
+    }
+
+    @Test
+    void stream_shouldReadWithCursorInOwnTransaction() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        try (var stream = CursorQuery.stream(dataSource, 10, rs -> rs.getString("id"), "SELECT * FROM foo WHERE bar = ?", "baz")) {
+            assertThat(stream).containsExactly("id1", "id2");
+            verify(connection, never()).close();
+        }
+
+        InOrder inOrder = inOrder(connection, statement, resultSet);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).setFetchSize(10);
+        inOrder.verify(statement).setObject(1, "baz");
+        inOrder.verify(resultSet).close();
+        inOrder.verify(statement).close();
+        inOrder.verify(connection).rollback();
+        inOrder.verify(connection).setAutoCommit(true);
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    void stream_withinTransactionOfCaller_shouldNotEndTransaction() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        try (var stream = CursorQuery.stream(dataSource, 10, rs -> rs.getString("id"), "SELECT * FROM foo")) {
+            assertThat(stream).containsExactly("id1", "id2");
+        }
+
+        verify(connection, never()).setAutoCommit(false);
+        verify(connection, never()).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    void stream_whenNoConnection_shouldThrow() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("test"));
+
+        assertThatThrownBy(() -> CursorQuery.stream(dataSource, 10, rs -> rs.getString("id"), "SELECT * FROM foo"))
+                .isInstanceOf(EdcPersistenceException.class);
+    }
+
+    @Test
+    void stream_whenQueryFails_shouldReleaseConnection() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(statement.executeQuery()).thenThrow(new SQLException("test"));
+
+        assertThatThrownBy(() -> CursorQuery.stream(dataSource, 10, rs -> rs.getString("id"), "SELECT * FROM foo"))
+                .isInstanceOf(EdcPersistenceException.class);
+
+        verify(statement).close();
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+}
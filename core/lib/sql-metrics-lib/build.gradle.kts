@@ -0,0 +1,11 @@
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":spi:metrics-spi"))
+    implementation(libs.edc.spi.core)
+    implementation(libs.edc.sql.bootstrapper) // QueryExecutor
+    testImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":spi:metrics-spi")))
+}
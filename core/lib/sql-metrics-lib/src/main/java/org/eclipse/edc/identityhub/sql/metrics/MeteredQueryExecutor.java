@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.sql.metrics;
+
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.ResultSetMapper;
+
+import java.sql.Connection;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.SQL_QUERY_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OPERATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_STORE;
+
+/**
+ * Decorates a {@link QueryExecutor}, so that the duration of every statement is recorded as
+ * {@link org.eclipse.edc.identityhub.spi.metrics.MetricNames#SQL_QUERY_DURATION}, tagged with the name of the store and the kind of
+ * statement ({@code execute}, {@code query} or {@code single}).
+ * <p>
+ * For {@link #query(Connection, boolean, ResultSetMapper, String, Object...)} only the execution of the statement is measured, not
+ * the consumption of the returned (lazy) stream.
+ */
+public class MeteredQueryExecutor implements QueryExecutor {
+    private final QueryExecutor delegate;
+    private final MetricRecorder metrics;
+    private final String store;
+
+    public MeteredQueryExecutor(QueryExecutor delegate, MetricRecorder metrics, String store) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.store = store;
+    }
+
+    @Override
+    public int execute(Connection connection, String sql, Object... arguments) {
+        return metrics.time(SQL_QUERY_DURATION, () -> delegate.execute(connection, sql, arguments), TAG_STORE, store, TAG_OPERATION, "execute");
+    }
+
+    @Override
+    public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        return metrics.time(SQL_QUERY_DURATION, () -> delegate.single(connection, closeConnection, resultSetMapper, sql, arguments), TAG_STORE, store, TAG_OPERATION, "single");
+    }
+
+    @Override
+    public <T> Stream<T> query(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        return metrics.time(SQL_QUERY_DURATION, () -> delegate.query(connection, closeConnection, resultSetMapper, sql, arguments), TAG_STORE, store, TAG_OPERATION, "query");
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.sql.metrics;
+
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.SQL_QUERY_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OPERATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_STORE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredQueryExecutorTest {
+
+    private final QueryExecutor delegate = mock();
+    private final InMemoryMetricRecorder metrics = new InMemoryMetricRecorder();
+    private final MeteredQueryExecutor executor = new MeteredQueryExecutor(delegate, metrics, "test-store");
+    private final Connection connection = mock();
+
+    @Test
+    void execute_recordsDuration() {
+        when(delegate.execute(any(), anyString(), any(Object[].class))).thenReturn(1);
+
+        assertThat(executor.execute(connection, "UPDATE foo SET bar = ?", "baz")).isEqualTo(1);
+
+        assertThat(metrics.durations(SQL_QUERY_DURATION, TAG_STORE, "test-store", TAG_OPERATION, "execute")).hasSize(1);
+    }
+
+    @Test
+    void query_recordsDuration() {
+        when(delegate.query(any(), anyBoolean(), any(), anyString(), any(Object[].class))).thenReturn(Stream.of("foo"));
+
+        assertThat(executor.query(connection, true, rs -> "foo", "SELECT * FROM foo")).containsExactly("foo");
+
+        assertThat(metrics.durations(SQL_QUERY_DURATION, TAG_STORE, "test-store", TAG_OPERATION, "query")).hasSize(1);
+    }
+
+    @Test
+    void single_whenFails_recordsDuration() {
+        when(delegate.single(any(), anyBoolean(), any(), anyString(), any(Object[].class))).thenThrow(new EdcPersistenceException("test"));
+
+        assertThatThrownBy(() -> executor.single(connection, false, rs -> "foo", "SELECT * FROM foo"))
+                .isInstanceOf(EdcPersistenceException.class);
+
+        assertThat(metrics.durations(SQL_QUERY_DURATION, TAG_STORE, "test-store", TAG_OPERATION, "single")).hasSize(1);
+    }
+}
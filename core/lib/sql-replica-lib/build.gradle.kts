@@ -0,0 +1,10 @@
+plugins {
+    `java-library`
+}
+
+dependencies {
+    implementation(project(":spi:identity-hub-spi"))
+    implementation(libs.edc.spi.core)
+    implementation(libs.edc.sql.bootstrapper) // DataSourceRegistry
+    testImplementation(libs.edc.junit)
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.sql.replica;
+
+import org.eclipse.edc.identityhub.spi.store.ReplicaReads;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import javax.sql.DataSource;
+
+/**
+ * Decides which datasource a read-only store operation ({@code query}, {@code findById}) runs against.
+ * <p>
+ * Reads use the primary datasource, unless a replica datasource is configured and the caller explicitly allowed reading from it with
+ * {@link ReplicaReads#allow}. Reads from the replica may lag behind the primary, so callers opt in only where that is acceptable. Writes
+ * and lease operations always use the primary datasource.
+ */
+public class ReadReplicaRouter {
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String primaryDataSourceName;
+    private final String replicaDataSourceName;
+
+    /**
+     * Creates a router.
+     *
+     * @param primaryDataSourceName the datasource that is used for writes, and for reads by default
+     * @param replicaDataSourceName the datasource that is used for reads that allow it, {@code null} to always read from the primary
+     */
+    public ReadReplicaRouter(DataSourceRegistry dataSourceRegistry, String primaryDataSourceName, @Nullable String replicaDataSourceName) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.primaryDataSourceName = primaryDataSourceName;
+        this.replicaDataSourceName = replicaDataSourceName;
+    }
+
+    /**
+     * The datasource that a read-only operation that is about to start should use.
+     */
+    public DataSource readDataSource() {
+        return resolve(readDataSourceName());
+    }
+
+    /**
+     * The name of the datasource that a read-only operation that is about to start should use.
+     */
+    public String readDataSourceName() {
+        if (replicaDataSourceName == null || replicaDataSourceName.equals(primaryDataSourceName) || !ReplicaReads.isAllowed()) {
+            return primaryDataSourceName;
+        }
+        return replicaDataSourceName;
+    }
+
+    private DataSource resolve(String dataSourceName) {
+        return Objects.requireNonNull(dataSourceRegistry.resolve(dataSourceName), "DataSource %s could not be resolved".formatted(dataSourceName));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.sql.replica;
+
+import org.eclipse.edc.identityhub.spi.store.ReplicaReads;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRouterTest {
+
+    private final DataSourceRegistry dataSourceRegistry = mock();
+    private final DataSource primary = mock();
+    private final DataSource replica = mock();
+
+    @BeforeEach
+    void setup() {
+        when(dataSourceRegistry.resolve("primary")).thenReturn(primary);
+        when(dataSourceRegistry.resolve("replica")).thenReturn(replica);
+    }
+
+    @Test
+    void readDataSource_replicaReadsAllowed_shouldUseReplica() {
+        var router = new ReadReplicaRouter(dataSourceRegistry, "primary", "replica");
+
+        assertThat(ReplicaReads.allow(router::readDataSource)).isSameAs(replica);
+        assertThat(ReplicaReads.allow(router::readDataSourceName)).isEqualTo("replica");
+    }
+
+    @Test
+    void readDataSource_byDefault_shouldUsePrimary() {
+        var router = new ReadReplicaRouter(dataSourceRegistry, "primary", "replica");
+
+        assertThat(router.readDataSource()).isSameAs(primary);
+    }
+
+    @Test
+    void readDataSource_afterReplicaReads_shouldUsePrimary() {
+        var router = new ReadReplicaRouter(dataSourceRegistry, "primary", "replica");
+
+        ReplicaReads.allow(() -> ReplicaReads.allow(router::readDataSource));
+
+        assertThat(ReplicaReads.isAllowed()).isFalse();
+        assertThat(router.readDataSource()).isSameAs(primary);
+    }
+
+    @Test
+    void readDataSource_noReplica_shouldUsePrimary() {
+        var router = new ReadReplicaRouter(dataSourceRegistry, "primary", null);
+
+        assertThat(ReplicaReads.allow(router::readDataSource)).isSameAs(primary);
+    }
+
+    @Test
+    void readDataSource_replicaNotRegistered_shouldThrow() {
+        var router = new ReadReplicaRouter(dataSourceRegistry, "primary", "unknown");
+
+        assertThatThrownBy(() -> ReplicaReads.allow(router::readDataSource)).isInstanceOf(NullPointerException.class).hasMessageContaining("unknown");
+    }
+}
@@ -31,6 +31,8 @@ dependencies {
     implementation(project(":protocols:dcp:dcp-identityhub:dcp-identityhub-core"))
 
     implementation(project(":extensions:common:credential-watchdog"))
+    implementation(project(":extensions:common:metrics-micrometer"))
+    implementation(project(":extensions:common:keypair-rotation-scheduler"))
     implementation(project(":extensions:sts:sts-account-provisioner"))
     implementation(project(":extensions:api:identity-api:did-api"))
     implementation(project(":extensions:api:identity-api:participant-context-api"))
@@ -37,6 +37,7 @@ dependencies {
     implementation(project(":extensions:issuance:issuerservice-holder-attestations"))
 
     implementation(project(":extensions:sts:sts-account-provisioner"))
+    implementation(project(":extensions:common:metrics-micrometer"))
 
     runtimeOnly(libs.edc.identity.did.core)
     runtimeOnly(libs.edc.core.token)
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    testImplementation(project(":spi:issuerservice:issuerservice-holder-spi"))
+    testImplementation(project(":spi:issuerservice:issuerservice-credential-spi"))
+    testImplementation(project(":spi:issuerservice:issuerservice-issuance-spi"))
+
+    testImplementation(libs.edc.junit)
+    testImplementation(libs.restAssured)
+    testImplementation(libs.awaitility)
+    testImplementation(libs.nimbus.jwt)
+    testImplementation(libs.jackson.databind)
+    testImplementation(testFixtures(project(":e2e-tests:identityhub-test-fixtures")))
+    testImplementation(testFixtures(project(":spi:verifiable-credential-spi")))
+
+    testCompileOnly(project(":dist:bom:identityhub-bom"))
+    testCompileOnly(project(":dist:bom:issuerservice-bom"))
+}
+
+tasks.test {
+    // forward the load profile, e.g. -Dloadtest.concurrency=16, see README.md
+    System.getProperties()
+        .filterKeys { it.toString().startsWith("loadtest.") }
+        .forEach { (key, value) -> systemProperty(key.toString(), value) }
+    systemProperty("loadtest.report.dir", layout.buildDirectory.dir("reports/load-tests").get().asFile.absolutePath)
+}
+
+edcBuild {
+    publish.set(false)
+}
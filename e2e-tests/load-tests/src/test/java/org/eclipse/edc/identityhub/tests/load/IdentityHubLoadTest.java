@@ -0,0 +1,387 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.tests.load;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import io.restassured.http.Header;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.document.VerificationMethod;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.identityhub.spi.credential.request.model.HolderRequestState;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
+import org.eclipse.edc.identityhub.tests.fixtures.DefaultRuntimes;
+import org.eclipse.edc.identityhub.tests.fixtures.credentialservice.IdentityHub;
+import org.eclipse.edc.identityhub.tests.fixtures.issuerservice.IssuerService;
+import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationDefinitionValidatorRegistry;
+import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationSource;
+import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationSourceFactory;
+import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationSourceFactoryRegistry;
+import org.eclipse.edc.issuerservice.spi.issuance.model.AttestationDefinition;
+import org.eclipse.edc.issuerservice.spi.issuance.model.CredentialDefinition;
+import org.eclipse.edc.issuerservice.spi.issuance.model.CredentialRuleDefinition;
+import org.eclipse.edc.issuerservice.spi.issuance.model.MappingDefinition;
+import org.eclipse.edc.junit.extensions.ComponentRuntimeExtension;
+import org.eclipse.edc.junit.extensions.RuntimeExtension;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.restassured.http.ContentType.JSON;
+import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.identityhub.verifiablecredentials.testfixtures.JwtCreationUtil.generateJwt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives sustained traffic against an IdentityHub and an IssuerService runtime, both backed by Postgres, and reports latency
+ * percentiles and throughput per scenario. Counterparties that are not part of the test (the attestation source of the issuer
+ * and the DID of the verifier) are mocked, so the test runs entirely locally. The mocks can be slowed down, so that the effect of
+ * processing the state machines on virtual threads can be compared for slow counterparties.
+ * <p>
+ * The scenarios run in order, because later scenarios use data that earlier ones produced: revocations revoke the credentials
+ * that were issued by the DCP credential requests.
+ */
+@LoadTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SuppressWarnings("JUnitMalformedDeclaration")
+public class IdentityHubLoadTest {
+
+    private static final String IH_RUNTIME_NAME = "identity-hub";
+    private static final String ISSUER_RUNTIME_NAME = "issuerservice";
+    private static final String IDENTITY_HUB_DB = "identityhub";
+    private static final String ISSUER_DB = "issuer";
+
+    private static final String ISSUER_ID = "load-issuer";
+    private static final String HOLDER_ID = "load-holder";
+    private static final String CREDENTIAL_TYPE = "LoadTestMembershipCredential";
+    private static final String QUERY_CREDENTIAL_TYPE_PREFIX = "LoadTestQueryCredential";
+    private static final String VERIFIER_DID = "did:example:load-verifier";
+    private static final Duration ISSUANCE_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private static final LoadProfile PROFILE = LoadProfile.fromSystemProperties();
+    private static final LoadDriver DRIVER = new LoadDriver(PROFILE.concurrency(), PROFILE.warmup());
+    private static final LoadTestReport REPORT = new LoadTestReport("identityhub-load-test", PROFILE);
+    private static final AttestationSourceFactory ATTESTATION_SOURCE_FACTORY = mock();
+
+    @Order(0)
+    @RegisterExtension
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = new PostgresqlEndToEndExtension();
+
+    @Order(1)
+    @RegisterExtension
+    static final BeforeAllCallback POSTGRES_CONTAINER_STARTER = context -> {
+        POSTGRESQL_EXTENSION.createDatabase(ISSUER_DB);
+        POSTGRESQL_EXTENSION.createDatabase(IDENTITY_HUB_DB);
+    };
+
+    @Order(2)
+    @RegisterExtension
+    static final RuntimeExtension ISSUER_EXTENSION = ComponentRuntimeExtension.Builder.newInstance()
+            .name(ISSUER_RUNTIME_NAME)
+            .modules(DefaultRuntimes.Issuer.SQL_MODULES)
+            .endpoints(DefaultRuntimes.Issuer.ENDPOINTS.build())
+            .configurationProvider(DefaultRuntimes.Issuer::config)
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(ISSUER_DB))
+            .configurationProvider(IdentityHubLoadTest::compressionConfig)
+            .configurationProvider(() -> virtualThreadConfig("edc.issuer.issuance"))
+            .paramProvider(IssuerService.class, IssuerService::forContext)
+            .build();
+
+    @Order(2)
+    @RegisterExtension
+    static final RuntimeExtension IDENTITY_HUB_EXTENSION = ComponentRuntimeExtension.Builder.newInstance()
+            .name(IH_RUNTIME_NAME)
+            .modules(DefaultRuntimes.IdentityHub.SQL_MODULES)
+            .endpoints(DefaultRuntimes.IdentityHub.ENDPOINTS.build())
+            .configurationProvider(DefaultRuntimes.IdentityHub::config)
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(IDENTITY_HUB_DB))
+            .configurationProvider(IdentityHubLoadTest::compressionConfig)
+            .configurationProvider(() -> virtualThreadConfig("edc.identityhub.credential.request"))
+            .paramProvider(IdentityHub.class, IdentityHub::forContext)
+            .build();
+
+    private static String issuerDid;
+    private static String issuerApiKey;
+    private static String holderDid;
+    private static String holderApiKey;
+    private static String credentialDefinitionId;
+
+    @BeforeAll
+    static void beforeAll(IssuerService issuer, IdentityHub identityHub) {
+        issuerDid = issuer.didFor(ISSUER_ID);
+        issuerApiKey = issuer.createParticipant(ISSUER_ID, issuerDid, issuerDid + "#key").apiKey();
+
+        holderDid = identityHub.didFor(HOLDER_ID);
+        holderApiKey = identityHub.createParticipant(HOLDER_ID, holderDid, holderDid + "#key").apiKey();
+
+        credentialDefinitionId = setupIssuer(issuer);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        REPORT.write();
+    }
+
+    @Test
+    @Order(1)
+    void participantCreation(IdentityHub identityHub) {
+        var prefix = "load-participant-" + UUID.randomUUID();
+
+        var result = DRIVER.run("participant-creation", PROFILE.participants(), index -> {
+            var participantContextId = prefix + "-" + index;
+            identityHub.createParticipant(participantContextId, identityHub.didFor(participantContextId), participantContextId + "#key");
+        });
+
+        report(result);
+    }
+
+    @Test
+    @Order(2)
+    void dcpCredentialRequests(IdentityHub identityHub) {
+        var result = DRIVER.run("dcp-credential-request", PROFILE.credentialRequests(), index -> {
+            var holderPid = UUID.randomUUID().toString();
+            var request = """
+                    {
+                      "issuerDid": "%s",
+                      "holderPid": "%s",
+                      "credentials": [{ "format": "%s", "id": "%s", "type": "%s" }]
+                    }
+                    """.formatted(issuerDid, holderPid, CredentialFormat.VC2_0_JOSE.name(), credentialDefinitionId, CREDENTIAL_TYPE);
+
+            identityHub.getIdentityEndpoint().baseRequest()
+                    .contentType(JSON)
+                    .header(new Header("x-api-key", holderApiKey))
+                    .body(request)
+                    .post("/v1beta/participants/%s/credentials/request".formatted(HOLDER_ID))
+                    .then()
+                    .statusCode(201);
+
+            // the request is complete once the credential is stored on the holder side
+            await().pollInterval(POLL_INTERVAL)
+                    .atMost(ISSUANCE_TIMEOUT)
+                    .untilAsserted(() -> assertThat(identityHub.getCredentialRequestForParticipant(HOLDER_ID, holderPid))
+                            .singleElement()
+                            .satisfies(r -> assertThat(r.getState()).isEqualTo(HolderRequestState.ISSUED.code())));
+        });
+
+        report(result);
+    }
+
+    @Test
+    @Order(3)
+    void presentationQueries(IdentityHub identityHub) throws JOSEException, ParseException {
+        var verifierKey = new ECKeyGenerator(Curve.P_256).keyID(VERIFIER_DID + "#key").generate();
+        registerVerifierDid(identityHub, verifierKey);
+
+        // one credential per scope, so every query presents PROFILE.scopes() credentials
+        var types = IntStream.range(0, PROFILE.scopes()).mapToObj(i -> QUERY_CREDENTIAL_TYPE_PREFIX + i).toList();
+        types.forEach(type -> identityHub.storeCredential(createCredential(type), HOLDER_ID));
+        var scopes = types.stream().map("org.eclipse.dspace.dcp.vc.type:%s:read"::formatted).toList();
+        var query = """
+                {
+                  "@context": [
+                    "https://identity.foundation/presentation-exchange/submission/v1",
+                    "https://w3id.org/dspace-dcp/v1.0/dcp.jsonld"
+                  ],
+                  "@type": "PresentationQueryMessage",
+                  "scope": [%s]
+                }
+                """.formatted(scopes.stream().map("\"%s\""::formatted).collect(Collectors.joining(",")));
+
+        // the access token is issued by the holder, and the self-issued token is created by the verifier
+        var holderKey = ECKey.parse(identityHub.getService(Vault.class).resolveSecret(HOLDER_ID, HOLDER_ID + "-alias"));
+        var scopeClaim = String.join(" ", scopes);
+
+        var result = DRIVER.run("presentation-query", PROFILE.presentationQueries(), index -> {
+            var accessToken = generateJwt(holderDid, holderDid, VERIFIER_DID, Map.of("scope", scopeClaim), holderKey);
+            var token = generateJwt(holderDid, VERIFIER_DID, VERIFIER_DID, Map.of("client_id", VERIFIER_DID, "token", accessToken), verifierKey);
+
+            identityHub.getCredentialsEndpoint().baseRequest()
+                    .contentType(JSON)
+                    .header(AUTHORIZATION, "Bearer " + token)
+                    .body(query)
+                    .post("/v1/participants/%s/presentations/query".formatted(HOLDER_ID))
+                    .then()
+                    .statusCode(200);
+        });
+
+        report(result);
+    }
+
+    @Test
+    @Order(4)
+    void statusListRevocations(IssuerService issuer) {
+        var credentialIds = issuer.getCredentialsForParticipant(ISSUER_ID).stream()
+                .filter(credential -> holderDid.equals(credential.getHolderId()))
+                .filter(credential -> credential.getStateAsEnum() != VcStatus.REVOKED)
+                .map(VerifiableCredentialResource::getId)
+                .toList();
+        var revocations = Math.min(PROFILE.revocations(), credentialIds.size() - PROFILE.warmup());
+        assertThat(revocations).describedAs("credentials that were issued by the DCP credential requests").isPositive();
+
+        var result = DRIVER.run("status-list-revocation", revocations, index -> issuer.getAdminEndpoint().baseRequest()
+                .contentType(JSON)
+                .header("x-api-key", issuerApiKey)
+                .post("/v1beta/participants/{participantContextId}/credentials/{credentialId}/revoke", ISSUER_ID, credentialIds.get(index))
+                .then()
+                .statusCode(204));
+
+        report(result);
+    }
+
+    private static void report(ScenarioResult result) {
+        REPORT.add(result);
+        assertThat(result.errors())
+                .describedAs("failed operations in scenario %s, first failure: %s", result.scenario(), result.firstError())
+                .isZero();
+    }
+
+    private static Config compressionConfig() {
+        return ConfigFactory.fromMap(Map.of("edc.sql.store.credentials.compression.enabled", String.valueOf(PROFILE.compressCredentials())));
+    }
+
+    /**
+     * Enables virtual threads for the state machine with the given setting prefix, with as many concurrent batches as requests in flight.
+     */
+    private static Config virtualThreadConfig(String prefix) {
+        return ConfigFactory.fromMap(Map.of(
+                prefix + ".virtual-threads.enabled", String.valueOf(PROFILE.virtualThreads()),
+                prefix + ".concurrency", String.valueOf(PROFILE.concurrency())));
+    }
+
+    /**
+     * Simulates the latency of a remote counterparty.
+     */
+    private static void counterpartyLatency() {
+        try {
+            Thread.sleep(PROFILE.counterpartyLatency().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Registers the attestation source, the holder and the credential definition with the issuer.
+     *
+     * @return the ID of the credential definition
+     */
+    private static String setupIssuer(IssuerService issuer) {
+        issuer.getService(AttestationSourceFactoryRegistry.class).registerFactory("Attestation", ATTESTATION_SOURCE_FACTORY);
+        issuer.getService(AttestationDefinitionValidatorRegistry.class).registerValidator("Attestation", def -> ValidationResult.success());
+
+        issuer.createHolder(ISSUER_ID, HOLDER_ID, holderDid, "Load Test Holder");
+
+        var attestationDefinition = AttestationDefinition.Builder.newInstance()
+                .id("load-attestation-" + UUID.randomUUID())
+                .attestationType("Attestation")
+                .participantContextId(ISSUER_ID)
+                .configuration(Map.of())
+                .build();
+        issuer.createAttestationDefinition(attestationDefinition);
+
+        // the attestation source is called while the issuer handles the DCP credential request of the holder, so its latency is the
+        // latency of the issuer endpoint, as seen by the credential request state machine of the holder
+        AttestationSource attestationSource = mock();
+        when(ATTESTATION_SOURCE_FACTORY.createSource(any())).thenReturn(attestationSource);
+        when(attestationSource.execute(any())).thenAnswer(i -> {
+            counterpartyLatency();
+            return Result.success(Map.of(
+                    "onboarding", Map.of("signedDocuments", true),
+                    "participant", Map.of("name", "Alice", "id", holderDid)));
+        });
+
+        var definitionId = UUID.randomUUID().toString();
+        issuer.createCredentialDefinition(CredentialDefinition.Builder.newInstance()
+                .id(definitionId)
+                .credentialType(CREDENTIAL_TYPE)
+                .jsonSchemaUrl("https://example.com/schema")
+                .jsonSchema("{}")
+                .attestation(attestationDefinition.getId())
+                .validity(Duration.ofDays(365).toSeconds())
+                .mappings(List.of(new MappingDefinition("participant.name", "credentialSubject.name", true),
+                        new MappingDefinition("participant.id", "credentialSubject.id", true)))
+                .rule(new CredentialRuleDefinition("expression", Map.of(
+                        "claim", "onboarding.signedDocuments",
+                        "operator", "eq",
+                        "value", true)))
+                .participantContextId(ISSUER_ID)
+                .formatFrom(CredentialFormat.VC2_0_JOSE)
+                .build());
+        return definitionId;
+    }
+
+    private static void registerVerifierDid(IdentityHub identityHub, ECKey verifierKey) {
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn("example");
+        var didDocument = DidDocument.Builder.newInstance()
+                .verificationMethod(List.of(VerificationMethod.Builder.newInstance()
+                        .id(verifierKey.getKeyID())
+                        .publicKeyJwk(verifierKey.toPublicJWK().toJSONObject())
+                        .controller(VERIFIER_DID)
+                        .type("JsonWebKey2020")
+                        .build()))
+                .build();
+        when(resolver.resolve(startsWith("did:example"))).thenAnswer(i -> {
+            counterpartyLatency();
+            return Result.success(didDocument);
+        });
+        identityHub.getService(DidResolverRegistry.class).register(resolver);
+    }
+
+    private static VerifiableCredential createCredential(String type) {
+        return VerifiableCredential.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .type("VerifiableCredential")
+                .type(type)
+                .issuanceDate(Instant.now())
+                .issuer(new Issuer("did:web:issuer"))
+                .credentialSubject(CredentialSubject.Builder.newInstance().id(holderDid).claim("foo", "bar").build())
+                .build();
+    }
+}
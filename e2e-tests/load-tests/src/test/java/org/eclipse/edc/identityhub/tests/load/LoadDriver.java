@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.tests.load;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends a fixed number of operations with a fixed number of them in flight at the same time, and measures the latency of every
+ * operation. An operation that throws is counted as an error, and is not included in the latencies.
+ */
+public class LoadDriver {
+    private final int concurrency;
+    private final int warmup;
+
+    public LoadDriver(int concurrency, int warmup) {
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+    }
+
+    /**
+     * Runs the operation {@code operations} times, after {@link #warmup} unmeasured runs. Every run is passed a unique index,
+     * starting with 0, warmup runs included.
+     *
+     * @param scenario   the name of the scenario
+     * @param operations number of measured operations
+     * @param operation  the operation
+     * @return the latencies and throughput of the measured operations
+     */
+    public ScenarioResult run(String scenario, int operations, Operation operation) {
+        for (var i = 0; i < warmup; i++) {
+            try {
+                operation.run(i);
+            } catch (Exception ignored) {
+                // warmup failures are reported by the measured runs
+            }
+        }
+
+        var latencies = new ConcurrentLinkedQueue<Long>();
+        var errors = new AtomicInteger();
+        var firstError = new AtomicReference<String>();
+        var futures = new ArrayList<Future<?>>(operations);
+
+        var executor = Executors.newFixedThreadPool(concurrency);
+        var start = System.nanoTime();
+        try {
+            for (var i = 0; i < operations; i++) {
+                var index = warmup + i;
+                futures.add(executor.submit(() -> {
+                    var operationStart = System.nanoTime();
+                    try {
+                        operation.run(index);
+                        latencies.add(System.nanoTime() - operationStart);
+                    } catch (Exception | AssertionError e) {
+                        errors.incrementAndGet();
+                        firstError.compareAndSet(null, e.getClass().getSimpleName() + ": " + e.getMessage());
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running scenario " + scenario, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        var duration = System.nanoTime() - start;
+
+        var latencyNanos = latencies.stream().mapToLong(Long::longValue).toArray();
+        return ScenarioResult.of(scenario, concurrency, latencyNanos, errors.get(), duration, firstError.get());
+    }
+
+    @FunctionalInterface
+    public interface Operation {
+        void run(int index) throws Exception;
+    }
+}
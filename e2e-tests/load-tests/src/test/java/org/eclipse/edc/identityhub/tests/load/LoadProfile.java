@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.tests.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static java.lang.Integer.getInteger;
+
+/**
+ * The size of a load test run. All values can be overridden with system properties, e.g. {@code -Dloadtest.concurrency=16}.
+ *
+ * @param concurrency         number of requests that are in flight at the same time
+ * @param warmup              number of requests per scenario that are sent before measuring, and that are not reported
+ * @param participants        number of participant contexts that are created
+ * @param credentialRequests  number of DCP credential requests that are run end to end
+ * @param presentationQueries number of presentation queries
+ * @param scopes              number of scopes per presentation query, each of which matches one stored credential
+ * @param revocations         number of credentials that are revoked, at most {@code credentialRequests}
+ * @param compressCredentials whether the runtimes store raw credentials compressed
+ * @param virtualThreads      whether the runtimes process credential requests and issuance processes on virtual threads
+ * @param counterpartyLatency latency that is added to every call of a mocked counterparty
+ * @param reportDirectory     directory to which the report is written
+ */
+public record LoadProfile(int concurrency,
+                          int warmup,
+                          int participants,
+                          int credentialRequests,
+                          int presentationQueries,
+                          int scopes,
+                          int revocations,
+                          boolean compressCredentials,
+                          boolean virtualThreads,
+                          Duration counterpartyLatency,
+                          Path reportDirectory) {
+
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                getInteger("loadtest.concurrency", 8),
+                getInteger("loadtest.warmup", 10),
+                getInteger("loadtest.participants", 100),
+                getInteger("loadtest.credential-requests", 50),
+                getInteger("loadtest.presentation-queries", 500),
+                getInteger("loadtest.scopes", 20),
+                getInteger("loadtest.revocations", 50),
+                Boolean.getBoolean("loadtest.compress-credentials"),
+                Boolean.getBoolean("loadtest.virtual-threads"),
+                Duration.ofMillis(getInteger("loadtest.counterparty-latency", 0)),
+                Path.of(System.getProperty("loadtest.report.dir", "build/reports/load-tests")));
+    }
+}
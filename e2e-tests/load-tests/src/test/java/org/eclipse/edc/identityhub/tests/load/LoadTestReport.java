@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.tests.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the results of all scenarios of a load test run, and writes them as JSON, so that runs on different commits can be
+ * compared by tooling. A human-readable summary is written next to it.
+ */
+public class LoadTestReport {
+    private final String name;
+    private final LoadProfile profile;
+    private final List<ScenarioResult> scenarios = new ArrayList<>();
+
+    public LoadTestReport(String name, LoadProfile profile) {
+        this.name = name;
+        this.profile = profile;
+    }
+
+    public synchronized void add(ScenarioResult result) {
+        scenarios.add(result);
+    }
+
+    public synchronized List<ScenarioResult> getScenarios() {
+        return List.copyOf(scenarios);
+    }
+
+    /**
+     * Writes the report to {@code <reportDirectory>/<name>.json}, and a summary table to {@code <reportDirectory>/<name>.txt}.
+     *
+     * @return the path of the report
+     */
+    public Path write() throws IOException {
+        Files.createDirectories(profile.reportDirectory());
+        var file = profile.reportDirectory().resolve(name + ".json");
+        var report = new Report(name, Instant.now().toString(), Runtime.version().toString(), profile.concurrency(), profile.compressCredentials(),
+                profile.virtualThreads(), profile.counterpartyLatency().toMillis(), getScenarios());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+
+        var summary = new StringBuilder("%-24s %8s %7s %10s %10s %10s %10s %12s%n".formatted("scenario", "ops", "errors", "p50 [ms]", "p90 [ms]", "p99 [ms]", "max [ms]", "ops/s"));
+        getScenarios().forEach(s -> summary.append("%-24s %8d %7d %10.1f %10.1f %10.1f %10.1f %12.1f%n".formatted(
+                s.scenario(), s.operations(), s.errors(), s.p50(), s.p90(), s.p99(), s.max(), s.throughput())));
+        Files.writeString(profile.reportDirectory().resolve(name + ".txt"), summary);
+        return file;
+    }
+
+    private record Report(String name, String timestamp, String javaVersion, int concurrency, boolean compressCredentials, boolean virtualThreads,
+                          long counterpartyLatencyMillis, List<ScenarioResult> scenarios) {
+    }
+}
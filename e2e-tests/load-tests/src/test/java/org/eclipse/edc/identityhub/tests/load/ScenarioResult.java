@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.tests.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency percentiles and throughput of one scenario. Latencies are in milliseconds, throughput is in successful operations per
+ * second of wall-clock time.
+ */
+public record ScenarioResult(String scenario,
+                             int concurrency,
+                             int operations,
+                             int errors,
+                             double durationSeconds,
+                             double throughput,
+                             double p50,
+                             double p90,
+                             double p99,
+                             double max,
+                             String firstError) {
+
+    /**
+     * Computes the result from the latencies of all successful operations.
+     *
+     * @param scenario      the name of the scenario
+     * @param concurrency   number of operations that were in flight at the same time
+     * @param latencyNanos  latencies of the successful operations, in nanoseconds
+     * @param errors        number of failed operations
+     * @param durationNanos wall-clock time of the whole run, in nanoseconds
+     * @param firstError    message of the first failure, or null
+     */
+    public static ScenarioResult of(String scenario, int concurrency, long[] latencyNanos, int errors, long durationNanos, String firstError) {
+        var sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        var seconds = durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        var throughput = seconds > 0 ? sorted.length / seconds : 0;
+        return new ScenarioResult(scenario, concurrency, sorted.length + errors, errors, seconds, throughput,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 100), firstError);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted latencies, in milliseconds.
+     */
+    static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        var rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.identityhub.api.verifiablecredential.v1.unstable.ParticipantContextApiController;
 import org.eclipse.edc.identityhub.api.verifiablecredential.validation.ParticipantManifestValidator;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.ParticipantOnboardingService;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.identityhub.spi.webcontext.IdentityHubApiContext;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantResource;
@@ -26,6 +27,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.web.spi.WebService;
 
 import static org.eclipse.edc.identityhub.api.verifiablecredential.ParticipantContextManagementApiExtension.NAME;
@@ -43,6 +45,10 @@ public class ParticipantContextManagementApiExtension implements ServiceExtensio
     private AuthorizationService authorizationService;
     @Inject
     private Monitor monitor;
+    @Inject
+    private ParticipantOnboardingService onboardingService;
+    @Inject
+    private TypeManager typeManager;
 
     @Override
     public String name() {
@@ -52,7 +58,8 @@ public class ParticipantContextManagementApiExtension implements ServiceExtensio
     @Override
     public void initialize(ServiceExtensionContext context) {
         authorizationService.addLookupFunction(IdentityHubParticipantContext.class, this::findByOwnerAndId);
-        var controller = new ParticipantContextApiController(new ParticipantManifestValidator(monitor), participantContextService, authorizationService);
+        var controller = new ParticipantContextApiController(new ParticipantManifestValidator(monitor), participantContextService, authorizationService,
+                onboardingService, typeManager.getMapper());
         webService.registerResource(IdentityHubApiContext.IDENTITY, controller);
     }
 
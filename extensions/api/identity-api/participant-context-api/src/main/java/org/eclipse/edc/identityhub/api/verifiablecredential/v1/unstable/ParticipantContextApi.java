@@ -25,11 +25,14 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.CreateParticipantContextResponse;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantManifest;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 
@@ -53,6 +56,21 @@ public interface ParticipantContextApi {
     )
     CreateParticipantContextResponse createParticipant(ParticipantManifest manifest);
 
+    @Operation(description = "Creates many ParticipantContexts at once. The request body contains one ParticipantManifest per line (NDJSON), the response " +
+            "body contains one result per manifest, which is written as soon as the manifest was processed. Results are not necessarily in the order of the input. " +
+            "All manifests are validated before the first ParticipantContext is created, invalid manifests are reported as failed and do not prevent the creation of the others. " +
+            "ParticipantContexts that already exist are skipped, so an interrupted onboarding can be resumed by submitting the same manifests again. Requires elevated access.",
+            operationId = "onboardParticipants",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ParticipantManifest.class), mediaType = "application/x-ndjson")),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The manifests were processed, the result of each manifest is returned in the response body.",
+                            content = @Content(schema = @Schema(implementation = ParticipantOnboardingResult.class), mediaType = "application/x-ndjson")),
+                    @ApiResponse(responseCode = "401", description = "The request could not be completed, because either the authentication was missing or was not valid.",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)), mediaType = "application/json"))
+            }
+    )
+    StreamingOutput onboardParticipants(InputStream manifests);
+
     @Operation(description = "Gets ParticipantContexts by ID.",
             operationId = "getParticipant",
             responses = {
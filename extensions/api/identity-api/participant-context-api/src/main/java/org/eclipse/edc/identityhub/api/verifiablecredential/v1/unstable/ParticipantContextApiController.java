@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.identityhub.api.verifiablecredential.v1.unstable;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.DefaultValue;
@@ -26,36 +28,55 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
 import org.eclipse.edc.identityhub.api.Versions;
 import org.eclipse.edc.identityhub.api.verifiablecredential.validation.ParticipantManifestValidator;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.ParticipantOnboardingService;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.CreateParticipantContextResponse;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantManifest;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.eclipse.edc.identityhub.spi.authorization.AuthorizationResultHandler.exceptionMapper;
 
 @Consumes(APPLICATION_JSON)
 @Produces(APPLICATION_JSON)
 @Path(Versions.UNSTABLE + "/participants")
 public class ParticipantContextApiController implements ParticipantContextApi {
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
 
     private final ParticipantManifestValidator participantManifestValidator;
     private final IdentityHubParticipantContextService participantContextService;
     private final AuthorizationService authorizationService;
+    private final ParticipantOnboardingService onboardingService;
+    private final ObjectMapper objectMapper;
 
-    public ParticipantContextApiController(ParticipantManifestValidator participantManifestValidator, IdentityHubParticipantContextService participantContextService, AuthorizationService authorizationService) {
+    public ParticipantContextApiController(ParticipantManifestValidator participantManifestValidator, IdentityHubParticipantContextService participantContextService,
+                                           AuthorizationService authorizationService, ParticipantOnboardingService onboardingService, ObjectMapper objectMapper) {
         this.participantManifestValidator = participantManifestValidator;
         this.participantContextService = participantContextService;
         this.authorizationService = authorizationService;
+        this.onboardingService = onboardingService;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -67,6 +88,29 @@ public class ParticipantContextApiController implements ParticipantContextApi {
                 .orElseThrow(exceptionMapper(ParticipantManifest.class, manifest.getParticipantContextId()));
     }
 
+    @Override
+    @POST
+    @Path("/bulk")
+    @Consumes(APPLICATION_NDJSON)
+    @Produces(APPLICATION_NDJSON)
+    @RequiredScope("identity-api:admin")
+    public StreamingOutput onboardParticipants(InputStream manifests) {
+        return output -> {
+            var resultWriter = new ResultWriter(output);
+            try (var reader = new BufferedReader(new InputStreamReader(manifests, UTF_8))) {
+                // all lines are validated before the first participant context is created
+                var lineNumber = new AtomicInteger();
+                var validManifests = reader.lines()
+                        .map(line -> parseAndValidate(line, lineNumber.incrementAndGet(), resultWriter))
+                        .filter(Objects::nonNull)
+                        .toList();
+                onboardingService.onboard(validManifests.stream(), resultWriter);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
     @Override
     @GET
     @RequiredScope("identity-api:participants:read")
@@ -124,4 +168,44 @@ public class ParticipantContextApiController implements ParticipantContextApi {
                 .orElseThrow(exceptionMapper(IdentityHubParticipantContext.class));
     }
 
+    private ParticipantManifest parseAndValidate(String line, int lineNumber, Consumer<ParticipantOnboardingResult> resultConsumer) {
+        if (line.isBlank()) {
+            return null;
+        }
+        ParticipantManifest manifest;
+        try {
+            manifest = objectMapper.readValue(line, ParticipantManifest.class);
+        } catch (JsonProcessingException e) {
+            resultConsumer.accept(ParticipantOnboardingResult.failed(null, "Line %d: malformed manifest: %s".formatted(lineNumber, e.getOriginalMessage())));
+            return null;
+        }
+        var validation = participantManifestValidator.validate(manifest);
+        if (validation.failed()) {
+            resultConsumer.accept(ParticipantOnboardingResult.failed(manifest.getParticipantContextId(), "Line %d: %s".formatted(lineNumber, validation.getFailureDetail())));
+            return null;
+        }
+        return manifest;
+    }
+
+    /**
+     * Writes every result as one line to the response, and flushes it immediately so that clients can track the progress.
+     */
+    private class ResultWriter implements Consumer<ParticipantOnboardingResult> {
+        private final OutputStream output;
+
+        ResultWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public synchronized void accept(ParticipantOnboardingResult result) {
+            try {
+                output.write(objectMapper.writeValueAsBytes(result));
+                output.write('\n');
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
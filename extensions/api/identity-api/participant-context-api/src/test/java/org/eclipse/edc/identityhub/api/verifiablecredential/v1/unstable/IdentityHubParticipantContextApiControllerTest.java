@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.identityhub.api.verifiablecredential.v1.unstable;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.Curve;
 import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
@@ -22,10 +23,13 @@ import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.identityhub.api.Versions;
 import org.eclipse.edc.identityhub.api.verifiablecredential.validation.ParticipantManifestValidator;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.ParticipantOnboardingService;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.CreateParticipantContextResponse;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.KeyDescriptor;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantManifest;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingSummary;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContextState;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -39,12 +43,15 @@ import org.junit.jupiter.api.Test;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -64,6 +71,7 @@ class IdentityHubParticipantContextApiControllerTest extends RestControllerTestB
     private final IdentityHubParticipantContextService participantContextServiceMock = mock();
     private final AuthorizationService authService = mock();
     private final ParticipantManifestValidator participantManifestValidator = mock();
+    private final ParticipantOnboardingService onboardingService = mock();
 
     @BeforeEach
     void setUp() {
@@ -209,7 +217,8 @@ class IdentityHubParticipantContextApiControllerTest extends RestControllerTestB
 
     @Override
     protected Object controller() {
-        return new ParticipantContextApiController(participantManifestValidator, participantContextServiceMock, authService);
+        return new ParticipantContextApiController(participantManifestValidator, participantContextServiceMock, authService,
+                onboardingService, objectMapper);
     }
 
     private IdentityHubParticipantContext.Builder createParticipantContext() {
@@ -327,4 +336,53 @@ class IdentityHubParticipantContextApiControllerTest extends RestControllerTestB
             verify(participantContextServiceMock).createParticipantContext(any(ParticipantManifest.class));
         }
     }
+
+    @Nested
+    class BulkOnboarding {
+        @Test
+        void shouldStreamResults() throws JsonProcessingException {
+            when(participantManifestValidator.validate(any())).thenReturn(ValidationResult.success());
+            when(onboardingService.onboard(any(), any())).thenAnswer(i -> {
+                Stream<ParticipantManifest> manifests = i.getArgument(0);
+                Consumer<ParticipantOnboardingResult> consumer = i.getArgument(1);
+                manifests.forEach(m -> consumer.accept(ParticipantOnboardingResult.created(m.getParticipantContextId(),
+                        new CreateParticipantContextResponse("apiKey", null, null))));
+                return ServiceResult.success(new ParticipantOnboardingSummary(2, 0, 0));
+            });
+            var body = objectMapper.writeValueAsString(createManifest().participantContextId("p1").build()) + "\n" +
+                    "not-json\n" +
+                    objectMapper.writeValueAsString(createManifest().participantContextId("p2").build()) + "\n";
+
+            var lines = baseRequest()
+                    .contentType(ParticipantContextApiController.APPLICATION_NDJSON)
+                    .body(body)
+                    .post("/bulk")
+                    .then()
+                    .statusCode(200)
+                    .body(containsString("\"participantContextId\":\"p1\""))
+                    .body(containsString("\"participantContextId\":\"p2\""))
+                    .extract().body().asString().lines().toList();
+
+            assertThat(lines.size()).isEqualTo(3);
+            assertThat(lines.get(1)).contains("FAILED").contains("Line 2");
+        }
+
+        @Test
+        void shouldNotOnboard_whenValidationFails() {
+            when(participantManifestValidator.validate(any())).thenReturn(ValidationResult.failure(emptyList()));
+            when(onboardingService.onboard(any(), any())).thenAnswer(i -> {
+                Stream<ParticipantManifest> manifests = i.getArgument(0);
+                assertThat(manifests.count()).isZero();
+                return ServiceResult.success(new ParticipantOnboardingSummary(0, 0, 0));
+            });
+
+            baseRequest()
+                    .contentType(ParticipantContextApiController.APPLICATION_NDJSON)
+                    .body("{\"participantContextId\":\"p1\"}\n")
+                    .post("/bulk")
+                    .then()
+                    .statusCode(200)
+                    .body(containsString("FAILED"));
+        }
+    }
 }
@@ -8,10 +8,12 @@ dependencies {
     api(project(":spi:verifiable-credential-spi"))
     implementation(project(":extensions:api:identity-api:identity-api-configuration"))
     implementation(project(":extensions:api:identity-api:validators:verifiable-credential-validators"))
+    implementation(project(":extensions:api:lib:identityhub-api-streaming-lib"))
     implementation(libs.edc.spi.core)
     implementation(libs.edc.lib.core) // StringUtils
     implementation(libs.jakarta.rsApi)
     implementation(libs.jakarta.annotation)
+    implementation(libs.jackson.databind)
 
     testImplementation(libs.edc.junit)
     testImplementation(libs.restAssured)
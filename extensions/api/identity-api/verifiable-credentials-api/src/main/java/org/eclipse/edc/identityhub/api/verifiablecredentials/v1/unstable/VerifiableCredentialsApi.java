@@ -89,7 +89,10 @@ public interface VerifiableCredentialsApi {
     @Operation(description = "Query VerifiableCredentials by type.",
             operationId = "queryCredentialsByType",
             parameters = {
-                    @Parameter(name = "type", description = "Credential type. If omitted, all credentials are returned (limited to 50 elements).")
+                    @Parameter(name = "type", description = "Credential type. If omitted, all credentials are returned."),
+                    @Parameter(name = "limit", description = "Maximum number of credentials to return. Defaults to 50."),
+                    @Parameter(name = "after", description = "Only return credentials whose ID is greater than this value. Results are sorted by ID, " +
+                            "so passing the ID of the last credential of the previous page retrieves the next page.")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "The list of VerifiableCredentials.",
@@ -100,7 +103,26 @@ public interface VerifiableCredentialsApi {
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)), mediaType = "application/json")),
             }
     )
-    Collection<VerifiableCredentialResource> queryCredentialsByType(String participantContextId, String type, SecurityContext securityContext);
+    Collection<VerifiableCredentialResource> queryCredentialsByType(String participantContextId, String type, Integer limit, String after, SecurityContext securityContext);
+
+    @Operation(description = "Query VerifiableCredentials by type, and stream the results as newline-delimited JSON (one VerifiableCredential per line). " +
+            "Selected with the 'Accept: application/x-ndjson' header.",
+            operationId = "streamCredentialsByType",
+            parameters = {
+                    @Parameter(name = "type", description = "Credential type. If omitted, all credentials are returned."),
+                    @Parameter(name = "limit", description = "Maximum number of credentials to return. If omitted, all matching credentials are returned."),
+                    @Parameter(name = "after", description = "Only return credentials whose ID is greater than this value. Results are sorted by ID.")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The stream of VerifiableCredentials.",
+                            content = @Content(schema = @Schema(implementation = VerifiableCredentialResource.class), mediaType = "application/x-ndjson")),
+                    @ApiResponse(responseCode = "403", description = "The request could not be completed, because either the authentication was missing or was not valid.",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)), mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "The query was malformed or was not understood by the server.",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)), mediaType = "application/json")),
+            }
+    )
+    Response streamCredentialsByType(String participantContextId, String type, Integer limit, String after, SecurityContext securityContext);
 
     @Operation(description = "Delete a VerifiableCredential.",
             operationId = "deleteCredential",
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.identityhub.api.verifiablecredentials.v1.unstable;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -30,6 +31,7 @@ import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
 import org.eclipse.edc.identityhub.api.Versions;
+import org.eclipse.edc.identityhub.api.streaming.NdJsonStreamingOutput;
 import org.eclipse.edc.identityhub.api.verifiablecredential.validation.VerifiableCredentialManifestValidator;
 import org.eclipse.edc.identityhub.api.verifiablecredentials.v1.unstable.model.CredentialRequestDto;
 import org.eclipse.edc.identityhub.api.verifiablecredentials.v1.unstable.model.HolderCredentialRequestDto;
@@ -43,6 +45,7 @@ import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCre
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.util.string.StringUtils;
@@ -72,19 +75,22 @@ public class VerifiableCredentialsApiController implements VerifiableCredentials
     private final TypeTransformerRegistry typeTransformerRegistry;
     private final CredentialRequestManager credentialRequestService;
     private final DiscriminatorMappingRegistry discriminatorMappingRegistry;
+    private final ObjectMapper objectMapper;
 
     public VerifiableCredentialsApiController(CredentialStore credentialStore,
                                               AuthorizationService authorizationService,
                                               VerifiableCredentialManifestValidator validator,
                                               TypeTransformerRegistry typeTransformerRegistry,
                                               CredentialRequestManager credentialRequestService,
-                                              DiscriminatorMappingRegistry discriminatorMappingRegistry) {
+                                              DiscriminatorMappingRegistry discriminatorMappingRegistry,
+                                              ObjectMapper objectMapper) {
         this.credentialStore = credentialStore;
         this.authorizationService = authorizationService;
         this.validator = validator;
         this.typeTransformerRegistry = typeTransformerRegistry;
         this.credentialRequestService = credentialRequestService;
         this.discriminatorMappingRegistry = discriminatorMappingRegistry;
+        this.objectMapper = objectMapper;
     }
 
     @GET
@@ -131,12 +137,13 @@ public class VerifiableCredentialsApiController implements VerifiableCredentials
     @GET
     @RequiredScope("identity-api:credentials:read")
     @Override
-    public Collection<VerifiableCredentialResource> queryCredentialsByType(@PathParam("participantContextId") String participantContextId, @Nullable @QueryParam("type") String type, @Context SecurityContext securityContext) {
-        var query = QuerySpec.Builder.newInstance();
-
-        if (!StringUtils.isNullOrEmpty(type)) {
-            query.filter(new Criterion("verifiableCredential.credential.type", "contains", type));
-        }
+    public Collection<VerifiableCredentialResource> queryCredentialsByType(@PathParam("participantContextId") String participantContextId,
+                                                                           @Nullable @QueryParam("type") String type,
+                                                                           @Nullable @QueryParam("limit") Integer limit,
+                                                                           @Nullable @QueryParam("after") String after,
+                                                                           @Context SecurityContext securityContext) {
+        var query = createQuery(participantContextId, type, after);
+        ofNullable(limit).ifPresent(query::limit);
 
         return credentialStore.query(query.build())
                 .orElseThrow(InvalidRequestException::new)
@@ -145,6 +152,25 @@ public class VerifiableCredentialsApiController implements VerifiableCredentials
                 .toList();
     }
 
+    @GET
+    @Produces(NdJsonStreamingOutput.PRODUCES)
+    @RequiredScope("identity-api:credentials:read")
+    @Override
+    public Response streamCredentialsByType(@PathParam("participantContextId") String participantContextId,
+                                            @Nullable @QueryParam("type") String type,
+                                            @Nullable @QueryParam("limit") Integer limit,
+                                            @Nullable @QueryParam("after") String after,
+                                            @Context SecurityContext securityContext) {
+        var query = createQuery(participantContextId, type, after)
+                .limit(ofNullable(limit).orElse(Integer.MAX_VALUE));
+
+        var credentials = credentialStore.stream(query.build())
+                .orElseThrow(InvalidRequestException::new)
+                .filter(vcr -> authorizationService.authorize(securityContext, participantContextId, vcr.getId(), VerifiableCredentialResource.class).succeeded());
+
+        return Response.ok(new NdJsonStreamingOutput<>(credentials, objectMapper), NdJsonStreamingOutput.MEDIA_TYPE).build();
+    }
+
     @DELETE
     @Path("/{credentialId}")
     @RequiredScope("identity-api:credentials:write")
@@ -204,4 +230,23 @@ public class VerifiableCredentialsApiController implements VerifiableCredentials
         discriminatorMappings.forEach(discriminatorMappingRegistry::addMapping);
     }
 
+    /**
+     * Creates a query for the credentials of the given participant, sorted by ID, so that the ID of the last element of a page
+     * can be used as the {@code after} cursor of the next page.
+     */
+    private QuerySpec.Builder createQuery(String participantContextId, @Nullable String type, @Nullable String after) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("participantContextId", "=", participantContextId))
+                .sortField("id")
+                .sortOrder(SortOrder.ASC);
+
+        if (!StringUtils.isNullOrEmpty(type)) {
+            query.filter(new Criterion("verifiableCredential.credential.type", "contains", type));
+        }
+        if (!StringUtils.isNullOrEmpty(after)) {
+            query.filter(new Criterion("id", ">", after));
+        }
+        return query;
+    }
+
 }
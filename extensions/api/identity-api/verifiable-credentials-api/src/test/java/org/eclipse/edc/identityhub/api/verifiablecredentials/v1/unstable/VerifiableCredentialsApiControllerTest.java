@@ -22,6 +22,7 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
 import org.eclipse.edc.identityhub.api.Versions;
+import org.eclipse.edc.identityhub.api.streaming.NdJsonStreamingOutput;
 import org.eclipse.edc.identityhub.api.verifiablecredential.validation.VerifiableCredentialManifestValidator;
 import org.eclipse.edc.identityhub.api.verifiablecredentials.v1.unstable.model.CredentialDescriptor;
 import org.eclipse.edc.identityhub.api.verifiablecredentials.v1.unstable.model.CredentialRequestDto;
@@ -33,6 +34,8 @@ import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCre
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -44,12 +47,15 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
@@ -90,7 +96,7 @@ class VerifiableCredentialsApiControllerTest extends RestControllerTestBase {
 
     @Override
     protected Object controller() {
-        return new VerifiableCredentialsApiController(credentialStore, authorizationService, validator, typeTransformerRegistry, credentialRequestService, mappingRegistry);
+        return new VerifiableCredentialsApiController(credentialStore, authorizationService, validator, typeTransformerRegistry, credentialRequestService, mappingRegistry, objectMapper);
     }
 
     private VerifiableCredential createCredential(String... types) {
@@ -362,6 +368,51 @@ class VerifiableCredentialsApiControllerTest extends RestControllerTestBase {
             verify(credentialStore).query(any());
             verifyNoMoreInteractions(credentialStore);
         }
+
+        @Test
+        void withLimitAndAfter_queriesNextPage() {
+            when(credentialStore.query(any())).thenReturn(StoreResult.success(List.of()));
+
+            baseRequest()
+                    .get("?type=test-type&limit=10&after=cursor-id")
+                    .then()
+                    .log().ifValidationFails()
+                    .statusCode(200);
+
+            var captor = ArgumentCaptor.forClass(QuerySpec.class);
+            verify(credentialStore).query(captor.capture());
+            assertThat(captor.getValue().getLimit()).isEqualTo(10);
+            assertThat(captor.getValue().getSortField()).isEqualTo("id");
+            assertThat(captor.getValue().getFilterExpression()).containsExactlyInAnyOrder(
+                    new Criterion("participantContextId", "=", PARTICIPANT_ID),
+                    new Criterion("verifiableCredential.credential.type", "contains", "test-type"),
+                    new Criterion("id", ">", "cursor-id"));
+        }
+
+        @Test
+        void ndJson_streamsAuthorizedCredentials() {
+            var credential1 = createCredentialResource("test-type").build();
+            var credential2 = createCredentialResource("test-type").build();
+            var closed = new AtomicBoolean();
+            when(credentialStore.stream(any())).thenReturn(StoreResult.success(Stream.of(credential1, credential2).onClose(() -> closed.set(true))));
+            when(authorizationService.authorize(any(), anyString(), eq(credential1.getId()), eq(VerifiableCredentialResource.class))).thenReturn(unauthorized("test-message"));
+
+            var body = baseRequest()
+                    .accept(NdJsonStreamingOutput.MEDIA_TYPE)
+                    .get("?type=test-type")
+                    .then()
+                    .log().ifValidationFails()
+                    .statusCode(200)
+                    .contentType(NdJsonStreamingOutput.MEDIA_TYPE)
+                    .extract().body().asString();
+
+            assertThat(body.lines().toList()).singleElement().asString().contains(credential2.getId());
+            assertThat(closed).isTrue();
+            var captor = ArgumentCaptor.forClass(QuerySpec.class);
+            verify(credentialStore).stream(captor.capture());
+            assertThat(captor.getValue().getLimit()).isEqualTo(Integer.MAX_VALUE);
+            verifyNoMoreInteractions(credentialStore);
+        }
     }
 
     @Nested
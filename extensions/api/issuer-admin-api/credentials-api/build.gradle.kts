@@ -24,8 +24,10 @@ dependencies {
     api(project(":spi:issuerservice:issuerservice-holder-spi"))
     implementation(project(":extensions:api:issuer-admin-api:issuer-admin-api-configuration"))
     implementation(project(":protocols:dcp:dcp-transform-lib"))
+    implementation(project(":extensions:api:lib:identityhub-api-streaming-lib"))
     implementation(libs.jakarta.rsApi)
     implementation(libs.jakarta.annotation)
+    implementation(libs.jackson.databind)
 
 
     testImplementation(libs.edc.junit)
@@ -29,6 +29,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.spi.WebService;
 
@@ -49,6 +50,8 @@ public class IssuerCredentialsAdminApiExtension implements ServiceExtension {
     private IssuerCredentialOfferService credentialOfferService;
     @Inject
     private TypeTransformerRegistry typeTransformerRegistry;
+    @Inject
+    private TypeManager typeManager;
 
     @Override
     public String name() {
@@ -59,7 +62,7 @@ public class IssuerCredentialsAdminApiExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
 
         authorizationService.addLookupFunction(VerifiableCredentialResource.class, this::findById);
-        var controller = new IssuerCredentialsAdminApiController(authorizationService, credentialService, credentialOfferService);
+        var controller = new IssuerCredentialsAdminApiController(authorizationService, credentialService, credentialOfferService, typeManager.getMapper());
         webService.registerResource(IdentityHubApiContext.ISSUERADMIN, controller);
 
         // required for sending CredentialOffer messages to the holder
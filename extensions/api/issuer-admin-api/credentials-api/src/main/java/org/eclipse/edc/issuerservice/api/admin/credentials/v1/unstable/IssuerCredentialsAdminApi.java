@@ -52,6 +52,22 @@ public interface IssuerCredentialsAdminApi {
     )
     Collection<VerifiableCredentialResourceDto> queryCredentials(String participantContextId, QuerySpec query, SecurityContext context);
 
+    @Operation(description = "Query credentials, and stream the results as newline-delimited JSON (one credential per line). Selected with the " +
+            "'Accept: application/x-ndjson' header. The limit of the query is honored, so for large result sets clients should page through " +
+            "the results by sorting by 'id' and filtering for 'id > <last ID of the previous page>'.",
+            operationId = "streamCredentials",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = QuerySpec.class), mediaType = "application/json")),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "A stream of verifiable credential metadata. Note that these are not actual VerifiableCredentials.",
+                            content = @Content(schema = @Schema(implementation = VerifiableCredentialResourceDto.class), mediaType = "application/x-ndjson")),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed, or the request could not be processed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)), mediaType = "application/json")),
+                    @ApiResponse(responseCode = "401", description = "The request could not be completed, because either the authentication was missing or was not valid.",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)), mediaType = "application/json"))
+            }
+    )
+    Response streamCredentials(String participantContextId, QuerySpec query, SecurityContext context);
+
     @Operation(description = "Revokes a credential with the given ID for the given participant. Revoked credentials will be added to the Revocation List",
             operationId = "revokeCredential",
             responses = {
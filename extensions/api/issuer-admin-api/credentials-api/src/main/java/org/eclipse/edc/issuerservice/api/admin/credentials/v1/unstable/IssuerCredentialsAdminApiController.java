@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.issuerservice.api.admin.credentials.v1.unstable;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
@@ -27,6 +28,7 @@ import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.identityhub.api.Versions;
+import org.eclipse.edc.identityhub.api.streaming.NdJsonStreamingOutput;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.issuerservice.api.admin.credentials.v1.unstable.model.CredentialOfferDto;
 import org.eclipse.edc.issuerservice.api.admin.credentials.v1.unstable.model.CredentialStatusResponse;
@@ -52,11 +54,14 @@ public class IssuerCredentialsAdminApiController implements IssuerCredentialsAdm
     private final AuthorizationService authorizationService;
     private final CredentialStatusService credentialStatusService;
     private final IssuerCredentialOfferService credentialOfferService;
+    private final ObjectMapper objectMapper;
 
-    public IssuerCredentialsAdminApiController(AuthorizationService authorizationService, CredentialStatusService credentialStatusService, IssuerCredentialOfferService issuerCredentialOfferService) {
+    public IssuerCredentialsAdminApiController(AuthorizationService authorizationService, CredentialStatusService credentialStatusService,
+                                               IssuerCredentialOfferService issuerCredentialOfferService, ObjectMapper objectMapper) {
         this.authorizationService = authorizationService;
         this.credentialStatusService = credentialStatusService;
         this.credentialOfferService = issuerCredentialOfferService;
+        this.objectMapper = objectMapper;
     }
 
     @POST
@@ -75,6 +80,21 @@ public class IssuerCredentialsAdminApiController implements IssuerCredentialsAdm
                 .orElseThrow(exceptionMapper(VerifiableCredential.class, null));
     }
 
+    @POST
+    @Path("/query")
+    @Produces(NdJsonStreamingOutput.PRODUCES)
+    @RequiredScope("issuer-admin-api:credentials:read")
+    @Override
+    public Response streamCredentials(@PathParam("participantContextId") String participantContextId, QuerySpec query, @Context SecurityContext context) {
+        var spec = query.toBuilder().filter(filterByParticipantContextId(participantContextId)).build();
+        var credentials = credentialStatusService.streamCredentials(spec)
+                .orElseThrow(exceptionMapper(VerifiableCredential.class, null))
+                .filter(resource -> authorizationService
+                        .authorize(context, participantContextId, resource.getId(), VerifiableCredentialResource.class)
+                        .succeeded());
+        return Response.ok(new NdJsonStreamingOutput<>(credentials, this::toDto, objectMapper), NdJsonStreamingOutput.MEDIA_TYPE).build();
+    }
+
     @POST
     @RequiredScope("issuer-admin-api:credentials:write")
     @Path("/{credentialId}/revoke")
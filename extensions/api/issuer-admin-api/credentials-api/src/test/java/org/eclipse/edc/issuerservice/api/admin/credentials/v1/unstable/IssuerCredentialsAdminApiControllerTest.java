@@ -22,6 +22,7 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
 import org.eclipse.edc.identityhub.api.Versions;
+import org.eclipse.edc.identityhub.api.streaming.NdJsonStreamingOutput;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.issuerservice.api.admin.credentials.v1.unstable.model.CredentialOfferDto;
@@ -40,6 +41,8 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,6 +54,7 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -102,6 +106,27 @@ class IssuerCredentialsAdminApiControllerTest extends RestControllerTestBase {
         assertThat(credentials).isEmpty();
     }
 
+    @Test
+    void streamCredentials() {
+        var closed = new AtomicBoolean();
+        when(credentialStatusService.streamCredentials(any(QuerySpec.class)))
+                .thenReturn(ServiceResult.success(Stream.of(createCredential(), createCredential()).onClose(() -> closed.set(true))));
+
+        var body = baseRequest()
+                .accept(NdJsonStreamingOutput.MEDIA_TYPE)
+                .body("{}")
+                .post("/query")
+                .then()
+                .log().ifError()
+                .statusCode(200)
+                .contentType(NdJsonStreamingOutput.MEDIA_TYPE)
+                .extract().body().asString();
+
+        assertThat(body.lines()).hasSize(2).allSatisfy(line -> assertThat(objectMapper.readValue(line, VerifiableCredentialResourceDto.class).id()).isNotNull());
+        assertThat(closed).isTrue();
+        verify(credentialStatusService, never()).queryCredentials(any());
+    }
+
     @Test
     void revokeCredential_whenAlreadyRevoked() {
         when(credentialStatusService.revokeCredential(anyString()))
@@ -242,7 +267,7 @@ class IssuerCredentialsAdminApiControllerTest extends RestControllerTestBase {
 
     @Override
     protected Object controller() {
-        return new IssuerCredentialsAdminApiController(authorizationService, credentialStatusService, credentialOfferService);
+        return new IssuerCredentialsAdminApiController(authorizationService, credentialStatusService, credentialOfferService, objectMapper);
     }
 
     private @NotNull VerifiableCredentialResource createCredential() {
@@ -21,10 +21,12 @@ plugins {
 dependencies {
     api(project(":spi:issuerservice:issuerservice-holder-spi"))
     implementation(project(":extensions:api:issuer-admin-api:issuer-admin-api-configuration"))
+    implementation(project(":extensions:api:lib:identityhub-api-streaming-lib"))
     implementation(libs.edc.spi.core)
     implementation(libs.edc.lib.core)
     implementation(libs.jakarta.rsApi)
     implementation(libs.jakarta.annotation)
+    implementation(libs.jackson.databind)
 
 
     testImplementation(libs.edc.junit)
@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.web.spi.WebService;
 
 import static org.eclipse.edc.issuerservice.api.admin.holder.IssuerHolderAdminApiExtension.NAME;
@@ -40,6 +41,8 @@ public class IssuerHolderAdminApiExtension implements ServiceExtension {
     private HolderService holderService;
     @Inject
     private AuthorizationService authorizationService;
+    @Inject
+    private TypeManager typeManager;
 
     @Override
     public String name() {
@@ -49,7 +52,7 @@ public class IssuerHolderAdminApiExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         authorizationService.addLookupFunction(Holder.class, this::findById);
-        var controller = new IssuerHolderAdminApiController(authorizationService, holderService);
+        var controller = new IssuerHolderAdminApiController(authorizationService, holderService, typeManager.getMapper());
         webService.registerResource(IdentityHubApiContext.ISSUERADMIN, controller);
     }
 
@@ -109,4 +109,20 @@ public interface IssuerHolderAdminApi {
             }
     )
     Collection<Holder> queryHolders(String participantContextId, QuerySpec querySpec, SecurityContext context);
+
+    @Operation(description = "Gets all holders for a certain query, and streams them as newline-delimited JSON (one holder per line). Selected with the " +
+            "'Accept: application/x-ndjson' header. The limit of the query is honored, so for large result sets clients should page through " +
+            "the results by sorting by 'holderId' and filtering for 'holderId > <last ID of the previous page>'.",
+            operationId = "streamHolders",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = QuerySpec.class), mediaType = "application/json")),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "A stream of holders metadata.",
+                            content = @Content(schema = @Schema(implementation = Holder.class), mediaType = "application/x-ndjson")),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed, or the request could not be processed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)), mediaType = "application/json")),
+                    @ApiResponse(responseCode = "401", description = "The request could not be completed, because either the authentication was missing or was not valid.",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)), mediaType = "application/json"))
+            }
+    )
+    Response streamHolders(String participantContextId, QuerySpec querySpec, SecurityContext context);
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.issuerservice.api.admin.holder.v1.unstable;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -28,6 +29,7 @@ import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
 import org.eclipse.edc.identityhub.api.Versions;
+import org.eclipse.edc.identityhub.api.streaming.NdJsonStreamingOutput;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.issuerservice.api.admin.holder.v1.unstable.model.HolderDto;
 import org.eclipse.edc.issuerservice.spi.holder.HolderService;
@@ -48,10 +50,12 @@ public class IssuerHolderAdminApiController implements IssuerHolderAdminApi {
 
     private final AuthorizationService authorizationService;
     private final HolderService holderService;
+    private final ObjectMapper objectMapper;
 
-    public IssuerHolderAdminApiController(AuthorizationService authorizationService, HolderService holderService) {
+    public IssuerHolderAdminApiController(AuthorizationService authorizationService, HolderService holderService, ObjectMapper objectMapper) {
         this.authorizationService = authorizationService;
         this.holderService = holderService;
+        this.objectMapper = objectMapper;
     }
 
     @POST
@@ -107,4 +111,17 @@ public class IssuerHolderAdminApiController implements IssuerHolderAdminApi {
                         .filter(holder -> authorizationService.authorize(context, participantContextId, holder.getHolderId(), Holder.class).succeeded()).toList())
                 .orElseThrow(exceptionMapper(Holder.class, null));
     }
+
+    @POST
+    @RequiredScope("issuer-admin-api:holders:read")
+    @Path("/query")
+    @Produces(NdJsonStreamingOutput.PRODUCES)
+    @Override
+    public Response streamHolders(@PathParam("participantContextId") String participantContextId, QuerySpec querySpec, @Context SecurityContext context) {
+        var spec = querySpec.toBuilder().filter(filterByParticipantContextId(participantContextId)).build();
+        var holders = holderService.streamHolders(spec)
+                .orElseThrow(exceptionMapper(Holder.class, null))
+                .filter(holder -> authorizationService.authorize(context, participantContextId, holder.getHolderId(), Holder.class).succeeded());
+        return Response.ok(new NdJsonStreamingOutput<>(holders, objectMapper), NdJsonStreamingOutput.MEDIA_TYPE).build();
+    }
 }
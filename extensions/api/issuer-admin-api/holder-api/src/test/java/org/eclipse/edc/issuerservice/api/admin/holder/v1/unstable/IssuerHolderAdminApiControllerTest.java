@@ -17,6 +17,7 @@ package org.eclipse.edc.issuerservice.api.admin.holder.v1.unstable;
 import io.restassured.specification.RequestSpecification;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.identityhub.api.Versions;
+import org.eclipse.edc.identityhub.api.streaming.NdJsonStreamingOutput;
 import org.eclipse.edc.issuerservice.api.admin.holder.v1.unstable.model.HolderDto;
 import org.eclipse.edc.issuerservice.spi.holder.HolderService;
 import org.eclipse.edc.issuerservice.spi.holder.model.Holder;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -165,6 +167,25 @@ class IssuerHolderAdminApiControllerTest extends RestControllerTestBase {
         assertThat(dto).isEmpty();
     }
 
+    @Test
+    void streamHolders() {
+        var test = createHolder("test-id", "did:web:test", "test name");
+        when(holderService.streamHolders(any())).thenReturn(ServiceResult.success(Stream.of(test)));
+
+        var body = baseRequest()
+                .accept(NdJsonStreamingOutput.MEDIA_TYPE)
+                .body(QuerySpec.Builder.newInstance().build())
+                .post("/query")
+                .then()
+                .log().ifValidationFails()
+                .statusCode(200)
+                .contentType(NdJsonStreamingOutput.MEDIA_TYPE)
+                .extract().body().asString();
+
+        assertThat(body.lines()).hasSize(1)
+                .allSatisfy(line -> assertThat(objectMapper.readValue(line, Holder.class)).usingRecursiveComparison().isEqualTo(test));
+    }
+
     @Test
     void deleteHolder_success() {
         when(holderService.deleteHolder(any())).thenReturn(ServiceResult.success());
@@ -204,7 +225,7 @@ class IssuerHolderAdminApiControllerTest extends RestControllerTestBase {
 
     @Override
     protected Object controller() {
-        return new IssuerHolderAdminApiController(authorizationService, holderService);
+        return new IssuerHolderAdminApiController(authorizationService, holderService, objectMapper);
     }
 
     private Holder createHolder(String id, String did, String name) {
@@ -16,8 +16,11 @@ package org.eclipse.edc.identityhub.api;
 
 import org.eclipse.edc.api.authorization.filter.ScopeBasedAccessFeature;
 import org.eclipse.edc.identityhub.api.authentication.filter.ServicePrincipalAuthenticationFilter;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextObservable;
 import org.eclipse.edc.identityhub.spi.webcontext.IdentityHubApiContext;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.security.Vault;
@@ -25,6 +28,8 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.web.spi.WebService;
 
+import java.time.Clock;
+
 import static org.eclipse.edc.identityhub.api.IssuerAdminApiAuthenticationExtension.NAME;
 
 @Extension(NAME)
@@ -37,6 +42,14 @@ public class IssuerAdminApiAuthenticationExtension implements ServiceExtension {
     private IdentityHubParticipantContextService participantContextService;
     @Inject
     private Vault vault;
+    @Inject
+    private ParticipantContextObservable participantContextObservable;
+    @Inject
+    private Clock clock;
+    @Inject
+    private MetricRecorder metricRecorder;
+    @Configuration
+    private PrincipalCacheConfiguration principalCacheConfiguration;
 
     @Override
     public String name() {
@@ -47,6 +60,8 @@ public class IssuerAdminApiAuthenticationExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var alias = IdentityHubApiContext.ISSUERADMIN;
         webService.registerResource(alias, new ScopeBasedAccessFeature());
-        webService.registerResource(alias, new ServicePrincipalAuthenticationFilter(new ParticipantServicePrincipalResolver(participantContextService, vault)));
+        var resolver = principalCacheConfiguration.decorate(new ParticipantServicePrincipalResolver(participantContextService, vault),
+                "issuer-admin-api-principal", clock, participantContextObservable, metricRecorder);
+        webService.registerResource(alias, new ServicePrincipalAuthenticationFilter(resolver));
     }
 }
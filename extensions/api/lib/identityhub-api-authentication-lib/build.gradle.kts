@@ -19,11 +19,13 @@ plugins {
 
 dependencies {
     api(project(":spi:identity-hub-spi"))
+    api(project(":spi:metrics-spi"))
 
     implementation(libs.edc.spi.core)
     implementation(libs.jakarta.rsApi)
     implementation(libs.jakarta.annotation)
 
     testImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":spi:metrics-spi")))
     testRuntimeOnly(libs.jersey.common) // needs the RuntimeDelegate
 }
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.api;
+
+import org.eclipse.edc.identityhub.spi.authentication.ServicePrincipal;
+import org.eclipse.edc.identityhub.spi.authentication.ServicePrincipalResolver;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextListener;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
+import org.eclipse.edc.spi.EdcException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.CACHE_REQUEST_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_HIT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_MISS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_CACHE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
+
+/**
+ * Caches {@link ServicePrincipal}s that were resolved by another {@link ServicePrincipalResolver}, so that repeated requests with the
+ * same API key do not require a database lookup and a {@link org.eclipse.edc.spi.security.Vault} access.
+ * <p>
+ * Cache entries are keyed by the SHA-256 hash of the API key, the API key itself is never held in memory. Entries expire after the
+ * configured time-to-live, and they are evicted when the participant context is updated (e.g. deactivated) or deleted, or when its API key
+ * is regenerated.
+ * <p>
+ * Every invalidation increments a generation counter. A principal that was resolved while an invalidation happened is not cached, because
+ * the delegate may have read the previous API key or participant state. Cache hits and misses are recorded as
+ * {@link org.eclipse.edc.identityhub.spi.metrics.MetricNames#CACHE_REQUEST_COUNT}.
+ */
+class CachingServicePrincipalResolver implements ServicePrincipalResolver, ParticipantContextListener {
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final ServicePrincipalResolver delegate;
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final int maxEntries;
+    private final MetricRecorder metrics;
+    private final String cacheName;
+    private final Map<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    CachingServicePrincipalResolver(ServicePrincipalResolver delegate, Clock clock, Duration timeToLive, int maxEntries, MetricRecorder metrics, String cacheName) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.maxEntries = maxEntries;
+        this.metrics = metrics;
+        this.cacheName = cacheName;
+    }
+
+    @Override
+    public ServicePrincipal findByCredential(String credential) {
+        var key = hash(credential);
+        var now = clock.instant();
+        var cached = principals.get(key);
+        if (cached != null) {
+            if (now.isBefore(cached.expiresAt())) {
+                metrics.increment(CACHE_REQUEST_COUNT, TAG_CACHE, cacheName, TAG_OUTCOME, OUTCOME_HIT);
+                return cached;
+            }
+            principals.remove(key, cached);
+        }
+        metrics.increment(CACHE_REQUEST_COUNT, TAG_CACHE, cacheName, TAG_OUTCOME, OUTCOME_MISS);
+
+        var loadedAt = generation.get();
+        var principal = delegate.findByCredential(credential);
+        put(key, new CachedPrincipal(principal.getPrincipal(), principal.getScope(), now.plus(timeToLive)), loadedAt);
+        return principal;
+    }
+
+    @Override
+    public void updated(IdentityHubParticipantContext updatedContext) {
+        invalidate(updatedContext.getParticipantContextId());
+    }
+
+    @Override
+    public void deleted(IdentityHubParticipantContext deletedContext) {
+        invalidate(deletedContext.getParticipantContextId());
+    }
+
+    @Override
+    public void apiTokenRegenerated(IdentityHubParticipantContext participantContext) {
+        invalidate(participantContext.getParticipantContextId());
+    }
+
+    private void put(String key, CachedPrincipal principal, long loadedAt) {
+        if (generation.get() != loadedAt) {
+            return;
+        }
+        if (principals.size() >= maxEntries) {
+            var now = clock.instant();
+            principals.values().removeIf(p -> !now.isBefore(p.expiresAt()));
+        }
+        if (principals.size() < maxEntries) {
+            principals.put(key, principal);
+            // an invalidation that ran between the generation check and the put may have missed this entry
+            if (generation.get() != loadedAt) {
+                principals.remove(key, principal);
+            }
+        }
+    }
+
+    private void invalidate(String participantContextId) {
+        generation.incrementAndGet();
+        principals.values().removeIf(p -> p.getPrincipal().equals(participantContextId));
+    }
+
+    private String hash(String credential) {
+        try {
+            var digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(credential.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Snapshot of a resolved principal. Does not retain the credential.
+     */
+    private record CachedPrincipal(String principal, String scope, Instant expiresAt) implements ServicePrincipal {
+        @Override
+        public String getPrincipal() {
+            return principal;
+        }
+
+        @Override
+        public String getCredential() {
+            return null;
+        }
+
+        @Override
+        public String getScope() {
+            return scope;
+        }
+    }
+}
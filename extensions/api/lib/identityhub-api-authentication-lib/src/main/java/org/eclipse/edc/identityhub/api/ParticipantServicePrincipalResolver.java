@@ -22,6 +22,8 @@ import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParti
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.web.spi.exception.AuthenticationFailedException;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Base64;
 
 /**
@@ -55,7 +57,7 @@ class ParticipantServicePrincipalResolver implements ServicePrincipalResolver {
         }
         var principalId = Base64.getDecoder().decode(tokens[0]);
         var user = findByPrincipal(new String(principalId));
-        if (user.getCredential().equals(credential)) {
+        if (user.getCredential() != null && MessageDigest.isEqual(user.getCredential().getBytes(StandardCharsets.UTF_8), credential.getBytes(StandardCharsets.UTF_8))) {
             return user;
         }
         throw new AuthenticationFailedException("Invalid API token");
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.api;
+
+import org.eclipse.edc.identityhub.spi.authentication.ServicePrincipalResolver;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextObservable;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configuration of the cache for resolved API principals, shared by all APIs that authenticate with the participant's API key.
+ */
+@Settings
+public record PrincipalCacheConfiguration(
+        @Setting(key = PrincipalCacheConfiguration.CONFIG_TTL, description = "Time (in seconds) for which resolved API principals are cached. Configuring a number <=0 disables the cache.",
+                defaultValue = PrincipalCacheConfiguration.DEFAULT_TTL_SECONDS + "")
+        long timeToLiveSeconds,
+        @Setting(key = PrincipalCacheConfiguration.CONFIG_SIZE, description = "Maximum number of API principals that are held in the cache.",
+                min = 0, defaultValue = PrincipalCacheConfiguration.DEFAULT_MAX_ENTRIES + "")
+        int maxEntries
+) {
+    public static final String CONFIG_TTL = "edc.api.auth.principal.cache.ttl";
+    public static final String CONFIG_SIZE = "edc.api.auth.principal.cache.size";
+    public static final int DEFAULT_TTL_SECONDS = 60;
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * Wraps the given resolver in a cache, unless caching is disabled. The cache is registered with the observable, so that it is evicted
+     * when a participant context changes.
+     *
+     * @param resolver   the resolver that performs the actual lookup
+     * @param cacheName  the name under which cache hits and misses are recorded
+     * @param clock      the clock used to expire entries
+     * @param observable the observable for participant context changes
+     * @param metrics    the recorder for cache hits and misses
+     * @return the caching resolver, or the given resolver if caching is disabled
+     */
+    public ServicePrincipalResolver decorate(ServicePrincipalResolver resolver, String cacheName, Clock clock, ParticipantContextObservable observable, MetricRecorder metrics) {
+        if (timeToLiveSeconds <= 0 || maxEntries <= 0) {
+            return resolver;
+        }
+        var cachingResolver = new CachingServicePrincipalResolver(resolver, clock, Duration.ofSeconds(timeToLiveSeconds), maxEntries, metrics, cacheName);
+        observable.registerListener(cachingResolver);
+        return cachingResolver;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.api;
+
+import org.eclipse.edc.identityhub.spi.authentication.ServicePrincipal;
+import org.eclipse.edc.identityhub.spi.authentication.ServicePrincipalResolver;
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
+import org.eclipse.edc.web.spi.exception.AuthenticationFailedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.CACHE_REQUEST_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_HIT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_MISS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_CACHE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingServicePrincipalResolverTest {
+
+    private static final String PARTICIPANT_CONTEXT_ID = "test-participant";
+    private static final String API_KEY = "dGVzdC1wYXJ0aWNpcGFudA==.secret";
+    private static final String CACHE_NAME = "test-cache";
+    private final ServicePrincipalResolver delegate = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final InMemoryMetricRecorder metrics = new InMemoryMetricRecorder();
+    private final CachingServicePrincipalResolver resolver = new CachingServicePrincipalResolver(delegate, clock, Duration.ofSeconds(60), 10, metrics, CACHE_NAME);
+
+    @BeforeEach
+    void setup() {
+        when(clock.instant()).thenReturn(now);
+        var principal = mock(ServicePrincipal.class);
+        when(principal.getPrincipal()).thenReturn(PARTICIPANT_CONTEXT_ID);
+        when(principal.getScope()).thenReturn("scope1 scope2");
+        when(delegate.findByCredential(API_KEY)).thenReturn(principal);
+    }
+
+    @Test
+    void findByCredential_cached() {
+        resolver.findByCredential(API_KEY);
+        var principal = resolver.findByCredential(API_KEY);
+
+        assertThat(principal.getPrincipal()).isEqualTo(PARTICIPANT_CONTEXT_ID);
+        assertThat(principal.getScope()).isEqualTo("scope1 scope2");
+        assertThat(principal.getCredential()).isNull();
+        verify(delegate, times(1)).findByCredential(anyString());
+        assertThat(metrics.count(CACHE_REQUEST_COUNT, TAG_CACHE, CACHE_NAME, TAG_OUTCOME, OUTCOME_HIT)).isEqualTo(1);
+        assertThat(metrics.count(CACHE_REQUEST_COUNT, TAG_CACHE, CACHE_NAME, TAG_OUTCOME, OUTCOME_MISS)).isEqualTo(1);
+    }
+
+    @Test
+    void findByCredential_expired() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(61));
+
+        resolver.findByCredential(API_KEY);
+        resolver.findByCredential(API_KEY);
+
+        verify(delegate, times(2)).findByCredential(anyString());
+    }
+
+    @Test
+    void findByCredential_failure_notCached() {
+        when(delegate.findByCredential("invalid")).thenThrow(new AuthenticationFailedException("Invalid API token"));
+
+        assertThatThrownBy(() -> resolver.findByCredential("invalid")).isInstanceOf(AuthenticationFailedException.class);
+        assertThatThrownBy(() -> resolver.findByCredential("invalid")).isInstanceOf(AuthenticationFailedException.class);
+
+        verify(delegate, times(2)).findByCredential("invalid");
+    }
+
+    @Test
+    void apiTokenRegenerated_invalidates() {
+        resolver.findByCredential(API_KEY);
+        resolver.apiTokenRegenerated(participantContext());
+        resolver.findByCredential(API_KEY);
+
+        verify(delegate, times(2)).findByCredential(anyString());
+    }
+
+    @Test
+    void apiTokenRegeneratedWhileResolving_shouldNotCache() {
+        var principal = mock(ServicePrincipal.class);
+        when(principal.getPrincipal()).thenReturn(PARTICIPANT_CONTEXT_ID);
+        when(delegate.findByCredential(API_KEY)).thenAnswer(i -> {
+            // the delegate has already read the old API key when the new one is committed
+            resolver.apiTokenRegenerated(participantContext());
+            return principal;
+        });
+
+        resolver.findByCredential(API_KEY);
+        resolver.findByCredential(API_KEY);
+
+        verify(delegate, times(2)).findByCredential(anyString());
+    }
+
+    @Test
+    void updated_invalidates() {
+        resolver.findByCredential(API_KEY);
+        resolver.updated(participantContext());
+        resolver.findByCredential(API_KEY);
+
+        verify(delegate, times(2)).findByCredential(anyString());
+    }
+
+    @Test
+    void deleted_invalidates() {
+        resolver.findByCredential(API_KEY);
+        resolver.deleted(participantContext());
+        resolver.findByCredential(API_KEY);
+
+        verify(delegate, times(2)).findByCredential(anyString());
+    }
+
+    private IdentityHubParticipantContext participantContext() {
+        return IdentityHubParticipantContext.Builder.newInstance()
+                .participantContextId(PARTICIPANT_CONTEXT_ID)
+                .did("did:web:" + PARTICIPANT_CONTEXT_ID)
+                .apiTokenAlias("alias")
+                .build();
+    }
+}
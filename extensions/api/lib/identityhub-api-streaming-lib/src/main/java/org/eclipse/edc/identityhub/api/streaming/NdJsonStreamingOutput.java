@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.api.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes the elements of a {@link Stream} as <a href="https://github.com/ndjson/ndjson-spec">newline-delimited JSON</a>, one object
+ * per line, as they are pulled from the stream. The full result is never held in memory, and the response is sent in chunks.
+ * <p>
+ * The stream is closed once all elements were written, or when writing fails (e.g. because the client disconnected), so that
+ * streams backed by a database cursor release their connection.
+ *
+ * @param <T> the type of the stream elements
+ */
+public class NdJsonStreamingOutput<T> implements StreamingOutput {
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    /**
+     * Value for the {@code @Produces} annotation of streaming resource methods. The reduced source quality makes sure that clients
+     * that accept any media type keep receiving plain JSON from the non-streaming method of the same path.
+     */
+    public static final String PRODUCES = MEDIA_TYPE + ";qs=0.5";
+
+    private static final byte[] NEWLINE = { '\n' };
+
+    private final Stream<T> stream;
+    private final Function<T, ?> mapper;
+    private final ObjectWriter writer;
+
+    public NdJsonStreamingOutput(Stream<T> stream, ObjectMapper objectMapper) {
+        this(stream, Function.identity(), objectMapper);
+    }
+
+    /**
+     * Creates a streaming output that converts each element with the given function before it is serialized, e.g. into a DTO.
+     */
+    public NdJsonStreamingOutput(Stream<T> stream, Function<T, ?> mapper, ObjectMapper objectMapper) {
+        this.stream = stream;
+        this.mapper = mapper;
+        // the output stream belongs to the container, it must not be closed after every element
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (stream) {
+            var iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(output, mapper.apply(iterator.next()));
+                output.write(NEWLINE);
+            }
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.api.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NdJsonStreamingOutputTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void write_oneObjectPerLine() throws IOException {
+        var output = new ByteArrayOutputStream();
+
+        new NdJsonStreamingOutput<>(Stream.of(Map.of("id", "1"), Map.of("id", "2")), objectMapper).write(output);
+
+        assertThat(output.toString()).isEqualTo("{\"id\":\"1\"}\n{\"id\":\"2\"}\n");
+    }
+
+    @Test
+    void write_appliesMapper() throws IOException {
+        var output = new ByteArrayOutputStream();
+
+        new NdJsonStreamingOutput<>(Stream.of("1", "2"), id -> Map.of("id", id), objectMapper).write(output);
+
+        assertThat(output.toString()).isEqualTo("{\"id\":\"1\"}\n{\"id\":\"2\"}\n");
+    }
+
+    @Test
+    void write_empty() throws IOException {
+        var output = new ByteArrayOutputStream();
+
+        new NdJsonStreamingOutput<>(Stream.empty(), objectMapper).write(output);
+
+        assertThat(output.toString()).isEmpty();
+    }
+
+    @Test
+    void write_closesStream() throws IOException {
+        var closed = new AtomicBoolean();
+
+        new NdJsonStreamingOutput<>(Stream.of("1").onClose(() -> closed.set(true)), objectMapper).write(new ByteArrayOutputStream());
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void write_outputFails_closesStream() {
+        var closed = new AtomicBoolean();
+        var failingOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("client disconnected");
+            }
+        };
+
+        var streamingOutput = new NdJsonStreamingOutput<>(Stream.of("1").onClose(() -> closed.set(true)), objectMapper);
+
+        assertThatThrownBy(() -> streamingOutput.write(failingOutput)).isInstanceOf(IOException.class);
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.credentialwatchdog;
+
+import org.eclipse.edc.identityhub.spi.credential.request.model.RequestedCredential;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.CredentialRequestManager;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.CredentialUsage;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Optional.ofNullable;
+import static org.eclipse.edc.identityhub.common.credentialwatchdog.CredentialWatchdog.ALLOWED_STATES;
+
+/**
+ * This is a runnable task that is intended to be executed periodically to renew credentials before they expire. Every execution selects
+ * the holder credentials that expire within the renewal window, using the indexed {@link VerifiableCredentialResource#EXPIRATION_TIMESTAMP},
+ * and initiates a {@code HolderCredentialRequest} against the original issuer for each of them. Thus, the cost of an execution is proportional
+ * to the number of expiring credentials rather than to the number of stored credentials.
+ * <p>
+ * Credentials are read in pages of {@code pageSize}, using keyset pagination on the ID, so that credentials that transition to
+ * {@link VcStatus#REQUESTED} during the execution don't shift the pages.
+ * <p>
+ * To avoid that many credentials issued at the same time are renewed at the same time, the start of the renewal of every credential is
+ * delayed by a jitter, which is derived from the credential ID and is therefore stable across executions and nodes. In addition, at most
+ * {@code issuerLimit} renewals are initiated per issuer and execution, the remaining credentials are picked up by subsequent executions.
+ */
+public class CredentialRenewalScheduler implements Runnable {
+    private final CredentialStore credentialStore;
+    private final CredentialRequestManager credentialRequestManager;
+    private final TransactionContext transactionContext;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final Duration renewalWindow;
+    private final Duration jitter;
+    private final int pageSize;
+    private final int issuerLimit;
+
+    public CredentialRenewalScheduler(CredentialStore credentialStore,
+                                      CredentialRequestManager credentialRequestManager,
+                                      TransactionContext transactionContext,
+                                      Monitor monitor,
+                                      Clock clock,
+                                      Duration renewalWindow,
+                                      Duration jitter,
+                                      int pageSize,
+                                      int issuerLimit) {
+        this.credentialStore = credentialStore;
+        this.credentialRequestManager = credentialRequestManager;
+        this.transactionContext = transactionContext;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.renewalWindow = renewalWindow;
+        // the jitter must not push the renewal beyond the expiry
+        this.jitter = jitter.compareTo(renewalWindow) > 0 ? renewalWindow : jitter;
+        this.pageSize = pageSize;
+        this.issuerLimit = issuerLimit;
+    }
+
+    @Override
+    public void run() {
+        var now = clock.instant();
+        var renewalsPerIssuer = new HashMap<String, Integer>();
+        String lastId = null;
+        Collection<VerifiableCredentialResource> page;
+        do {
+            page = nextPage(now, lastId);
+            for (var credential : page) {
+                lastId = credential.getId();
+                if (isDue(credential, now) && renewalsPerIssuer.getOrDefault(credential.getIssuerId(), 0) < issuerLimit && startRenewal(credential)) {
+                    renewalsPerIssuer.merge(credential.getIssuerId(), 1, Integer::sum);
+                }
+            }
+        } while (page.size() == pageSize);
+
+        if (!renewalsPerIssuer.isEmpty()) {
+            monitor.debug("Initiated renewal of credentials per issuer: %s".formatted(renewalsPerIssuer));
+        }
+    }
+
+    private Collection<VerifiableCredentialResource> nextPage(Instant now, @Nullable String lastId) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("state", "in", ALLOWED_STATES))
+                .filter(new Criterion("usage", "=", CredentialUsage.Holder.toString()))
+                .filter(new Criterion(VerifiableCredentialResource.EXPIRATION_TIMESTAMP, "<=", now.plus(renewalWindow).toEpochMilli()))
+                .sortField("id")
+                .sortOrder(SortOrder.ASC)
+                .limit(pageSize);
+        if (lastId != null) {
+            query.filter(new Criterion("id", ">", lastId));
+        }
+        return transactionContext.execute(() -> credentialStore.query(query.build()))
+                .onFailure(f -> monitor.warning("Failed to fetch expiring credentials from database: %s".formatted(f.getFailureDetail())))
+                .orElse(f -> List.of());
+    }
+
+    /**
+     * The renewal of a credential starts at the beginning of the renewal window before its expiry, delayed by the jitter of the credential.
+     */
+    private boolean isDue(VerifiableCredentialResource credential, Instant now) {
+        var jitterMillis = jitter.toMillis();
+        var delay = jitterMillis > 0 ? Math.floorMod(credential.getId().hashCode(), jitterMillis) : 0;
+        var renewalStart = Instant.ofEpochMilli(credential.getExpirationTimestamp()).minus(renewalWindow).plusMillis(delay);
+        return !now.isBefore(renewalStart);
+    }
+
+    private boolean startRenewal(VerifiableCredentialResource expiringCredential) {
+
+        var formatString = expiringCredential.getVerifiableCredential().format().toString();
+        var type = expiringCredential.getVerifiableCredential().credential().getType()
+                .stream()
+                .filter(s -> !s.equalsIgnoreCase("VerifiableCredential"))
+                .findAny()
+                .orElse(null);
+        var credentialObjectId = ofNullable(expiringCredential.getMetadata()).map(m -> m.get("credentialObjectId")).map(Object::toString);
+
+        if (credentialObjectId.isEmpty()) {
+            monitor.warning("Attempting to start re-issuance for credential '%s' failed: No CredentialObjectId found (metadata property 'credentialObjectId'). Will abort re-issuance.".formatted(expiringCredential.getId()));
+            return false;
+        }
+
+        var requestedCredential = new RequestedCredential(credentialObjectId.get(), type, formatString);
+        // the query result may be the instance held by the store, so the update is applied to a copy
+        var requested = expiringCredential.copy();
+        requested.setCredentialStatus(VcStatus.REQUESTED);
+
+        return transactionContext.execute(() -> credentialRequestManager.initiateRequest(expiringCredential.getParticipantContextId(),
+                                expiringCredential.getIssuerId(),
+                                UUID.randomUUID().toString(),
+                                List.of(requestedCredential))
+                        .compose(holderRequestId -> ServiceResult.from(credentialStore.update(requested)))
+                        .onFailure(f -> monitor.warning("Error sending re-issuance request: %s".formatted(f.getFailureDetail()))))
+                .succeeded();
+    }
+}
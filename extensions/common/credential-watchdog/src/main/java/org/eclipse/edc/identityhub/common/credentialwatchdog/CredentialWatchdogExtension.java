@@ -27,6 +27,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.security.SecureRandom;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -42,6 +43,9 @@ public class CredentialWatchdogExtension implements ServiceExtension {
     public static final int DEFAULT_WATCHDOG_PERIOD = 60;
     public static final int DEFAULT_WATCHDOG_INITIAL_DELAY = 5;
     public static final int DEFAULT_GRACE_PERIOD_SECONDS = 7 * 24 * 3600; // 1 week
+    public static final int DEFAULT_RENEWAL_JITTER_SECONDS = 3600;
+    public static final int DEFAULT_RENEWAL_BATCH_SIZE = 100;
+    public static final int DEFAULT_RENEWAL_ISSUER_LIMIT = 20;
     public static final String CREDENTIAL_WATCHDOG = "CredentialWatchdog";
     private final SecureRandom random = new SecureRandom();
 
@@ -57,6 +61,22 @@ public class CredentialWatchdogExtension implements ServiceExtension {
             min = 0, defaultValue = DEFAULT_GRACE_PERIOD_SECONDS + "")
     private long gracePeriodSeconds;
 
+    @Setting(description = "Period (in seconds) at which expiring credentials are selected for renewal. Defaults to the period of the Watchdog. Configuring a number <=0 disables the automatic renewal.",
+            key = "edc.iam.credential.renewal.period", required = false)
+    private Integer renewalPeriod;
+
+    @Setting(description = "Maximum delay (in seconds) that is added to the start of the renewal of a credential, to spread the renewals of credentials that expire at the same time. Capped at the grace period.",
+            key = "edc.iam.credential.renewal.jitter", min = 0, defaultValue = DEFAULT_RENEWAL_JITTER_SECONDS + "")
+    private long renewalJitterSeconds;
+
+    @Setting(description = "Number of expiring credentials that are read from the database at once.",
+            key = "edc.iam.credential.renewal.batchsize", min = 1, defaultValue = DEFAULT_RENEWAL_BATCH_SIZE + "")
+    private int renewalBatchSize;
+
+    @Setting(description = "Maximum number of renewals that are initiated per issuer in one renewal run. Remaining credentials are renewed in subsequent runs.",
+            key = "edc.iam.credential.renewal.issuer.limit", min = 1, defaultValue = DEFAULT_RENEWAL_ISSUER_LIMIT + "")
+    private int renewalIssuerLimit;
+
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
     @Inject
@@ -67,6 +87,8 @@ public class CredentialWatchdogExtension implements ServiceExtension {
     private TransactionContext transactionContext;
     @Inject
     private CredentialRequestManager credentialRequestManager;
+    @Inject
+    private Clock clock;
     private ScheduledExecutorService scheduledExecutorService;
     private Monitor monitor;
 
@@ -92,8 +114,18 @@ public class CredentialWatchdogExtension implements ServiceExtension {
     public void start() {
         if (scheduledExecutorService != null && !scheduledExecutorService.isShutdown()) {
             monitor.debug(() -> "Starting credential watchdog in %d seconds, every %d seconds".formatted(initialDelay, watchdogPeriod));
-            var watchdog = new CredentialWatchdog(credentialStore, credentialStatusCheckService, monitor, transactionContext, Duration.ofSeconds(gracePeriodSeconds), credentialRequestManager);
+            var watchdog = new CredentialWatchdog(credentialStore, credentialStatusCheckService, monitor, transactionContext);
             scheduledExecutorService.scheduleAtFixedRate(watchdog, initialDelay, watchdogPeriod, TimeUnit.SECONDS);
+
+            var period = ofNullable(renewalPeriod).orElse(watchdogPeriod);
+            if (period > 0) {
+                monitor.debug(() -> "Starting credential renewal in %d seconds, every %d seconds".formatted(initialDelay, period));
+                var renewalScheduler = new CredentialRenewalScheduler(credentialStore, credentialRequestManager, transactionContext, monitor, clock,
+                        Duration.ofSeconds(gracePeriodSeconds), Duration.ofSeconds(renewalJitterSeconds), renewalBatchSize, renewalIssuerLimit);
+                scheduledExecutorService.scheduleAtFixedRate(renewalScheduler, initialDelay, period, TimeUnit.SECONDS);
+            } else {
+                monitor.debug(() -> "The automatic credential renewal is disabled.");
+            }
         }
     }
 
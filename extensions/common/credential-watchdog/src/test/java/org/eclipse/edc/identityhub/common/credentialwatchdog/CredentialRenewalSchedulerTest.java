@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.credentialwatchdog;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.CredentialRequestManager;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat.VC1_0_JWT;
+import static org.eclipse.edc.identityhub.common.credentialwatchdog.CredentialWatchdog.ALLOWED_STATES;
+import static org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus.REQUESTED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CredentialRenewalSchedulerTest {
+
+    private static final Duration RENEWAL_WINDOW = Duration.ofHours(1);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private final CredentialStore credentialStore = mock();
+    private final CredentialRequestManager credentialRequestManager = mock();
+    private final Monitor monitor = mock();
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        when(credentialRequestManager.initiateRequest(anyString(), anyString(), anyString(), anyList())).thenReturn(ServiceResult.success());
+        when(credentialStore.update(any())).thenReturn(StoreResult.success());
+    }
+
+    @Test
+    void run_whenCredentialIsExpiring_shouldInitiateRenewal() {
+        var cred = expiringCredential("test-issuer", NOW.plusSeconds(60));
+        when(credentialStore.query(any())).thenReturn(StoreResult.success(List.of(cred)));
+
+        scheduler(Duration.ZERO, 10, 10).run();
+
+        // only credentials that expire within the renewal window are selected
+        verify(credentialStore).query(argThat(querySpec ->
+                querySpec.getFilterExpression().size() == 3 &&
+                        querySpec.getFilterExpression().get(0).toString().equals("state in " + ALLOWED_STATES) &&
+                        querySpec.getFilterExpression().get(2).equals(new Criterion(VerifiableCredentialResource.EXPIRATION_TIMESTAMP, "<=", NOW.plus(RENEWAL_WINDOW).toEpochMilli())) &&
+                        querySpec.getLimit() == 10));
+
+        verify(credentialRequestManager)
+                .initiateRequest(eq(cred.getParticipantContextId()), eq(cred.getIssuerId()), anyString(), argThat(list ->
+                        list.size() == 1 &&
+                                list.get(0).credentialType().equalsIgnoreCase("DemoCredential") &&
+                                list.get(0).format().equals(VC1_0_JWT.name())));
+
+        verify(credentialStore).update(argThat(vc -> vc.getStateAsEnum() == REQUESTED));
+        // the query result is not modified
+        assertThat(cred.getStateAsEnum()).isNotEqualTo(REQUESTED);
+    }
+
+    @Test
+    void run_whenCredentialIsExpiring_renewalFails() {
+        var cred = expiringCredential("test-issuer", NOW.plusSeconds(60));
+        when(credentialStore.query(any())).thenReturn(StoreResult.success(List.of(cred)));
+        when(credentialRequestManager.initiateRequest(anyString(), anyString(), anyString(), anyList()))
+                .thenReturn(ServiceResult.badRequest("foobarbaz"));
+
+        scheduler(Duration.ZERO, 10, 10).run();
+
+        verify(credentialRequestManager).initiateRequest(eq(cred.getParticipantContextId()), eq(cred.getIssuerId()), anyString(), anyList());
+        verify(credentialStore, never()).update(any());
+        verify(monitor).warning(contains("foobarbaz"));
+    }
+
+    @Test
+    void run_whenCredentialIsExpiring_noObjectIdPresent() {
+        var cred = createCredentialBuilder("test-issuer", NOW.plusSeconds(60))
+                // .metadata("credentialObjectId", "cred-object-id") missing!
+                .build();
+        when(credentialStore.query(any())).thenReturn(StoreResult.success(List.of(cred)));
+
+        scheduler(Duration.ZERO, 10, 10).run();
+
+        verify(credentialRequestManager, never()).initiateRequest(anyString(), anyString(), anyString(), anyList());
+        verify(monitor).warning(contains("No CredentialObjectId found"));
+    }
+
+    @Test
+    void run_whenRenewalDelayedByJitter_shouldNotInitiateRenewal() {
+        // the jitter of this ID delays the renewal by a few minutes, so the renewal starts after NOW
+        var cred = expiringCredential("test-issuer", NOW.plus(RENEWAL_WINDOW)).toBuilder().id("late-credential").build();
+        var dueCred = expiringCredential("test-issuer", NOW);
+        when(credentialStore.query(any())).thenReturn(StoreResult.success(List.of(cred, dueCred)));
+
+        scheduler(RENEWAL_WINDOW, 10, 10).run();
+
+        verify(credentialRequestManager, times(1)).initiateRequest(anyString(), anyString(), anyString(), anyList());
+        verify(credentialStore).update(argThat(vc -> vc.getId().equals(dueCred.getId())));
+    }
+
+    @Test
+    void run_whenIssuerLimitReached_shouldSkipRemaining() {
+        var creds = List.of(
+                expiringCredential("issuer-1", NOW.plusSeconds(60)),
+                expiringCredential("issuer-1", NOW.plusSeconds(60)),
+                expiringCredential("issuer-1", NOW.plusSeconds(60)),
+                expiringCredential("issuer-2", NOW.plusSeconds(60)));
+        when(credentialStore.query(any())).thenReturn(StoreResult.success(creds));
+
+        scheduler(Duration.ZERO, 10, 2).run();
+
+        verify(credentialRequestManager, times(2)).initiateRequest(anyString(), eq("issuer-1"), anyString(), anyList());
+        verify(credentialRequestManager, times(1)).initiateRequest(anyString(), eq("issuer-2"), anyString(), anyList());
+    }
+
+    @Test
+    void run_whenMultiplePages_shouldContinueAfterLastId() {
+        var first = expiringCredential("test-issuer", NOW.plusSeconds(60)).toBuilder().id("id1").build();
+        var second = expiringCredential("test-issuer", NOW.plusSeconds(60)).toBuilder().id("id2").build();
+        var third = expiringCredential("test-issuer", NOW.plusSeconds(60)).toBuilder().id("id3").build();
+        when(credentialStore.query(any()))
+                .thenReturn(StoreResult.success(List.of(first, second)))
+                .thenReturn(StoreResult.success(List.of(third)));
+
+        scheduler(Duration.ZERO, 2, 10).run();
+
+        verify(credentialStore).query(argThat(querySpec -> querySpec.getFilterExpression().contains(new Criterion("id", ">", "id2"))));
+        verify(credentialStore, times(2)).query(any());
+        verify(credentialRequestManager, times(3)).initiateRequest(anyString(), anyString(), anyString(), anyList());
+    }
+
+    @Test
+    void run_whenQueryFails_shouldLogWarning() {
+        when(credentialStore.query(any())).thenReturn(StoreResult.generalError("test failure"));
+
+        scheduler(Duration.ZERO, 10, 10).run();
+
+        verify(credentialRequestManager, never()).initiateRequest(anyString(), anyString(), anyString(), anyList());
+        verify(monitor).warning(contains("test failure"));
+    }
+
+    private CredentialRenewalScheduler scheduler(Duration jitter, int pageSize, int issuerLimit) {
+        return new CredentialRenewalScheduler(credentialStore, credentialRequestManager, new NoopTransactionContext(), monitor, clock,
+                RENEWAL_WINDOW, jitter, pageSize, issuerLimit);
+    }
+
+    private VerifiableCredentialResource expiringCredential(String issuerId, Instant expirationDate) {
+        return createCredentialBuilder(issuerId, expirationDate)
+                .metadata("credentialObjectId", "cred-object-id")
+                .build();
+    }
+
+    private VerifiableCredentialResource.Builder createCredentialBuilder(String issuerId, Instant expirationDate) {
+        return VerifiableCredentialResource.Builder.newHolder()
+                .issuerId(issuerId)
+                .holderId("test-holder")
+                .state(VcStatus.ISSUED)
+                .participantContextId("participant-id")
+                .credential(new VerifiableCredentialContainer("raw-vc-content", VC1_0_JWT, createVerifiableCredential()
+                        .expirationDate(expirationDate)
+                        .build()))
+                .id(UUID.randomUUID().toString());
+    }
+
+    private VerifiableCredential.Builder createVerifiableCredential() {
+        return VerifiableCredential.Builder.newInstance()
+                .credentialSubject(CredentialSubject.Builder.newInstance().id("test-subject").claim("test-key", "test-val").build())
+                .issuanceDate(NOW.minus(10, ChronoUnit.DAYS))
+                .type("VerifiableCredential")
+                .type("DemoCredential")
+                .issuer(new Issuer("test-issuer", Map.of()))
+                .id("did:web:test-credential");
+    }
+}
@@ -40,6 +40,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -50,6 +51,7 @@ class CredentialWatchdogExtensionTest {
 
     private static final String WATCHDOG_PERIOD_PROPERTY = "edc.iam.credential.status.check.period";
     private static final String WATCHDOG_DELAY_PROPERTY = "edc.iam.credential.status.check.delay";
+    private static final String RENEWAL_PERIOD_PROPERTY = "edc.iam.credential.renewal.period";
     private final ExecutorInstrumentation executorInstrumentationMock = mock();
     private Monitor monitor;
 
@@ -129,6 +131,42 @@ class CredentialWatchdogExtensionTest {
                 stringSupplier.get().startsWith("Starting credential watchdog")));
     }
 
+    @DisplayName("Verify the renewal starts with the period of the watchdog, if no renewal period is configured")
+    @Test
+    void start_shouldStartRenewal(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(
+                WATCHDOG_PERIOD_PROPERTY, String.valueOf(1),
+                WATCHDOG_DELAY_PROPERTY, String.valueOf(1)
+        )));
+        var executorMock = mock(ScheduledExecutorService.class);
+        when(executorInstrumentationMock.instrument(any(), eq(CREDENTIAL_WATCHDOG))).thenReturn(executorMock);
+        var extension = factory.constructInstance(CredentialWatchdogExtension.class);
+        extension.initialize(context);
+        extension.start();
+
+        verify(executorMock).scheduleAtFixedRate(isA(CredentialRenewalScheduler.class), eq(1L), eq(1L), eq(TimeUnit.SECONDS));
+    }
+
+    @DisplayName("Verify the renewal uses the configured period, and is disabled with a <=0 period")
+    @ParameterizedTest(name = "Renewal period of {0} seconds")
+    @ValueSource(ints = { 30, 0 })
+    void start_shouldUseRenewalPeriod(int period, ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(
+                WATCHDOG_PERIOD_PROPERTY, String.valueOf(1),
+                WATCHDOG_DELAY_PROPERTY, String.valueOf(1),
+                RENEWAL_PERIOD_PROPERTY, String.valueOf(period)
+        )));
+        var executorMock = mock(ScheduledExecutorService.class);
+        when(executorInstrumentationMock.instrument(any(), eq(CREDENTIAL_WATCHDOG))).thenReturn(executorMock);
+        var extension = factory.constructInstance(CredentialWatchdogExtension.class);
+        extension.initialize(context);
+        extension.start();
+
+        verify(executorMock).scheduleAtFixedRate(isA(CredentialWatchdog.class), eq(1L), eq(1L), eq(TimeUnit.SECONDS));
+        verify(executorMock, period > 0 ? times(1) : never())
+                .scheduleAtFixedRate(isA(CredentialRenewalScheduler.class), eq(1L), eq((long) period), eq(TimeUnit.SECONDS));
+    }
+
     @DisplayName("Verify shutting down the extension is a NOOP if the watchdog is not started")
     @Test
     void shutdown_whenNotRunning_shouldNoop(ServiceExtensionContext context, ObjectFactory factory) {
@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+dependencies {
+
+    api(project(":spi:identity-hub-spi"))
+    implementation(libs.edc.spi.core)
+    implementation(libs.jackson.databind)
+
+    testImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":spi:identity-hub-spi")))
+}
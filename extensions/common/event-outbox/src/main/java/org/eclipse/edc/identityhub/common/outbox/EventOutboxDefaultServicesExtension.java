@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.outbox;
+
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.identityhub.common.outbox.EventOutboxDefaultServicesExtension.NAME;
+
+@Extension(value = NAME)
+public class EventOutboxDefaultServicesExtension implements ServiceExtension {
+    public static final String NAME = "Event Outbox Default Services Extension";
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public EventOutboxStore createInMemoryEventOutboxStore() {
+        return new InMemoryEventOutboxStore(clock);
+    }
+}
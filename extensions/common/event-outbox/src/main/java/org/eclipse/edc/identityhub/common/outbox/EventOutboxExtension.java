@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.outbox;
+
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.identityhub.common.outbox.EventOutboxExtension.NAME;
+
+/**
+ * Dispatches events to the core subscribers (DID document service, key pair service, STS account provisioner,...) asynchronously,
+ * through a transactional outbox. Adding this extension to a runtime replaces the default, synchronous dispatch.
+ */
+@Extension(value = NAME)
+public class EventOutboxExtension implements ServiceExtension {
+    public static final String NAME = "Event Outbox Extension";
+
+    public static final String EVENT_OUTBOX_WORKER = "EventOutboxWorker";
+    public static final long DEFAULT_POLL_PERIOD_MILLIS = 500;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final long DEFAULT_LEASE_DURATION_SECONDS = 60;
+    public static final int DEFAULT_MAX_ATTEMPTS = 10;
+    public static final long DEFAULT_BACKOFF_MILLIS = 1000;
+
+    @Setting(description = "Period (in milliseconds) at which the event outbox is checked for events that are due for delivery.",
+            min = 1, defaultValue = DEFAULT_POLL_PERIOD_MILLIS + "", key = "edc.events.outbox.period")
+    private long pollPeriodMillis;
+
+    @Setting(description = "Maximum number of events that are leased from the outbox at a time. At most one event per participant context is delivered at a time.",
+            min = 1, defaultValue = DEFAULT_BATCH_SIZE + "", key = "edc.events.outbox.batchsize")
+    private int batchSize;
+
+    @Setting(description = "Number of threads that deliver events to their subscribers.",
+            min = 1, defaultValue = DEFAULT_PARALLELISM + "", key = "edc.events.outbox.parallelism")
+    private int parallelism;
+
+    @Setting(description = "Time (in seconds) after which a leased event is considered abandoned and may be delivered by another runtime. Must be longer than the longest expected delivery.",
+            min = 1, defaultValue = DEFAULT_LEASE_DURATION_SECONDS + "", key = "edc.events.outbox.lease.duration")
+    private long leaseDurationSeconds;
+
+    @Setting(description = "Maximum number of delivery attempts, after which the event is marked as failed.",
+            min = 1, defaultValue = DEFAULT_MAX_ATTEMPTS + "", key = "edc.events.outbox.retry.max")
+    private int maxAttempts;
+
+    @Setting(description = "Base delay (in milliseconds) before a failed delivery is retried. The delay doubles with every attempt.",
+            min = 0, defaultValue = DEFAULT_BACKOFF_MILLIS + "", key = "edc.events.outbox.retry.backoff")
+    private long backoffMillis;
+
+    @Inject
+    private EventRouter eventRouter;
+    @Inject
+    private EventOutboxStore store;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    private Clock clock;
+
+    private OutboxEventDispatchRegistry registry;
+    private ScheduledExecutorService scheduledExecutorService;
+    private ExecutorService deliveryExecutorService;
+    private Monitor monitor;
+    private String workerId;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        monitor = context.getMonitor().withPrefix(EVENT_OUTBOX_WORKER);
+        workerId = context.getRuntimeId();
+        scheduledExecutorService = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), EVENT_OUTBOX_WORKER);
+        deliveryExecutorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(parallelism), EVENT_OUTBOX_WORKER + "-delivery");
+    }
+
+    @Provider
+    public EventDispatchRegistry createEventDispatchRegistry() {
+        return registry();
+    }
+
+    @Override
+    public void start() {
+        var worker = new OutboxWorker(store, registry(), typeManager.getMapper(), transactionContext,
+                deliveryExecutorService, monitor, clock, workerId, batchSize, Duration.ofSeconds(leaseDurationSeconds), maxAttempts,
+                Duration.ofMillis(backoffMillis));
+        scheduledExecutorService.scheduleWithFixedDelay(worker, pollPeriodMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        scheduledExecutorService.shutdownNow();
+        deliveryExecutorService.shutdownNow();
+    }
+
+    private OutboxEventDispatchRegistry registry() {
+        if (registry == null) {
+            registry = new OutboxEventDispatchRegistry(eventRouter, store, typeManager.getMapper());
+        }
+        return registry;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.outbox;
+
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.identityhub.spi.events.outbox.OutboxEntry;
+import org.eclipse.edc.spi.result.StoreResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory implementation of the {@link EventOutboxStore}. Entries do not survive a restart, so this store only decouples the
+ * subscribers from the publisher's thread, it does not make the delivery durable. Not intended for production use.
+ */
+public class InMemoryEventOutboxStore implements EventOutboxStore {
+    private final Clock clock;
+    private final TreeMap<Long, OutboxEntry> entries = new TreeMap<>();
+    private final Map<String, Long> sequenceNumbersById = new HashMap<>();
+    private final Map<String, Long> leases = new HashMap<>();
+    private long sequence;
+
+    public InMemoryEventOutboxStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized StoreResult<Void> save(OutboxEntry entry) {
+        var isDuplicate = entries.values().stream().anyMatch(e -> e.getIdempotencyKey().equals(entry.getIdempotencyKey()));
+        if (!isDuplicate) {
+            var sequenceNumber = ++sequence;
+            entries.put(sequenceNumber, entry.toBuilder().sequenceNumber(sequenceNumber).build());
+            sequenceNumbersById.put(entry.getId(), sequenceNumber);
+        }
+        return StoreResult.success();
+    }
+
+    @Override
+    public synchronized List<OutboxEntry> leaseNext(int max, String leaseHolder, Duration leaseDuration) {
+        var now = clock.millis();
+        var visitedLanes = new HashSet<String>();
+        var result = new ArrayList<OutboxEntry>();
+
+        for (var entry : entries.values()) {
+            if (result.size() >= max) {
+                break;
+            }
+            // only the oldest non-failed entry of a lane may be delivered
+            if (entry.isFailed() || !visitedLanes.add(entry.getLane())) {
+                continue;
+            }
+            var leaseExpiry = leases.get(entry.getId());
+            if (entry.getNextAttemptAt() <= now && (leaseExpiry == null || leaseExpiry <= now)) {
+                leases.put(entry.getId(), now + leaseDuration.toMillis());
+                result.add(entry.toBuilder().build());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized StoreResult<Void> delete(String id) {
+        var sequenceNumber = sequenceNumbersById.remove(id);
+        if (sequenceNumber == null) {
+            return StoreResult.notFound("An outbox entry with ID '%s' does not exist.".formatted(id));
+        }
+        entries.remove(sequenceNumber);
+        leases.remove(id);
+        return StoreResult.success();
+    }
+
+    @Override
+    public synchronized StoreResult<Void> update(OutboxEntry entry) {
+        var sequenceNumber = sequenceNumbersById.get(entry.getId());
+        if (sequenceNumber == null) {
+            return StoreResult.notFound("An outbox entry with ID '%s' does not exist.".formatted(entry.getId()));
+        }
+        entries.put(sequenceNumber, entry.toBuilder().sequenceNumber(sequenceNumber).build());
+        leases.remove(entry.getId());
+        return StoreResult.success();
+    }
+}
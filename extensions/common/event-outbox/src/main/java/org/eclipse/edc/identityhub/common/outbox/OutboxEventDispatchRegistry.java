@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.identityhub.spi.events.outbox.OutboxEntry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link EventDispatchRegistry} that does not invoke subscribers directly. Instead, for every subscriber a synchronous "writer" is
+ * registered with the {@link EventRouter}, that saves the event to the {@link EventOutboxStore}. Because the writer runs in the thread
+ * of the publisher, the event is stored in the same transaction as the state change that caused it. The {@link OutboxWorker} then
+ * delivers the stored events to the subscribers.
+ * <p>
+ * Events are ordered by the participant context they relate to: the {@code participantContextId} of the event is used as the
+ * ordering lane. Events that do not carry a participant context ID share one lane.
+ */
+public class OutboxEventDispatchRegistry implements EventDispatchRegistry {
+    static final String DEFAULT_LANE = "default";
+    private static final String PARTICIPANT_CONTEXT_ID = "participantContextId";
+
+    private final EventRouter eventRouter;
+    private final EventOutboxStore store;
+    private final ObjectMapper objectMapper;
+    private final Map<String, EventSubscriber> subscribers = new ConcurrentHashMap<>();
+
+    public OutboxEventDispatchRegistry(EventRouter eventRouter, EventOutboxStore store, ObjectMapper objectMapper) {
+        this.eventRouter = eventRouter;
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public <E extends Event> void register(Class<E> eventKind, String subscriberId, EventSubscriber subscriber) {
+        if (subscriberId.contains("/")) {
+            throw new IllegalArgumentException("Subscriber ID '%s' must not contain a '/'.".formatted(subscriberId));
+        }
+        var existing = subscribers.putIfAbsent(subscriberId, subscriber);
+        if (existing != null && existing != subscriber) {
+            throw new EdcException("Another subscriber with the ID '%s' is already registered.".formatted(subscriberId));
+        }
+        eventRouter.registerSync(eventKind, new OutboxWriter(subscriberId));
+    }
+
+    /**
+     * Returns the subscriber with the given ID, or null if no such subscriber was registered.
+     */
+    @Nullable
+    EventSubscriber getSubscriber(String subscriberId) {
+        return subscribers.get(subscriberId);
+    }
+
+    static String idempotencyKey(String envelopeId, String subscriberId) {
+        return envelopeId + "/" + subscriberId;
+    }
+
+    static String envelopeId(String idempotencyKey) {
+        return idempotencyKey.substring(0, idempotencyKey.lastIndexOf('/'));
+    }
+
+    /**
+     * Saves the events to the outbox, on behalf of one particular subscriber.
+     */
+    private class OutboxWriter implements EventSubscriber {
+        private final String subscriberId;
+
+        OutboxWriter(String subscriberId) {
+            this.subscriberId = subscriberId;
+        }
+
+        @Override
+        public <E extends Event> void on(EventEnvelope<E> envelope) {
+            var payload = objectMapper.valueToTree(envelope.getPayload());
+            String serialized;
+            try {
+                serialized = objectMapper.writeValueAsString(payload);
+            } catch (JsonProcessingException e) {
+                throw new EdcException(e);
+            }
+
+            var entry = OutboxEntry.Builder.newInstance()
+                    .idempotencyKey(idempotencyKey(envelope.getId(), subscriberId))
+                    .lane(payload.path(PARTICIPANT_CONTEXT_ID).asText(DEFAULT_LANE))
+                    .subscriber(subscriberId)
+                    .eventType(envelope.getPayload().getClass().getName())
+                    .payload(serialized)
+                    .createdAt(envelope.getAt())
+                    .build();
+
+            // a failure must abort the publisher's transaction, otherwise the event would be lost
+            store.save(entry).orElseThrow(f -> new EdcException("Failed to store event in the outbox: " + f.getFailureDetail()));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.identityhub.spi.events.outbox.OutboxEntry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Delivers the events from the {@link EventOutboxStore} to their subscribers. Every run leases the head entry of as many lanes as
+ * the batch size allows, delivers them in parallel, and repeats until no more entries are due.
+ * <p>
+ * An entry is removed from the outbox in the same transaction in which it is delivered to the subscriber. If the delivery fails, the
+ * entry is retried with an exponential backoff, and the lane stays blocked until then. After the maximum number of attempts the entry
+ * is marked as failed and the lane proceeds with the next entry.
+ */
+class OutboxWorker implements Runnable {
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+
+    private final EventOutboxStore store;
+    private final OutboxEventDispatchRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final TransactionContext transactionContext;
+    private final ExecutorService executor;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final String workerId;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+
+    OutboxWorker(EventOutboxStore store, OutboxEventDispatchRegistry registry, ObjectMapper objectMapper, TransactionContext transactionContext,
+                 ExecutorService executor, Monitor monitor, Clock clock, String workerId, int batchSize, Duration leaseDuration,
+                 int maxAttempts, Duration baseBackoff) {
+        this.store = store;
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        this.transactionContext = transactionContext;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.workerId = workerId;
+        this.batchSize = batchSize;
+        this.leaseDuration = leaseDuration;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+    }
+
+    @Override
+    public void run() {
+        try {
+            var entries = transactionContext.execute(() -> store.leaseNext(batchSize, workerId, leaseDuration));
+            while (!entries.isEmpty()) {
+                var deliveries = entries.stream()
+                        .map(entry -> CompletableFuture.runAsync(() -> deliver(entry), executor))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(deliveries).join();
+                entries = transactionContext.execute(() -> store.leaseNext(batchSize, workerId, leaseDuration));
+            }
+        } catch (Throwable e) {
+            // catch everything, an exception would cancel all subsequent runs of the scheduled executor
+            monitor.warning("Error while draining the event outbox", e);
+        }
+    }
+
+    private void deliver(OutboxEntry entry) {
+        var subscriber = registry.getSubscriber(entry.getSubscriber());
+        if (subscriber == null) {
+            giveUp(entry, "No subscriber with the ID '%s' is registered".formatted(entry.getSubscriber()));
+            return;
+        }
+
+        EventEnvelope<?> envelope;
+        try {
+            envelope = toEnvelope(entry);
+        } catch (Exception e) {
+            // retrying will not help, the entry cannot be deserialized
+            giveUp(entry, "Cannot deserialize event of type '%s': %s".formatted(entry.getEventType(), e.getMessage()));
+            return;
+        }
+
+        try {
+            transactionContext.execute(() -> {
+                subscriber.on(envelope);
+                store.delete(entry.getId()).orElseThrow(f -> new EdcException(f.getFailureDetail()));
+            });
+        } catch (Exception e) {
+            retryOrGiveUp(entry, e);
+        }
+    }
+
+    private EventEnvelope<?> toEnvelope(OutboxEntry entry) throws Exception {
+        var eventType = Class.forName(entry.getEventType()).asSubclass(Event.class);
+        return EventEnvelope.Builder.newInstance()
+                .id(OutboxEventDispatchRegistry.envelopeId(entry.getIdempotencyKey()))
+                .at(entry.getCreatedAt())
+                .payload(objectMapper.readValue(entry.getPayload(), eventType))
+                .build();
+    }
+
+    private void retryOrGiveUp(OutboxEntry entry, Exception error) {
+        if (entry.getAttempts() + 1 >= maxAttempts) {
+            giveUp(entry, error.getMessage());
+            return;
+        }
+        var backoff = baseBackoff.multipliedBy(1L << Math.min(entry.getAttempts(), MAX_BACKOFF_EXPONENT));
+        monitor.debug(() -> "Delivery of outbox entry '%s' to '%s' failed, retrying in %s: %s".formatted(entry.getId(), entry.getSubscriber(), backoff, error.getMessage()));
+        entry.attemptFailed(error.getMessage(), clock.millis() + backoff.toMillis());
+        update(entry);
+    }
+
+    private void giveUp(OutboxEntry entry, String error) {
+        monitor.severe("Giving up delivery of event '%s' (outbox entry '%s') to subscriber '%s' after %d attempts: %s"
+                .formatted(entry.getEventType(), entry.getId(), entry.getSubscriber(), entry.getAttempts() + 1, error));
+        entry.giveUp(error);
+        update(entry);
+    }
+
+    private void update(OutboxEntry entry) {
+        transactionContext.execute(() -> store.update(entry))
+                .onFailure(f -> monitor.warning("Failed to update outbox entry '%s': %s".formatted(entry.getId(), f.getFailureDetail())));
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.outbox;
+
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStoreTestBase;
+
+import java.time.Clock;
+
+class InMemoryEventOutboxStoreTest extends EventOutboxStoreTestBase {
+    private final InMemoryEventOutboxStore store = new InMemoryEventOutboxStore(Clock.systemUTC());
+
+    @Override
+    protected EventOutboxStore getStore() {
+        return store;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.identityhub.spi.events.outbox.OutboxEntry;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextCreated;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxEventDispatchRegistryTest {
+
+    private final EventRouter eventRouter = mock();
+    private final EventOutboxStore store = mock();
+    private final OutboxEventDispatchRegistry registry = new OutboxEventDispatchRegistry(eventRouter, store, new ObjectMapper());
+
+    @Test
+    void register_eventPublished_savesEntry() {
+        when(store.save(any())).thenReturn(StoreResult.success());
+        var subscriber = mock(EventSubscriber.class);
+        registry.register(ParticipantContextCreated.class, "test-subscriber", subscriber);
+
+        var envelope = envelope(ParticipantContextCreated.Builder.newInstance().participantContextId("participant1").build());
+        registeredWriter(ParticipantContextCreated.class).on(envelope);
+
+        var captor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(store).save(captor.capture());
+        assertThat(captor.getValue()).satisfies(entry -> {
+            assertThat(entry.getLane()).isEqualTo("participant1");
+            assertThat(entry.getSubscriber()).isEqualTo("test-subscriber");
+            assertThat(entry.getIdempotencyKey()).isEqualTo(envelope.getId() + "/test-subscriber");
+            assertThat(entry.getEventType()).isEqualTo(ParticipantContextCreated.class.getName());
+            assertThat(entry.getPayload()).contains("\"participantContextId\":\"participant1\"");
+            assertThat(entry.getCreatedAt()).isEqualTo(envelope.getAt());
+        });
+        assertThat(registry.getSubscriber("test-subscriber")).isSameAs(subscriber);
+    }
+
+    @Test
+    void register_noParticipantContext_usesDefaultLane() {
+        when(store.save(any())).thenReturn(StoreResult.success());
+        registry.register(TestEvent.class, "test-subscriber", mock());
+
+        registeredWriter(TestEvent.class).on(envelope(new TestEvent()));
+
+        var captor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(store).save(captor.capture());
+        assertThat(captor.getValue().getLane()).isEqualTo(OutboxEventDispatchRegistry.DEFAULT_LANE);
+    }
+
+    @Test
+    void register_otherSubscriberWithSameId_throws() {
+        registry.register(ParticipantContextCreated.class, "test-subscriber", mock());
+
+        assertThatThrownBy(() -> registry.register(ParticipantContextCreated.class, "test-subscriber", mock()))
+                .isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void register_sameSubscriberForSeveralEvents() {
+        var subscriber = mock(EventSubscriber.class);
+        registry.register(ParticipantContextCreated.class, "test-subscriber", subscriber);
+        registry.register(TestEvent.class, "test-subscriber", subscriber);
+
+        assertThat(registry.getSubscriber("test-subscriber")).isSameAs(subscriber);
+    }
+
+    @Test
+    void register_subscriberIdWithSlash_throws() {
+        assertThatThrownBy(() -> registry.register(ParticipantContextCreated.class, "test/subscriber", mock()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void register_saveFails_throws() {
+        when(store.save(any())).thenReturn(StoreResult.generalError("foo"));
+        registry.register(ParticipantContextCreated.class, "test-subscriber", mock());
+
+        var writer = registeredWriter(ParticipantContextCreated.class);
+        var envelope = envelope(ParticipantContextCreated.Builder.newInstance().participantContextId("participant1").build());
+
+        assertThatThrownBy(() -> writer.on(envelope)).isInstanceOf(EdcException.class).hasMessageContaining("foo");
+    }
+
+    @Test
+    void envelopeId() {
+        assertThat(OutboxEventDispatchRegistry.envelopeId(OutboxEventDispatchRegistry.idempotencyKey("some/id", "test-subscriber")))
+                .isEqualTo("some/id");
+    }
+
+    private EventSubscriber registeredWriter(Class<? extends Event> eventKind) {
+        var captor = ArgumentCaptor.forClass(EventSubscriber.class);
+        verify(eventRouter).registerSync(eq(eventKind), captor.capture());
+        return captor.getValue();
+    }
+
+    private <E extends Event> EventEnvelope<E> envelope(E event) {
+        return EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(event)
+                .build();
+    }
+
+    static class TestEvent extends Event {
+        public String getValue() {
+            return "value";
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextCreated;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class OutboxWorkerTest {
+
+    private final EventRouter eventRouter = mock();
+    private final Monitor monitor = mock();
+    private final InMemoryEventOutboxStore store = new InMemoryEventOutboxStore(Clock.systemUTC());
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OutboxEventDispatchRegistry registry = new OutboxEventDispatchRegistry(eventRouter, store, objectMapper);
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+    private ExecutorService executor;
+    private EventSubscriber writer;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        registry.register(ParticipantContextCreated.class, "test-subscriber", subscriber);
+        var captor = ArgumentCaptor.forClass(EventSubscriber.class);
+        verify(eventRouter).registerSync(eq(ParticipantContextCreated.class), captor.capture());
+        writer = captor.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void run_deliversAndDeletes() {
+        var envelope = publish("participant1");
+
+        worker(3).run();
+
+        assertThat(subscriber.received).hasSize(1).first().satisfies(e -> {
+            assertThat(e.getId()).isEqualTo(envelope.getId());
+            assertThat(e.getAt()).isEqualTo(envelope.getAt());
+            assertThat(e.getPayload()).isInstanceOf(ParticipantContextCreated.class);
+        });
+        assertThat(store.leaseNext(10, "test", Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @Test
+    void run_preservesOrderWithinLane() {
+        var first = publish("participant1");
+        var second = publish("participant1");
+        var third = publish("participant1");
+
+        worker(3).run();
+
+        assertThat(subscriber.received).extracting(EventEnvelope::getId).containsExactly(first.getId(), second.getId(), third.getId());
+    }
+
+    @Test
+    void run_deliveryFails_retriedLater() {
+        subscriber.failures = 1;
+        publish("participant1");
+        publish("participant1");
+
+        worker(3).run();
+
+        assertThat(subscriber.received).isEmpty();
+        var entries = store.leaseNext(10, "test", Duration.ofMinutes(1));
+        assertThat(entries).isEmpty();
+    }
+
+    @Test
+    void run_maxAttemptsReached_givesUpAndUnblocksLane() {
+        subscriber.failures = 1;
+        publish("participant1");
+        var second = publish("participant1");
+
+        worker(1).run();
+
+        assertThat(subscriber.received).extracting(EventEnvelope::getId).containsExactly(second.getId());
+        verify(monitor).severe(anyString());
+    }
+
+    @Test
+    void run_unknownSubscriber_givesUp() {
+        var otherRegistry = new OutboxEventDispatchRegistry(mock(), store, objectMapper);
+        publish("participant1");
+
+        new OutboxWorker(store, otherRegistry, objectMapper, new NoopTransactionContext(), executor, monitor, Clock.systemUTC(), "worker",
+                10, Duration.ofMinutes(1), 3, Duration.ofHours(1)).run();
+
+        verify(monitor).severe(anyString());
+        assertThat(store.leaseNext(10, "test", Duration.ofMinutes(1))).isEmpty();
+    }
+
+    private OutboxWorker worker(int maxAttempts) {
+        return new OutboxWorker(store, registry, objectMapper, new NoopTransactionContext(), executor, monitor, Clock.systemUTC(), "worker",
+                10, Duration.ofMinutes(1), maxAttempts, Duration.ofHours(1));
+    }
+
+    private EventEnvelope<ParticipantContextCreated> publish(String participantContextId) {
+        var envelope = EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(ParticipantContextCreated.Builder.newInstance().participantContextId(participantContextId).build())
+                .build();
+        writer.on(envelope);
+        return envelope;
+    }
+
+    private static class RecordingSubscriber implements EventSubscriber {
+        private final List<EventEnvelope<?>> received = new ArrayList<>();
+        private int failures;
+
+        @Override
+        public synchronized <E extends Event> void on(EventEnvelope<E> event) {
+            if (failures > 0) {
+                failures--;
+                throw new EdcException("delivery failed");
+            }
+            received.add(event);
+        }
+    }
+}
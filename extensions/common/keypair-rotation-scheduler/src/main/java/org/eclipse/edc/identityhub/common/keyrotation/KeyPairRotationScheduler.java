@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.keyrotation;
+
+import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.spi.result.ServiceFailure;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Runnable task that is intended to be executed periodically. It finds all {@link KeyPairState#ACTIVATED} key pairs whose use duration
+ * has elapsed, and rotates them by means of {@link KeyPairService#rotateKeyPairs(String, Collection, long)}.
+ * <p>
+ * All due keys of one participant context are rotated in one call, so that their successors are created in one transaction. Participant
+ * contexts are processed in parallel on the given executor, and the number of keys that are rotated per second can be limited, to avoid
+ * overloading the vault and the database.
+ * <p>
+ * The old keys stay in rotation for their configured rotation duration, or for the default rotation duration, if none was configured.
+ * <p>
+ * Several runtimes that share a database may run the scheduler at the same time. The key pair service only rotates a key pair if it was
+ * not changed since it was read, so if two runtimes pick up the same due key pair, one of them fails with a conflict, rolls back, and the
+ * key pair is rotated only once.
+ */
+public class KeyPairRotationScheduler implements Runnable {
+    private final KeyPairService keyPairService;
+    private final ExecutorService executorService;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final int pageSize;
+    private final int maxRotationsPerSecond;
+    private final Duration defaultRotationDuration;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyPairService          the key pair service
+     * @param executorService         the executor on which the rotations of the participant contexts are executed in parallel
+     * @param monitor                 the monitor
+     * @param clock                   the clock
+     * @param pageSize                the number of key pairs that are fetched from the database at a time
+     * @param maxRotationsPerSecond   the maximum number of key pairs rotated per second. Values {@code <= 0} disable rate limiting.
+     * @param defaultRotationDuration the rotation duration for key pairs that do not specify one
+     */
+    public KeyPairRotationScheduler(KeyPairService keyPairService, ExecutorService executorService, Monitor monitor, Clock clock,
+                                    int pageSize, int maxRotationsPerSecond, Duration defaultRotationDuration) {
+        this.keyPairService = keyPairService;
+        this.executorService = executorService;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.pageSize = pageSize;
+        this.maxRotationsPerSecond = maxRotationsPerSecond;
+        this.defaultRotationDuration = defaultRotationDuration;
+    }
+
+    @Override
+    public void run() {
+        var dueKeys = findDueKeys();
+        if (dueKeys.isEmpty()) {
+            return;
+        }
+
+        var byParticipant = dueKeys.stream().collect(Collectors.groupingBy(KeyPairResource::getParticipantContextId));
+        monitor.debug("Rotating %d key pairs of %d participant contexts".formatted(dueKeys.size(), byParticipant.size()));
+
+        var futures = new ArrayList<CompletableFuture<Void>>();
+        var nextSlot = clock.millis();
+        for (var entry : byParticipant.entrySet()) {
+            if (maxRotationsPerSecond > 0) {
+                waitUntil(nextSlot);
+                nextSlot = Math.max(nextSlot, clock.millis()) + entry.getValue().size() * 1000L / maxRotationsPerSecond;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            futures.add(CompletableFuture.runAsync(() -> rotate(entry.getKey(), entry.getValue()), executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void rotate(String participantContextId, List<KeyPairResource> keyPairs) {
+        var ids = keyPairs.stream().map(KeyPairResource::getId).toList();
+        var duration = keyPairs.stream()
+                .mapToLong(KeyPairResource::getRotationDuration)
+                .filter(d -> d > 0)
+                .max()
+                .orElse(defaultRotationDuration.toMillis());
+
+        try {
+            keyPairService.rotateKeyPairs(participantContextId, ids, duration)
+                    .onSuccess(v -> monitor.debug("Rotated key pairs %s of participant context '%s'".formatted(ids, participantContextId)))
+                    .onFailure(f -> {
+                        if (f.getReason() == ServiceFailure.Reason.CONFLICT) {
+                            monitor.debug("Key pairs of participant context '%s' were changed concurrently, e.g. rotated by another runtime: %s"
+                                    .formatted(participantContextId, f.getFailureDetail()));
+                        } else {
+                            monitor.warning("Error rotating key pairs of participant context '%s': %s".formatted(participantContextId, f.getFailureDetail()));
+                        }
+                    });
+        } catch (Exception e) {
+            monitor.severe("Unexpected error rotating key pairs of participant context '%s'".formatted(participantContextId), e);
+        }
+    }
+
+    /**
+     * Pages through the activated key pairs ordered by ID, continuing after the last ID of the previous page. Unlike offset-based paging,
+     * this does not skip key pairs when rows drop out of the filter while paging, e.g. because they are rotated concurrently.
+     */
+    private List<KeyPairResource> findDueKeys() {
+        var now = clock.millis();
+        var result = new ArrayList<KeyPairResource>();
+        String lastId = null;
+        while (true) {
+            var page = nextPage(lastId);
+            page.stream().filter(kp -> isDue(kp, now)).forEach(result::add);
+
+            if (page.size() < pageSize) {
+                return result;
+            }
+            lastId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    private List<KeyPairResource> nextPage(@Nullable String lastId) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("state", "=", KeyPairState.ACTIVATED.code()))
+                .sortField("id")
+                .sortOrder(SortOrder.ASC)
+                .limit(pageSize);
+        if (lastId != null) {
+            query.filter(new Criterion("id", ">", lastId));
+        }
+        return keyPairService.query(query.build())
+                .onFailure(f -> monitor.warning("Failed to fetch key pairs from database: %s".formatted(f.getFailureDetail())))
+                .map(List::copyOf)
+                .orElse(f -> List.of());
+    }
+
+    private boolean isDue(KeyPairResource keyPair, long now) {
+        return keyPair.getUseDuration() > 0 && keyPair.getTimestamp() + keyPair.getUseDuration() <= now;
+    }
+
+    private void waitUntil(long millis) {
+        var delay = millis - clock.millis();
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
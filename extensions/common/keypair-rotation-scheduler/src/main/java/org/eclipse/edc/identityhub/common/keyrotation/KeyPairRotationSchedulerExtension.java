@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.keyrotation;
+
+import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.identityhub.common.keyrotation.KeyPairRotationSchedulerExtension.NAME;
+
+@Extension(value = NAME)
+public class KeyPairRotationSchedulerExtension implements ServiceExtension {
+    public static final String NAME = "KeyPair Rotation Scheduler Extension";
+
+    public static final String KEYPAIR_ROTATION_SCHEDULER = "KeyPairRotationScheduler";
+    public static final int DEFAULT_PERIOD = 0;
+    public static final int DEFAULT_INITIAL_DELAY = 60;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_PAGE_SIZE = 500;
+    public static final int DEFAULT_MAX_ROTATIONS_PER_SECOND = 0;
+    public static final long DEFAULT_ROTATION_DURATION_SECONDS = 24 * 3600; // 1 day
+
+    @Setting(description = "Period (in seconds) at which the scheduler checks all active key pairs for an elapsed use duration, and rotates them. Configuring a number <=0 disables the scheduler.",
+            min = 0, defaultValue = DEFAULT_PERIOD + "", key = "edc.iam.keypair.rotation.period")
+    private int period;
+
+    @Setting(description = "Initial delay (in seconds) before the key pair rotation scheduler begins its work.",
+            min = 0, defaultValue = DEFAULT_INITIAL_DELAY + "", key = "edc.iam.keypair.rotation.delay")
+    private int initialDelay;
+
+    @Setting(description = "Number of participant contexts whose key pairs are rotated in parallel.",
+            min = 1, defaultValue = DEFAULT_PARALLELISM + "", key = "edc.iam.keypair.rotation.parallelism")
+    private int parallelism;
+
+    @Setting(description = "Number of key pairs that are fetched from the database at a time.",
+            min = 1, defaultValue = DEFAULT_PAGE_SIZE + "", key = "edc.iam.keypair.rotation.pagesize")
+    private int pageSize;
+
+    @Setting(description = "Maximum number of key pairs that are rotated per second. Configuring a number <=0 disables rate limiting.",
+            min = 0, defaultValue = DEFAULT_MAX_ROTATIONS_PER_SECOND + "", key = "edc.iam.keypair.rotation.rate")
+    private int maxRotationsPerSecond;
+
+    @Setting(description = "Time (in seconds) that a rotated key pair stays available for verification, if the key pair does not specify a rotation duration.",
+            min = 0, defaultValue = DEFAULT_ROTATION_DURATION_SECONDS + "", key = "edc.iam.keypair.rotation.duration")
+    private long defaultRotationDurationSeconds;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    private KeyPairService keyPairService;
+    @Inject
+    private Clock clock;
+
+    private ScheduledExecutorService scheduledExecutorService;
+    private ExecutorService rotationExecutorService;
+    private Monitor monitor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        monitor = context.getMonitor().withPrefix(KEYPAIR_ROTATION_SCHEDULER);
+
+        if (period > 0) {
+            scheduledExecutorService = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), KEYPAIR_ROTATION_SCHEDULER);
+            rotationExecutorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(parallelism), KEYPAIR_ROTATION_SCHEDULER + "-worker");
+        } else {
+            monitor.debug(() -> "The KeyPair Rotation Scheduler is disabled.");
+        }
+    }
+
+    @Override
+    public void start() {
+        if (scheduledExecutorService != null && !scheduledExecutorService.isShutdown()) {
+            monitor.debug(() -> "Starting key pair rotation scheduler in %d seconds, every %d seconds".formatted(initialDelay, period));
+            var scheduler = new KeyPairRotationScheduler(keyPairService, rotationExecutorService, monitor, clock, pageSize, maxRotationsPerSecond,
+                    Duration.ofSeconds(defaultRotationDurationSeconds));
+            scheduledExecutorService.scheduleAtFixedRate(scheduler, initialDelay, period, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (scheduledExecutorService != null) {
+            scheduledExecutorService.shutdownNow();
+        }
+        if (rotationExecutorService != null) {
+            rotationExecutorService.shutdownNow();
+        }
+    }
+}
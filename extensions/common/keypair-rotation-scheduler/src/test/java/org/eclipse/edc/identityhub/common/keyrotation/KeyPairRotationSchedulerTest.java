@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.common.keyrotation;
+
+import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeyPairRotationSchedulerTest {
+
+    private static final Duration DEFAULT_ROTATION_DURATION = Duration.ofHours(1);
+    private final KeyPairService keyPairService = mock();
+    private final Monitor monitor = mock();
+    private final Instant now = Instant.now();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private KeyPairRotationScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        when(keyPairService.rotateKeyPairs(anyString(), anyCollection(), anyLong())).thenReturn(ServiceResult.success());
+        scheduler = new KeyPairRotationScheduler(keyPairService, executorService, monitor, Clock.fixed(now, ZoneOffset.UTC), 2, 0, DEFAULT_ROTATION_DURATION);
+    }
+
+    @AfterEach
+    void teardown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void run_noKeysDue() {
+        when(keyPairService.query(any())).thenReturn(ServiceResult.success(List.of(keyPair("key1", "participant1", now))));
+
+        scheduler.run();
+
+        verify(keyPairService, never()).rotateKeyPairs(anyString(), anyCollection(), anyLong());
+    }
+
+    @Test
+    void run_rotatesDueKeysPerParticipant() {
+        var expired = now.minus(Duration.ofDays(2));
+        when(keyPairService.query(any())).thenReturn(
+                ServiceResult.success(List.of(keyPair("key1", "participant1", expired), keyPair("key2", "participant1", expired))),
+                ServiceResult.success(List.of(keyPair("key3", "participant2", expired), keyPair("key4", "participant2", now))),
+                ServiceResult.success(List.of()));
+
+        scheduler.run();
+
+        verify(keyPairService, times(3)).query(any());
+        verify(keyPairService).query(argThat(q -> q.getFilterExpression().contains(new Criterion("id", ">", "key2")) && q.getOffset() == 0));
+        verify(keyPairService).query(argThat(q -> q.getFilterExpression().contains(new Criterion("id", ">", "key4"))));
+        verify(keyPairService).rotateKeyPairs(eq("participant1"), argThat(ids -> ids.containsAll(List.of("key1", "key2")) && ids.size() == 2), eq(DEFAULT_ROTATION_DURATION.toMillis()));
+        verify(keyPairService).rotateKeyPairs(eq("participant2"), argThat(ids -> ids.equals(List.of("key3"))), eq(DEFAULT_ROTATION_DURATION.toMillis()));
+    }
+
+    @Test
+    void run_usesRotationDurationOfKey() {
+        var keyPair = KeyPairResource.Builder.newTokenSigning()
+                .id("key1")
+                .keyId("key-id")
+                .privateKeyAlias("alias")
+                .participantContextId("participant1")
+                .serializedPublicKey("public-key")
+                .timestamp(now.minus(Duration.ofDays(2)).toEpochMilli())
+                .useDuration(Duration.ofDays(1).toMillis())
+                .rotationDuration(Duration.ofMinutes(5).toMillis())
+                .build();
+        when(keyPairService.query(any())).thenReturn(ServiceResult.success(List.of(keyPair)));
+
+        scheduler.run();
+
+        verify(keyPairService).rotateKeyPairs(eq("participant1"), any(), eq(Duration.ofMinutes(5).toMillis()));
+    }
+
+    @Test
+    void run_rotationFails_continuesWithOtherParticipants() {
+        var expired = now.minus(Duration.ofDays(2));
+        when(keyPairService.query(any())).thenReturn(
+                ServiceResult.success(List.of(keyPair("key1", "participant1", expired), keyPair("key2", "participant2", expired))),
+                ServiceResult.success(List.of()));
+        when(keyPairService.rotateKeyPairs(eq("participant1"), anyCollection(), anyLong())).thenReturn(ServiceResult.badRequest("foo"));
+
+        scheduler.run();
+
+        verify(monitor).warning(argThat(msg -> msg.contains("participant1") && msg.contains("foo")));
+        verify(keyPairService).rotateKeyPairs(eq("participant2"), anyCollection(), anyLong());
+    }
+
+    @Test
+    void run_rotatedConcurrently_shouldNotWarn() {
+        var expired = now.minus(Duration.ofDays(2));
+        when(keyPairService.query(any())).thenReturn(ServiceResult.success(List.of(keyPair("key1", "participant1", expired))));
+        when(keyPairService.rotateKeyPairs(eq("participant1"), anyCollection(), anyLong())).thenReturn(ServiceResult.conflict("already rotated"));
+
+        scheduler.run();
+
+        verify(monitor, never()).warning(anyString());
+        verify(monitor).debug(argThat((String msg) -> msg.contains("participant1") && msg.contains("already rotated")));
+    }
+
+    @Test
+    void run_queryFails() {
+        when(keyPairService.query(any())).thenReturn(ServiceResult.unexpected("foo"));
+
+        scheduler.run();
+
+        verify(keyPairService, never()).rotateKeyPairs(anyString(), anyCollection(), anyLong());
+        verify(monitor).warning(argThat(msg -> msg.contains("foo")));
+    }
+
+    private KeyPairResource keyPair(String id, String participantContextId, Instant createdAt) {
+        return KeyPairResource.Builder.newTokenSigning()
+                .id(id)
+                .keyId(id + "-kid")
+                .privateKeyAlias(id + "-alias")
+                .participantContextId(participantContextId)
+                .serializedPublicKey("public-key")
+                .timestamp(createdAt.toEpochMilli())
+                .useDuration(Duration.ofDays(1).toMillis())
+                .build();
+    }
+}
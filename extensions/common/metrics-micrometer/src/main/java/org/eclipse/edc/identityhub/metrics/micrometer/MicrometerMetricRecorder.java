@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+
+import java.time.Duration;
+
+/**
+ * {@link MetricRecorder} that records all measurements in a Micrometer {@link MeterRegistry}. Optionally, timers publish a percentile
+ * histogram, so that latency quantiles can be aggregated across instances by the metrics backend.
+ */
+public class MicrometerMetricRecorder implements MetricRecorder {
+    private final MeterRegistry registry;
+    private final boolean publishPercentileHistogram;
+
+    /**
+     * Creates a recorder.
+     *
+     * @param registry                   the registry in which the measurements are recorded
+     * @param publishPercentileHistogram whether timers publish a percentile histogram
+     */
+    public MicrometerMetricRecorder(MeterRegistry registry, boolean publishPercentileHistogram) {
+        this.registry = registry;
+        this.publishPercentileHistogram = publishPercentileHistogram;
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        Counter.builder(name)
+                .tags(tags)
+                .register(registry)
+                .increment(amount);
+    }
+
+    @Override
+    public void record(String name, Duration duration, String... tags) {
+        Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram(publishPercentileHistogram)
+                .register(registry)
+                .record(duration);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics.micrometer;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.web.spi.WebService;
+
+import static org.eclipse.edc.identityhub.metrics.micrometer.MicrometerMetricsExtension.NAME;
+
+/**
+ * Records the metrics of IdentityHub and IssuerService in a Micrometer Prometheus registry. Optionally, they are exposed for scraping
+ * under {@code /metrics} on a dedicated web context, which is not authenticated and should therefore not be reachable from the outside.
+ */
+@Extension(NAME)
+public class MicrometerMetricsExtension implements ServiceExtension {
+    public static final String NAME = "Micrometer Metrics Extension";
+
+    public static final String DEFAULT_SCRAPE_CONTEXT = "metrics";
+    private static final String DEFAULT_WEB_CONTEXT = "default";
+
+    @Setting(key = "edc.metrics.prometheus.context", defaultValue = DEFAULT_SCRAPE_CONTEXT,
+            description = "The web context on which the Prometheus scrape endpoint ('/metrics') is registered. The endpoint is not authenticated, " +
+                    "so the context must be dedicated to it and only be reachable by the metrics backend, e.g. 'metrics' (web.http.metrics.port/path). " +
+                    "The endpoint is not available if the context is not configured.")
+    private String scrapeContext;
+
+    @Setting(key = "edc.metrics.prometheus.enabled", defaultValue = "false", description = "Whether the Prometheus scrape endpoint is registered.")
+    private boolean scrapeEndpointEnabled;
+
+    @Setting(key = "edc.metrics.timer.histogram.enabled", defaultValue = "true",
+            description = "Whether timers publish a percentile histogram, which allows aggregating latency quantiles across instances, " +
+                    "at the cost of one time series per histogram bucket.")
+    private boolean publishPercentileHistogram;
+
+    @Inject
+    private WebService webService;
+
+    private PrometheusMeterRegistry registry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (scrapeEndpointEnabled) {
+            if (DEFAULT_WEB_CONTEXT.equals(scrapeContext)) {
+                throw new EdcException("The Prometheus scrape endpoint is not authenticated and must not be registered on the '%s' web context"
+                        .formatted(scrapeContext));
+            }
+            webService.registerResource(scrapeContext, new PrometheusScrapeController(meterRegistry()));
+        }
+    }
+
+    @Provider
+    public MetricRecorder metricRecorder() {
+        return new MicrometerMetricRecorder(meterRegistry(), publishPercentileHistogram);
+    }
+
+    @Override
+    public void shutdown() {
+        if (registry != null) {
+            registry.close();
+        }
+    }
+
+    private PrometheusMeterRegistry meterRegistry() {
+        if (registry == null) {
+            registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        }
+        return registry;
+    }
+}
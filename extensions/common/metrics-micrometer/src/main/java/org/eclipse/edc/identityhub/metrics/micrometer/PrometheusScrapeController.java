@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics.micrometer;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+/**
+ * Exposes the content of a {@link PrometheusMeterRegistry} in the Prometheus text exposition format.
+ */
+@Path("/metrics")
+public class PrometheusScrapeController {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final PrometheusMeterRegistry registry;
+
+    public PrometheusScrapeController(PrometheusMeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @GET
+    @Produces(CONTENT_TYPE)
+    public String scrape() {
+        return registry.scrape();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.PRESENTATION_QUERY_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.SIGNING_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_ALGORITHM;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
+
+class MicrometerMetricRecorderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerMetricRecorder recorder = new MicrometerMetricRecorder(registry, true);
+
+    @Test
+    void increment() {
+        recorder.increment(PRESENTATION_QUERY_COUNT, TAG_OUTCOME, "success");
+        recorder.increment(PRESENTATION_QUERY_COUNT, 2, TAG_OUTCOME, "success");
+        recorder.increment(PRESENTATION_QUERY_COUNT, TAG_OUTCOME, "failure");
+
+        assertThat(registry.get(PRESENTATION_QUERY_COUNT).tag(TAG_OUTCOME, "success").counter().count()).isEqualTo(3);
+        assertThat(registry.get(PRESENTATION_QUERY_COUNT).tag(TAG_OUTCOME, "failure").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void record() {
+        recorder.record(SIGNING_DURATION, Duration.ofMillis(10), TAG_ALGORITHM, "ES256");
+        recorder.record(SIGNING_DURATION, Duration.ofMillis(30), TAG_ALGORITHM, "ES256");
+
+        var timer = registry.get(SIGNING_DURATION).tag(TAG_ALGORITHM, "ES256").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+    }
+
+    @Test
+    void record_shouldPublishPercentileHistogram() {
+        recorder.record(SIGNING_DURATION, Duration.ofMillis(10), TAG_ALGORITHM, "ES256");
+
+        assertThat(registry.get(SIGNING_DURATION).timer().takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    @Test
+    void record_withoutPercentileHistogram() {
+        var registry = new SimpleMeterRegistry();
+        new MicrometerMetricRecorder(registry, false).record(SIGNING_DURATION, Duration.ofMillis(10), TAG_ALGORITHM, "ES256");
+
+        assertThat(registry.get(SIGNING_DURATION).timer().takeSnapshot().histogramCounts()).isEmpty();
+    }
+
+    @Test
+    void time_whenOperationThrows_recordsDuration() {
+        assertThatThrownBy(() -> recorder.time(SIGNING_DURATION, () -> {
+            throw new IllegalStateException("test");
+        }, TAG_ALGORITHM, "ES256")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get(SIGNING_DURATION).tag(TAG_ALGORITHM, "ES256").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics.micrometer;
+
+import org.eclipse.edc.boot.system.injection.ObjectFactory;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.web.spi.WebService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.identityhub.metrics.micrometer.MicrometerMetricsExtension.DEFAULT_SCRAPE_CONTEXT;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class MicrometerMetricsExtensionTest {
+
+    private static final String ENABLED_PROPERTY = "edc.metrics.prometheus.enabled";
+    private static final String CONTEXT_PROPERTY = "edc.metrics.prometheus.context";
+    private final WebService webService = mock();
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        context.registerService(WebService.class, webService);
+    }
+
+    @Test
+    void initialize_shouldNotRegisterScrapeEndpointByDefault(MicrometerMetricsExtension extension, ServiceExtensionContext context) {
+        extension.initialize(context);
+
+        verifyNoInteractions(webService);
+    }
+
+    @Test
+    void initialize_whenEnabled_shouldRegisterOnDedicatedContext(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(ENABLED_PROPERTY, "true")));
+
+        factory.constructInstance(MicrometerMetricsExtension.class).initialize(context);
+
+        verify(webService).registerResource(eq(DEFAULT_SCRAPE_CONTEXT), isA(PrometheusScrapeController.class));
+    }
+
+    @Test
+    void initialize_whenDefaultContext_shouldThrow(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(ENABLED_PROPERTY, "true", CONTEXT_PROPERTY, "default")));
+        var extension = factory.constructInstance(MicrometerMetricsExtension.class);
+
+        assertThatThrownBy(() -> extension.initialize(context)).isInstanceOf(EdcException.class);
+        verifyNoInteractions(webService);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.metrics.micrometer;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static io.restassured.RestAssured.given;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.PRESENTATION_QUERY_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.PRESENTATION_QUERY_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
+import static org.hamcrest.Matchers.containsString;
+
+@ApiTest
+class PrometheusScrapeControllerTest extends RestControllerTestBase {
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+    @Test
+    void scrape() {
+        var recorder = new MicrometerMetricRecorder(registry, true);
+        recorder.increment(PRESENTATION_QUERY_COUNT, TAG_OUTCOME, "success");
+        recorder.record(PRESENTATION_QUERY_DURATION, Duration.ofMillis(5), TAG_OUTCOME, "success");
+
+        given()
+                .baseUri("http://localhost:%s".formatted(port))
+                .get("/metrics")
+                .then()
+                .statusCode(200)
+                .contentType(containsString("text/plain"))
+                .body(containsString("identityhub_presentation_query_count_total{outcome=\"success\"}"))
+                .body(containsString("identityhub_presentation_query_duration_seconds_count{outcome=\"success\"}"));
+    }
+
+    @Override
+    protected Object controller() {
+        return new PrometheusScrapeController(registry);
+    }
+}
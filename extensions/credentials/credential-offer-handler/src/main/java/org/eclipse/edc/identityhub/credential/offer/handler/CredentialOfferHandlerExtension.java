@@ -15,12 +15,12 @@
 package org.eclipse.edc.identityhub.credential.offer.handler;
 
 import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpProfileRegistry;
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.CredentialRequestManager;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.events.CredentialOfferReceived;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialOfferStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
-import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -30,9 +30,10 @@ import static org.eclipse.edc.identityhub.credential.offer.handler.CredentialOff
 @Extension(value = NAME)
 public class CredentialOfferHandlerExtension implements ServiceExtension {
     public static final String NAME = "CredentialOfferHandlerExtension";
+    private static final String SUBSCRIBER_ID = "credential-offer-handler";
 
     @Inject
-    private EventRouter eventRouter;
+    private EventDispatchRegistry eventDispatchRegistry;
     @Inject
     private DcpProfileRegistry dcpProfileRegistry;
     @Inject
@@ -45,7 +46,7 @@ public class CredentialOfferHandlerExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var handler = new CredentialOfferHandler(context.getMonitor(), credentialRequestManager, dcpProfileRegistry, credentialOfferStore, transactionContext);
-        eventRouter.registerSync(CredentialOfferReceived.class, handler);
+        eventDispatchRegistry.register(CredentialOfferReceived.class, SUBSCRIBER_ID, handler);
     }
 
     @Override
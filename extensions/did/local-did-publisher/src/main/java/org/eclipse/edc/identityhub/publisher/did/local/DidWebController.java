@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.identityhub.publisher.did.local;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.ws.rs.Consumes;
@@ -22,9 +23,9 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
-import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.identityhub.spi.did.DidWebParser;
-import org.eclipse.edc.identityhub.spi.did.model.DidResource;
 import org.eclipse.edc.identityhub.spi.did.model.DidState;
 import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -33,6 +34,10 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 
 import java.nio.charset.Charset;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -48,16 +53,22 @@ public class DidWebController {
     private final Monitor monitor;
     private final DidResourceStore didResourceStore;
     private final DidWebParser didWebParser;
+    private final PublishedDidDocumentCache documentCache;
 
     public DidWebController(Monitor monitor, DidResourceStore didResourceStore, DidWebParser didWebParser) {
+        this(monitor, didResourceStore, didWebParser, new PublishedDidDocumentCache(new ObjectMapper(), Clock.systemUTC(), Duration.ZERO, 0));
+    }
+
+    DidWebController(Monitor monitor, DidResourceStore didResourceStore, DidWebParser didWebParser, PublishedDidDocumentCache documentCache) {
         this.monitor = monitor;
         this.didResourceStore = didResourceStore;
         this.didWebParser = didWebParser;
+        this.documentCache = documentCache;
     }
 
     @WithSpan(value = "did-document.resolve", kind = SpanKind.SERVER)
     @GET
-    public DidDocument getDidDocument(@Context ContainerRequestContext context) {
+    public Response getDidDocument(@Context ContainerRequestContext context) {
 
         var httpUrl = context.getUriInfo().getAbsolutePath();
 
@@ -65,22 +76,36 @@ public class DidWebController {
         String did;
         did = didWebParser.parse(httpUrl, charset);
 
+        var document = Optional.ofNullable(documentCache.get(did)).orElseGet(() -> loadPublishedDocument(did));
+        if (document == null) {
+            return Response.noContent().build();
+        }
+
+        var etag = new EntityTag(document.etag());
+        var lastModified = Date.from(document.lastModified());
+        return Optional.ofNullable(context.getRequest().evaluatePreconditions(lastModified, etag))
+                .orElseGet(() -> Response.ok(document.content(), APPLICATION_JSON))
+                .tag(etag)
+                .lastModified(lastModified)
+                .build();
+    }
 
+    private PublishedDidDocumentCache.CachedDidDocument loadPublishedDocument(String did) {
         var q = QuerySpec.Builder.newInstance()
                 .filter(new Criterion("state", "=", DidState.PUBLISHED.code()))
                 .filter(new Criterion("did", "=", did))
                 .build();
 
-        var dids = didResourceStore.query(q)
-                .stream()
-                .map(DidResource::getDocument)
-                .toList();
+        var generation = documentCache.generation();
+        var dids = didResourceStore.query(q);
 
         if (dids.size() > 1) {
             throw new InvalidRequestException("DID '%s' resolved more than one document".formatted(did));
         }
 
-        return dids.stream().findFirst().orElse(null);
+        return dids.stream().findFirst()
+                .map(resource -> documentCache.put(resource.getDocument(), Instant.ofEpochMilli(resource.getStateTimestamp()), generation))
+                .orElse(null);
     }
 
     private Charset extractCharset(String contentType) {
@@ -59,12 +59,15 @@ public class LocalDidPublisher implements DidDocumentPublisher {
             monitor.warning("DID '%s' is already published - this action will overwrite it.".formatted(did));
         }
 
-        existingDocument.transitionState(DidState.PUBLISHED);
+        return publishResource(existingDocument);
+    }
 
-        return didResourceStore.update(existingDocument)
-                .map(v -> success())
-                .orElse(f -> failure(f.getFailureDetail()))
-                .onSuccess(v -> observable.invokeForEach(l -> l.published(existingDocument.getDocument(), existingDocument.getParticipantContextId())));
+    /**
+     * Stores the modified document together with the {@link DidState#PUBLISHED} state in a single write, without reading it again.
+     */
+    @Override
+    public Result<Void> publish(DidResource didResource, DidResourceStore store) {
+        return publishResource(didResource);
     }
 
     @Override
@@ -82,6 +85,15 @@ public class LocalDidPublisher implements DidDocumentPublisher {
 
     }
 
+    private Result<Void> publishResource(DidResource didResource) {
+        didResource.transitionState(DidState.PUBLISHED);
+
+        return didResourceStore.update(didResource)
+                .map(v -> success())
+                .orElse(f -> failure(f.getFailureDetail()))
+                .onSuccess(v -> observable.invokeForEach(l -> l.published(didResource.getDocument(), didResource.getParticipantContextId())));
+    }
+
     private boolean isPublished(DidResource didResource) {
         return didResource.getState() == DidState.PUBLISHED.code();
     }
@@ -29,11 +29,13 @@ import org.eclipse.edc.runtime.metamodel.annotation.Settings;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.PortMapping;
 import org.eclipse.edc.web.spi.configuration.PortMappingRegistry;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.eclipse.edc.identityhub.publisher.did.local.LocalDidPublisherExtension.NAME;
 import static org.eclipse.edc.identityhub.spi.webcontext.IdentityHubApiContext.IH_DID;
@@ -44,6 +46,16 @@ public class LocalDidPublisherExtension implements ServiceExtension {
     public static final String NAME = "Local DID publisher extension";
     private static final String DEFAULT_DID_PATH = "/";
     private static final int DEFAULT_DID_PORT = 10100;
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 60;
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    @Setting(description = "Time (in seconds) for which serialized DID documents are cached. This bounds the time it takes for (un-)publishing a DID document " +
+            "on one node to become visible on other nodes. Configuring a number <=0 disables the cache.",
+            min = 0, defaultValue = DEFAULT_CACHE_TTL_SECONDS + "", key = "edc.did.web.cache.ttl")
+    private long cacheTtlSeconds;
+
+    @Setting(description = "Maximum number of DID documents held in the cache.", min = 0, defaultValue = DEFAULT_CACHE_SIZE + "", key = "edc.did.web.cache.size")
+    private int cacheSize;
 
     @Configuration
     private DidApiConfiguration apiConfiguration;
@@ -65,6 +77,8 @@ public class LocalDidPublisherExtension implements ServiceExtension {
     private Clock clock;
     @Inject
     private EventRouter eventRouter;
+    @Inject
+    private TypeManager typeManager;
 
     private DidDocumentObservableImpl observable;
 
@@ -78,7 +92,9 @@ public class LocalDidPublisherExtension implements ServiceExtension {
         portMappingRegistry.register(new PortMapping(IH_DID, apiConfiguration.port(), apiConfiguration.path()));
         var localPublisher = new LocalDidPublisher(didDocumentObservable(), didResourceStore, context.getMonitor());
         registry.addPublisher(DidConstants.DID_WEB_METHOD, localPublisher);
-        webService.registerResource(IdentityHubApiContext.IH_DID, new DidWebController(context.getMonitor(), didResourceStore, getDidParser()));
+        var documentCache = new PublishedDidDocumentCache(typeManager.getMapper(), clock, Duration.ofSeconds(cacheTtlSeconds), cacheSize);
+        didDocumentObservable().registerListener(documentCache);
+        webService.registerResource(IdentityHubApiContext.IH_DID, new DidWebController(context.getMonitor(), didResourceStore, getDidParser(), documentCache));
     }
 
     @Provider
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.publisher.did.local;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.identityhub.spi.did.events.DidDocumentListener;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the serialized form of published DID documents, together with a strong ETag (the hash of the serialized document) and the
+ * time of the last modification, so that the {@link DidWebController} can serve them without a database roundtrip.
+ * <p>
+ * The cache is only filled when a document is read from the database. Publishing or un-publishing a document merely evicts it, because
+ * the {@link DidDocumentListener} callbacks are invoked before the transaction has been committed, and a document that was rolled back
+ * must not be served. Every eviction increments a generation counter, and documents that were read while an eviction happened are not
+ * cached.
+ * <p>
+ * A read that starts after the eviction, but before the transaction has been committed, still sees the previous state. Therefore, every
+ * eviction also records the expected outcome of the change, i.e. the ETag of the published document, or none for an un-published one.
+ * Until that outcome has been read from the database, or the record has expired, the document of that DID is served but not cached. A
+ * change that was rolled back thus only disables caching of that DID for one time-to-live.
+ * <p>
+ * Entries expire after the configured time-to-live, which bounds the staleness in clustered deployments, where the document may be
+ * (un-)published on another node. A TTL of zero disables the cache.
+ */
+class PublishedDidDocumentCache implements DidDocumentListener {
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final int maxEntries;
+    private final Map<String, CachedDidDocument> documents = new ConcurrentHashMap<>();
+    private final Map<String, PendingChange> pendingChanges = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    PublishedDidDocumentCache(ObjectMapper objectMapper, Clock clock, Duration timeToLive, int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached document for the given DID, or null if there is none or it has expired.
+     */
+    @Nullable
+    CachedDidDocument get(String did) {
+        var cached = documents.get(did);
+        if (cached == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(cached.expiresAt())) {
+            documents.remove(did, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the current generation of the cache, which must be obtained <em>before</em> the document is read from the database and
+     * passed to {@link #put(DidDocument, Instant, long)}.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Serializes the given document and stores it in the cache, if the cache is enabled, no document was evicted since the given
+     * generation was obtained, and the document reflects the last change of its DID.
+     *
+     * @param document     the DID document
+     * @param lastModified the time at which the document was last modified
+     * @param generation   the generation of the cache before the document was read
+     * @return the serialized document
+     */
+    CachedDidDocument put(DidDocument document, Instant lastModified, long generation) {
+        var now = clock.instant();
+        var content = serialize(document);
+        var cached = new CachedDidDocument(content, etag(content), lastModified.truncatedTo(ChronoUnit.SECONDS), now.plus(timeToLive));
+
+        if (isEnabled() && this.generation.get() == generation && isCommitted(document.getId(), cached.etag(), now)) {
+            if (documents.size() >= maxEntries) {
+                documents.values().removeIf(d -> !now.isBefore(d.expiresAt()));
+            }
+            if (documents.size() < maxEntries || documents.containsKey(document.getId())) {
+                documents.put(document.getId(), cached);
+                // an eviction that ran between the generation check and the put may have missed this entry
+                if (this.generation.get() != generation) {
+                    documents.remove(document.getId(), cached);
+                }
+            }
+        }
+        return cached;
+    }
+
+    @Override
+    public void published(DidDocument document, String participantContextId) {
+        evict(document.getId(), etag(serialize(document)));
+    }
+
+    @Override
+    public void unpublished(DidDocument document, String participantContextId) {
+        evict(document.getId(), null);
+    }
+
+    private void evict(String did, @Nullable String expectedEtag) {
+        var now = clock.instant();
+        if (isEnabled()) {
+            if (pendingChanges.size() >= maxEntries) {
+                pendingChanges.values().removeIf(p -> !now.isBefore(p.expiresAt()));
+            }
+            pendingChanges.put(did, new PendingChange(expectedEtag, now.plus(timeToLive)));
+        }
+        generation.incrementAndGet();
+        documents.remove(did);
+    }
+
+    /**
+     * Whether the given document, which was read from the database, reflects the last change of its DID, i.e. the transaction that
+     * (un-)published it has been committed, or the change is too old to matter.
+     */
+    private boolean isCommitted(String did, String etag, Instant now) {
+        var pending = pendingChanges.get(did);
+        if (pending == null) {
+            return true;
+        }
+        if (!now.isBefore(pending.expiresAt()) || etag.equals(pending.expectedEtag())) {
+            pendingChanges.remove(did, pending);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isEnabled() {
+        return !timeToLive.isZero() && !timeToLive.isNegative() && maxEntries > 0;
+    }
+
+    private byte[] serialize(DidDocument document) {
+        try {
+            return objectMapper.writeValueAsBytes(document);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private String etag(byte[] content) {
+        try {
+            var digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * A serialized DID document.
+     *
+     * @param content      the serialized document
+     * @param etag         the (strong) entity tag of the serialized document
+     * @param lastModified the time of the last modification, in seconds precision
+     * @param expiresAt    the time at which this cache entry expires
+     */
+    record CachedDidDocument(byte[] content, String etag, Instant lastModified, Instant expiresAt) {
+    }
+
+    /**
+     * The expected outcome of a change that may not have been committed yet.
+     *
+     * @param expectedEtag the entity tag of the published document, or null if the document was un-published
+     * @param expiresAt    the time after which the change is considered to be committed or rolled back
+     */
+    private record PendingChange(@Nullable String expectedEtag, Instant expiresAt) {
+    }
+}
@@ -15,7 +15,9 @@
 package org.eclipse.edc.identityhub.publisher.did.local;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.ws.rs.core.HttpHeaders;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.document.Service;
 import org.eclipse.edc.identityhub.spi.did.DidWebParser;
 import org.eclipse.edc.identityhub.spi.did.model.DidResource;
 import org.eclipse.edc.identityhub.spi.did.model.DidState;
@@ -24,6 +26,8 @@ import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 
 import static io.restassured.RestAssured.given;
@@ -31,9 +35,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.identityhub.publisher.did.local.TestFunctions.createDidResource;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +48,7 @@ import static org.mockito.Mockito.when;
 class DidWebControllerTest extends RestControllerTestBase {
 
     private final DidResourceStore storeMock = mock();
+    private PublishedDidDocumentCache documentCache;
 
     private static DidResource publishedDid(String did) {
         return createDidResource(did).state(DidState.PUBLISHED).build();
@@ -98,9 +106,110 @@ class DidWebControllerTest extends RestControllerTestBase {
                 .body(emptyString());
     }
 
+    @Test
+    void getDidDocument_servedFromCache() {
+        when(storeMock.query(any())).thenReturn(List.of(publishedDid("did:web:testdid1")));
+
+        baseRequest().get("/foo/bar").then().statusCode(200);
+        baseRequest().get("/foo/bar").then().statusCode(200).body(containsString("did:web:testdid1"));
+
+        verify(storeMock, times(1)).query(any());
+    }
+
+    @Test
+    void getDidDocument_withMatchingEtag_notModified() {
+        when(storeMock.query(any())).thenReturn(List.of(publishedDid("did:web:testdid1")));
+
+        var etag = baseRequest()
+                .get("/foo/bar")
+                .then()
+                .statusCode(200)
+                .header(HttpHeaders.LAST_MODIFIED, notNullValue())
+                .extract().header(HttpHeaders.ETAG);
+
+        baseRequest()
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .get("/foo/bar")
+                .then()
+                .log().ifValidationFails()
+                .statusCode(304)
+                .body(emptyString());
+    }
+
+    @Test
+    void getDidDocument_withStaleEtag() {
+        when(storeMock.query(any())).thenReturn(List.of(publishedDid("did:web:testdid1")));
+
+        given()
+                .baseUri("http://localhost:" + port)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"")
+                .get("/foo/bar")
+                .then()
+                .statusCode(200)
+                .body(containsString("did:web:testdid1"));
+    }
+
+    @Test
+    void getDidDocument_unpublished_evictedFromCache() {
+        var didResource = publishedDid("did:web:testdid1");
+        when(storeMock.query(any())).thenReturn(List.of(didResource));
+        baseRequest().get("/foo/bar").then().statusCode(200);
+
+        documentCache.unpublished(didResource.getDocument(), "participant-id");
+        when(storeMock.query(any())).thenReturn(List.of());
+
+        baseRequest().get("/foo/bar").then().statusCode(204);
+    }
+
+    @Test
+    void getDidDocument_publishedButRolledBack_notServed() {
+        var didResource = publishedDid("did:web:testdid1");
+        documentCache.published(didResource.getDocument(), "participant-id");
+        when(storeMock.query(any())).thenReturn(List.of());
+
+        baseRequest().get("/foo/bar").then().statusCode(204);
+    }
+
+    @Test
+    void getDidDocument_publishedWhileLoading_notCached() {
+        var didResource = publishedDid("did:web:testdid1");
+        when(storeMock.query(any())).thenAnswer(i -> {
+            documentCache.published(didResource.getDocument(), "participant-id");
+            return List.of(didResource);
+        });
+
+        baseRequest().get("/foo/bar").then().statusCode(200);
+        baseRequest().get("/foo/bar").then().statusCode(200);
+
+        verify(storeMock, times(2)).query(any());
+    }
+
+    @Test
+    void getDidDocument_readBeforePublicationCommitted_notCached() {
+        var previous = publishedDid("did:web:testdid1");
+        var updated = createDidResource("did:web:testdid1")
+                .state(DidState.PUBLISHED)
+                .document(DidDocument.Builder.newInstance()
+                        .id("did:web:testdid1")
+                        .service(List.of(new Service("service-id", "type", "http://foo.bar")))
+                        .build())
+                .build();
+        documentCache.published(updated.getDocument(), "participant-id");
+
+        when(storeMock.query(any())).thenReturn(List.of(previous));
+        baseRequest().get("/foo/bar").then().statusCode(200).body(not(containsString("service-id")));
+
+        when(storeMock.query(any())).thenReturn(List.of(updated));
+        baseRequest().get("/foo/bar").then().statusCode(200).body(containsString("service-id"));
+        baseRequest().get("/foo/bar").then().statusCode(200).body(containsString("service-id"));
+
+        verify(storeMock, times(2)).query(any());
+    }
+
     @Override
     protected Object controller() {
-        return new DidWebController(monitor, storeMock, new DidWebParser());
+        documentCache = new PublishedDidDocumentCache(objectMapper, Clock.systemUTC(), Duration.ofMinutes(1), 100);
+        return new DidWebController(monitor, storeMock, new DidWebParser(), documentCache);
     }
 
     private RequestSpecification baseRequest() {
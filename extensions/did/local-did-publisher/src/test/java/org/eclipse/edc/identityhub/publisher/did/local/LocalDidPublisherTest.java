@@ -103,6 +103,17 @@ class LocalDidPublisherTest {
         verifyNoMoreInteractions(storeMock, observableMock);
     }
 
+    @Test
+    void publish_modifiedResource_singleWrite() {
+        when(storeMock.update(any())).thenReturn(StoreResult.success());
+
+        AbstractResultAssert.assertThat(publisher.publish(createDidResource().build(), storeMock)).isSucceeded();
+
+        verify(storeMock).update(argThat(dr -> dr.getState() == DidState.PUBLISHED.code()));
+        verify(observableMock).invokeForEach(any());
+        verifyNoMoreInteractions(storeMock, observableMock);
+    }
+
     @Test
     void publish_storeFailsUpdate_returnsFailure() {
         when(storeMock.findById(anyString())).thenReturn(createDidResource().build());
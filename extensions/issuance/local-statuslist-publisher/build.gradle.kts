@@ -21,6 +21,7 @@ plugins {
 dependencies {
 
     api(project(":spi:issuerservice:issuerservice-credential-spi"))
+    implementation(project(":spi:identity-hub-spi"))
 
     implementation(libs.edc.spi.core)
     implementation(libs.jakarta.rsApi)
@@ -24,6 +24,7 @@ import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.identityhub.spi.store.ReplicaReads;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.CredentialUsage;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.issuerservice.spi.credentials.statuslist.StatusListCredentialUrl;
@@ -70,7 +71,9 @@ public class StatusListCredentialController {
                 .filter(new Criterion("metadata.published", "=", true))
                 .filter(new Criterion("usage", "=", CredentialUsage.StatusList.toString()))
                 .build();
-        var statusListCredential = store.query(query)
+        // verifiers fetch status lists at any time, so a revocation that is not yet replicated is no different from one that happens
+        // right after the request
+        var statusListCredential = ReplicaReads.allow(() -> store.query(query))
                 .orElseThrow(InvalidRequestException::new);
 
         if (statusListCredential.isEmpty()) {
@@ -20,6 +20,7 @@ dependencies {
     api(project(":spi:verifiable-credential-spi"))
     implementation(libs.edc.lib.core)
     implementation(libs.edc.sql.lease)
+    implementation(project(":core:lib:sql-metrics-lib"))
     implementation(libs.edc.sql.bootstrapper)
     implementation(libs.edc.spi.core)
 
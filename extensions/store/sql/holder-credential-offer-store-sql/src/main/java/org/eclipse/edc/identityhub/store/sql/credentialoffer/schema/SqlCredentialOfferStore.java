@@ -114,14 +114,13 @@ public class SqlCredentialOfferStore extends AbstractSqlStore implements Credent
     public StoreResult<Void> save(CredentialOffer offer) {
         return transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var existing = findByIdInternal(conn, offer.getId());
-                if (existing != null) {
-                    var result = leaseContext.withConnection(conn).breakLease(offer.getId());
-                    if (result.failed()) {
-                        return result;
-                    }
-                    update(conn, offer);
-                } else {
+                // breaking the lease of an entity that does not exist yet is a no-op, and an update that affects no row means that the
+                // entity is new. Either way, the entity does not have to be read first.
+                var result = leaseContext.withConnection(conn).breakLease(offer.getId());
+                if (result.failed()) {
+                    return result;
+                }
+                if (update(conn, offer) == 0) {
                     insert(conn, offer);
                 }
                 return StoreResult.success();
@@ -159,10 +158,8 @@ public class SqlCredentialOfferStore extends AbstractSqlStore implements Credent
     public StoreResult<Void> deleteById(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    var stmt = statements.getDeleteByIdTemplate();
-
-                    queryExecutor.execute(connection, stmt, id);
+                var stmt = statements.getDeleteByIdTemplate();
+                if (queryExecutor.execute(connection, stmt, id) > 0) {
                     return leaseContext.withConnection(connection).breakLease(id);
                 }
                 return StoreResult.notFound(format("CredentialOffer '%s' not found", id));
@@ -188,9 +185,9 @@ public class SqlCredentialOfferStore extends AbstractSqlStore implements Credent
                 toJson(offer.getCredentialObjects()));
     }
 
-    private void update(Connection conn, CredentialOffer offer) {
+    private int update(Connection conn, CredentialOffer offer) {
         var updateStmt = statements.getUpdateTemplate();
-        queryExecutor.execute(conn, updateStmt,
+        return queryExecutor.execute(conn, updateStmt,
                 offer.getState(),
                 offer.getStateCount(),
                 offer.getStateTimestamp(),
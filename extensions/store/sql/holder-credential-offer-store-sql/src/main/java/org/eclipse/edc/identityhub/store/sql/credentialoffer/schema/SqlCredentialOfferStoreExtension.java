@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.identityhub.store.sql.credentialoffer.schema;
 
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialOfferStore;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.identityhub.store.sql.credentialoffer.schema.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -46,6 +48,8 @@ public class SqlCredentialOfferStoreExtension implements ServiceExtension {
     private TypeManager typemanager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
     @Inject(required = false)
     private CredentialOfferStoreStatements statements;
     @Inject
@@ -66,7 +70,7 @@ public class SqlCredentialOfferStoreExtension implements ServiceExtension {
     @Provider
     public CredentialOfferStore createSqlStore(ServiceExtensionContext context) {
         return new SqlCredentialOfferStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl(), contextBuilderProvider.createContextBuilder(getStatementImpl().getCredentialOffersTable()));
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "credential-offer"), getStatementImpl(), contextBuilderProvider.createContextBuilder(getStatementImpl().getCredentialOffersTable()));
     }
 
     private CredentialOfferStoreStatements getStatementImpl() {
@@ -112,14 +112,13 @@ public class SqlHolderCredentialRequestStore extends AbstractSqlStore implements
     @Override
     public StoreResult<Void> save(HolderCredentialRequest issuanceProcess) {
         try (var conn = getConnection()) {
-            var existing = findByIdInternal(conn, issuanceProcess.getId());
-            if (existing != null) {
-                var result = leaseContext.withConnection(conn).breakLease(issuanceProcess.getId());
-                if (result.failed()) {
-                    return result;
-                }
-                update(conn, issuanceProcess);
-            } else {
+            // breaking the lease of an entity that does not exist yet is a no-op, and an update that affects no row means that the
+            // entity is new. Either way, the entity does not have to be read first.
+            var result = leaseContext.withConnection(conn).breakLease(issuanceProcess.getId());
+            if (result.failed()) {
+                return result;
+            }
+            if (update(conn, issuanceProcess) == 0) {
                 insert(conn, issuanceProcess);
             }
             return StoreResult.success();
@@ -167,9 +166,9 @@ public class SqlHolderCredentialRequestStore extends AbstractSqlStore implements
                 toJson(process.getIdsAndFormats()));
     }
 
-    private void update(Connection conn, HolderCredentialRequest process) {
+    private int update(Connection conn, HolderCredentialRequest process) {
         var updateStmt = statements.getUpdateTemplate();
-        queryExecutor.execute(conn, updateStmt,
+        return queryExecutor.execute(conn, updateStmt,
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -15,6 +15,8 @@
 package org.eclipse.edc.identityhub.store.sql.credentialrequest.schema;
 
 import org.eclipse.edc.identityhub.spi.credential.request.store.HolderCredentialRequestStore;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.identityhub.store.sql.credentialrequest.schema.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -46,6 +48,8 @@ public class SqlHolderCredentialRequestStoreExtension implements ServiceExtensio
     private TypeManager typemanager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
     @Inject(required = false)
     private HolderCredentialRequestStoreStatements statements;
     @Inject
@@ -66,7 +70,7 @@ public class SqlHolderCredentialRequestStoreExtension implements ServiceExtensio
     @Provider
     public HolderCredentialRequestStore createSqlStore(ServiceExtensionContext context) {
         return new SqlHolderCredentialRequestStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl(), contextBuilderProvider.createContextBuilder(getStatementImpl().getHolderCredentialRequestTable()));
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "holder-credential-request"), getStatementImpl(), contextBuilderProvider.createContextBuilder(getStatementImpl().getHolderCredentialRequestTable()));
     }
 
     private HolderCredentialRequestStoreStatements getStatementImpl() {
@@ -19,10 +19,19 @@ plugins {
 dependencies {
     api(project(":spi:verifiable-credential-spi"))
     implementation(libs.edc.lib.core)
+    implementation(project(":core:lib:sql-lib"))
+    implementation(project(":core:lib:sql-metrics-lib"))
+    implementation(project(":core:lib:sql-replica-lib"))
     implementation(libs.edc.sql.bootstrapper) // for the schema bootstrapper
     implementation(libs.edc.spi.core)
 
+    testImplementation(project(":spi:identity-hub-spi"))
     testImplementation(testFixtures(project(":spi:verifiable-credential-spi")))
+    testImplementation(testFixtures(project(":spi:metrics-spi")))
     testImplementation(testFixtures(libs.edc.sql.test.fixtures))
     testImplementation(libs.edc.junit)
+    testImplementation(libs.edc.transaction.local) // the replica test runs with the transaction context of a runtime
+    testImplementation(libs.testcontainers.junit)
+    testImplementation(libs.testcontainers.postgres)
+    testImplementation(libs.postgres)
 }
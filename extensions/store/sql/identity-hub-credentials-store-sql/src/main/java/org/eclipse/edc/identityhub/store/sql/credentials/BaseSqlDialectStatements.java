@@ -24,7 +24,7 @@ import static java.lang.String.format;
 public class BaseSqlDialectStatements implements CredentialStoreStatements {
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
+        var insert = executeStatement()
                 .column(getIdColumn())
                 .column(getCreateTimestampColumn())
                 .column(getIssuerIdColumn())
@@ -35,10 +35,14 @@ public class BaseSqlDialectStatements implements CredentialStoreStatements {
                 .jsonColumn(getReissuancePolicyColumn())
                 .column(getVcFormatColumn())
                 .column(getRawVcColumn())
+                .column(getRawVcCompressedColumn())
                 .jsonColumn(getVerifiableCredentialColumn())
                 .column(getParticipantContextIdColumn())
                 .column(getUsageColumn())
+                .column(getExpirationTimestampColumn())
                 .insertInto(getCredentialResourceTable());
+        // a conflicting ID leaves the table unchanged, the store detects that through the affected row count
+        return format("%s ON CONFLICT (%s) DO NOTHING", insert, getIdColumn());
     }
 
     @Override
@@ -54,9 +58,18 @@ public class BaseSqlDialectStatements implements CredentialStoreStatements {
                 .jsonColumn(getReissuancePolicyColumn())
                 .column(getVcFormatColumn())
                 .column(getRawVcColumn())
+                .column(getRawVcCompressedColumn())
                 .jsonColumn(getVerifiableCredentialColumn())
                 .column(getParticipantContextIdColumn())
                 .column(getUsageColumn())
+                .column(getExpirationTimestampColumn())
+                .update(getCredentialResourceTable(), getIdColumn());
+    }
+
+    @Override
+    public String getUpdateStateTemplate() {
+        return executeStatement()
+                .column(getVcStateColumn())
                 .update(getCredentialResourceTable(), getIdColumn());
     }
 
@@ -65,6 +78,11 @@ public class BaseSqlDialectStatements implements CredentialStoreStatements {
         return executeStatement().delete(getCredentialResourceTable(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteByQueryTemplate(String selectQuery) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM (%s) AS q)", getCredentialResourceTable(), getIdColumn(), getIdColumn(), selectQuery);
+    }
+
     @Override
     public String getFindByIdTemplate() {
         return format("SELECT * FROM %s WHERE %s = ?", getCredentialResourceTable(), getIdColumn());
@@ -73,12 +91,28 @@ public class BaseSqlDialectStatements implements CredentialStoreStatements {
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        var select = getSelectStatement();
-        return new SqlQueryStatement(select, querySpec, new VerifiableCredentialResourceMapping(this), new PostgresqlOperatorTranslator());
+        return createQuery(querySpec, getSelectStatement());
+    }
+
+    @Override
+    public SqlQueryStatement createQueryWithoutRawVc(QuerySpec querySpec) {
+        return createQuery(querySpec, getSelectWithoutRawVcStatement());
     }
 
     @Override
     public String getSelectStatement() {
         return format("SELECT * FROM %s", getCredentialResourceTable());
     }
+
+    @Override
+    public String getSelectWithoutRawVcStatement() {
+        var columns = String.join(", ", getIdColumn(), getCreateTimestampColumn(), getIssuerIdColumn(), getHolderIdColumn(), getVcStateColumn(),
+                getMetadataColumn(), getIssuancePolicyColumn(), getReissuancePolicyColumn(), getVcFormatColumn(), getVerifiableCredentialColumn(),
+                getParticipantContextIdColumn(), getUsageColumn(), getExpirationTimestampColumn());
+        return format("SELECT %s FROM %s", columns, getCredentialResourceTable());
+    }
+
+    protected SqlQueryStatement createQuery(QuerySpec querySpec, String select) {
+        return new SqlQueryStatement(select, querySpec, new VerifiableCredentialResourceMapping(this), new PostgresqlOperatorTranslator());
+    }
 }
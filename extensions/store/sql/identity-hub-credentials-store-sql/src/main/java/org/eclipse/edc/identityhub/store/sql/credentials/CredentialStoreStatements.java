@@ -63,6 +63,10 @@ public interface CredentialStoreStatements extends SqlStatements {
         return "raw_vc";
     }
 
+    default String getRawVcCompressedColumn() {
+        return "raw_vc_compressed";
+    }
+
     default String getVerifiableCredentialColumn() {
         return "verifiable_credential";
     }
@@ -79,15 +83,41 @@ public interface CredentialStoreStatements extends SqlStatements {
         return "usage";
     }
 
+    default String getExpirationTimestampColumn() {
+        return "expiration_timestamp";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
 
+    /**
+     * Template that updates the state of one credential. Parameters: the state, the ID.
+     */
+    String getUpdateStateTemplate();
+
     String getDeleteByIdTemplate();
 
+    /**
+     * Template that deletes all credentials returned by the given (parameterized) select query.
+     *
+     * @param selectQuery a query as created by {@link #createQuery(QuerySpec)}
+     */
+    String getDeleteByQueryTemplate(String selectQuery);
+
     String getFindByIdTemplate();
 
     SqlQueryStatement createQuery(QuerySpec query);
 
+    /**
+     * Creates a query like {@link #createQuery(QuerySpec)}, that does not select the raw representation of the credentials.
+     */
+    SqlQueryStatement createQueryWithoutRawVc(QuerySpec query);
+
     String getSelectStatement();
+
+    /**
+     * Select statement like {@link #getSelectStatement()}, that selects all columns except for the raw representation of the credentials.
+     */
+    String getSelectWithoutRawVcStatement();
 }
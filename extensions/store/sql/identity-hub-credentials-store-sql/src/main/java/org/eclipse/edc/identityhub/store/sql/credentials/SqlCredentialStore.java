@@ -18,10 +18,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.CredentialUsage;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialProjection;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
+import org.eclipse.edc.identityhub.sql.CursorQuery;
+import org.eclipse.edc.identityhub.sql.replica.ReadReplicaRouter;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -30,29 +34,75 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Optional.ofNullable;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.SQL_QUERY_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OPERATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_STORE;
 import static org.eclipse.edc.spi.result.StoreResult.alreadyExists;
 import static org.eclipse.edc.spi.result.StoreResult.success;
 
 
 /**
  * SQL-based {@link VerifiableCredentialResource} store intended for use with PostgreSQL
+ * <p>
+ * Optionally, raw VCs that exceed a size threshold are stored gzip-compressed in a separate column. Reading is transparent, and
+ * works regardless of the configuration, so compression can be switched on and off at any time. Note that compressed raw VCs can't
+ * be queried with criteria on {@code verifiableCredential.rawVc}, so such queries fail while compression is enabled.
  */
 public class SqlCredentialStore extends AbstractSqlStore implements CredentialStore {
 
+    /**
+     * Compression threshold that disables compression.
+     */
+    public static final int COMPRESSION_DISABLED = -1;
+    /**
+     * The value of the store tag of the SQL metrics of this store.
+     */
+    public static final String METRICS_STORE_NAME = "credential";
+    private static final String RAW_VC_PROPERTY = "verifiableCredential.rawVc";
+
     private final CredentialStoreStatements statements;
+    private final int compressionThreshold;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final MetricRecorder metrics;
 
+    /**
+     * Creates the store.
+     *
+     * @param compressionThreshold  raw VCs of at least this many characters are stored gzip-compressed, {@link #COMPRESSION_DISABLED} disables compression
+     * @param replicaDataSourceName the name of the datasource against which {@link #findById(String)}, {@link #query(QuerySpec)},
+     *                              {@link #queryWithoutRawVc(QuerySpec)} and {@link #stream(QuerySpec)} run when the caller allows it
+     *                              (see {@link ReadReplicaRouter}),
+     *                              {@code null} to read from the primary datasource
+     * @param metrics               the recorder for the duration of JDBC batches, which do not run through the {@link QueryExecutor}
+     */
     public SqlCredentialStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
-                              ObjectMapper objectMapper, QueryExecutor queryExecutor, CredentialStoreStatements statements) {
+                              ObjectMapper objectMapper, QueryExecutor queryExecutor, CredentialStoreStatements statements, int compressionThreshold,
+                              @Nullable String replicaDataSourceName, MetricRecorder metrics) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
+        this.compressionThreshold = compressionThreshold;
+        this.readReplicaRouter = new ReadReplicaRouter(dataSourceRegistry, dataSourceName, replicaDataSourceName);
+        this.metrics = metrics;
     }
 
     @Override
@@ -60,12 +110,113 @@ public class SqlCredentialStore extends AbstractSqlStore implements CredentialSt
         var id = credentialResource.getId();
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    return alreadyExists(alreadyExistsErrorMessage(id));
+                var stmt = statements.getInsertTemplate();
+                var inserted = queryExecutor.execute(connection, stmt, toInsertParameters(credentialResource));
+                return inserted > 0 ?
+                        success() :
+                        alreadyExists(alreadyExistsErrorMessage(id));
+
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> createAll(Collection<VerifiableCredentialResource> credentialResources) {
+        if (credentialResources.isEmpty()) {
+            return success();
+        }
+        var resources = List.copyOf(credentialResources);
+        var ids = resources.stream().map(VerifiableCredentialResource::getId).toList();
+        if (ids.stream().distinct().count() < ids.size()) {
+            return alreadyExists("Duplicate IDs in batch: %s".formatted(String.join(", ", ids)));
+        }
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                // the insert skips existing IDs, which shows in the row count of the respective row. This requires per-row counts, which
+                // the PostgreSQL driver reports unless batched inserts are rewritten (reWriteBatchedInserts)
+                var rows = resources.stream().map(this::toInsertParameters).toList();
+                var inserted = executeBatch(connection, statements.getInsertTemplate(), rows);
+                var existing = IntStream.range(0, inserted.length)
+                        .filter(i -> inserted[i] == 0)
+                        .mapToObj(ids::get)
+                        .toList();
+                if (existing.isEmpty()) {
+                    return success();
+                }
+                // none of the credentials must be created, so the rows that were inserted by this batch are removed again
+                var insertedIds = IntStream.range(0, inserted.length)
+                        .filter(i -> inserted[i] > 0)
+                        .mapToObj(i -> new Object[]{ ids.get(i) })
+                        .toList();
+                if (!insertedIds.isEmpty()) {
+                    executeBatch(connection, statements.getDeleteByIdTemplate(), insertedIds);
                 }
+                return alreadyExists(alreadyExistsErrorMessage(String.join(", ", existing)));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
 
-                var stmt = statements.getInsertTemplate();
-                queryExecutor.execute(connection, stmt, credentialResource.getId(),
+    @Override
+    public StoreResult<Collection<VerifiableCredentialResource>> query(QuerySpec querySpec) {
+        var rawVcCriterion = checkRawVcCriterion(querySpec);
+        if (rawVcCriterion.failed()) {
+            return rawVcCriterion.mapFailure();
+        }
+        var dataSource = readReplicaRouter.readDataSource();
+        return transactionContext.execute(() -> {
+            try (var connection = dataSource.getConnection()) {
+                var query = statements.createQuery(querySpec);
+                return success(queryExecutor.query(connection, true, this::mapResultSet, query.getQueryAsString(), query.getParameters()).toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Collection<VerifiableCredentialProjection>> queryWithoutRawVc(QuerySpec querySpec) {
+        var rawVcCriterion = checkRawVcCriterion(querySpec);
+        if (rawVcCriterion.failed()) {
+            return rawVcCriterion.mapFailure();
+        }
+        var dataSource = readReplicaRouter.readDataSource();
+        return transactionContext.execute(() -> {
+            try (var connection = dataSource.getConnection()) {
+                var query = statements.createQueryWithoutRawVc(querySpec);
+                return success(queryExecutor.query(connection, true, this::mapProjection, query.getQueryAsString(), query.getParameters()).toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Stream<VerifiableCredentialResource>> stream(QuerySpec querySpec) {
+        var rawVcCriterion = checkRawVcCriterion(querySpec);
+        if (rawVcCriterion.failed()) {
+            return rawVcCriterion.mapFailure();
+        }
+        // not run in the transaction context: the stream outlives this call, the cursor keeps a connection and a transaction of its own
+        // until it is closed
+        var query = statements.createQuery(querySpec);
+        return success(CursorQuery.stream(readReplicaRouter.readDataSource(), CursorQuery.DEFAULT_FETCH_SIZE, this::mapResultSet,
+                query.getQueryAsString(), query.getParameters()));
+    }
+
+    @Override
+    public StoreResult<Void> update(VerifiableCredentialResource credentialResource) {
+        var id = credentialResource.getId();
+
+        Objects.requireNonNull(credentialResource);
+        Objects.requireNonNull(id);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var updated = queryExecutor.execute(connection, statements.getUpdateTemplate(),
+                        id,
                         credentialResource.getTimestamp(),
                         credentialResource.getIssuerId(),
                         credentialResource.getHolderId(),
@@ -74,12 +225,16 @@ public class SqlCredentialStore extends AbstractSqlStore implements CredentialSt
                         toJson(credentialResource.getIssuancePolicy()),
                         toJson(credentialResource.getReissuancePolicy()),
                         credentialResource.getVerifiableCredential().format().ordinal(),
-                        credentialResource.getVerifiableCredential().rawVc(),
+                        rawVcColumnValue(credentialResource),
+                        rawVcCompressedColumnValue(credentialResource),
                         toJson(credentialResource.getVerifiableCredential().credential()),
                         credentialResource.getParticipantContextId(),
-                        credentialResource.getUsage().toString());
-                return success();
-
+                        credentialResource.getUsage().toString(),
+                        credentialResource.getExpirationTimestamp(),
+                        id);
+                return updated > 0 ?
+                        StoreResult.success() :
+                        StoreResult.notFound(notFoundErrorMessage(id));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -87,11 +242,23 @@ public class SqlCredentialStore extends AbstractSqlStore implements CredentialSt
     }
 
     @Override
-    public StoreResult<Collection<VerifiableCredentialResource>> query(QuerySpec querySpec) {
+    public StoreResult<Void> updateStates(Map<String, VcStatus> states) {
+        if (states.isEmpty()) {
+            return success();
+        }
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var query = statements.createQuery(querySpec);
-                return success(queryExecutor.query(connection, true, this::mapResultSet, query.getQueryAsString(), query.getParameters()).toList());
+                var entries = List.copyOf(states.entrySet());
+                var rows = entries.stream().map(e -> new Object[]{ e.getValue().code(), e.getKey() }).toList();
+                var updated = executeBatch(connection, statements.getUpdateStateTemplate(), rows);
+
+                var missing = IntStream.range(0, updated.length)
+                        .filter(i -> updated[i] == 0)
+                        .mapToObj(i -> entries.get(i).getKey())
+                        .toList();
+                return missing.isEmpty() ?
+                        success() :
+                        StoreResult.notFound(notFoundErrorMessage(String.join(", ", missing)));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -99,32 +266,15 @@ public class SqlCredentialStore extends AbstractSqlStore implements CredentialSt
     }
 
     @Override
-    public StoreResult<Void> update(VerifiableCredentialResource credentialResource) {
-        var id = credentialResource.getId();
-
-        Objects.requireNonNull(credentialResource);
+    public StoreResult<Void> deleteById(String id) {
         Objects.requireNonNull(id);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    queryExecutor.execute(connection, statements.getUpdateTemplate(),
-                            id,
-                            credentialResource.getTimestamp(),
-                            credentialResource.getIssuerId(),
-                            credentialResource.getHolderId(),
-                            credentialResource.getState(),
-                            toJson(credentialResource.getMetadata()),
-                            toJson(credentialResource.getIssuancePolicy()),
-                            toJson(credentialResource.getReissuancePolicy()),
-                            credentialResource.getVerifiableCredential().format().ordinal(),
-                            credentialResource.getVerifiableCredential().rawVc(),
-                            toJson(credentialResource.getVerifiableCredential().credential()),
-                            credentialResource.getParticipantContextId(),
-                            credentialResource.getUsage().toString(),
-                            id);
-                    return StoreResult.success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(id));
+                var stmt = statements.getDeleteByIdTemplate();
+                var deleted = queryExecutor.execute(connection, stmt, id);
+                return deleted > 0 ?
+                        success() :
+                        StoreResult.notFound(notFoundErrorMessage(id));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -132,16 +282,16 @@ public class SqlCredentialStore extends AbstractSqlStore implements CredentialSt
     }
 
     @Override
-    public StoreResult<Void> deleteById(String id) {
-        Objects.requireNonNull(id);
+    public StoreResult<Integer> deleteByQuery(QuerySpec querySpec) {
+        var rawVcCriterion = checkRawVcCriterion(querySpec);
+        if (rawVcCriterion.failed()) {
+            return rawVcCriterion.mapFailure();
+        }
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    var stmt = statements.getDeleteByIdTemplate();
-                    queryExecutor.execute(connection, stmt, id);
-                    return success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(id));
+                var query = statements.createQuery(querySpec);
+                var stmt = statements.getDeleteByQueryTemplate(query.getQueryAsString());
+                return success(queryExecutor.execute(connection, stmt, query.getParameters()));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -151,8 +301,9 @@ public class SqlCredentialStore extends AbstractSqlStore implements CredentialSt
     @Override
     public StoreResult<VerifiableCredentialResource> findById(String credentialId) {
         Objects.requireNonNull(credentialId);
+        var dataSource = readReplicaRouter.readDataSource();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try (var connection = dataSource.getConnection()) {
                 return ofNullable(findByIdInternal(connection, credentialId))
                         .map(StoreResult::success)
                         .orElseGet(() -> StoreResult.notFound(notFoundErrorMessage(credentialId)));
@@ -169,9 +320,114 @@ public class SqlCredentialStore extends AbstractSqlStore implements CredentialSt
         });
     }
 
-    private VerifiableCredentialResource mapResultSet(ResultSet resultSet) throws Exception {
+    private Object[] toInsertParameters(VerifiableCredentialResource credentialResource) {
+        return new Object[]{
+                credentialResource.getId(),
+                credentialResource.getTimestamp(),
+                credentialResource.getIssuerId(),
+                credentialResource.getHolderId(),
+                credentialResource.getState(),
+                toJson(credentialResource.getMetadata()),
+                toJson(credentialResource.getIssuancePolicy()),
+                toJson(credentialResource.getReissuancePolicy()),
+                credentialResource.getVerifiableCredential().format().ordinal(),
+                rawVcColumnValue(credentialResource),
+                rawVcCompressedColumnValue(credentialResource),
+                toJson(credentialResource.getVerifiableCredential().credential()),
+                credentialResource.getParticipantContextId(),
+                credentialResource.getUsage().toString(),
+                credentialResource.getExpirationTimestamp()
+        };
+    }
 
+    /**
+     * Executes the given statement once per parameter row, as a single JDBC batch.
+     *
+     * @return the number of affected rows, per parameter row
+     */
+    private int[] executeBatch(Connection connection, String sql, List<Object[]> rows) throws SQLException {
+        // the query executor has no batch operation, so the batch is timed here like the statements of the executor
+        var start = System.nanoTime();
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var row : rows) {
+                for (var i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } finally {
+            metrics.record(SQL_QUERY_DURATION, Duration.ofNanos(System.nanoTime() - start), TAG_STORE, METRICS_STORE_NAME, TAG_OPERATION, "batch");
+        }
+    }
+
+    /**
+     * Raw VCs that are stored compressed can't be matched by criteria on the raw VC, so such queries are rejected while compression
+     * is enabled, rather than silently missing the compressed rows.
+     */
+    private StoreResult<Void> checkRawVcCriterion(QuerySpec querySpec) {
+        if (compressionThreshold < 0) {
+            return success();
+        }
+        return querySpec.getFilterExpression().stream()
+                .filter(criterion -> RAW_VC_PROPERTY.equals(criterion.getOperandLeft()))
+                .findFirst()
+                .map(criterion -> StoreResult.<Void>generalError("Criteria on '%s' are not supported while raw VCs are stored compressed".formatted(RAW_VC_PROPERTY)))
+                .orElseGet(StoreResult::success);
+    }
+
+    private boolean isCompressed(String rawVc) {
+        return compressionThreshold >= 0 && rawVc != null && rawVc.length() >= compressionThreshold;
+    }
+
+    private String rawVcColumnValue(VerifiableCredentialResource credentialResource) {
+        var rawVc = credentialResource.getVerifiableCredential().rawVc();
+        return isCompressed(rawVc) ? null : rawVc;
+    }
+
+    private byte[] rawVcCompressedColumnValue(VerifiableCredentialResource credentialResource) {
+        var rawVc = credentialResource.getVerifiableCredential().rawVc();
+        if (!isCompressed(rawVc)) {
+            return null;
+        }
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(rawVc.getBytes(UTF_8));
+        } catch (IOException e) {
+            throw new EdcPersistenceException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private String readRawVc(ResultSet resultSet) throws SQLException, IOException {
         var rawVc = resultSet.getString(statements.getRawVcColumn());
+        if (rawVc != null) {
+            return rawVc;
+        }
+        var compressed = resultSet.getBytes(statements.getRawVcCompressedColumn());
+        if (compressed == null) {
+            return null;
+        }
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), UTF_8);
+        }
+    }
+
+    private VerifiableCredentialProjection mapProjection(ResultSet resultSet) throws Exception {
+        return new VerifiableCredentialProjection(
+                resultSet.getString(statements.getIdColumn()),
+                resultSet.getString(statements.getParticipantContextIdColumn()),
+                resultSet.getString(statements.getIssuerIdColumn()),
+                resultSet.getString(statements.getHolderIdColumn()),
+                resultSet.getInt(statements.getVcStateColumn()),
+                CredentialUsage.valueOf(resultSet.getString(statements.getUsageColumn())),
+                fromJson(resultSet.getString(statements.getMetadataColumn()), getTypeRef()),
+                CredentialFormat.values()[resultSet.getInt(statements.getVcFormatColumn())],
+                fromJson(resultSet.getString(statements.getVerifiableCredentialColumn()), VerifiableCredential.class));
+    }
+
+    private VerifiableCredentialResource mapResultSet(ResultSet resultSet) throws Exception {
+        var rawVc = readRawVc(resultSet);
         var formatInt = resultSet.getInt(statements.getVcFormatColumn());
         var format = CredentialFormat.values()[formatInt];
         var vcJson = fromJson(resultSet.getString(statements.getVerifiableCredentialColumn()), VerifiableCredential.class);
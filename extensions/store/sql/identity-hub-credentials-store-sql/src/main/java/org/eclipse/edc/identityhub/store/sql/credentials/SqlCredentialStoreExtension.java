@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.identityhub.store.sql.credentials;
 
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.identityhub.store.sql.credentials.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -33,10 +35,23 @@ import static org.eclipse.edc.identityhub.store.sql.credentials.SqlCredentialSto
 @Extension(value = NAME)
 public class SqlCredentialStoreExtension implements ServiceExtension {
     public static final String NAME = "CredentialResource SQL Store Extension";
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
 
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.credentials.datasource")
     private String dataSourceName;
 
+    @Setting(description = "The datasource that read-only queries which tolerate replication lag are routed to, e.g. a read replica. If omitted, all queries use the primary datasource",
+            key = "edc.sql.store.credentials.datasource.replica", required = false)
+    private String replicaDataSourceName;
+
+    @Setting(description = "Whether raw VCs are stored gzip-compressed. Compressed raw VCs can't be queried with criteria on the raw VC.",
+            defaultValue = "false", key = "edc.sql.store.credentials.compression.enabled")
+    private boolean compressionEnabled;
+
+    @Setting(description = "Minimum size (in characters) of a raw VC from which it is stored compressed, if compression is enabled.",
+            min = 0, defaultValue = DEFAULT_COMPRESSION_THRESHOLD + "", key = "edc.sql.store.credentials.compression.threshold")
+    private int compressionThreshold;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -45,6 +60,8 @@ public class SqlCredentialStoreExtension implements ServiceExtension {
     private TypeManager typemanager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
     @Inject(required = false)
     private CredentialStoreStatements statements;
 
@@ -59,7 +76,8 @@ public class SqlCredentialStoreExtension implements ServiceExtension {
     @Provider
     public CredentialStore createSqlStore(ServiceExtensionContext context) {
         return new SqlCredentialStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl());
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, SqlCredentialStore.METRICS_STORE_NAME), getStatementImpl(),
+                compressionEnabled ? compressionThreshold : SqlCredentialStore.COMPRESSION_DISABLED, replicaDataSourceName, metricRecorder);
     }
 
     private CredentialStoreStatements getStatementImpl() {
@@ -35,17 +35,16 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
     }
 
     @Override
-    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+    protected SqlQueryStatement createQuery(QuerySpec querySpec, String select) {
 
         //-- verifiableCredential.credential.credentialSubject.degreeType
         //-> verifiable_credential -> credentialSubject ->> degreeType
         if (querySpec.containsAnyLeftOperand("verifiableCredential.credential.credentialSubject")) {
-            var select = getSelectStatement();
             var stmt = getSelectFromJsonArrayTemplate(select, "%s -> '%s'".formatted(getVerifiableCredentialColumn(), "credentialSubject"), CREDENTIAL_SUBJECT_ALIAS);
 
             return new SqlQueryStatement(stmt, querySpec, new VerifiableCredentialResourceMapping(this), new PostgresqlOperatorTranslator());
         }
 
-        return super.createQuery(querySpec);
+        return super.createQuery(querySpec, select);
     }
 }
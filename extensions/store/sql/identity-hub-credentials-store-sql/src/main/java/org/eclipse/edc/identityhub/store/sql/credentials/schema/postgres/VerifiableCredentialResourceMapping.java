@@ -36,6 +36,7 @@ public class VerifiableCredentialResourceMapping extends TranslationMapping {
     public static final String FIELD_PARTICIPANT_CONTEXT_ID = "participantContextId";
     public static final String FIELD_METADATA = "metadata";
     public static final String FIELD_USAGE = "usage";
+    public static final String FIELD_EXPIRATION_TIMESTAMP = VerifiableCredentialResource.EXPIRATION_TIMESTAMP;
 
     public VerifiableCredentialResourceMapping(CredentialStoreStatements statements) {
         add(FIELD_ID, statements.getIdColumn());
@@ -49,5 +50,6 @@ public class VerifiableCredentialResourceMapping extends TranslationMapping {
         add(FIELD_PARTICIPANT_CONTEXT_ID, statements.getParticipantContextIdColumn());
         add(FIELD_METADATA, new JsonFieldTranslator(statements.getMetadataColumn()));
         add(FIELD_USAGE, statements.getUsageColumn());
+        add(FIELD_EXPIRATION_TIMESTAMP, statements.getExpirationTimestampColumn());
     }
 }
\ No newline at end of file
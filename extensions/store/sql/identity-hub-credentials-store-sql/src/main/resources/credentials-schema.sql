@@ -24,14 +24,54 @@ CREATE TABLE IF NOT EXISTS credential_resource
     issuance_policy        JSON,
     reissuance_policy      JSON,
     raw_vc                 VARCHAR,                      -- Representation of the VC exactly as it was received by the issuer. Can be JWT or JSON(-LD)
+    raw_vc_compressed      BYTEA,                        -- gzip-compressed raw_vc, stored instead of raw_vc if compression is enabled
     vc_format              INTEGER             NOT NULL, -- 0 = JSON-LD, 1 = JWT
     verifiable_credential  JSON                NOT NULL, -- JSON-representation of the verifiable credential
     participant_context_id VARCHAR,                      -- ID of the ParticipantContext that owns this credentials
-    usage                  VARCHAR             NOT NULL  -- 'holder', 'statuslist' or 'issuancetracking'
+    usage                  VARCHAR             NOT NULL, -- 'holder', 'statuslist' or 'issuancetracking'
+    expiration_timestamp   BIGINT                        -- POSIX timestamp (millis) of the expiration date of the VC, NULL if it does not expire
 );
+
+-- migration of tables that were created before raw VCs could be stored compressed
+ALTER TABLE credential_resource ADD COLUMN IF NOT EXISTS raw_vc_compressed BYTEA;
+-- migration of tables that were created before the expiration date was stored in its own column. The column is added and backfilled
+-- from the JSON-representation of the VC only once, when it does not exist yet. The expiration date is held either as an ISO-8601
+-- string or as epoch seconds; strings that are no valid date-time leave the column NULL, as does a failure of the backfill, which
+-- must not prevent the runtime from starting.
+DO
+$$
+    BEGIN
+        IF NOT EXISTS (SELECT 1
+                       FROM information_schema.columns
+                       WHERE table_schema = current_schema()
+                         AND table_name = 'credential_resource'
+                         AND column_name = 'expiration_timestamp') THEN
+            ALTER TABLE credential_resource ADD COLUMN expiration_timestamp BIGINT;
+            BEGIN
+                UPDATE credential_resource
+                SET expiration_timestamp = CASE json_typeof(verifiable_credential -> 'expirationDate')
+                                               WHEN 'string' THEN FLOOR(EXTRACT(EPOCH FROM (verifiable_credential ->> 'expirationDate')::TIMESTAMPTZ) * 1000)::BIGINT
+                                               ELSE FLOOR((verifiable_credential ->> 'expirationDate')::NUMERIC * 1000)::BIGINT
+                                           END
+                WHERE (json_typeof(verifiable_credential -> 'expirationDate') = 'string'
+                    AND verifiable_credential ->> 'expirationDate' ~
+                        '^\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12]\d|3[01])[T ]([01]\d|2[0-3]):[0-5]\d(:[0-5]\d(\.\d+)?)?(Z|[+-]([01]\d|2[0-3])(:?[0-5]\d)?)?$')
+                   OR (json_typeof(verifiable_credential -> 'expirationDate') = 'number'
+                    AND ABS((verifiable_credential ->> 'expirationDate')::NUMERIC) < 1e15);
+            EXCEPTION
+                WHEN OTHERS THEN
+                    RAISE WARNING 'Could not backfill credential_resource.expiration_timestamp: %', SQLERRM;
+            END;
+        END IF;
+    END
+$$;
+
 CREATE UNIQUE INDEX IF NOT EXISTS credential_resource_credential_id_uindex ON credential_resource USING btree (id);
+-- serves the selection of credentials that are about to expire, e.g. for renewal
+CREATE INDEX IF NOT EXISTS credential_resource_expiration_timestamp_index ON credential_resource USING btree (expiration_timestamp);
 COMMENT ON COLUMN credential_resource.id IS 'ID of the VC, duplicated here for indexing purposes';
 COMMENT ON COLUMN credential_resource.raw_vc IS 'Representation of the VC exactly as it was received by the issuer. Can be JWT or JSON(-LD) ';
 COMMENT ON COLUMN credential_resource.vc_format IS '0 = JSON-LD, 1 = JWT';
 COMMENT ON COLUMN credential_resource.verifiable_credential IS 'JSON-representation of the VerifiableCredential';
-
+COMMENT ON COLUMN credential_resource.expiration_timestamp IS 'Expiration date of the VC in epoch millis, duplicated here for indexing purposes';
+COMMENT ON COLUMN credential_resource.raw_vc_compressed IS 'gzip-compressed representation of the VC, set instead of raw_vc for large VCs if compression is enabled';
@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store.sql.credentials;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.spi.store.ReplicaReads;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialProjection;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
+import org.eclipse.edc.identityhub.store.sql.credentials.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.transaction.local.LocalDataSourceRegistry;
+import org.eclipse.edc.transaction.local.LocalTransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the {@link SqlCredentialStore} against two independent databases, one acting as primary, and one acting as read replica.
+ * The replica is deliberately not replicated, so that the tests can tell which database served a read.
+ */
+@ComponentTest
+@Testcontainers
+class SqlCredentialStoreReadReplicaTest {
+
+    private static final String PRIMARY_DATASOURCE = "primary";
+    private static final String REPLICA_DATASOURCE = "replica";
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:17");
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:17");
+
+    private final CredentialStoreStatements statements = new PostgresDialectStatements();
+    private final LocalTransactionContext transactionContext = new LocalTransactionContext(mock());
+    private final DataSource primaryDataSource = dataSource(PRIMARY);
+    private final DataSource replicaDataSource = dataSource(REPLICA);
+    private SqlCredentialStore store;
+    private SqlCredentialStore replicaWriter;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        var dataSourceRegistry = new LocalDataSourceRegistry(transactionContext);
+        dataSourceRegistry.register(PRIMARY_DATASOURCE, primaryDataSource);
+        dataSourceRegistry.register(REPLICA_DATASOURCE, replicaDataSource);
+
+        var mapper = new JacksonTypeManager().getMapper();
+        store = new SqlCredentialStore(dataSourceRegistry, PRIMARY_DATASOURCE, transactionContext, mapper, new SqlQueryExecutor(), statements,
+                SqlCredentialStore.COMPRESSION_DISABLED, REPLICA_DATASOURCE, MetricRecorder.noop());
+        // populates the replica, in place of the replication
+        replicaWriter = new SqlCredentialStore(dataSourceRegistry, REPLICA_DATASOURCE, transactionContext, mapper, new SqlQueryExecutor(), statements,
+                SqlCredentialStore.COMPRESSION_DISABLED, null, MetricRecorder.noop());
+
+        var schema = TestUtils.getResourceFileContentAsString("credentials-schema.sql");
+        runStatement(primaryDataSource, schema);
+        runStatement(replicaDataSource, schema);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        runStatement(primaryDataSource, "DROP TABLE " + statements.getCredentialResourceTable() + " CASCADE");
+        runStatement(replicaDataSource, "DROP TABLE " + statements.getCredentialResourceTable() + " CASCADE");
+    }
+
+    @Test
+    void create_shouldWriteToPrimary() throws SQLException {
+        var credential = createCredential();
+
+        assertThat(store.create(credential)).isSucceeded();
+
+        assertThat(countRows(primaryDataSource)).isEqualTo(1);
+        assertThat(countRows(replicaDataSource)).isZero();
+    }
+
+    @Test
+    void queryAndFindById_replicaReadsAllowed_shouldReadFromReplica() {
+        var onPrimary = createCredential();
+        var onReplica = createCredential();
+        assertThat(store.create(onPrimary)).isSucceeded();
+        assertThat(replicaWriter.create(onReplica)).isSucceeded();
+
+        ReplicaReads.allow(() -> {
+            assertThat(store.query(QuerySpec.max())).isSucceeded()
+                    .satisfies(credentials -> assertThat(credentials).extracting(VerifiableCredentialResource::getId).containsExactly(onReplica.getId()));
+            assertThat(store.queryWithoutRawVc(QuerySpec.max())).isSucceeded()
+                    .satisfies(credentials -> assertThat(credentials).extracting(VerifiableCredentialProjection::id).containsExactly(onReplica.getId()));
+            assertThat(store.findById(onReplica.getId())).isSucceeded();
+            assertThat(store.findById(onPrimary.getId())).isFailed();
+            return null;
+        });
+    }
+
+    @Test
+    void queryAndFindById_byDefault_shouldReadFromPrimary() {
+        var onPrimary = createCredential();
+        var onReplica = createCredential();
+        assertThat(store.create(onPrimary)).isSucceeded();
+        assertThat(replicaWriter.create(onReplica)).isSucceeded();
+
+        assertThat(store.query(QuerySpec.max())).isSucceeded()
+                .satisfies(credentials -> assertThat(credentials).extracting(VerifiableCredentialResource::getId).containsExactly(onPrimary.getId()));
+        assertThat(store.findById(onPrimary.getId())).isSucceeded();
+        assertThat(store.findById(onReplica.getId())).isFailed();
+    }
+
+    @Test
+    void findById_withinWriteTransaction_shouldReadOwnWrites() {
+        var credential = createCredential();
+
+        var found = transactionContext.execute(() -> {
+            assertThat(store.create(credential)).isSucceeded();
+            credential.setCredentialStatus(VcStatus.REVOKED);
+            assertThat(store.update(credential)).isSucceeded();
+            return store.findById(credential.getId());
+        });
+
+        assertThat(found).isSucceeded().satisfies(resource -> assertThat(resource.getStateAsEnum()).isEqualTo(VcStatus.REVOKED));
+        // the write was committed to the primary only
+        assertThat(ReplicaReads.allow(() -> store.findById(credential.getId()))).isFailed();
+    }
+
+    @Test
+    void findById_withoutReplica_shouldReadFromPrimary() {
+        var primaryOnlyTransactionContext = new LocalTransactionContext(mock());
+        var dataSourceRegistry = new LocalDataSourceRegistry(primaryOnlyTransactionContext);
+        dataSourceRegistry.register(PRIMARY_DATASOURCE, primaryDataSource);
+        var primaryOnlyStore = new SqlCredentialStore(dataSourceRegistry, PRIMARY_DATASOURCE, primaryOnlyTransactionContext,
+                new JacksonTypeManager().getMapper(), new SqlQueryExecutor(), statements, SqlCredentialStore.COMPRESSION_DISABLED, null, MetricRecorder.noop());
+        var credential = createCredential();
+
+        assertThat(primaryOnlyStore.create(credential)).isSucceeded();
+
+        assertThat(primaryOnlyStore.findById(credential.getId())).isSucceeded();
+    }
+
+    private static DataSource dataSource(PostgreSQLContainer<?> container) {
+        var dataSource = new PGSimpleDataSource();
+        dataSource.setURL(container.getJdbcUrl());
+        dataSource.setUser(container.getUsername());
+        dataSource.setPassword(container.getPassword());
+        return dataSource;
+    }
+
+    private void runStatement(DataSource dataSource, String sql) throws SQLException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private int countRows(DataSource dataSource) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + statements.getCredentialResourceTable())) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private VerifiableCredentialResource createCredential() {
+        var credential = VerifiableCredential.Builder.newInstance()
+                .credentialSubject(CredentialSubject.Builder.newInstance().id("test-subject").claim("test-key", "test-val").build())
+                .issuanceDate(Instant.now())
+                .type("VerifiableCredential")
+                .issuer(new Issuer("test-issuer", Map.of()))
+                .id("did:web:test-credential")
+                .build();
+        return VerifiableCredentialResource.Builder.newHolder()
+                .issuerId("test-issuer")
+                .holderId("test-holder")
+                .state(VcStatus.ISSUED)
+                .participantContextId("test-participant")
+                .credential(new VerifiableCredentialContainer("raw-vc", CredentialFormat.VC1_0_LD, credential))
+                .id(UUID.randomUUID().toString())
+                .build();
+    }
+}
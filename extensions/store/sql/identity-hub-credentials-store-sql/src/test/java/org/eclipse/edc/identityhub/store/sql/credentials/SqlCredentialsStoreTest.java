@@ -14,30 +14,55 @@
 
 package org.eclipse.edc.identityhub.store.sql.credentials;
 
+import org.assertj.core.api.Assertions;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.identityhub.store.sql.credentials.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.identityhub.verifiablecredentials.store.CredentialStoreTestBase;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.SQL_QUERY_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OPERATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_STORE;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class SqlCredentialsStoreTest extends CredentialStoreTestBase {
 
+    private static final int COMPRESSION_THRESHOLD = 1024;
     private final CredentialStoreStatements statements = new PostgresDialectStatements();
     private SqlCredentialStore store;
+    private SqlCredentialStore compressingStore;
 
     @BeforeEach
     void setup(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
         var typeManager = new JacksonTypeManager();
         store = new SqlCredentialStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
-                extension.getTransactionContext(), typeManager.getMapper(), queryExecutor, statements);
+                extension.getTransactionContext(), typeManager.getMapper(), queryExecutor, statements, SqlCredentialStore.COMPRESSION_DISABLED, null, MetricRecorder.noop());
+        compressingStore = new SqlCredentialStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), queryExecutor, statements, COMPRESSION_THRESHOLD, null, MetricRecorder.noop());
 
         var schema = TestUtils.getResourceFileContentAsString("credentials-schema.sql");
         extension.runQuery(schema);
@@ -48,8 +73,169 @@ class SqlCredentialsStoreTest extends CredentialStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getCredentialResourceTable() + " CASCADE");
     }
 
+    @Test
+    void create_whenCompressionEnabled_shouldCompressLargeRawVc(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var rawVc = largeRawVc();
+        var credential = createCredentialBuilder()
+                .credential(new VerifiableCredentialContainer(rawVc, CredentialFormat.VC1_0_LD, createCredential().getVerifiableCredential().credential()))
+                .build();
+
+        assertThat(compressingStore.create(credential)).isSucceeded();
+
+        var sizes = columnSizes(extension, queryExecutor, credential.getId());
+        Assertions.assertThat(sizes.rawVc()).isNull();
+        Assertions.assertThat(sizes.rawVcCompressed()).isNotNull().isLessThan(rawVc.length() / 4);
+        // reading is transparent, regardless of the configuration of the store
+        assertThat(store.findById(credential.getId())).isSucceeded()
+                .satisfies(resource -> Assertions.assertThat(resource.getVerifiableCredential().rawVc()).isEqualTo(rawVc));
+        assertThat(compressingStore.findById(credential.getId())).isSucceeded()
+                .satisfies(resource -> Assertions.assertThat(resource.getVerifiableCredential().rawVc()).isEqualTo(rawVc));
+    }
+
+    @Test
+    void create_whenCompressionEnabled_shouldNotCompressSmallRawVc(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var credential = createCredential();
+
+        assertThat(compressingStore.create(credential)).isSucceeded();
+
+        var sizes = columnSizes(extension, queryExecutor, credential.getId());
+        Assertions.assertThat(sizes.rawVc()).isNotNull();
+        Assertions.assertThat(sizes.rawVcCompressed()).isNull();
+    }
+
+    @Test
+    void update_whenCompressionEnabled_shouldCompressExistingRawVc(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var rawVc = largeRawVc();
+        var credential = createCredentialBuilder()
+                .credential(new VerifiableCredentialContainer(rawVc, CredentialFormat.VC1_0_LD, createCredential().getVerifiableCredential().credential()))
+                .build();
+        store.create(credential);
+
+        assertThat(compressingStore.update(credential)).isSucceeded();
+
+        var sizes = columnSizes(extension, queryExecutor, credential.getId());
+        Assertions.assertThat(sizes.rawVc()).isNull();
+        Assertions.assertThat(sizes.rawVcCompressed()).isNotNull();
+        assertThat(store.query(QuerySpec.max())).isSucceeded()
+                .satisfies(resources -> Assertions.assertThat(resources).singleElement()
+                        .satisfies(resource -> Assertions.assertThat(resource.getVerifiableCredential().rawVc()).isEqualTo(rawVc)));
+    }
+
+    @Test
+    void createAll_whenOneExists_shouldReportExistingIdAndCreateNone(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var metrics = new InMemoryMetricRecorder();
+        var meteredStore = new SqlCredentialStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(),
+                new JacksonTypeManager().getMapper(), queryExecutor, statements, SqlCredentialStore.COMPRESSION_DISABLED, null, metrics);
+        var existing = createCredentialBuilder().id("existing").build();
+        var credentials = List.of(createCredentialBuilder().id("new-1").build(), existing, createCredentialBuilder().id("new-2").build());
+        store.create(existing);
+
+        assertThat(meteredStore.createAll(credentials)).isFailed().detail().contains("existing").doesNotContain("new-1");
+
+        assertThat(store.query(QuerySpec.max())).isSucceeded()
+                .satisfies(all -> Assertions.assertThat(all).extracting(VerifiableCredentialResource::getId).containsExactly("existing"));
+        Assertions.assertThat(metrics.durations(SQL_QUERY_DURATION, TAG_STORE, SqlCredentialStore.METRICS_STORE_NAME, TAG_OPERATION, "batch")).hasSize(2);
+    }
+
+    @Test
+    void schema_whenExpirationTimestampMissing_shouldBackfillFromCredential(PostgresqlStoreSetupExtension extension) {
+        var expirationDate = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        store.create(createExpiringCredential("expiring", expirationDate));
+        store.create(createExpiringCredential("invalid-date", expirationDate));
+        store.create(createCredentialBuilder().id("not-expiring").build());
+        extension.runQuery("UPDATE %s SET %s = (%s::jsonb || '{\"expirationDate\": \"2024-13-01T00:00:00Z\"}'::jsonb)::json WHERE %s = 'invalid-date'"
+                .formatted(statements.getCredentialResourceTable(), statements.getVerifiableCredentialColumn(), statements.getVerifiableCredentialColumn(),
+                        statements.getIdColumn()));
+        // the state of a table that was created before the column existed
+        extension.runQuery("ALTER TABLE %s DROP COLUMN %s".formatted(statements.getCredentialResourceTable(), statements.getExpirationTimestampColumn()));
+
+        extension.runQuery(TestUtils.getResourceFileContentAsString("credentials-schema.sql"));
+
+        assertThat(store.query(expiringAt(expirationDate))).isSucceeded()
+                .satisfies(resources -> Assertions.assertThat(resources).extracting(VerifiableCredentialResource::getId).containsExactly("expiring"));
+    }
+
+    @Test
+    void schema_whenExpirationTimestampExists_shouldNotBackfill(PostgresqlStoreSetupExtension extension) {
+        var expirationDate = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        store.create(createExpiringCredential("expiring", expirationDate));
+        extension.runQuery("UPDATE %s SET %s = NULL".formatted(statements.getCredentialResourceTable(), statements.getExpirationTimestampColumn()));
+
+        extension.runQuery(TestUtils.getResourceFileContentAsString("credentials-schema.sql"));
+
+        assertThat(store.query(expiringAt(expirationDate))).isSucceeded()
+                .satisfies(resources -> Assertions.assertThat(resources).isEmpty());
+    }
+
+    @Test
+    void queryWithoutRawVc_shouldReturnProjection() {
+        var credential = createCredential();
+        store.create(credential);
+
+        assertThat(store.queryWithoutRawVc(QuerySpec.max())).isSucceeded()
+                .satisfies(resources -> Assertions.assertThat(resources).singleElement()
+                        .satisfies(projection -> {
+                            Assertions.assertThat(projection.id()).isEqualTo(credential.getId());
+                            Assertions.assertThat(projection.state()).isEqualTo(credential.getState());
+                            Assertions.assertThat(projection.usage()).isEqualTo(credential.getUsage());
+                            Assertions.assertThat(projection.credential()).isNotNull();
+                        }));
+    }
+
+    @Test
+    void query_byRawVc_whenCompressionEnabled_shouldFail() {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("verifiableCredential.rawVc", "=", "raw-vc"))
+                .build();
+
+        assertThat(compressingStore.query(query)).isFailed();
+        assertThat(compressingStore.queryWithoutRawVc(query)).isFailed();
+        assertThat(compressingStore.deleteByQuery(query)).isFailed();
+        assertThat(store.query(query)).isSucceeded();
+    }
+
     @Override
     protected CredentialStore getStore() {
         return store;
     }
-}
\ No newline at end of file
+
+    /**
+     * Storage size of the raw VC columns in bytes, as reported by Postgres, or null if the column is null.
+     */
+    private ColumnSizes columnSizes(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor, String id) {
+        return extension.getTransactionContext().execute(() -> {
+            try (var connection = extension.getConnection()) {
+                var sql = "SELECT pg_column_size(%s) AS raw_size, pg_column_size(%s) AS compressed_size FROM %s WHERE %s = ?"
+                        .formatted(statements.getRawVcColumn(), statements.getRawVcCompressedColumn(), statements.getCredentialResourceTable(), statements.getIdColumn());
+                return queryExecutor.single(connection, false, rs -> new ColumnSizes(rs.getObject("raw_size", Integer.class), rs.getObject("compressed_size", Integer.class)), sql, id);
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private String largeRawVc() {
+        var claims = IntStream.range(0, 200)
+                .mapToObj(i -> "\"claim-%d\": \"a repetitive value of a large credential subject\"".formatted(i))
+                .collect(Collectors.joining(", "));
+        return "{\"@context\": [\"https://www.w3.org/2018/credentials/v1\"], \"credentialSubject\": {%s}}".formatted(claims);
+    }
+
+    private VerifiableCredentialResource createExpiringCredential(String id, Instant expirationDate) {
+        return createCredentialBuilder()
+                .id(id)
+                .credential(new VerifiableCredentialContainer("raw-vc", CredentialFormat.VC1_0_LD, createVerifiableCredential()
+                        .expirationDate(expirationDate)
+                        .build()))
+                .build();
+    }
+
+    private QuerySpec expiringAt(Instant expirationDate) {
+        return QuerySpec.Builder.newInstance()
+                .filter(new Criterion(VerifiableCredentialResource.EXPIRATION_TIMESTAMP, "=", expirationDate.toEpochMilli()))
+                .build();
+    }
+
+    private record ColumnSizes(Integer rawVc, Integer rawVcCompressed) {
+    }
+}
@@ -24,7 +24,7 @@ import static java.lang.String.format;
 public class BaseSqlDialectStatements implements DidResourceStatements {
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
+        var insert = executeStatement()
                 .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getCreateTimestampColumn())
@@ -32,6 +32,8 @@ public class BaseSqlDialectStatements implements DidResourceStatements {
                 .jsonColumn(getDidDocumentColumn())
                 .column(getParticipantContextId())
                 .insertInto(getDidResourceTableName());
+        // a conflicting ID leaves the table unchanged, the store detects that through the affected row count
+        return format("%s ON CONFLICT (%s) DO NOTHING", insert, getIdColumn());
     }
 
     @Override
@@ -18,6 +18,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.identityhub.spi.did.model.DidResource;
 import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
+import org.eclipse.edc.identityhub.sql.replica.ReadReplicaRouter;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -25,6 +26,7 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -38,11 +40,25 @@ import java.util.Objects;
 public class SqlDidResourceStore extends AbstractSqlStore implements DidResourceStore {
 
     private final DidResourceStatements statements;
+    private final ReadReplicaRouter readReplicaRouter;
 
     public SqlDidResourceStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                                ObjectMapper objectMapper, QueryExecutor queryExecutor, DidResourceStatements statements) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor, statements, null);
+    }
+
+    /**
+     * Creates a store that runs {@link #findById(String)} and {@link #query(QuerySpec)} against a replica datasource when the caller
+     * allows it, see {@link ReadReplicaRouter}.
+     *
+     * @param replicaDataSourceName the name of the replica datasource, {@code null} to read from the primary datasource
+     */
+    public SqlDidResourceStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                               ObjectMapper objectMapper, QueryExecutor queryExecutor, DidResourceStatements statements,
+                               @Nullable String replicaDataSourceName) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
+        this.readReplicaRouter = new ReadReplicaRouter(dataSourceRegistry, dataSourceName, replicaDataSourceName);
     }
 
 
@@ -51,19 +67,17 @@ public class SqlDidResourceStore extends AbstractSqlStore implements DidResource
         var did = resource.getDid();
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findById(did) != null) {
-                    return StoreResult.alreadyExists(alreadyExistsErrorMessage(did));
-                }
-
                 var stmt = statements.getInsertTemplate();
-                queryExecutor.execute(connection, stmt,
+                var inserted = queryExecutor.execute(connection, stmt,
                         did,
                         resource.getState(),
                         resource.getCreateTimestamp(),
                         resource.getStateTimestamp(),
                         toJson(resource.getDocument()),
                         resource.getParticipantContextId());
-                return StoreResult.success();
+                return inserted > 0 ?
+                        StoreResult.success() :
+                        StoreResult.alreadyExists(alreadyExistsErrorMessage(did));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -77,18 +91,18 @@ public class SqlDidResourceStore extends AbstractSqlStore implements DidResource
         Objects.requireNonNull(did);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findById(did) != null) {
-                    queryExecutor.execute(connection, statements.getUpdateTemplate(),
-                            did,
-                            resource.getState(),
-                            resource.getCreateTimestamp(),
-                            resource.getStateTimestamp(),
-                            toJson(resource.getDocument()),
-                            resource.getParticipantContextId(),
-                            did);
-                    return StoreResult.success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(did));
+                // the update is conditional on the existence of the row, so there is no need to read it first
+                var updated = queryExecutor.execute(connection, statements.getUpdateTemplate(),
+                        did,
+                        resource.getState(),
+                        resource.getCreateTimestamp(),
+                        resource.getStateTimestamp(),
+                        toJson(resource.getDocument()),
+                        resource.getParticipantContextId(),
+                        did);
+                return updated > 0 ?
+                        StoreResult.success() :
+                        StoreResult.notFound(notFoundErrorMessage(did));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -98,8 +112,9 @@ public class SqlDidResourceStore extends AbstractSqlStore implements DidResource
     @Override
     public DidResource findById(String did) {
         Objects.requireNonNull(did);
+        var dataSource = readReplicaRouter.readDataSource();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try (var connection = dataSource.getConnection()) {
                 var sql = statements.getFindByIdTemplate();
                 return queryExecutor.single(connection, false, this::mapResultSet, sql, did);
             } catch (Exception exception) {
@@ -110,8 +125,9 @@ public class SqlDidResourceStore extends AbstractSqlStore implements DidResource
 
     @Override
     public Collection<DidResource> query(QuerySpec query) {
+        var dataSource = readReplicaRouter.readDataSource();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try (var connection = dataSource.getConnection()) {
                 var sql = statements.createQuery(query);
                 return queryExecutor.query(connection, true, this::mapResultSet, sql.getQueryAsString(), sql.getParameters()).toList();
             } catch (Exception exception) {
@@ -125,12 +141,11 @@ public class SqlDidResourceStore extends AbstractSqlStore implements DidResource
         Objects.requireNonNull(did);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findById(did) != null) {
-                    var stmt = statements.getDeleteByIdTemplate();
-                    queryExecutor.execute(connection, stmt, did);
-                    return StoreResult.success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(did));
+                var stmt = statements.getDeleteByIdTemplate();
+                var deleted = queryExecutor.execute(connection, stmt, did);
+                return deleted > 0 ?
+                        StoreResult.success() :
+                        StoreResult.notFound(notFoundErrorMessage(did));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -16,6 +16,8 @@ package org.eclipse.edc.identityhub.did.store.sql;
 
 import org.eclipse.edc.identityhub.did.store.sql.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
@@ -37,6 +39,10 @@ public class SqlDidResourceStoreExtension implements ServiceExtension {
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.didresource.datasource")
     private String dataSourceName;
 
+    @Setting(description = "The datasource that read-only queries which tolerate replication lag are routed to, e.g. a read replica. If omitted, all queries use the primary datasource",
+            key = "edc.sql.store.didresource.datasource.replica", required = false)
+    private String replicaDataSourceName;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -45,6 +51,8 @@ public class SqlDidResourceStoreExtension implements ServiceExtension {
     private TypeManager typemanager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
     @Inject(required = false)
     private DidResourceStatements statements;
     @Inject
@@ -58,7 +66,7 @@ public class SqlDidResourceStoreExtension implements ServiceExtension {
     @Provider
     public DidResourceStore createSqlStore(ServiceExtensionContext context) {
         return new SqlDidResourceStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl());
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "did-resource"), getStatementImpl(), replicaDataSourceName);
     }
 
     private DidResourceStatements getStatementImpl() {
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store.sql.outbox;
+
+import static java.lang.String.format;
+
+public class BaseSqlDialectStatements implements EventOutboxStatements {
+    @Override
+    public String getNextLaneSequenceTemplate() {
+        return format("INSERT INTO %1$s (%2$s, %3$s) VALUES (?, 1) ON CONFLICT (%2$s) DO UPDATE SET %3$s = %1$s.%3$s + 1 RETURNING %3$s",
+                getLaneTableName(), getLaneColumn(), getLastSequenceColumn());
+    }
+
+    @Override
+    public String getInsertTemplate() {
+        var insert = executeStatement()
+                .column(getIdColumn())
+                .column(getSequenceNumberColumn())
+                .column(getIdempotencyKeyColumn())
+                .column(getLaneColumn())
+                .column(getSubscriberColumn())
+                .column(getEventTypeColumn())
+                .column(getPayloadColumn())
+                .column(getCreatedAtColumn())
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getFailedColumn())
+                .column(getLastErrorColumn())
+                .insertInto(getTableName());
+        return format("%s ON CONFLICT (%s) DO NOTHING", insert, getIdempotencyKeyColumn());
+    }
+
+    @Override
+    public String getLeaseNextTemplate() {
+        // the oldest non-failed entry of a lane is its head, only heads that are due and not leased by someone else are selected.
+        // SKIP LOCKED prevents that concurrent runtimes block each other, or lease the same entry.
+        var heads = format("""
+                        SELECT o.%1$s FROM %2$s o
+                        WHERE o.%3$s = FALSE AND o.%4$s <= ? AND (o.%5$s IS NULL OR o.%5$s <= ?)
+                        AND NOT EXISTS (SELECT 1 FROM %2$s p WHERE p.%6$s = o.%6$s AND p.%3$s = FALSE AND p.%7$s < o.%7$s)
+                        ORDER BY o.%8$s LIMIT ? FOR UPDATE SKIP LOCKED""",
+                getIdColumn(), getTableName(), getFailedColumn(), getNextAttemptAtColumn(), getLeaseExpiresAtColumn(), getLaneColumn(),
+                getSequenceNumberColumn(), getCreatedAtColumn());
+
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s IN (%s) RETURNING *",
+                getTableName(), getLeaseHolderColumn(), getLeaseExpiresAtColumn(), getIdColumn(), heads);
+    }
+
+    @Override
+    public String getUpdateTemplate() {
+        return executeStatement()
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getFailedColumn())
+                .column(getLastErrorColumn())
+                .column(getLeaseHolderColumn())
+                .column(getLeaseExpiresAtColumn())
+                .update(getTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteByIdTemplate() {
+        return executeStatement().delete(getTableName(), getIdColumn());
+    }
+}
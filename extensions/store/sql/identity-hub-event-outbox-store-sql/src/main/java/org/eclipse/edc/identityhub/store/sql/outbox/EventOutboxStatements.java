@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store.sql.outbox;
+
+import org.eclipse.edc.identityhub.spi.events.outbox.OutboxEntry;
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Defines SQL-statements and column names for use with a SQL-based store for {@link OutboxEntry} objects
+ */
+public interface EventOutboxStatements extends SqlStatements {
+    default String getTableName() {
+        return "edc_event_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getSequenceNumberColumn() {
+        return "sequence_number";
+    }
+
+    default String getIdempotencyKeyColumn() {
+        return "idempotency_key";
+    }
+
+    default String getLaneColumn() {
+        return "lane";
+    }
+
+    default String getSubscriberColumn() {
+        return "subscriber";
+    }
+
+    default String getEventTypeColumn() {
+        return "event_type";
+    }
+
+    default String getPayloadColumn() {
+        return "payload";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getFailedColumn() {
+        return "failed";
+    }
+
+    default String getLastErrorColumn() {
+        return "last_error";
+    }
+
+    default String getLaneTableName() {
+        return "edc_event_outbox_lane";
+    }
+
+    default String getLastSequenceColumn() {
+        return "last_sequence";
+    }
+
+    default String getLeaseHolderColumn() {
+        return "lease_holder";
+    }
+
+    default String getLeaseExpiresAtColumn() {
+        return "lease_expires_at";
+    }
+
+    /**
+     * Increments the sequence counter of a lane, and returns the new value. Locks the lane until the end of the transaction.
+     * Parameters: lane.
+     */
+    String getNextLaneSequenceTemplate();
+
+    /**
+     * Inserts an entry, unless an entry with the same idempotency key exists.
+     */
+    String getInsertTemplate();
+
+    /**
+     * Leases the head entries of up to N lanes, and returns them. Parameters: lease holder, lease expiry, now, now, N.
+     */
+    String getLeaseNextTemplate();
+
+    String getUpdateTemplate();
+
+    String getDeleteByIdTemplate();
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store.sql.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.identityhub.spi.events.outbox.OutboxEntry;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.eclipse.edc.spi.result.StoreResult.notFound;
+import static org.eclipse.edc.spi.result.StoreResult.success;
+
+public class SqlEventOutboxStore extends AbstractSqlStore implements EventOutboxStore {
+
+    private final EventOutboxStatements statements;
+    private final Clock clock;
+
+    public SqlEventOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, ObjectMapper objectMapper,
+                               QueryExecutor queryExecutor, EventOutboxStatements statements, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.clock = clock;
+    }
+
+    @Override
+    public StoreResult<Void> save(OutboxEntry entry) {
+        Objects.requireNonNull(entry);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var sequenceNumber = queryExecutor.single(connection, false, r -> r.getLong(statements.getLastSequenceColumn()),
+                        statements.getNextLaneSequenceTemplate(), entry.getLane());
+                queryExecutor.execute(connection, statements.getInsertTemplate(),
+                        entry.getId(),
+                        sequenceNumber,
+                        entry.getIdempotencyKey(),
+                        entry.getLane(),
+                        entry.getSubscriber(),
+                        entry.getEventType(),
+                        entry.getPayload(),
+                        entry.getCreatedAt(),
+                        entry.getAttempts(),
+                        entry.getNextAttemptAt(),
+                        entry.isFailed(),
+                        entry.getLastError());
+                return success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<OutboxEntry> leaseNext(int max, String leaseHolder, Duration leaseDuration) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                return queryExecutor.query(connection, true, this::mapResultSet, statements.getLeaseNextTemplate(),
+                                leaseHolder, now + leaseDuration.toMillis(), now, now, max)
+                        .sorted(Comparator.comparingLong(OutboxEntry::getCreatedAt))
+                        .toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> delete(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var deleted = queryExecutor.execute(connection, statements.getDeleteByIdTemplate(), id);
+                return deleted == 0 ? notFound("An outbox entry with ID '%s' does not exist.".formatted(id)) : success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> update(OutboxEntry entry) {
+        Objects.requireNonNull(entry);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var updated = queryExecutor.execute(connection, statements.getUpdateTemplate(),
+                        entry.getAttempts(),
+                        entry.getNextAttemptAt(),
+                        entry.isFailed(),
+                        entry.getLastError(),
+                        null,
+                        null,
+                        entry.getId());
+                return updated == 0 ? notFound("An outbox entry with ID '%s' does not exist.".formatted(entry.getId())) : success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private OutboxEntry mapResultSet(ResultSet resultSet) throws Exception {
+        return OutboxEntry.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .sequenceNumber(resultSet.getLong(statements.getSequenceNumberColumn()))
+                .idempotencyKey(resultSet.getString(statements.getIdempotencyKeyColumn()))
+                .lane(resultSet.getString(statements.getLaneColumn()))
+                .subscriber(resultSet.getString(statements.getSubscriberColumn()))
+                .eventType(resultSet.getString(statements.getEventTypeColumn()))
+                .payload(resultSet.getString(statements.getPayloadColumn()))
+                .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .failed(resultSet.getBoolean(statements.getFailedColumn()))
+                .lastError(resultSet.getString(statements.getLastErrorColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store.sql.outbox;
+
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
+import org.eclipse.edc.identityhub.store.sql.outbox.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.identityhub.store.sql.outbox.SqlEventOutboxStoreExtension.NAME;
+
+@Extension(NAME)
+public class SqlEventOutboxStoreExtension implements ServiceExtension {
+    public static final String NAME = "Event Outbox SQL Store Extension";
+
+    @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.eventoutbox.datasource")
+    private String dataSourceName;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private TypeManager typemanager;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
+
+    @Inject(required = false)
+    private EventOutboxStatements statements;
+
+    @Inject
+    private SqlSchemaBootstrapper sqlSchemaBootstrapper;
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "event-outbox-schema.sql");
+    }
+
+    @Provider
+    public EventOutboxStore createSqlStore(ServiceExtensionContext context) {
+        return new SqlEventOutboxStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "event-outbox"), getStatementImpl(), clock);
+    }
+
+    private EventOutboxStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresDialectStatements();
+    }
+
+}
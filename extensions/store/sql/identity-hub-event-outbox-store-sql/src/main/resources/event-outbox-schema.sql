@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+-- only intended for and tested with Postgres!
+CREATE TABLE IF NOT EXISTS edc_event_outbox
+(
+    id               VARCHAR PRIMARY KEY NOT NULL,              -- primary key
+    sequence_number  BIGINT              NOT NULL,              -- order of delivery within a lane, see edc_event_outbox_lane
+    idempotency_key  VARCHAR             NOT NULL UNIQUE,       -- event envelope ID + subscriber ID
+    lane             VARCHAR             NOT NULL,              -- ordering lane, typically the participant context ID
+    subscriber       VARCHAR             NOT NULL,              -- ID of the subscriber the event is delivered to
+    event_type       VARCHAR             NOT NULL,              -- fully-qualified class name of the event
+    payload          VARCHAR             NOT NULL,              -- serialized event
+    created_at       BIGINT              NOT NULL,              -- time at which the event was published
+    attempts         INT                 NOT NULL DEFAULT 0,    -- number of failed delivery attempts
+    next_attempt_at  BIGINT              NOT NULL DEFAULT 0,    -- epoch millis before which the entry must not be delivered
+    failed           BOOLEAN             NOT NULL DEFAULT FALSE,-- whether delivery was given up on
+    last_error       VARCHAR,
+    lease_holder     VARCHAR,                                   -- runtime that currently delivers the entry
+    lease_expires_at BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS event_outbox_lane_sequence_index ON edc_event_outbox (lane, sequence_number) WHERE failed = FALSE;
+
+-- Last sequence number per lane. Saving an entry increments the counter of its lane, which locks the lane's row until the transaction
+-- ends. Concurrent transactions that save entries of the same lane are thereby serialized, so sequence numbers follow the commit order.
+CREATE TABLE IF NOT EXISTS edc_event_outbox_lane
+(
+    lane          VARCHAR PRIMARY KEY NOT NULL,
+    last_sequence BIGINT              NOT NULL
+);
+
+-- outboxes that were created with a BIGSERIAL sequence number continue after their highest number
+ALTER TABLE edc_event_outbox ALTER COLUMN sequence_number DROP DEFAULT;
+INSERT INTO edc_event_outbox_lane (lane, last_sequence)
+SELECT lane, MAX(sequence_number) FROM edc_event_outbox GROUP BY lane
+ON CONFLICT (lane) DO NOTHING;
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.store.sql.outbox;
+
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStore;
+import org.eclipse.edc.identityhub.spi.events.outbox.EventOutboxStoreTestBase;
+import org.eclipse.edc.identityhub.store.sql.outbox.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class SqlEventOutboxStoreTest extends EventOutboxStoreTestBase {
+    private final EventOutboxStatements statements = new PostgresDialectStatements();
+    private SqlEventOutboxStore store;
+
+    @BeforeEach
+    void setup(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var typeManager = new JacksonTypeManager();
+        store = new SqlEventOutboxStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), queryExecutor, statements, Clock.systemUTC());
+
+        var schema = TestUtils.getResourceFileContentAsString("event-outbox-schema.sql");
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getLaneTableName() + " CASCADE");
+    }
+
+    @Test
+    void nextLaneSequence_blocksUntilOtherTransactionOfLaneCompletes(PostgresqlStoreSetupExtension extension) throws Exception {
+        var dataSource = extension.getDataSourceRegistry().resolve(extension.getDatasourceName());
+        try (var first = dataSource.getConnection(); var second = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            second.setAutoCommit(false);
+            assertThat(nextLaneSequence(first, "lane")).isEqualTo(1);
+
+            var secondSequence = CompletableFuture.supplyAsync(() -> nextLaneSequence(second, "lane"));
+            // another lane is not blocked
+            assertThat(nextLaneSequence(first, "other-lane")).isEqualTo(1);
+            assertThat(secondSequence).failsWithin(Duration.ofMillis(500));
+
+            first.commit();
+            assertThat(secondSequence.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+            second.commit();
+        }
+    }
+
+    @Override
+    protected EventOutboxStore getStore() {
+        return store;
+    }
+
+    private long nextLaneSequence(Connection connection, String lane) {
+        try (var statement = connection.prepareStatement(statements.getNextLaneSequenceTemplate())) {
+            statement.setString(1, lane);
+            try (var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(statements.getLastSequenceColumn());
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
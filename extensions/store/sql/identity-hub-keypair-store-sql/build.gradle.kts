@@ -19,6 +19,8 @@ plugins {
 dependencies {
     api(project(":spi:keypair-spi"))
     implementation(libs.edc.lib.core)
+    implementation(project(":core:lib:sql-metrics-lib"))
+    implementation(project(":core:lib:sql-replica-lib"))
     implementation(libs.edc.sql.bootstrapper)
     implementation(libs.edc.spi.core)
 
@@ -24,7 +24,7 @@ import static java.lang.String.format;
 public class BaseSqlDialectStatements implements KeyPairResourceStoreStatements {
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
+        var insert = executeStatement()
                 .column(getIdColumn())
                 .column(getParticipantContextIdColumn())
                 .column(getTimestampColumn())
@@ -39,6 +39,8 @@ public class BaseSqlDialectStatements implements KeyPairResourceStoreStatements
                 .column(getKeyContextColumn())
                 .column(getUsageColumn())
                 .insertInto(getTableName());
+        // a conflicting ID leaves the table unchanged, the store detects that through the affected row count
+        return format("%s ON CONFLICT (%s) DO NOTHING", insert, getIdColumn());
     }
 
     @Override
@@ -65,6 +67,11 @@ public class BaseSqlDialectStatements implements KeyPairResourceStoreStatements
         return executeStatement().delete(getTableName(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteByQueryTemplate(String selectQuery) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM (%s) AS q)", getTableName(), getIdColumn(), getIdColumn(), selectQuery);
+    }
+
     @Override
     public String getFindByIdTemplate() {
         return format("SELECT * FROM %s WHERE %s = ?", getTableName(), getIdColumn());
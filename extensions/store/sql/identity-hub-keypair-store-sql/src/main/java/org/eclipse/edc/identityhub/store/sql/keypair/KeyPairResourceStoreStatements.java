@@ -83,8 +83,23 @@ public interface KeyPairResourceStoreStatements extends SqlStatements {
 
     String getUpdateTemplate();
 
+    /**
+     * Template like {@link #getUpdateTemplate()}, that takes the expected state as an additional, last parameter, and only updates the
+     * row if it is in that state.
+     */
+    default String getUpdateIfInStateTemplate() {
+        return "%s AND %s = ?".formatted(getUpdateTemplate(), getStateColumn());
+    }
+
     String getDeleteByIdTemplate();
 
+    /**
+     * Template that deletes all key pairs returned by the given (parameterized) select query.
+     *
+     * @param selectQuery a query as created by {@link #createQuery(QuerySpec)}
+     */
+    String getDeleteByQueryTemplate(String selectQuery);
+
     String getFindByIdTemplate();
 
     SqlQueryStatement createQuery(QuerySpec query);
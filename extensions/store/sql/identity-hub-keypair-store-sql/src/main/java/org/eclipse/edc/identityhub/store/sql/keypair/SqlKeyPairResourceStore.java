@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
 import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.KeyPairUsage;
+import org.eclipse.edc.identityhub.sql.replica.ReadReplicaRouter;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -28,14 +29,16 @@ import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
-import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
 
 import static org.eclipse.edc.spi.result.StoreResult.alreadyExists;
+import static org.eclipse.edc.spi.result.StoreResult.alreadyLeased;
 import static org.eclipse.edc.spi.result.StoreResult.notFound;
 import static org.eclipse.edc.spi.result.StoreResult.success;
 
@@ -44,10 +47,23 @@ public class SqlKeyPairResourceStore extends AbstractSqlStore implements KeyPair
     private static final TypeReference<Set<KeyPairUsage>> LIST_TYPE = new TypeReference<>() {
     };
     private final KeyPairResourceStoreStatements statements;
+    private final ReadReplicaRouter readReplicaRouter;
 
     public SqlKeyPairResourceStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, ObjectMapper objectMapper, QueryExecutor queryExecutor, KeyPairResourceStoreStatements statements) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor, statements, null);
+    }
+
+    /**
+     * Creates a store that runs {@link #query(QuerySpec)} against a replica datasource when the caller allows it, see
+     * {@link ReadReplicaRouter}.
+     *
+     * @param replicaDataSourceName the name of the replica datasource, {@code null} to read from the primary datasource
+     */
+    public SqlKeyPairResourceStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, ObjectMapper objectMapper, QueryExecutor queryExecutor, KeyPairResourceStoreStatements statements,
+                                   @Nullable String replicaDataSourceName) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
+        this.readReplicaRouter = new ReadReplicaRouter(dataSourceRegistry, dataSourceName, replicaDataSourceName);
     }
 
     @Override
@@ -55,11 +71,8 @@ public class SqlKeyPairResourceStore extends AbstractSqlStore implements KeyPair
         Objects.requireNonNull(keyPairResource);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, keyPairResource.getId()) != null) {
-                    return alreadyExists("A KeyPairResource with ID '%s' already exists.".formatted(keyPairResource.getId()));
-                }
                 var stmt = statements.getInsertTemplate();
-                queryExecutor.execute(connection, stmt, keyPairResource.getId(),
+                var inserted = queryExecutor.execute(connection, stmt, keyPairResource.getId(),
                         keyPairResource.getParticipantContextId(),
                         keyPairResource.getTimestamp(),
                         keyPairResource.getKeyId(),
@@ -73,7 +86,9 @@ public class SqlKeyPairResourceStore extends AbstractSqlStore implements KeyPair
                         keyPairResource.getKeyContext(),
                         toJson(keyPairResource.getUsage()));
 
-                return success();
+                return inserted > 0 ?
+                        success() :
+                        alreadyExists("A KeyPairResource with ID '%s' already exists.".formatted(keyPairResource.getId()));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -82,8 +97,9 @@ public class SqlKeyPairResourceStore extends AbstractSqlStore implements KeyPair
 
     @Override
     public StoreResult<Collection<KeyPairResource>> query(QuerySpec querySpec) {
+        var dataSource = readReplicaRouter.readDataSource();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try (var connection = dataSource.getConnection()) {
                 var query = statements.createQuery(querySpec);
                 return success(queryExecutor.query(connection, true, this::mapResultSet, query.getQueryAsString(), query.getParameters()).toList());
             } catch (SQLException e) {
@@ -97,29 +113,35 @@ public class SqlKeyPairResourceStore extends AbstractSqlStore implements KeyPair
         Objects.requireNonNull(keyPairResource);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
+                var id = keyPairResource.getId();
+                var updated = queryExecutor.execute(connection, statements.getUpdateTemplate(), updateArguments(keyPairResource));
 
+                return updated > 0 ?
+                        success() :
+                        notFound("A KeyPairResource with ID '%s' does not exist.".formatted(id));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> updateIfInState(KeyPairResource keyPairResource, int expectedState) {
+        Objects.requireNonNull(keyPairResource);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
                 var id = keyPairResource.getId();
-                if (findByIdInternal(connection, id) == null) {
-                    return notFound("A KeyPairResource with ID '%s' does not exist.".formatted(id));
+                var arguments = new ArrayList<>(Arrays.asList(updateArguments(keyPairResource)));
+                arguments.add(expectedState);
+                var updated = queryExecutor.execute(connection, statements.getUpdateIfInStateTemplate(), arguments.toArray());
+                if (updated > 0) {
+                    return success();
                 }
 
-                var updateStmt = statements.getUpdateTemplate();
-                queryExecutor.execute(connection, updateStmt, id,
-                        keyPairResource.getParticipantContextId(),
-                        keyPairResource.getTimestamp(),
-                        keyPairResource.getKeyId(),
-                        keyPairResource.getGroupName(),
-                        keyPairResource.isDefaultPair(),
-                        keyPairResource.getUseDuration(),
-                        keyPairResource.getRotationDuration(),
-                        keyPairResource.getSerializedPublicKey(),
-                        keyPairResource.getPrivateKeyAlias(),
-                        keyPairResource.getState(),
-                        keyPairResource.getKeyContext(),
-                        toJson(keyPairResource.getUsage()),
-                        id);
-
-                return success();
+                var existing = queryExecutor.single(connection, false, this::mapResultSet, statements.getFindByIdTemplate(), id);
+                return existing == null ?
+                        notFound("A KeyPairResource with ID '%s' does not exist.".formatted(id)) :
+                        alreadyLeased("KeyPairResource '%s' is expected to be in state %d, but was %d.".formatted(id, expectedState, existing.getState()));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -130,27 +152,50 @@ public class SqlKeyPairResourceStore extends AbstractSqlStore implements KeyPair
     public StoreResult<Void> deleteById(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) == null) {
-                    return notFound("A KeyPairResource with ID '%s' does not exist.".formatted(id));
-                }
-
                 var deleteStmt = statements.getDeleteByIdTemplate();
-                queryExecutor.execute(connection, deleteStmt, id);
+                var deleted = queryExecutor.execute(connection, deleteStmt, id);
 
-                return success();
+                return deleted > 0 ?
+                        success() :
+                        notFound("A KeyPairResource with ID '%s' does not exist.".formatted(id));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private @Nullable KeyPairResource findByIdInternal(Connection connection, String id) {
+    @Override
+    public StoreResult<Integer> deleteByQuery(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
-            var stmt = statements.getFindByIdTemplate();
-            return queryExecutor.single(connection, false, this::mapResultSet, stmt, id);
+            try (var connection = getConnection()) {
+                var query = statements.createQuery(querySpec);
+                var stmt = statements.getDeleteByQueryTemplate(query.getQueryAsString());
+                return success(queryExecutor.execute(connection, stmt, query.getParameters()));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
         });
     }
 
+    private Object[] updateArguments(KeyPairResource keyPairResource) {
+        return new Object[]{
+                keyPairResource.getId(),
+                keyPairResource.getParticipantContextId(),
+                keyPairResource.getTimestamp(),
+                keyPairResource.getKeyId(),
+                keyPairResource.getGroupName(),
+                keyPairResource.isDefaultPair(),
+                keyPairResource.getUseDuration(),
+                keyPairResource.getRotationDuration(),
+                keyPairResource.getSerializedPublicKey(),
+                keyPairResource.getPrivateKeyAlias(),
+                keyPairResource.getState(),
+                keyPairResource.getKeyContext(),
+                toJson(keyPairResource.getUsage()),
+                keyPairResource.getId()
+        };
+    }
+
     private KeyPairResource mapResultSet(ResultSet resultSet) throws Exception {
 
         return KeyPairResource.Builder.newPresentationSigning()
@@ -15,6 +15,8 @@
 package org.eclipse.edc.identityhub.store.sql.keypair;
 
 import org.eclipse.edc.identityhub.spi.keypair.store.KeyPairResourceStore;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.identityhub.store.sql.keypair.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -37,6 +39,10 @@ public class SqlKeyPairResourceStoreExtension implements ServiceExtension {
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.keypair.datasource")
     private String dataSourceName;
 
+    @Setting(description = "The datasource that read-only queries which tolerate replication lag are routed to, e.g. a read replica. If omitted, all queries use the primary datasource",
+            key = "edc.sql.store.keypair.datasource.replica", required = false)
+    private String replicaDataSourceName;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -48,6 +54,8 @@ public class SqlKeyPairResourceStoreExtension implements ServiceExtension {
 
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
 
     @Inject(required = false)
     private KeyPairResourceStoreStatements statements;
@@ -68,7 +76,7 @@ public class SqlKeyPairResourceStoreExtension implements ServiceExtension {
     @Provider
     public KeyPairResourceStore createSqlStore(ServiceExtensionContext context) {
         return new SqlKeyPairResourceStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl());
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "keypair-resource"), getStatementImpl(), replicaDataSourceName);
     }
 
     private KeyPairResourceStoreStatements getStatementImpl() {
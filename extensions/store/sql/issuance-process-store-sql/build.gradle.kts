@@ -19,6 +19,7 @@ plugins {
 dependencies {
     api(project(":spi:issuerservice:issuerservice-issuance-spi"))
     implementation(libs.edc.lib.core)
+    implementation(project(":core:lib:sql-metrics-lib"))
     implementation(libs.edc.sql.bootstrapper)
     implementation(libs.edc.sql.lease)
     implementation(libs.edc.spi.core)
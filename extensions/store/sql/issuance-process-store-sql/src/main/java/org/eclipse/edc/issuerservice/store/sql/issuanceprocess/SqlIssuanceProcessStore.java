@@ -118,14 +118,13 @@ public class SqlIssuanceProcessStore extends AbstractSqlStore implements Issuanc
     public StoreResult<Void> save(IssuanceProcess issuanceProcess) {
         return transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var existing = findByIdInternal(conn, issuanceProcess.getId());
-                if (existing != null) {
-                    var result = leaseContext.withConnection(conn).breakLease(issuanceProcess.getId());
-                    if (result.failed()) {
-                        return result;
-                    }
-                    update(conn, issuanceProcess);
-                } else {
+                // breaking the lease of an entity that does not exist yet is a no-op, and an update that affects no row means that the
+                // entity is new. Either way, the entity does not have to be read first.
+                var result = leaseContext.withConnection(conn).breakLease(issuanceProcess.getId());
+                if (result.failed()) {
+                    return result;
+                }
+                if (update(conn, issuanceProcess) == 0) {
                     insert(conn, issuanceProcess);
                 }
                 return StoreResult.success();
@@ -177,9 +176,9 @@ public class SqlIssuanceProcessStore extends AbstractSqlStore implements Issuanc
         );
     }
 
-    private void update(Connection conn, IssuanceProcess process) {
+    private int update(Connection conn, IssuanceProcess process) {
         var updateStmt = statements.getUpdateTemplate();
-        queryExecutor.execute(conn, updateStmt,
+        return queryExecutor.execute(conn, updateStmt,
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
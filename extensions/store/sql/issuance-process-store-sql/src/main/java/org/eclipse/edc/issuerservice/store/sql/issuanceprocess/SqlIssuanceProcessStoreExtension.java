@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.issuerservice.store.sql.issuanceprocess;
 
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.issuerservice.spi.issuance.process.store.IssuanceProcessStore;
 import org.eclipse.edc.issuerservice.store.sql.issuanceprocess.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -48,6 +50,8 @@ public class SqlIssuanceProcessStoreExtension implements ServiceExtension {
     private TypeManager typemanager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
     @Inject(required = false)
     private IssuanceProcessStoreStatements statements;
     @Inject
@@ -68,7 +72,7 @@ public class SqlIssuanceProcessStoreExtension implements ServiceExtension {
     @Provider
     public IssuanceProcessStore createSqlStore(ServiceExtensionContext context) {
         return new SqlIssuanceProcessStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl(), contextBuilderProvider.createContextBuilder(getStatementImpl().getIssuanceProcessTable()));
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "issuance-process"), getStatementImpl(), contextBuilderProvider.createContextBuilder(getStatementImpl().getIssuanceProcessTable()));
     }
 
     private IssuanceProcessStoreStatements getStatementImpl() {
@@ -24,7 +24,7 @@ import static java.lang.String.format;
 public class BaseSqlDialectStatements implements AttestationDefinitionStoreStatements {
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
+        var insert = executeStatement()
                 .column(getIdColumn())
                 .column(getParticipantContextIdColumn())
                 .column(getAttestationTypeColumn())
@@ -32,6 +32,8 @@ public class BaseSqlDialectStatements implements AttestationDefinitionStoreState
                 .column(getCreateTimestampColumn())
                 .column(getLastModifiedTimestampColumn())
                 .insertInto(getAttestationDefinitionTable());
+        // a conflicting ID leaves the table unchanged, the store detects that through the affected row count
+        return format("%s ON CONFLICT (%s) DO NOTHING", insert, getIdColumn());
     }
 
     @Override
@@ -75,12 +75,8 @@ public class SqlAttestationDefinitionStore extends AbstractSqlStore implements A
         var id = attestationDefinition.getId();
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    return alreadyExists(alreadyExistsErrorMessage(id));
-                }
-
                 var stmt = statements.getInsertTemplate();
-                queryExecutor.execute(connection, stmt,
+                var inserted = queryExecutor.execute(connection, stmt,
                         id,
                         attestationDefinition.getParticipantContextId(),
                         attestationDefinition.getAttestationType(),
@@ -88,7 +84,9 @@ public class SqlAttestationDefinitionStore extends AbstractSqlStore implements A
                         attestationDefinition.getCreatedAt(),
                         attestationDefinition.getLastModifiedAt()
                 );
-                return success();
+                return inserted > 0 ?
+                        success() :
+                        alreadyExists(alreadyExistsErrorMessage(id));
 
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -104,18 +102,16 @@ public class SqlAttestationDefinitionStore extends AbstractSqlStore implements A
         Objects.requireNonNull(id);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-
-                    queryExecutor.execute(connection,
-                            statements.getUpdateTemplate(),
-                            attestationDefinition.getAttestationType(),
-                            toJson(attestationDefinition.getConfiguration()),
-                            attestationDefinition.getLastModifiedAt(),
-                            id
-                    );
-                    return StoreResult.success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(id));
+                var updated = queryExecutor.execute(connection,
+                        statements.getUpdateTemplate(),
+                        attestationDefinition.getAttestationType(),
+                        toJson(attestationDefinition.getConfiguration()),
+                        attestationDefinition.getLastModifiedAt(),
+                        id
+                );
+                return updated > 0 ?
+                        StoreResult.success() :
+                        StoreResult.notFound(notFoundErrorMessage(id));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -127,12 +123,11 @@ public class SqlAttestationDefinitionStore extends AbstractSqlStore implements A
         Objects.requireNonNull(id);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    var stmt = statements.getDeleteByIdTemplate();
-                    queryExecutor.execute(connection, stmt, id);
-                    return success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(id));
+                var stmt = statements.getDeleteByIdTemplate();
+                var deleted = queryExecutor.execute(connection, stmt, id);
+                return deleted > 0 ?
+                        success() :
+                        StoreResult.notFound(notFoundErrorMessage(id));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.issuerservice.store.sql.attestationdefinition;
 
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationDefinitionStore;
 import org.eclipse.edc.issuerservice.store.sql.attestationdefinition.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -45,6 +47,8 @@ public class SqlAttestationDefinitionStoreExtension implements ServiceExtension
     private TypeManager typemanager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
     @Inject(required = false)
     private AttestationDefinitionStoreStatements statements;
     @Inject
@@ -58,7 +62,7 @@ public class SqlAttestationDefinitionStoreExtension implements ServiceExtension
     @Provider
     public AttestationDefinitionStore createSqlStore() {
         return new SqlAttestationDefinitionStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl());
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "attestation-definition"), getStatementImpl());
     }
 
     private AttestationDefinitionStoreStatements getStatementImpl() {
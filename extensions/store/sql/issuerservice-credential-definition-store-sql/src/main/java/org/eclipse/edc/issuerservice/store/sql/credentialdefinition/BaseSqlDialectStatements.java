@@ -31,7 +31,7 @@ public class BaseSqlDialectStatements implements CredentialDefinitionStoreStatem
 
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
+        var insert = executeStatement()
                 .column(getIdColumn())
                 .column(getParticipantContextIdColumn())
                 .column(getCredentialTypeColumn())
@@ -46,6 +46,8 @@ public class BaseSqlDialectStatements implements CredentialDefinitionStoreStatem
                 .column(getCreateTimestampColumn())
                 .column(getLastModifiedTimestampColumn())
                 .insertInto(getCredentialDefinitionTable());
+        // a conflicting ID leaves the table unchanged, the store detects that through the affected row count
+        return format("%s ON CONFLICT (%s) DO NOTHING", insert, getIdColumn());
     }
 
     @Override
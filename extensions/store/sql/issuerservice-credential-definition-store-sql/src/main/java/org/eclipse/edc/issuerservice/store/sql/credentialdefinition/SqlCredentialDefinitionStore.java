@@ -16,6 +16,7 @@ package org.eclipse.edc.issuerservice.store.sql.credentialdefinition;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.identityhub.sql.replica.ReadReplicaRouter;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.store.CredentialDefinitionStore;
 import org.eclipse.edc.issuerservice.spi.issuance.model.CredentialDefinition;
 import org.eclipse.edc.issuerservice.spi.issuance.model.CredentialRuleDefinition;
@@ -27,6 +28,7 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -56,6 +58,7 @@ public class SqlCredentialDefinitionStore extends AbstractSqlStore implements Cr
     };
 
     private final CredentialDefinitionStoreStatements statements;
+    private final ReadReplicaRouter readReplicaRouter;
     private final Clock clock;
 
     public SqlCredentialDefinitionStore(DataSourceRegistry dataSourceRegistry,
@@ -65,15 +68,34 @@ public class SqlCredentialDefinitionStore extends AbstractSqlStore implements Cr
                                         QueryExecutor queryExecutor,
                                         CredentialDefinitionStoreStatements statements,
                                         Clock clock) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor, statements, clock, null);
+    }
+
+    /**
+     * Creates a store that runs {@link #findById(String)} and {@link #query(QuerySpec)} against a replica datasource when the caller
+     * allows it, see {@link ReadReplicaRouter}.
+     *
+     * @param replicaDataSourceName the name of the replica datasource, {@code null} to read from the primary datasource
+     */
+    public SqlCredentialDefinitionStore(DataSourceRegistry dataSourceRegistry,
+                                        String dataSourceName,
+                                        TransactionContext transactionContext,
+                                        ObjectMapper objectMapper,
+                                        QueryExecutor queryExecutor,
+                                        CredentialDefinitionStoreStatements statements,
+                                        Clock clock,
+                                        @Nullable String replicaDataSourceName) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
+        this.readReplicaRouter = new ReadReplicaRouter(dataSourceRegistry, dataSourceName, replicaDataSourceName);
     }
 
     @Override
     public StoreResult<CredentialDefinition> findById(String id) {
+        var dataSource = readReplicaRouter.readDataSource();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try (var connection = dataSource.getConnection()) {
                 return ofNullable(findByIdInternal(connection, id))
                         .map(StoreResult::success)
                         .orElseGet(() -> StoreResult.notFound(notFoundErrorMessage(id)));
@@ -88,12 +110,8 @@ public class SqlCredentialDefinitionStore extends AbstractSqlStore implements Cr
         var id = credentialDefinition.getId();
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    return alreadyExists(alreadyExistsErrorMessage(id));
-                }
-
                 var stmt = statements.getInsertTemplate();
-                queryExecutor.execute(connection, stmt,
+                var inserted = queryExecutor.execute(connection, stmt,
                         credentialDefinition.getId(),
                         credentialDefinition.getParticipantContextId(),
                         credentialDefinition.getCredentialType(),
@@ -108,7 +126,9 @@ public class SqlCredentialDefinitionStore extends AbstractSqlStore implements Cr
                         credentialDefinition.getCreatedAt(),
                         credentialDefinition.getCreatedAt()
                 );
-                return success();
+                return inserted > 0 ?
+                        success() :
+                        alreadyExists(alreadyExistsErrorMessage(id));
 
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -124,11 +144,7 @@ public class SqlCredentialDefinitionStore extends AbstractSqlStore implements Cr
         Objects.requireNonNull(id);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) == null) {
-                    return StoreResult.notFound(notFoundErrorMessage(id));
-                }
-
-                queryExecutor.execute(connection,
+                var updated = queryExecutor.execute(connection,
                         statements.getUpdateTemplate(),
                         credentialDefinition.getCredentialType(),
                         toJson(credentialDefinition.getAttestations()),
@@ -142,7 +158,9 @@ public class SqlCredentialDefinitionStore extends AbstractSqlStore implements Cr
                         clock.millis(),
                         credentialDefinition.getId()
                 );
-                return StoreResult.success();
+                return updated > 0 ?
+                        StoreResult.success() :
+                        StoreResult.notFound(notFoundErrorMessage(id));
 
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -152,8 +170,9 @@ public class SqlCredentialDefinitionStore extends AbstractSqlStore implements Cr
 
     @Override
     public StoreResult<Collection<CredentialDefinition>> query(QuerySpec querySpec) {
+        var dataSource = readReplicaRouter.readDataSource();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try (var connection = dataSource.getConnection()) {
                 var query = statements.createQuery(querySpec);
                 return success(queryExecutor.query(connection, true, this::mapResultSet, query.getQueryAsString(), query.getParameters()).toList());
             } catch (SQLException e) {
@@ -167,12 +186,11 @@ public class SqlCredentialDefinitionStore extends AbstractSqlStore implements Cr
         Objects.requireNonNull(id);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    var stmt = statements.getDeleteByIdTemplate();
-                    queryExecutor.execute(connection, stmt, id);
-                    return success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(id));
+                var stmt = statements.getDeleteByIdTemplate();
+                var deleted = queryExecutor.execute(connection, stmt, id);
+                return deleted > 0 ?
+                        success() :
+                        StoreResult.notFound(notFoundErrorMessage(id));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.issuerservice.store.sql.credentialdefinition;
 
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.store.CredentialDefinitionStore;
 import org.eclipse.edc.issuerservice.store.sql.credentialdefinition.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -39,6 +41,10 @@ public class SqlCredentialDefinitionStoreExtension implements ServiceExtension {
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.credentialdefinitions.datasource")
     private String dataSourceName;
 
+    @Setting(description = "The datasource that read-only queries which tolerate replication lag are routed to, e.g. a read replica. If omitted, all queries use the primary datasource",
+            key = "edc.sql.store.credentialdefinitions.datasource.replica", required = false)
+    private String replicaDataSourceName;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -47,6 +53,8 @@ public class SqlCredentialDefinitionStoreExtension implements ServiceExtension {
     private TypeManager typemanager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
     @Inject(required = false)
     private CredentialDefinitionStoreStatements statements;
     @Inject
@@ -63,7 +71,7 @@ public class SqlCredentialDefinitionStoreExtension implements ServiceExtension {
     @Provider
     public CredentialDefinitionStore createSqlStore() {
         return new SqlCredentialDefinitionStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl(), clock);
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "credential-definition"), getStatementImpl(), clock, replicaDataSourceName);
     }
 
     private CredentialDefinitionStoreStatements getStatementImpl() {
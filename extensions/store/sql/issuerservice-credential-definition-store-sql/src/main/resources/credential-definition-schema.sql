@@ -31,4 +31,5 @@ CREATE TABLE IF NOT EXISTS credential_definitions
     PRIMARY KEY (id)
 );
 
-
+-- issuer metadata and credential requests look up all credential definitions of a participant context
+CREATE INDEX IF NOT EXISTS credential_definitions_participant_context_id ON credential_definitions (participant_context_id);
@@ -19,6 +19,9 @@ plugins {
 dependencies {
     api(project(":spi:issuerservice:issuerservice-holder-spi"))
     implementation(libs.edc.lib.core)
+    implementation(project(":core:lib:sql-lib"))
+    implementation(project(":core:lib:sql-metrics-lib"))
+    implementation(project(":core:lib:sql-replica-lib"))
     implementation(libs.edc.sql.bootstrapper)
     implementation(libs.edc.spi.core)
 
@@ -24,7 +24,7 @@ import static java.lang.String.format;
 public class BaseSqlDialectStatements implements HolderStoreStatements {
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
+        var insert = executeStatement()
                 .column(getIdColumn())
                 .column(getParticipantContextIdColumn())
                 .column(getDidColumn())
@@ -34,6 +34,8 @@ public class BaseSqlDialectStatements implements HolderStoreStatements {
                 .column(getAnonymousColumn())
                 .jsonColumn(getPropertiesColumn())
                 .insertInto(getHoldersTable());
+        // a conflicting ID leaves the table unchanged, the store detects that through the affected row count
+        return format("%s ON CONFLICT (%s) DO NOTHING", insert, getIdColumn());
     }
 
     @Override
@@ -16,6 +16,8 @@ package org.eclipse.edc.issuerservice.store.sql.holder;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.identityhub.sql.CursorQuery;
+import org.eclipse.edc.identityhub.sql.replica.ReadReplicaRouter;
 import org.eclipse.edc.issuerservice.spi.holder.model.Holder;
 import org.eclipse.edc.issuerservice.spi.holder.store.HolderStore;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
@@ -25,6 +27,7 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -32,6 +35,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.spi.result.StoreResult.alreadyExists;
@@ -44,6 +48,7 @@ import static org.eclipse.edc.spi.result.StoreResult.success;
 public class SqlHolderStore extends AbstractSqlStore implements HolderStore {
 
     private final HolderStoreStatements statements;
+    private final ReadReplicaRouter readReplicaRouter;
 
     public SqlHolderStore(DataSourceRegistry dataSourceRegistry,
                           String dataSourceName,
@@ -51,14 +56,32 @@ public class SqlHolderStore extends AbstractSqlStore implements HolderStore {
                           ObjectMapper objectMapper,
                           QueryExecutor queryExecutor,
                           HolderStoreStatements statements) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor, statements, null);
+    }
+
+    /**
+     * Creates a store that runs {@link #findById(String)}, {@link #query(QuerySpec)} and {@link #stream(QuerySpec)} against a replica
+     * datasource when the caller allows it, see {@link ReadReplicaRouter}.
+     *
+     * @param replicaDataSourceName the name of the replica datasource, {@code null} to read from the primary datasource
+     */
+    public SqlHolderStore(DataSourceRegistry dataSourceRegistry,
+                          String dataSourceName,
+                          TransactionContext transactionContext,
+                          ObjectMapper objectMapper,
+                          QueryExecutor queryExecutor,
+                          HolderStoreStatements statements,
+                          @Nullable String replicaDataSourceName) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
+        this.readReplicaRouter = new ReadReplicaRouter(dataSourceRegistry, dataSourceName, replicaDataSourceName);
     }
 
     @Override
     public StoreResult<Holder> findById(String id) {
+        var dataSource = readReplicaRouter.readDataSource();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try (var connection = dataSource.getConnection()) {
                 return ofNullable(findByIdInternal(connection, id))
                         .map(StoreResult::success)
                         .orElseGet(() -> StoreResult.notFound(notFoundErrorMessage(id)));
@@ -73,12 +96,8 @@ public class SqlHolderStore extends AbstractSqlStore implements HolderStore {
         var id = holder.getHolderId();
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    return alreadyExists(alreadyExistsErrorMessage(id));
-                }
-
                 var stmt = statements.getInsertTemplate();
-                queryExecutor.execute(connection, stmt,
+                var inserted = queryExecutor.execute(connection, stmt,
                         holder.getHolderId(),
                         holder.getParticipantContextId(),
                         holder.getDid(),
@@ -88,7 +107,9 @@ public class SqlHolderStore extends AbstractSqlStore implements HolderStore {
                         holder.isAnonymous(),
                         toJson(holder.getProperties())
                 );
-                return success();
+                return inserted > 0 ?
+                        success() :
+                        alreadyExists(alreadyExistsErrorMessage(id));
 
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -104,21 +125,20 @@ public class SqlHolderStore extends AbstractSqlStore implements HolderStore {
         Objects.requireNonNull(id);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) != null) {
-                    queryExecutor.execute(connection,
-                            statements.getUpdateTemplate(),
-                            holder.getHolderId(),
-                            holder.getDid(),
-                            holder.getHolderName(),
-                            holder.getCreatedAt(),
-                            holder.getLastModifiedAt(),
-                            holder.isAnonymous(),
-                            toJson(holder.getProperties()),
-                            holder.getHolderId()
-                    );
-                    return StoreResult.success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(id));
+                var updated = queryExecutor.execute(connection,
+                        statements.getUpdateTemplate(),
+                        holder.getHolderId(),
+                        holder.getDid(),
+                        holder.getHolderName(),
+                        holder.getCreatedAt(),
+                        holder.getLastModifiedAt(),
+                        holder.isAnonymous(),
+                        toJson(holder.getProperties()),
+                        holder.getHolderId()
+                );
+                return updated > 0 ?
+                        StoreResult.success() :
+                        StoreResult.notFound(notFoundErrorMessage(id));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -127,8 +147,9 @@ public class SqlHolderStore extends AbstractSqlStore implements HolderStore {
 
     @Override
     public StoreResult<Collection<Holder>> query(QuerySpec querySpec) {
+        var dataSource = readReplicaRouter.readDataSource();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try (var connection = dataSource.getConnection()) {
                 var query = statements.createQuery(querySpec);
                 return success(queryExecutor.query(connection, true, this::mapResultSet, query.getQueryAsString(), query.getParameters()).toList());
             } catch (SQLException e) {
@@ -137,17 +158,25 @@ public class SqlHolderStore extends AbstractSqlStore implements HolderStore {
         });
     }
 
+    @Override
+    public StoreResult<Stream<Holder>> stream(QuerySpec querySpec) {
+        // not run in the transaction context: the stream outlives this call, the cursor keeps a connection and a transaction of its own
+        // until it is closed
+        var query = statements.createQuery(querySpec);
+        return success(CursorQuery.stream(readReplicaRouter.readDataSource(), CursorQuery.DEFAULT_FETCH_SIZE, this::mapResultSet,
+                query.getQueryAsString(), query.getParameters()));
+    }
+
     @Override
     public StoreResult<Void> deleteById(String holderId) {
         Objects.requireNonNull(holderId);
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, holderId) != null) {
-                    var stmt = statements.getDeleteByIdTemplate();
-                    queryExecutor.execute(connection, stmt, holderId);
-                    return success();
-                }
-                return StoreResult.notFound(notFoundErrorMessage(holderId));
+                var stmt = statements.getDeleteByIdTemplate();
+                var deleted = queryExecutor.execute(connection, stmt, holderId);
+                return deleted > 0 ?
+                        success() :
+                        StoreResult.notFound(notFoundErrorMessage(holderId));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.issuerservice.store.sql.holder;
 
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.issuerservice.spi.holder.store.HolderStore;
 import org.eclipse.edc.issuerservice.store.sql.holder.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -37,6 +39,10 @@ public class SqlHolderStoreExtension implements ServiceExtension {
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.holder.datasource")
     private String dataSourceName;
 
+    @Setting(description = "The datasource that read-only queries which tolerate replication lag are routed to, e.g. a read replica. If omitted, all queries use the primary datasource",
+            key = "edc.sql.store.holder.datasource.replica", required = false)
+    private String replicaDataSourceName;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -45,6 +51,8 @@ public class SqlHolderStoreExtension implements ServiceExtension {
     private TypeManager typemanager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private MetricRecorder metricRecorder;
     @Inject(required = false)
     private HolderStoreStatements statements;
     @Inject
@@ -58,7 +66,7 @@ public class SqlHolderStoreExtension implements ServiceExtension {
     @Provider
     public HolderStore createSqlStore() {
         return new SqlHolderStore(dataSourceRegistry, dataSourceName, transactionContext, typemanager.getMapper(),
-                queryExecutor, getStatementImpl());
+                new MeteredQueryExecutor(queryExecutor, metricRecorder, "holder"), getStatementImpl(), replicaDataSourceName);
     }
 
     private HolderStoreStatements getStatementImpl() {
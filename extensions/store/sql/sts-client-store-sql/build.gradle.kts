@@ -20,6 +20,7 @@ dependencies {
     api(libs.edc.spi.core)
 
     implementation(libs.edc.lib.core)
+    implementation(project(":core:lib:sql-metrics-lib"))
     implementation(libs.edc.sql.bootstrapper)
     implementation(project(":spi:sts-spi"))
     testImplementation(libs.edc.junit)
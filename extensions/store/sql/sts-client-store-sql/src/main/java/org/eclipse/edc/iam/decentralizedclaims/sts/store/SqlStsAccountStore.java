@@ -49,12 +49,7 @@ public class SqlStsAccountStore extends AbstractSqlStore implements StsAccountSt
     public StoreResult<StsAccount> create(StsAccount client) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findById(connection, client.getId()) != null) {
-                    var msg = format(CLIENT_EXISTS_TEMPLATE, client.getId());
-                    return StoreResult.alreadyExists(msg);
-                }
-
-                queryExecutor.execute(connection, statements.getInsertTemplate(),
+                var inserted = queryExecutor.execute(connection, statements.getInsertTemplate(),
                         client.getId(),
                         client.getName(),
                         client.getClientId(),
@@ -64,7 +59,9 @@ public class SqlStsAccountStore extends AbstractSqlStore implements StsAccountSt
                         client.getParticipantContextId()
                 );
 
-                return StoreResult.success(client);
+                return inserted > 0 ?
+                        StoreResult.success(client) :
+                        StoreResult.alreadyExists(format(CLIENT_EXISTS_TEMPLATE, client.getId()));
             } catch (Exception e) {
                 throw new EdcPersistenceException(e);
             }
@@ -75,12 +72,9 @@ public class SqlStsAccountStore extends AbstractSqlStore implements StsAccountSt
     public StoreResult<Void> update(StsAccount stsAccount) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findById(connection, stsAccount.getId()) != null) {
-                    updateInternal(connection, stsAccount);
-                    return StoreResult.success();
-                } else {
-                    return StoreResult.notFound(format(CLIENT_NOT_FOUND_BY_ID_TEMPLATE, stsAccount.getId()));
-                }
+                return updateInternal(connection, stsAccount) > 0 ?
+                        StoreResult.success() :
+                        StoreResult.notFound(format(CLIENT_NOT_FOUND_BY_ID_TEMPLATE, stsAccount.getId()));
             } catch (Exception e) {
                 throw new EdcPersistenceException(e.getMessage(), e);
             }
@@ -135,9 +129,9 @@ public class SqlStsAccountStore extends AbstractSqlStore implements StsAccountSt
     public StoreResult<StsAccount> deleteById(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var entity = findById(connection, id);
+                // the statement returns the deleted row, so there is no need to read it first
+                var entity = queryExecutor.single(connection, false, this::mapResultSet, statements.getDeleteByIdTemplate(), id);
                 if (entity != null) {
-                    queryExecutor.execute(connection, statements.getDeleteByIdTemplate(), id);
                     return StoreResult.success(entity);
                 } else {
                     return StoreResult.notFound(format(CLIENT_NOT_FOUND_BY_ID_TEMPLATE, id));
@@ -149,8 +143,8 @@ public class SqlStsAccountStore extends AbstractSqlStore implements StsAccountSt
         });
     }
 
-    private void updateInternal(Connection connection, StsAccount stsAccount) {
-        queryExecutor.execute(connection, statements.getUpdateTemplate(),
+    private int updateInternal(Connection connection, StsAccount stsAccount) {
+        return queryExecutor.execute(connection, statements.getUpdateTemplate(),
                 stsAccount.getId(),
                 stsAccount.getName(),
                 stsAccount.getClientId(),
@@ -18,6 +18,8 @@ package org.eclipse.edc.iam.decentralizedclaims.sts.store;
 import org.eclipse.edc.iam.decentralizedclaims.sts.spi.store.StsAccountStore;
 import org.eclipse.edc.iam.decentralizedclaims.sts.store.schema.StsClientStatements;
 import org.eclipse.edc.iam.decentralizedclaims.sts.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
+import org.eclipse.edc.identityhub.sql.metrics.MeteredQueryExecutor;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -51,6 +53,9 @@ public class SqlStsClientStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject
+    private MetricRecorder metricRecorder;
+
     @Inject
     private TypeManager typeManager;
 
@@ -61,7 +66,7 @@ public class SqlStsClientStoreExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
 
         var sqlStore = new SqlStsAccountStore(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(),
-                getStatementImpl(), queryExecutor);
+                getStatementImpl(), new MeteredQueryExecutor(queryExecutor, metricRecorder, "sts-client"));
 
         context.registerService(StsAccountStore.class, sqlStore);
 
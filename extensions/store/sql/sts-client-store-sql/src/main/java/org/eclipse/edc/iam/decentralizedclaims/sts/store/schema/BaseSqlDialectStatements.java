@@ -31,7 +31,7 @@ public class BaseSqlDialectStatements implements StsClientStatements {
 
     @Override
     public String getDeleteByIdTemplate() {
-        return executeStatement().delete(getStsClientTable(), getIdColumn());
+        return format("%s RETURNING *", executeStatement().delete(getStsClientTable(), getIdColumn()));
     }
 
     @Override
@@ -46,7 +46,7 @@ public class BaseSqlDialectStatements implements StsClientStatements {
 
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
+        var insert = executeStatement()
                 .column(getIdColumn())
                 .column(getNameColumn())
                 .column(getClientIdColumn())
@@ -55,6 +55,8 @@ public class BaseSqlDialectStatements implements StsClientStatements {
                 .column(getCreatedAtColumn())
                 .column(getParticipantContextIdColumn())
                 .insertInto(getStsClientTable());
+        // a conflicting ID leaves the table unchanged, the store detects that through the affected row count
+        return format("%s ON CONFLICT (%s) DO NOTHING", insert, getIdColumn());
     }
 
 
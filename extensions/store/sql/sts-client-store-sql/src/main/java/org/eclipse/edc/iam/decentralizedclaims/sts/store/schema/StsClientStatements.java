@@ -56,6 +56,9 @@ public interface StsClientStatements extends SqlStatements {
         return "participant_context_id";
     }
 
+    /**
+     * Deletes an account by ID and returns the deleted row.
+     */
     String getDeleteByIdTemplate();
 
     String getFindByTemplate();
@@ -24,6 +24,7 @@ dependencies {
     implementation(project(":spi:participant-context-spi"))
     implementation(project(":spi:keypair-spi"))
     implementation(project(":spi:did-spi"))
+    implementation(project(":spi:identity-hub-spi"))
     implementation(libs.opentelemetry.api)
     testImplementation(libs.edc.junit)
 }
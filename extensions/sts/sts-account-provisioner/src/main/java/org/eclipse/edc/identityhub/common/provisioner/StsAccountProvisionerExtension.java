@@ -16,6 +16,7 @@ package org.eclipse.edc.identityhub.common.provisioner;
 
 import org.eclipse.edc.iam.decentralizedclaims.sts.spi.service.StsAccountService;
 import org.eclipse.edc.iam.decentralizedclaims.sts.spi.service.StsClientSecretGenerator;
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairRevoked;
 import org.eclipse.edc.identityhub.spi.keypair.events.KeyPairRotated;
 import org.eclipse.edc.identityhub.spi.participantcontext.StsAccountProvisioner;
@@ -23,7 +24,6 @@ import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantCont
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
-import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -36,8 +36,9 @@ import static org.eclipse.edc.identityhub.common.provisioner.StsAccountProvision
 public class StsAccountProvisionerExtension implements ServiceExtension {
     public static final String NAME = "STS Account Provisioner Extension";
     public static final int DEFAULT_CLIENT_SECRET_LENGTH = 16;
+    private static final String SUBSCRIBER_ID = "sts-account-provisioner";
     @Inject
-    private EventRouter eventRouter;
+    private EventDispatchRegistry eventDispatchRegistry;
     @Inject
     private Vault vault;
     @Inject(required = false)
@@ -65,9 +66,9 @@ public class StsAccountProvisionerExtension implements ServiceExtension {
         if (provisioner == null) {
             var monitor = context.getMonitor().withPrefix("STS-Account");
             provisioner = new StsAccountProvisionerImpl(monitor, vault, stsClientSecretGenerator(), accountService, telemetry);
-            eventRouter.registerSync(ParticipantContextDeleted.class, provisioner);
-            eventRouter.registerSync(KeyPairRevoked.class, provisioner);
-            eventRouter.registerSync(KeyPairRotated.class, provisioner);
+            eventDispatchRegistry.register(ParticipantContextDeleted.class, SUBSCRIBER_ID, provisioner);
+            eventDispatchRegistry.register(KeyPairRevoked.class, SUBSCRIBER_ID, provisioner);
+            eventDispatchRegistry.register(KeyPairRotated.class, SUBSCRIBER_ID, provisioner);
         }
         return provisioner;
     }
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.sts.accountservice;
+
+import org.eclipse.edc.iam.decentralizedclaims.sts.spi.model.StsAccount;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache for {@link StsAccount}s (keyed by client ID) and for the client secrets that were successfully verified
+ * against the {@link org.eclipse.edc.spi.security.Vault}. Secrets are never held in plain text, only a salted SHA-256 hash is
+ * kept, which is compared in constant time.
+ * <p>
+ * Entries expire after the configured time-to-live, which also bounds the staleness in clustered deployments, where a secret
+ * may be changed on another node. A TTL of zero disables the cache altogether.
+ * <p>
+ * Every invalidation advances a generation counter. Callers obtain the {@link #generation()} <em>before</em> loading a value, and
+ * the value is only cached if no invalidation happened in the meantime. Writers invalidate both before and after the write (and
+ * its commit), so that a value that was loaded concurrently with the write is never cached.
+ */
+class StsAccountCache {
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int SALT_LENGTH = 16;
+
+    private final Map<String, Entry<StsAccount>> accountsByClientId = new ConcurrentHashMap<>();
+    private final Map<String, Entry<SecretHash>> secretsByAccountId = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong generation = new AtomicLong();
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final int maxEntries;
+
+    StsAccountCache(Clock clock, Duration timeToLive, int maxEntries) {
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Creates a cache that never holds any entries.
+     */
+    static StsAccountCache disabled() {
+        return new StsAccountCache(Clock.systemUTC(), Duration.ZERO, 0);
+    }
+
+    /**
+     * The current generation, which must be obtained before loading a value that is put into the cache afterwards.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    @Nullable
+    StsAccount getAccount(String clientId) {
+        return valueOf(accountsByClientId, clientId);
+    }
+
+    /**
+     * Caches an account, unless the cache was invalidated after the given generation.
+     */
+    void putAccount(StsAccount account, long loadedAt) {
+        put(accountsByClientId, account.getClientId(), account, loadedAt);
+    }
+
+    /**
+     * Checks whether the given secret matches the one that was last verified for this account, and whether it was stored under
+     * the same secret alias.
+     *
+     * @return true if the secret was verified before and the cache entry is still valid, false otherwise
+     */
+    boolean isVerified(StsAccount account, String secret) {
+        var hash = valueOf(secretsByAccountId, account.getId());
+        if (hash == null || secret == null || !hash.secretAlias().equals(account.getSecretAlias())) {
+            return false;
+        }
+        return MessageDigest.isEqual(hash.hash(), hash(hash.salt(), secret));
+    }
+
+    /**
+     * Remembers a verified secret, unless the cache was invalidated after the given generation.
+     */
+    void putVerified(StsAccount account, String secret, long loadedAt) {
+        var salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        put(secretsByAccountId, account.getId(), new SecretHash(account.getSecretAlias(), salt, hash(salt, secret)), loadedAt);
+    }
+
+    /**
+     * Removes all cached information about the account with the given (database) ID.
+     */
+    void invalidate(String accountId) {
+        generation.incrementAndGet();
+        secretsByAccountId.remove(accountId);
+        accountsByClientId.values().removeIf(entry -> entry.value().getId().equals(accountId));
+    }
+
+    private boolean isEnabled() {
+        return !timeToLive.isZero() && !timeToLive.isNegative() && maxEntries > 0;
+    }
+
+    private <T> @Nullable T valueOf(Map<String, Entry<T>> map, String key) {
+        if (!isEnabled() || key == null) {
+            return null;
+        }
+        var entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.instant())) {
+            map.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private <T> void put(Map<String, Entry<T>> map, String key, T value, long loadedAt) {
+        if (!isEnabled() || key == null || generation.get() != loadedAt) {
+            return;
+        }
+        var now = clock.instant();
+        if (map.size() >= maxEntries) {
+            map.values().removeIf(e -> e.isExpired(now));
+            if (map.size() >= maxEntries) {
+                return;
+            }
+        }
+        var entry = new Entry<>(value, now.plus(timeToLive));
+        map.put(key, entry);
+        // an invalidation that ran concurrently with the put may have missed the entry
+        if (generation.get() != loadedAt) {
+            map.remove(key, entry);
+        }
+    }
+
+    private byte[] hash(byte[] salt, String secret) {
+        try {
+            var digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            digest.update(salt);
+            return digest.digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Entry<T>(T value, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    private record SecretHash(String secretAlias, byte[] salt, byte[] hash) {
+    }
+}
@@ -20,11 +20,15 @@ import org.eclipse.edc.iam.decentralizedclaims.sts.spi.store.StsAccountStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.identityhub.sts.accountservice.StsAccountServiceExtension.NAME;
 
@@ -32,6 +36,15 @@ import static org.eclipse.edc.identityhub.sts.accountservice.StsAccountServiceEx
 @Extension(value = NAME)
 public class StsAccountServiceExtension implements ServiceExtension {
     public static final String NAME = "Local (embedded) STS Account Service Extension";
+    public static final int DEFAULT_ACCOUNT_CACHE_TTL_SECONDS = 30;
+    public static final int DEFAULT_ACCOUNT_CACHE_MAX_ENTRIES = 10_000;
+
+    @Setting(description = "Time (in seconds) for which STS accounts and verified client secrets are cached. Configuring a number <=0 disables the cache.",
+            defaultValue = DEFAULT_ACCOUNT_CACHE_TTL_SECONDS + "", key = "edc.iam.sts.accounts.cache.ttl")
+    private long accountCacheTtlSeconds;
+    @Setting(description = "Maximum number of STS accounts that are held in the cache.",
+            min = 0, defaultValue = DEFAULT_ACCOUNT_CACHE_MAX_ENTRIES + "", key = "edc.iam.sts.accounts.cache.size")
+    private int accountCacheMaxEntries;
     @Inject
     private StsAccountStore accountStore;
     @Inject
@@ -40,6 +53,8 @@ public class StsAccountServiceExtension implements ServiceExtension {
     private Vault vault;
     @Inject(required = false)
     private StsClientSecretGenerator secretGenerator;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -50,6 +65,7 @@ public class StsAccountServiceExtension implements ServiceExtension {
     public StsAccountService createAccountManager(ServiceExtensionContext context) {
         var monitor = context.getMonitor().withPrefix("STS-Account");
         monitor.info("This IdentityHub runtime contains an embedded SecureTokenService (STS) instance. That means ParticipantContexts and STS Accounts will be synchronized automatically.");
-        return new StsAccountServiceImpl(accountStore, transactionContext, vault, ofNullable(secretGenerator).orElseGet(RandomStringGenerator::new));
+        var accountCache = new StsAccountCache(clock, Duration.ofSeconds(Math.max(0, accountCacheTtlSeconds)), accountCacheMaxEntries);
+        return new StsAccountServiceImpl(accountStore, transactionContext, vault, ofNullable(secretGenerator).orElseGet(RandomStringGenerator::new), accountCache);
     }
 }
@@ -26,6 +26,8 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
@@ -48,12 +50,18 @@ public class StsAccountServiceImpl implements StsAccountService {
     private final TransactionContext transactionContext;
     private final Vault vault;
     private final StsClientSecretGenerator secretGenerator;
+    private final StsAccountCache accountCache;
 
     public StsAccountServiceImpl(StsAccountStore accountStore, TransactionContext transactionContext, Vault vault, StsClientSecretGenerator secretGenerator) {
+        this(accountStore, transactionContext, vault, secretGenerator, StsAccountCache.disabled());
+    }
+
+    StsAccountServiceImpl(StsAccountStore accountStore, TransactionContext transactionContext, Vault vault, StsClientSecretGenerator secretGenerator, StsAccountCache accountCache) {
         this.stsAccountStore = accountStore;
         this.transactionContext = transactionContext;
         this.vault = vault;
         this.secretGenerator = secretGenerator;
+        this.accountCache = accountCache;
     }
 
     @Override
@@ -75,12 +83,23 @@ public class StsAccountServiceImpl implements StsAccountService {
 
     @Override
     public ServiceResult<Void> deleteAccount(String participantContextId) {
-        return transactionContext.execute(() -> from(stsAccountStore.deleteById(participantContextId)).compose(acct -> from(vault.deleteSecret(participantContextId, acct.getSecretAlias()))));
+        accountCache.invalidate(participantContextId);
+        try {
+            return transactionContext.execute(() -> from(stsAccountStore.deleteById(participantContextId)).compose(acct -> from(vault.deleteSecret(participantContextId, acct.getSecretAlias()))));
+        } finally {
+            // reads that ran concurrently with the (uncommitted) delete may have loaded the account again
+            accountCache.invalidate(participantContextId);
+        }
     }
 
     @Override
     public ServiceResult<Void> updateAccount(StsAccount updatedAccount) {
-        return transactionContext.execute(() -> from(stsAccountStore.update(updatedAccount)));
+        accountCache.invalidate(updatedAccount.getId());
+        try {
+            return transactionContext.execute(() -> from(stsAccountStore.update(updatedAccount)));
+        } finally {
+            accountCache.invalidate(updatedAccount.getId());
+        }
     }
 
     @Override
@@ -95,9 +114,16 @@ public class StsAccountServiceImpl implements StsAccountService {
 
     @Override
     public ServiceResult<StsAccount> authenticate(StsAccount client, String secret) {
+        if (accountCache.isVerified(client, secret)) {
+            return success(client);
+        }
+        var generation = accountCache.generation();
         return ofNullable(vault.resolveSecret(client.getParticipantContextId(), client.getSecretAlias()))
-                .filter(vaultSecret -> vaultSecret.equals(secret))
-                .map(s -> success(client))
+                .filter(vaultSecret -> secret != null && MessageDigest.isEqual(vaultSecret.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8)))
+                .map(s -> {
+                    accountCache.putVerified(client, secret, generation);
+                    return success(client);
+                })
                 .orElseGet(() -> unauthorized(format("Failed to authenticate client with id %s", client.getId())));
     }
 
@@ -106,10 +132,19 @@ public class StsAccountServiceImpl implements StsAccountService {
 
         Objects.requireNonNull(newSecretAlias, "Secret alias cannot be null");
 
-        var oldAlias = new AtomicReference<String>();
         // generate new secret if needed
         newSecret = ofNullable(newSecret).orElseGet(() -> secretGenerator.generateClientSecret(null));
+        accountCache.invalidate(id);
+        try {
+            return rotateSecret(participantContextId, id, newSecretAlias, newSecret);
+        } finally {
+            // only now the new secret is committed and stored in the vault, so secrets that were verified in between are discarded
+            accountCache.invalidate(id);
+        }
+    }
 
+    private ServiceResult<String> rotateSecret(String participantContextId, String id, String newSecretAlias, String newSecret) {
+        var oldAlias = new AtomicReference<String>();
         var updateResult = transactionContext.execute(() -> stsAccountStore.findById(id)
                 .compose(stsAccount -> {
                     oldAlias.set(stsAccount.getSecretAlias());
@@ -125,8 +160,7 @@ public class StsAccountServiceImpl implements StsAccountService {
                 vaultInteractionResult = vaultInteractionResult.merge(vault.deleteSecret(participantContextId, oldSecretAlias));
             }
 
-            var finalNewSecret = newSecret;
-            vaultInteractionResult = vaultInteractionResult.compose(v -> vault.storeSecret(participantContextId, newSecretAlias, finalNewSecret));
+            vaultInteractionResult = vaultInteractionResult.compose(v -> vault.storeSecret(participantContextId, newSecretAlias, newSecret));
             return vaultInteractionResult.succeeded()
                     ? success(newSecretAlias)
                     : unexpected(vaultInteractionResult.getFailureDetail());
@@ -136,7 +170,13 @@ public class StsAccountServiceImpl implements StsAccountService {
 
     @Override
     public ServiceResult<StsAccount> findByClientId(String clientId) {
-        return transactionContext.execute(() -> from(stsAccountStore.findByClientId(clientId)));
+        var cached = accountCache.getAccount(clientId);
+        if (cached != null) {
+            return success(cached);
+        }
+        var generation = accountCache.generation();
+        return transactionContext.execute(() -> from(stsAccountStore.findByClientId(clientId)))
+                .onSuccess(account -> accountCache.putAccount(account, generation));
     }
 
 }
@@ -25,6 +25,8 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -35,6 +37,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -48,6 +51,8 @@ class StsAccountServiceImplTest {
     private final StsAccountStore stsAccountStore = mock();
     private final Vault vault = mock();
     private final StsAccountServiceImpl stsAccountService = new StsAccountServiceImpl(stsAccountStore, new NoopTransactionContext(), vault, new RandomStringGenerator());
+    private final StsAccountServiceImpl cachingAccountService = new StsAccountServiceImpl(stsAccountStore, new NoopTransactionContext(), vault, new RandomStringGenerator(),
+            new StsAccountCache(Clock.systemUTC(), Duration.ofMinutes(1), 100));
 
     @Test
     void create() {
@@ -128,6 +133,117 @@ class StsAccountServiceImplTest {
         verify(vault).resolveSecret(anyString(), eq(client.getSecretAlias()));
     }
 
+    @Test
+    void authenticate_wrongSecret() {
+        var client = createClient("clientId");
+        when(vault.resolveSecret(anyString(), eq(client.getSecretAlias()))).thenReturn("secret");
+
+        assertThat(stsAccountService.authenticate(client, "wrong-secret")).isFailed();
+    }
+
+    @Test
+    void authenticate_withCache_resolvesSecretOnlyOnce() {
+        var secret = "secret";
+        var client = createClient("clientId");
+        when(vault.resolveSecret(anyString(), eq(client.getSecretAlias()))).thenReturn(secret);
+
+        assertThat(cachingAccountService.authenticate(client, secret)).isSucceeded();
+        assertThat(cachingAccountService.authenticate(client, secret)).isSucceeded();
+
+        verify(vault, times(1)).resolveSecret(anyString(), eq(client.getSecretAlias()));
+    }
+
+    @Test
+    void authenticate_withCache_wrongSecret() {
+        var client = createClient("clientId");
+        when(vault.resolveSecret(anyString(), eq(client.getSecretAlias()))).thenReturn("secret");
+
+        assertThat(cachingAccountService.authenticate(client, "secret")).isSucceeded();
+        assertThat(cachingAccountService.authenticate(client, "wrong-secret")).isFailed();
+    }
+
+    @Test
+    void authenticate_withCache_invalidatedOnSecretUpdate() {
+        var client = createClient("clientId");
+        when(vault.resolveSecret(anyString(), eq(client.getSecretAlias()))).thenReturn("secret", "new-secret");
+        when(stsAccountStore.findById(any())).thenReturn(StoreResult.success(client));
+        when(stsAccountStore.update(any())).thenReturn(StoreResult.success());
+        when(vault.storeSecret(anyString(), anyString(), anyString())).thenReturn(Result.success());
+
+        assertThat(cachingAccountService.authenticate(client, "secret")).isSucceeded();
+        assertThat(cachingAccountService.updateSecret(client.getParticipantContextId(), client.getId(), client.getSecretAlias(), "new-secret")).isSucceeded();
+
+        assertThat(cachingAccountService.authenticate(client, "secret")).isFailed();
+        assertThat(cachingAccountService.authenticate(client, "new-secret")).isSucceeded();
+    }
+
+    @Test
+    void authenticate_withCache_secretRotatedWhileVerifying_shouldNotCacheOldSecret() {
+        var client = createClient("clientId");
+        when(stsAccountStore.findById(any())).thenReturn(StoreResult.success(client));
+        when(stsAccountStore.update(any())).thenReturn(StoreResult.success());
+        when(vault.storeSecret(anyString(), anyString(), anyString())).thenReturn(Result.success());
+        // the secret is rotated after the old secret was resolved, but before the verification completes
+        when(vault.resolveSecret(anyString(), eq(client.getSecretAlias())))
+                .thenAnswer(invocation -> {
+                    assertThat(cachingAccountService.updateSecret(client.getParticipantContextId(), client.getId(), client.getSecretAlias(), "new-secret")).isSucceeded();
+                    return "secret";
+                })
+                .thenReturn("new-secret");
+
+        assertThat(cachingAccountService.authenticate(client, "secret")).isSucceeded();
+
+        assertThat(cachingAccountService.authenticate(client, "secret")).isFailed();
+        verify(vault, times(2)).resolveSecret(anyString(), eq(client.getSecretAlias()));
+    }
+
+    @Test
+    void findByClientId_withCache_deletedWhileLoading_shouldNotCacheAccount() {
+        var clientId = "clientId";
+        var client = createClient(clientId);
+        when(stsAccountStore.deleteById(any())).thenReturn(StoreResult.success(client));
+        when(vault.deleteSecret(anyString(), any())).thenReturn(Result.success());
+        // the account is deleted after it was loaded, but before it is put into the cache
+        when(stsAccountStore.findByClientId(clientId))
+                .thenAnswer(invocation -> {
+                    assertThat(cachingAccountService.deleteAccount(client.getId())).isSucceeded();
+                    return StoreResult.success(client);
+                })
+                .thenReturn(StoreResult.notFound("foo"));
+
+        assertThat(cachingAccountService.findByClientId(clientId)).isSucceeded();
+
+        assertThat(cachingAccountService.findByClientId(clientId)).isFailed();
+        verify(stsAccountStore, times(2)).findByClientId(clientId);
+    }
+
+    @Test
+    void findByClientId_withCache() {
+        var clientId = "clientId";
+        var client = createClient(clientId);
+        when(stsAccountStore.findByClientId(clientId)).thenReturn(StoreResult.success(client));
+
+        assertThat(cachingAccountService.findByClientId(clientId)).isSucceeded().isEqualTo(client);
+        assertThat(cachingAccountService.findByClientId(clientId)).isSucceeded().isEqualTo(client);
+
+        verify(stsAccountStore, times(1)).findByClientId(clientId);
+    }
+
+    @Test
+    void findByClientId_withCache_invalidatedOnDelete() {
+        var clientId = "clientId";
+        var client = createClient(clientId);
+        when(stsAccountStore.findByClientId(clientId)).thenReturn(StoreResult.success(client), StoreResult.notFound("foo"));
+        when(stsAccountStore.deleteById(any())).thenReturn(StoreResult.success(client));
+        when(vault.deleteSecret(anyString(), any())).thenReturn(Result.success());
+
+        assertThat(cachingAccountService.findByClientId(clientId)).isSucceeded();
+        assertThat(cachingAccountService.deleteAccount(client.getId())).isSucceeded();
+
+        assertThat(cachingAccountService.findByClientId(clientId)).isFailed();
+        verify(stsAccountStore, times(2)).findByClientId(clientId);
+    }
+
     @Test
     void update() {
         when(stsAccountStore.update(any())).thenReturn(StoreResult.success());
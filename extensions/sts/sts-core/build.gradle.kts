@@ -9,6 +9,8 @@ dependencies {
     api(project(":spi:sts-spi"))
 
     implementation(project(":extensions:sts:sts-account-service-local"))
+    implementation(project(":core:lib:common-lib"))
+    implementation(project(":spi:metrics-spi"))
     implementation(libs.edc.lib.core)
     implementation(libs.edc.lib.controlplane)
 
@@ -15,15 +15,19 @@
 package org.eclipse.edc.iam.decentralizedclaims.sts;
 
 import org.eclipse.edc.iam.decentralizedclaims.sts.service.EmbeddedSecureTokenService;
+import org.eclipse.edc.iam.decentralizedclaims.sts.service.ReusingSecureTokenService;
 import org.eclipse.edc.iam.decentralizedclaims.sts.service.StsClientTokenGeneratorServiceImpl;
 import org.eclipse.edc.iam.decentralizedclaims.sts.spi.service.StsClientTokenGeneratorService;
+import org.eclipse.edc.identityhub.metrics.MeteredJwsSignerProvider;
 import org.eclipse.edc.identityhub.spi.authentication.ParticipantSecureTokenService;
 import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.token.JwtGenerationService;
@@ -38,6 +42,7 @@ import static org.eclipse.edc.identityhub.sts.accountservice.StsAccountServiceEx
 @Extension(value = NAME)
 public class EmbeddedStsServiceExtension implements ServiceExtension {
     public static final String NAME = "Local (embedded) STS Account Service Extension";
+    static final String ACCESSTOKEN_JTI_VALIDATION_ACTIVATE = "edc.iam.accesstoken.jti.validation";
     private static final int DEFAULT_STS_TOKEN_EXPIRATION_MIN = 5;
     @Inject
     private Clock clock;
@@ -45,21 +50,42 @@ public class EmbeddedStsServiceExtension implements ServiceExtension {
     private JwsSignerProvider externalSigner;
     @Setting(description = "Self-issued ID Token expiration in minutes. By default is 5 minutes", defaultValue = "" + DEFAULT_STS_TOKEN_EXPIRATION_MIN, key = "edc.iam.sts.token.expiration")
     private long stsTokenExpirationMin;
+    @Setting(description = "Percentage of the token lifetime during which self-issued tokens, that were requested for internal use, may be reused for the same " +
+            "participant, audience and scope. Configuring 0 disables the reuse. Reuse is always disabled if '" + ACCESSTOKEN_JTI_VALIDATION_ACTIVATE + "' is set, " +
+            "and must not be enabled if counter-parties require unique 'jti' claims.",
+            min = 0, defaultValue = "0", key = "edc.iam.sts.token.reuse.percentage")
+    private int stsTokenReusePercentage;
+    @Inject
+    private Monitor monitor;
     @Inject
     private TransactionContext transactionContext;
     @Inject
     private KeyPairService keyPairService;
-    private EmbeddedSecureTokenService embeddedSts;
+    @Inject
+    private MetricRecorder metricRecorder;
+    private ParticipantSecureTokenService embeddedSts;
+    private boolean jtiValidationActive;
 
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        // the setting is declared by the extensions that validate the jti claim
+        jtiValidationActive = context.getConfig().getBoolean(ACCESSTOKEN_JTI_VALIDATION_ACTIVATE, false);
+    }
+
     @Provider
     public ParticipantSecureTokenService secureTokenService() {
         if (embeddedSts == null) {
-            embeddedSts = new EmbeddedSecureTokenService(transactionContext, TimeUnit.MINUTES.toSeconds(stsTokenExpirationMin), new JwtGenerationService(externalSigner), clock, keyPairService);
+            var tokenValiditySeconds = TimeUnit.MINUTES.toSeconds(stsTokenExpirationMin);
+            embeddedSts = new EmbeddedSecureTokenService(transactionContext, tokenValiditySeconds, new JwtGenerationService(new MeteredJwsSignerProvider(externalSigner, metricRecorder)), clock, keyPairService);
+            if (stsTokenReusePercentage > 0 && jtiValidationActive) {
+                monitor.warning("Self-issued tokens are not reused, because '%s' is active".formatted(ACCESSTOKEN_JTI_VALIDATION_ACTIVATE));
+            }
+            embeddedSts = ReusingSecureTokenService.withReuse(embeddedSts, clock, tokenValiditySeconds, stsTokenReusePercentage / 100.0, jtiValidationActive);
         }
         return embeddedSts;
     }
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.decentralizedclaims.sts.service;
+
+import org.eclipse.edc.identityhub.spi.authentication.ParticipantSecureTokenService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUED_AT;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.JWT_ID;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.NOT_BEFORE;
+
+/**
+ * Decorator for a {@link ParticipantSecureTokenService}, that hands out previously issued tokens to callers of
+ * {@link #createReusableToken(String, Map, String)}, as long as less than the configured fraction of the token's lifetime has
+ * elapsed. Tokens are reused only for the same participant context, the same (non-time-based) claims and the same bearer access scope.
+ * <p>
+ * Tokens created through {@link #createToken(String, Map, String)}, or whose claims explicitly contain a {@code jti}, are never reused.
+ * Note that a reused token also carries the same {@code jti}, which the delegate usually generates. Reuse must therefore not be
+ * enabled when tokens are checked for replays, see {@link #withReuse(ParticipantSecureTokenService, Clock, long, double, boolean)}.
+ */
+public class ReusingSecureTokenService implements ParticipantSecureTokenService {
+    private static final Set<String> TIME_BASED_CLAIMS = Set.of(ISSUED_AT, NOT_BEFORE, EXPIRATION_TIME);
+
+    private final ParticipantSecureTokenService delegate;
+    private final Clock clock;
+    private final long reuseSeconds;
+    private final Map<TokenKey, ReusableToken> tokens = new ConcurrentHashMap<>();
+    private final AtomicReference<Instant> nextSweep = new AtomicReference<>(Instant.MIN);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate             the token service that actually issues tokens
+     * @param clock                the clock
+     * @param tokenValiditySeconds the lifetime of tokens issued by the delegate
+     * @param reuseFraction        the fraction (between 0 and 1) of the token lifetime during which a token may be reused
+     */
+    public ReusingSecureTokenService(ParticipantSecureTokenService delegate, Clock clock, long tokenValiditySeconds, double reuseFraction) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.reuseSeconds = (long) (tokenValiditySeconds * Math.max(0, Math.min(1, reuseFraction)));
+    }
+
+    /**
+     * Decorates the given token service with token reuse, unless reuse is disabled, or {@code jti} validation is active. In the
+     * latter case a reused token would be rejected as a replay.
+     *
+     * @param jtiValidationActive whether access tokens are validated to be used only once
+     * @return the decorated token service, or the delegate itself if tokens must not be reused
+     */
+    public static ParticipantSecureTokenService withReuse(ParticipantSecureTokenService delegate, Clock clock, long tokenValiditySeconds,
+                                                          double reuseFraction, boolean jtiValidationActive) {
+        if (reuseFraction <= 0 || jtiValidationActive) {
+            return delegate;
+        }
+        return new ReusingSecureTokenService(delegate, clock, tokenValiditySeconds, reuseFraction);
+    }
+
+    @Override
+    public Result<TokenRepresentation> createToken(String participantContextId, Map<String, String> claims, @Nullable String bearerAccessScope) {
+        return delegate.createToken(participantContextId, claims, bearerAccessScope);
+    }
+
+    @Override
+    public Result<TokenRepresentation> createReusableToken(String participantContextId, Map<String, String> claims, @Nullable String bearerAccessScope) {
+        if (reuseSeconds <= 0 || claims.containsKey(JWT_ID)) {
+            return delegate.createToken(participantContextId, claims, bearerAccessScope);
+        }
+
+        var key = new TokenKey(participantContextId, bearerAccessScope, nonTimeBasedClaims(claims));
+        var now = clock.instant();
+        var existing = tokens.get(key);
+        if (existing != null && now.isBefore(existing.reusableUntil())) {
+            return Result.success(existing.token());
+        }
+
+        sweep(now);
+
+        return delegate.createToken(participantContextId, claims, bearerAccessScope)
+                .onSuccess(token -> tokens.put(key, new ReusableToken(token, now.plusSeconds(reuseSeconds))));
+    }
+
+    /**
+     * Removes stale entries, so that the map does not grow with counter-parties that are not contacted anymore. Entries become stale
+     * after the reuse period at the latest, so sweeping once per period is sufficient, and only one thread sweeps at a time.
+     */
+    private void sweep(Instant now) {
+        var due = nextSweep.get();
+        if (now.isBefore(due) || !nextSweep.compareAndSet(due, now.plusSeconds(reuseSeconds))) {
+            return;
+        }
+        tokens.values().removeIf(token -> !now.isBefore(token.reusableUntil()));
+    }
+
+    private Map<String, String> nonTimeBasedClaims(Map<String, String> claims) {
+        var result = new TreeMap<String, String>();
+        claims.entrySet().stream()
+                .filter(e -> !TIME_BASED_CLAIMS.contains(e.getKey()))
+                .forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    private record TokenKey(String participantContextId, @Nullable String bearerAccessScope, Map<String, String> claims) {
+    }
+
+    private record ReusableToken(TokenRepresentation token, Instant reusableUntil) {
+    }
+}
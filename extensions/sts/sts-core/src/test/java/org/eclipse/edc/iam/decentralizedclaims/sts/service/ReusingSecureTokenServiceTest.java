@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.decentralizedclaims.sts.service;
+
+import org.eclipse.edc.identityhub.spi.authentication.ParticipantSecureTokenService;
+import org.eclipse.edc.identityhub.spi.keypair.KeyPairService;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairResource;
+import org.eclipse.edc.identityhub.spi.keypair.model.KeyPairState;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.KeyPairUsage;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.token.spi.TokenDecorator;
+import org.eclipse.edc.token.spi.TokenGenerationService;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUED_AT;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUER;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.JWT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReusingSecureTokenServiceTest {
+
+    private static final String PARTICIPANT = "test-participant";
+    private final ParticipantSecureTokenService delegate = mock();
+    private final Instant now = Instant.now();
+    private ReusingSecureTokenService service;
+
+    @BeforeEach
+    void setup() {
+        when(delegate.createToken(anyString(), anyMap(), any())).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        service = new ReusingSecureTokenService(delegate, Clock.fixed(now, ZoneOffset.UTC), 300, 0.5);
+    }
+
+    @Test
+    void createReusableToken_reusesToken() {
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null)).isSucceeded();
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now.plusSeconds(10)), null)).isSucceeded();
+
+        verify(delegate, times(1)).createToken(anyString(), anyMap(), any());
+    }
+
+    @Test
+    void createReusableToken_differentAudience_createsNewToken() {
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder1", now), null)).isSucceeded();
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder2", now), null)).isSucceeded();
+
+        verify(delegate, times(2)).createToken(anyString(), anyMap(), any());
+    }
+
+    @Test
+    void createReusableToken_differentScope_createsNewToken() {
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now), "scope1")).isSucceeded();
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now), "scope2")).isSucceeded();
+
+        verify(delegate, times(2)).createToken(anyString(), anyMap(), any());
+    }
+
+    @Test
+    void createReusableToken_reuseWindowElapsed_createsNewToken() {
+        Clock clock = mock();
+        when(clock.instant()).thenReturn(now, now.plusSeconds(149), now.plusSeconds(151));
+        service = new ReusingSecureTokenService(delegate, clock, 300, 0.5);
+
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null)).isSucceeded();
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null)).isSucceeded();
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null)).isSucceeded();
+
+        verify(delegate, times(2)).createToken(anyString(), anyMap(), any());
+    }
+
+    @Test
+    void createReusableToken_withJti_neverReused() {
+        var claims = Map.of(AUDIENCE, "did:web:holder", ISSUER, "did:web:issuer", JWT_ID, "some-jti");
+
+        assertThat(service.createReusableToken(PARTICIPANT, claims, null)).isSucceeded();
+        assertThat(service.createReusableToken(PARTICIPANT, claims, null)).isSucceeded();
+
+        verify(delegate, times(2)).createToken(anyString(), anyMap(), any());
+    }
+
+    @Test
+    void createToken_neverReused() {
+        assertThat(service.createToken(PARTICIPANT, claims("did:web:holder", now), null)).isSucceeded();
+        assertThat(service.createToken(PARTICIPANT, claims("did:web:holder", now), null)).isSucceeded();
+
+        verify(delegate, times(2)).createToken(anyString(), anyMap(), any());
+    }
+
+    @Test
+    void createReusableToken_delegateFails_notCached() {
+        when(delegate.createToken(anyString(), anyMap(), any())).thenReturn(Result.failure("foo"), Result.success(TokenRepresentation.Builder.newInstance().build()));
+
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null)).isFailed();
+        assertThat(service.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null)).isSucceeded();
+
+        verify(delegate, times(2)).createToken(anyString(), anyMap(), any());
+    }
+
+    @Test
+    void createReusableToken_withSelfIssuedTokenDecorator_reusesJti() {
+        var reusingService = new ReusingSecureTokenService(decoratingSts(), Clock.systemUTC(), 300, 0.5);
+
+        var first = reusingService.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null);
+        var second = reusingService.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null);
+
+        // the jti is added by the token service, so the reused token would be rejected by a counter-party that validates it
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded();
+        assertThat(second.getContent().getToken()).isEqualTo(first.getContent().getToken());
+    }
+
+    @Test
+    void withReuse_jtiValidationActive_neverReuses() {
+        var reusingService = ReusingSecureTokenService.withReuse(decoratingSts(), Clock.systemUTC(), 300, 0.5, true);
+
+        var first = reusingService.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null);
+        var second = reusingService.createReusableToken(PARTICIPANT, claims("did:web:holder", now), null);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded();
+        assertThat(second.getContent().getToken()).isNotEqualTo(first.getContent().getToken());
+    }
+
+    @Test
+    void withReuse_jtiValidationInactive_reuses() {
+        assertThat(ReusingSecureTokenService.withReuse(delegate, Clock.systemUTC(), 300, 0.5, false)).isInstanceOf(ReusingSecureTokenService.class);
+        assertThat(ReusingSecureTokenService.withReuse(delegate, Clock.systemUTC(), 300, 0, false)).isSameAs(delegate);
+    }
+
+    /**
+     * An {@link EmbeddedSecureTokenService} whose tokens consist of their {@code jti} claim, as added by the {@link SelfIssuedTokenDecorator}.
+     */
+    private ParticipantSecureTokenService decoratingSts() {
+        KeyPairService keyPairService = mock();
+        when(keyPairService.getActiveKeyPairForUsage(PARTICIPANT, KeyPairUsage.TOKEN_SIGNING)).thenReturn(ServiceResult.success(KeyPairResource.Builder.newTokenSigning()
+                .id("test-key-pair-id")
+                .keyId("test-key-id")
+                .privateKeyAlias("test-private-key-alias")
+                .serializedPublicKey("JWK-GOES-HERE")
+                .state(KeyPairState.ACTIVATED)
+                .build()));
+        TokenGenerationService tokenGenerationService = mock();
+        when(tokenGenerationService.generate(anyString(), anyString(), any(TokenDecorator[].class))).thenAnswer(invocation -> {
+            var parameters = TokenParameters.Builder.newInstance();
+            for (var i = 2; i < invocation.getArguments().length; i++) {
+                ((TokenDecorator) invocation.getArgument(i)).decorate(parameters);
+            }
+            var jti = parameters.build().getClaims().get(JWT_ID);
+            return Result.success(TokenRepresentation.Builder.newInstance().token(String.valueOf(jti)).build());
+        });
+        return new EmbeddedSecureTokenService(new NoopTransactionContext(), 300, tokenGenerationService, Clock.systemUTC(), keyPairService);
+    }
+
+    private Map<String, String> claims(String audience, Instant issuedAt) {
+        return Map.of(AUDIENCE, audience, ISSUER, "did:web:issuer", ISSUED_AT, issuedAt.toString());
+    }
+}
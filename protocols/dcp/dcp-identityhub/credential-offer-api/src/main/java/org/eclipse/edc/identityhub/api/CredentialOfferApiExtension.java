@@ -17,12 +17,12 @@ package org.eclipse.edc.identityhub.api;
 import org.eclipse.edc.identityhub.api.credentialoffer.CredentialOfferApiController;
 import org.eclipse.edc.identityhub.api.validation.CredentialOfferMessageValidator;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpIssuerTokenVerifier;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpMessageExpander;
 import org.eclipse.edc.identityhub.protocols.dcp.transform.to.JsonObjectToCredentialObjectTransformer;
 import org.eclipse.edc.identityhub.protocols.dcp.transform.to.JsonObjectToCredentialOfferMessageTransformer;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.generator.CredentialWriter;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.offer.CredentialOfferService;
-import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -53,7 +53,7 @@ public class CredentialOfferApiExtension implements ServiceExtension {
     @Inject
     private WebService webService;
     @Inject
-    private JsonLd jsonLd;
+    private DcpMessageExpander messageExpander;
     @Inject
     private TypeManager typeManager;
     @Inject
@@ -78,7 +78,7 @@ public class CredentialOfferApiExtension implements ServiceExtension {
 
         validatorRegistry.register(DSPACE_DCP_NAMESPACE_V_1_0.toIri(CREDENTIAL_OFFER_MESSAGE_TERM), new CredentialOfferMessageValidator());
 
-        var controller = new CredentialOfferApiController(validatorRegistry, typeTransformer, issuerTokenVerifier, participantContextService, credentialOfferService, jsonLd);
+        var controller = new CredentialOfferApiController(validatorRegistry, typeTransformer, issuerTokenVerifier, participantContextService, credentialOfferService, messageExpander);
         webService.registerResource(CREDENTIALS, new ObjectMapperProvider(typeManager, JSON_LD));
         webService.registerResource(CREDENTIALS, controller);
 
@@ -22,13 +22,13 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpIssuerTokenVerifier;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpMessageExpander;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.model.CredentialOfferMessage;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.CredentialObject;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.CredentialOffer;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.CredentialOfferStatus;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.offer.CredentialOfferService;
-import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.AuthenticationFailedException;
@@ -53,18 +53,18 @@ public class CredentialOfferApiController implements CredentialOfferApi {
     private final DcpIssuerTokenVerifier issuerTokenVerifier;
     private final IdentityHubParticipantContextService participantContextService;
     private final CredentialOfferService credentialOfferService;
-    private final JsonLd jsonLd;
+    private final DcpMessageExpander messageExpander;
 
     public CredentialOfferApiController(JsonObjectValidatorRegistry validatorRegistry,
                                         TypeTransformerRegistry transformerRegistry,
                                         DcpIssuerTokenVerifier issuerTokenVerifier,
-                                        IdentityHubParticipantContextService participantContextService, CredentialOfferService credentialOfferService, JsonLd jsonLd) {
+                                        IdentityHubParticipantContextService participantContextService, CredentialOfferService credentialOfferService, DcpMessageExpander messageExpander) {
         this.validatorRegistry = validatorRegistry;
         this.transformerRegistry = transformerRegistry;
         this.issuerTokenVerifier = issuerTokenVerifier;
         this.participantContextService = participantContextService;
         this.credentialOfferService = credentialOfferService;
-        this.jsonLd = jsonLd;
+        this.messageExpander = messageExpander;
     }
 
 
@@ -81,7 +81,7 @@ public class CredentialOfferApiController implements CredentialOfferApi {
             throw new AuthenticationFailedException("Invalid authorization header, must start with 'Bearer'");
         }
         var authToken = authHeader.replace("Bearer ", "").trim();
-        var expanded = jsonLd.expand(credentialOfferMessage).orElseThrow(InvalidRequestException::new);
+        var expanded = messageExpander.expand(credentialOfferMessage).orElseThrow(InvalidRequestException::new);
         validatorRegistry.validate(DSPACE_DCP_NAMESPACE_V_1_0.toIri(CREDENTIAL_OFFER_MESSAGE_TERM), expanded).orElseThrow(ValidationFailureException::new);
         var protocolRegistry = transformerRegistry.forContext(DCP_SCOPE_V_1_0);
 
@@ -62,7 +62,7 @@ class CredentialOfferApiControllerTest extends RestControllerTestBase {
     private final DcpIssuerTokenVerifier tokenVerifier = mock();
     private final IdentityHubParticipantContextService participantContextService = mock();
     private final CredentialOfferService offerService = mock();
-    private final CredentialOfferApiController controller = new CredentialOfferApiController(validatorRegistry, typeTransformerRegistry, tokenVerifier, participantContextService, offerService, new TitaniumJsonLd(mock()));
+    private final CredentialOfferApiController controller = new CredentialOfferApiController(validatorRegistry, typeTransformerRegistry, tokenVerifier, participantContextService, offerService, new TitaniumJsonLd(mock())::expand);
 
     @BeforeEach
     void setUp() {
@@ -31,6 +31,7 @@ dependencies {
     implementation(libs.edc.lib.jsonld)
     implementation(libs.edc.dcp.transform)
     implementation(libs.jakarta.rsApi)
+    testImplementation(project(":core:common-core")) // the context documents that the runtime registers
     testImplementation(libs.edc.junit)
     testImplementation(libs.edc.jsonld)
     testImplementation(testFixtures(libs.edc.core.jersey))
@@ -15,10 +15,12 @@
 package org.eclipse.edc.identityhub.api;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpMessageExpander;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.runtime.metamodel.annotation.Settings;
 import org.eclipse.edc.spi.EdcException;
@@ -68,6 +70,11 @@ public class CredentialsApiConfigurationExtension implements ServiceExtension {
         registerVersionInfo(getClass().getClassLoader());
     }
 
+    @Provider(isDefault = true)
+    public DcpMessageExpander dcpMessageExpander() {
+        return new PrecompiledDcpMessageExpander(jsonLd);
+    }
+
     private void registerVersionInfo(ClassLoader resourceClassLoader) {
         try (var versionContent = resourceClassLoader.getResourceAsStream(API_VERSION_JSON_FILE)) {
             if (versionContent == null) {
@@ -0,0 +1,269 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.api;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpMessageExpander;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.eclipse.edc.iam.decentralizedclaims.spi.DcpConstants.DSPACE_DCP_NAMESPACE_V_1_0;
+import static org.eclipse.edc.iam.decentralizedclaims.spi.DcpConstants.DSPACE_DCP_V_1_0_CONTEXT;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.VcConstants.PRESENTATION_EXCHANGE_URL;
+import static org.eclipse.edc.identityhub.protocols.dcp.spi.DcpConstants.CREDENTIALS_NAMESPACE_W3C;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.JSON;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+
+/**
+ * Expands the well-known DCP v1.0 messages ({@code CredentialMessage}, {@code CredentialOfferMessage} and
+ * {@code PresentationQueryMessage}) with a term map that is precompiled from the DCP v1.0 context, instead of running the full JSON-LD
+ * expansion algorithm.
+ * <p>
+ * The fast path only applies if the message uses the DCP v1.0 context (optionally together with the presentation exchange context,
+ * which does not define any of the DCP terms), and if every property, type and value is one whose expansion is known upfront. Anything
+ * else, e.g. other contexts, compact IRIs, keywords, {@code null} values or unknown terms, is delegated to {@link JsonLd#expand(JsonObject)},
+ * so that the result is always identical to the one of the full expansion.
+ */
+class PrecompiledDcpMessageExpander implements DcpMessageExpander {
+    private static final String XSD_STRING = "http://www.w3.org/2001/XMLSchema#string";
+    private static final Set<String> INERT_CONTEXTS = Set.of(PRESENTATION_EXCHANGE_URL);
+
+    /**
+     * Term definitions of the DCP v1.0 context that are type-scoped to the message types handled by this expander.
+     */
+    private static final Map<String, ScopedType> TYPES = Map.of(
+            "CredentialMessage", new ScopedType(dcp("CredentialMessage"), Map.of(
+                    "credentials", new Term(dcp("credentials"), Coercion.JSON),
+                    "issuerPid", new Term(dcp("issuerPid"), Coercion.ID),
+                    "holderPid", new Term(dcp("holderPid"), Coercion.ID),
+                    "status", new Term(dcp("status"), Coercion.ID),
+                    "rejectionReason", new Term(dcp("rejectionReason"), Coercion.NONE))),
+            "CredentialOfferMessage", new ScopedType(dcp("CredentialOfferMessage"), Map.of(
+                    "issuer", new Term(CREDENTIALS_NAMESPACE_W3C.toIri("issuer"), Coercion.ID),
+                    "credentials", new Term(dcp("credentials"), Coercion.NONE))),
+            "CredentialObject", new ScopedType(dcp("CredentialObject"), Map.of(
+                    "credentialType", new Term(dcp("credentialType"), Coercion.NONE),
+                    "offerReason", new Term(dcp("offerReason"), Coercion.STRING),
+                    "bindingMethods", new Term(dcp("bindingMethods"), Coercion.STRING),
+                    "profile", new Term(dcp("profile"), Coercion.STRING),
+                    "issuancePolicy", new Term(dcp("issuancePolicy"), Coercion.JSON))),
+            "PresentationQueryMessage", new ScopedType(dcp("PresentationQueryMessage"), Map.of(
+                    "presentationDefinition", new Term(dcp("presentationDefinition"), Coercion.JSON),
+                    "scope", new Term(dcp("scope"), Coercion.STRING)))
+    );
+
+    /**
+     * Every term that is defined anywhere in the DCP v1.0 context. An IRI value that starts with one of them followed by a colon is a
+     * compact IRI and would be expanded, so it is left to the full expansion.
+     */
+    private static final Set<String> PREFIXES = Set.of("dcp", "cred", "xsd", "id", "type", "_",
+            "CredentialContainer", "CredentialMessage", "CredentialObject", "CredentialOfferMessage", "CredentialRequestMessage",
+            "CredentialService", "CredentialStatus", "IssuerMetadata", "IssuerService", "PresentationQueryMessage",
+            "PresentationResponseMessage", "PresentationSubmission", "payload", "credentials", "issuerPid", "holderPid", "status",
+            "rejectionReason", "credentialType", "offerReason", "bindingMethods", "profile", "issuancePolicy", "issuer",
+            "credentialsSupported", "presentationDefinition", "scope", "presentation", "presentationSubmission", "RECEIVED",
+            "REJECTED", "ISSUED", "presentation_submission");
+
+    private final JsonLd jsonLd;
+
+    PrecompiledDcpMessageExpander(JsonLd jsonLd) {
+        this.jsonLd = jsonLd;
+    }
+
+    @Override
+    public Result<JsonObject> expand(JsonObject message) {
+        if (isSupportedContext(message.get(CONTEXT))) {
+            var expanded = expandNode(message, true);
+            if (expanded != null && !expanded.isEmpty() && !(expanded.size() == 1 && expanded.containsKey(ID))) {
+                return Result.success(expanded);
+            }
+        }
+        return jsonLd.expand(message);
+    }
+
+    private static String dcp(String term) {
+        return DSPACE_DCP_NAMESPACE_V_1_0.toIri(term);
+    }
+
+    private boolean isSupportedContext(@Nullable JsonValue context) {
+        if (context instanceof JsonString url) {
+            return DSPACE_DCP_V_1_0_CONTEXT.equals(url.getString());
+        }
+        if (context instanceof JsonArray urls) {
+            var hasDcp = false;
+            for (var url : urls) {
+                if (!(url instanceof JsonString string)) {
+                    return false;
+                }
+                if (DSPACE_DCP_V_1_0_CONTEXT.equals(string.getString())) {
+                    hasDcp = true;
+                } else if (!INERT_CONTEXTS.contains(string.getString())) {
+                    return false;
+                }
+            }
+            return hasDcp;
+        }
+        return false;
+    }
+
+    /**
+     * Expands a node object. Type-scoped contexts do not propagate, so nested nodes only see the terms of their own type.
+     *
+     * @return the expanded node, or null if the node cannot be expanded with the precompiled terms
+     */
+    @Nullable
+    private JsonObject expandNode(JsonObject node, boolean topLevel) {
+        if (!topLevel && node.containsKey(CONTEXT)) {
+            return null;
+        }
+        if ((node.containsKey(TYPE) && node.containsKey("type")) || (node.containsKey(ID) && node.containsKey("id"))) {
+            return null;
+        }
+
+        var typeValue = node.containsKey(TYPE) ? node.get(TYPE) : node.get("type");
+        ScopedType type = null;
+        if (typeValue != null) {
+            // multiple types, and types that are not a string (including null), are left to the full expansion
+            var typeName = singleString(typeValue);
+            type = typeName != null ? TYPES.get(typeName) : null;
+            if (type == null) {
+                return null;
+            }
+        }
+
+        var result = Json.createObjectBuilder();
+        if (type != null) {
+            result.add(TYPE, Json.createArrayBuilder().add(type.iri()));
+        }
+        for (var entry : node.entrySet()) {
+            var key = entry.getKey();
+            var value = entry.getValue();
+            switch (key) {
+                case CONTEXT, TYPE, "type" -> {
+                }
+                case ID, "id" -> {
+                    if (!(value instanceof JsonString id) || !isPlainIri(id.getString())) {
+                        return null;
+                    }
+                    result.add(ID, id);
+                }
+                default -> {
+                    var term = type != null ? type.terms().get(key) : null;
+                    var expanded = term != null ? expandValue(term.coercion(), value) : null;
+                    if (expanded == null) {
+                        return null;
+                    }
+                    result.add(term.iri(), expanded);
+                }
+            }
+        }
+        return result.build();
+    }
+
+    @Nullable
+    private JsonArray expandValue(Coercion coercion, JsonValue value) {
+        if (value.getValueType() == JsonValue.ValueType.NULL) {
+            return null;
+        }
+        if (coercion == Coercion.JSON) {
+            return Json.createArrayBuilder()
+                    .add(Json.createObjectBuilder().add(VALUE, value).add(TYPE, JSON))
+                    .build();
+        }
+
+        var items = value instanceof JsonArray array ? array : List.of(value);
+        var result = Json.createArrayBuilder();
+        for (var item : items) {
+            if (!addItem(result, coercion, item)) {
+                return null;
+            }
+        }
+        return result.build();
+    }
+
+    private boolean addItem(JsonArrayBuilder result, Coercion coercion, JsonValue item) {
+        switch (coercion) {
+            case ID -> {
+                if (!(item instanceof JsonString iri) || !isPlainIri(iri.getString())) {
+                    return false;
+                }
+                result.add(Json.createObjectBuilder().add(ID, iri));
+            }
+            case STRING -> {
+                if (!(item instanceof JsonString string)) {
+                    return false;
+                }
+                result.add(Json.createObjectBuilder().add(VALUE, string).add(TYPE, XSD_STRING));
+            }
+            default -> {
+                if (item instanceof JsonObject object) {
+                    var node = expandNode(object, false);
+                    if (node == null || node.isEmpty()) {
+                        return false;
+                    }
+                    result.add(node);
+                } else if (item instanceof JsonString || item == JsonValue.TRUE || item == JsonValue.FALSE) {
+                    result.add(Json.createObjectBuilder().add(VALUE, item));
+                } else {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private String singleString(JsonValue value) {
+        if (value instanceof JsonArray array && array.size() == 1) {
+            value = array.get(0);
+        }
+        return value instanceof JsonString string ? string.getString() : null;
+    }
+
+    /**
+     * Whether the given IRI is kept as-is by the IRI expansion: it must not be empty, must not look like a keyword, and must not be a
+     * compact IRI whose prefix is a term.
+     */
+    private boolean isPlainIri(String iri) {
+        if (iri.isEmpty() || iri.startsWith("@")) {
+            return false;
+        }
+        var colon = iri.indexOf(':');
+        return colon < 0 || !PREFIXES.contains(iri.substring(0, colon));
+    }
+
+    private enum Coercion {
+        NONE, ID, STRING, JSON
+    }
+
+    private record Term(String iri, Coercion coercion) {
+    }
+
+    private record ScopedType(String iri, Map<String, Term> terms) {
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.api;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+
+import static org.eclipse.edc.iam.decentralizedclaims.spi.DcpConstants.DSPACE_DCP_V_1_0_CONTEXT;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.VcConstants.PRESENTATION_EXCHANGE_URL;
+import static org.eclipse.edc.identityhub.DefaultServicesExtension.DSPACE_DCP_V_1_0_JSON_LD;
+import static org.eclipse.edc.identityhub.DefaultServicesExtension.PRESENTATION_EXCHANGE_V_1_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Conformance test: the expander must produce the same result as the full JSON-LD expansion, whether it takes the fast path or not.
+ */
+class PrecompiledDcpMessageExpanderTest {
+
+    private final TitaniumJsonLd reference = initializeJsonLd();
+    private final TitaniumJsonLd fallback = spy(initializeJsonLd());
+    private final PrecompiledDcpMessageExpander expander = new PrecompiledDcpMessageExpander(fallback);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "credential-message.json",
+            "credential-message-rejected.json",
+            "credential-offer-message.json",
+            "presentation-query-scope.json",
+            "presentation-query-single-scope.json",
+            "presentation-query-definition.json"
+    })
+    void expand_wellKnownMessage_equalToFullExpansion(String fixture) {
+        var message = readFixture(fixture);
+
+        assertThat(expander.expand(message)).isSucceeded().isEqualTo(reference.expand(message).getContent());
+        verify(fallback, never()).expand(any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "unknown-property.json",
+            "compact-iri-property.json",
+            "compact-iri-value.json",
+            "null-value.json",
+            "object-context.json",
+            "untyped-credential-object.json",
+            "multi-valued-type.json",
+            "numeric-type.json",
+            "null-type.json"
+    })
+    void expand_notSupported_fallsBackToFullExpansion(String fixture) {
+        var message = readFixture(fixture);
+
+        var expected = reference.expand(message);
+        var result = expander.expand(message);
+
+        // some of the messages are invalid JSON-LD, then the expander must fail like the full expansion does
+        assertThat(result.succeeded()).isEqualTo(expected.succeeded());
+        if (expected.succeeded()) {
+            assertThat(result.getContent()).isEqualTo(expected.getContent());
+        }
+        verify(fallback).expand(message);
+    }
+
+    @Test
+    void expand_noContext_fails() {
+        var message = Json.createObjectBuilder()
+                .add("type", "PresentationQueryMessage")
+                .add("scope", "org.eclipse.dspace.dcp.vc.type:AlumniCredential:read")
+                .build();
+
+        assertThat(expander.expand(message)).isFailed();
+        verify(fallback).expand(message);
+    }
+
+    @Test
+    void expand_onlyId_fails() {
+        var message = Json.createObjectBuilder()
+                .add("@context", DSPACE_DCP_V_1_0_CONTEXT)
+                .add("id", "some-id")
+                .build();
+
+        assertThat(expander.expand(message)).isFailed();
+        assertThat(reference.expand(message)).isFailed();
+    }
+
+    private static TitaniumJsonLd initializeJsonLd() {
+        var jsonLd = new TitaniumJsonLd(mock());
+        // the context documents of the runtime, see DefaultServicesExtension
+        jsonLd.registerCachedDocument(DSPACE_DCP_V_1_0_CONTEXT, TestUtils.getResource(DSPACE_DCP_V_1_0_JSON_LD));
+        jsonLd.registerCachedDocument(PRESENTATION_EXCHANGE_URL, TestUtils.getResource(PRESENTATION_EXCHANGE_V_1_JSON));
+        return jsonLd;
+    }
+
+    private JsonObject readFixture(String name) {
+        try (var stream = getClass().getClassLoader().getResourceAsStream("dcp-messages/" + name);
+             var reader = Json.createReader(stream)) {
+            return reader.readObject();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
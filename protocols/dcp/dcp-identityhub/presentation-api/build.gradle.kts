@@ -22,6 +22,7 @@ dependencies {
     api(project(":spi:identity-hub-spi"))
     api(project(":spi:verifiable-credential-spi"))
     api(project(":protocols:dcp:dcp-spi"))
+    api(project(":spi:metrics-spi"))
     api(libs.edc.spi.core)
     implementation(project(":protocols:dcp:dcp-identityhub:credentials-api-configuration"))
     implementation(libs.edc.spi.dcp)
@@ -33,6 +34,7 @@ dependencies {
     testImplementation(libs.edc.jsonld)
     testImplementation(testFixtures(libs.edc.core.jersey))
     testImplementation(testFixtures(project(":spi:verifiable-credential-spi")))
+    testImplementation(testFixtures(project(":spi:metrics-spi")))
     testImplementation(libs.nimbus.jwt)
 }
 
@@ -18,6 +18,8 @@ import org.eclipse.edc.iam.decentralizedclaims.transform.from.JsonObjectFromPres
 import org.eclipse.edc.iam.decentralizedclaims.transform.to.JsonObjectToPresentationQueryTransformer;
 import org.eclipse.edc.identityhub.api.validation.PresentationQueryValidator;
 import org.eclipse.edc.identityhub.api.verifiablecredential.PresentationApiController;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpMessageExpander;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.generator.VerifiablePresentationService;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.resolution.CredentialQueryResolver;
@@ -62,9 +64,13 @@ public class PresentationApiExtension implements ServiceExtension {
     @Inject
     private JsonLd jsonLd;
     @Inject
+    private DcpMessageExpander messageExpander;
+    @Inject
     private TypeManager typeManager;
     @Inject
     private IdentityHubParticipantContextService participantContextService;
+    @Inject
+    private MetricRecorder metricRecorder;
 
     @Override
     public String name() {
@@ -79,7 +85,7 @@ public class PresentationApiExtension implements ServiceExtension {
 
 
         var controller = new PresentationApiController(validatorRegistry, typeTransformer, credentialResolver, selfIssuedTokenVerifier,
-                verifiablePresentationService, context.getMonitor().withPrefix("PresentationAPI"), participantContextService, jsonLd);
+                verifiablePresentationService, context.getMonitor().withPrefix("PresentationAPI"), participantContextService, jsonLd, messageExpander, metricRecorder);
         webService.registerResource(contextString, new ObjectMapperProvider(typeManager, JSON_LD));
         webService.registerResource(contextString, controller);
 
@@ -25,6 +25,8 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.iam.decentralizedclaims.spi.model.PresentationQueryMessage;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpMessageExpander;
+import org.eclipse.edc.identityhub.spi.metrics.MetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.generator.VerifiablePresentationService;
@@ -43,10 +45,12 @@ import org.eclipse.edc.web.spi.ApiErrorDetail;
 import org.eclipse.edc.web.spi.exception.AuthenticationFailedException;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
+import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.ParseException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 
@@ -55,6 +59,11 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.iam.decentralizedclaims.spi.DcpConstants.DSPACE_DCP_NAMESPACE_V_1_0;
 import static org.eclipse.edc.iam.decentralizedclaims.spi.model.PresentationQueryMessage.PRESENTATION_QUERY_MESSAGE_TERM;
 import static org.eclipse.edc.identityhub.protocols.dcp.spi.DcpConstants.DCP_SCOPE_V_1_0;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_FAILURE;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_SUCCESS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.PRESENTATION_QUERY_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.PRESENTATION_QUERY_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
 @Consumes(APPLICATION_JSON)
@@ -70,13 +79,16 @@ public class PresentationApiController implements PresentationApi {
     private final Monitor monitor;
     private final IdentityHubParticipantContextService participantContextService;
     private final JsonLd jsonLd;
+    private final DcpMessageExpander messageExpander;
+    private final MetricRecorder metrics;
 
     private final Map<JsonLdNamespace, String> protocols = Map.of(
             DSPACE_DCP_NAMESPACE_V_1_0, DCP_SCOPE_V_1_0
     );
 
     public PresentationApiController(JsonObjectValidatorRegistry validatorRegistry, TypeTransformerRegistry transformerRegistry, CredentialQueryResolver queryResolver,
-                                     SelfIssuedTokenVerifier selfIssuedTokenVerifier, VerifiablePresentationService verifiablePresentationService, Monitor monitor, IdentityHubParticipantContextService participantContextService, JsonLd jsonLd) {
+                                     SelfIssuedTokenVerifier selfIssuedTokenVerifier, VerifiablePresentationService verifiablePresentationService, Monitor monitor, IdentityHubParticipantContextService participantContextService, JsonLd jsonLd, DcpMessageExpander messageExpander,
+                                     MetricRecorder metrics) {
         this.validatorRegistry = validatorRegistry;
         this.transformerRegistry = transformerRegistry;
         this.queryResolver = queryResolver;
@@ -85,6 +97,8 @@ public class PresentationApiController implements PresentationApi {
         this.monitor = monitor;
         this.participantContextService = participantContextService;
         this.jsonLd = jsonLd;
+        this.messageExpander = messageExpander;
+        this.metrics = metrics;
     }
 
 
@@ -92,6 +106,22 @@ public class PresentationApiController implements PresentationApi {
     @Path("/query")
     @Override
     public Response queryPresentation(@PathParam("participantContextId") String participantContextId, JsonObject query, @HeaderParam(AUTHORIZATION) String token) {
+        var start = System.nanoTime();
+        var outcome = OUTCOME_FAILURE;
+        try {
+            var response = doQueryPresentation(participantContextId, query, token);
+            outcome = response.getStatus() == Response.Status.OK.getStatusCode() ? OUTCOME_SUCCESS : "not_implemented";
+            return response;
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            metrics.record(PRESENTATION_QUERY_DURATION, Duration.ofNanos(System.nanoTime() - start), TAG_OUTCOME, outcome);
+            metrics.increment(PRESENTATION_QUERY_COUNT, TAG_OUTCOME, outcome);
+        }
+    }
+
+    private Response doQueryPresentation(String participantContextId, JsonObject query, String token) {
         if (token == null) {
             throw new AuthenticationFailedException("Authorization header missing");
         }
@@ -102,7 +132,7 @@ public class PresentationApiController implements PresentationApi {
 
         token = token.replace("Bearer", "").trim();
 
-        query = jsonLd.expand(query).orElseThrow(InvalidRequestException::new);
+        query = messageExpander.expand(query).orElseThrow(InvalidRequestException::new);
 
         var protocol = parseProtocol(query).orElseThrow(InvalidRequestException::new);
 
@@ -139,6 +169,25 @@ public class PresentationApiController implements PresentationApi {
                 .build();
     }
 
+    /**
+     * Maps the exception that aborted a presentation query to the (bounded) value of the outcome tag.
+     */
+    private String outcome(RuntimeException exception) {
+        if (exception instanceof AuthenticationFailedException) {
+            return "unauthenticated";
+        }
+        if (exception instanceof NotAuthorizedException) {
+            return "unauthorized";
+        }
+        if (exception instanceof InvalidRequestException || exception instanceof ValidationFailureException) {
+            return "invalid";
+        }
+        if (exception instanceof ObjectNotFoundException) {
+            return "not_found";
+        }
+        return OUTCOME_FAILURE;
+    }
+
     private @Nullable String getAudience(String token) {
         try {
             return Optional.ofNullable(SignedJWT.parse(token).getJWTClaimsSet().getClaim(JwtRegisteredClaimNames.ISSUER))
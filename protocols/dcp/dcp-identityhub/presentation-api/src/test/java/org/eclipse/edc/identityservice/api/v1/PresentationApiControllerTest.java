@@ -23,6 +23,7 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.credentialservice.Inp
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.credentialservice.PresentationSubmission;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.presentationdefinition.PresentationDefinition;
 import org.eclipse.edc.identityhub.api.verifiablecredential.PresentationApiController;
+import org.eclipse.edc.identityhub.spi.metrics.InMemoryMetricRecorder;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.generator.VerifiablePresentationService;
@@ -63,6 +64,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.iam.decentralizedclaims.spi.DcpConstants.DSPACE_DCP_NAMESPACE_V_1_0;
 import static org.eclipse.edc.iam.decentralizedclaims.spi.model.PresentationQueryMessage.PRESENTATION_QUERY_MESSAGE_TERM;
 import static org.eclipse.edc.identityhub.protocols.dcp.spi.DcpConstants.DCP_SCOPE_V_1_0;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.OUTCOME_SUCCESS;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.PRESENTATION_QUERY_COUNT;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.PRESENTATION_QUERY_DURATION;
+import static org.eclipse.edc.identityhub.spi.metrics.MetricNames.TAG_OUTCOME;
 import static org.eclipse.edc.identityhub.verifiablecredentials.testfixtures.VerifiableCredentialTestUtil.buildSignedJwt;
 import static org.eclipse.edc.identityhub.verifiablecredentials.testfixtures.VerifiableCredentialTestUtil.generateEcKey;
 import static org.eclipse.edc.validator.spi.ValidationResult.failure;
@@ -88,6 +93,7 @@ class PresentationApiControllerTest extends RestControllerTestBase {
     private final SelfIssuedTokenVerifier selfIssuedTokenVerifier = mock();
     private final VerifiablePresentationService generator = mock();
     private final JsonLd jsonLd = mock();
+    private final InMemoryMetricRecorder metrics = new InMemoryMetricRecorder();
     private final IdentityHubParticipantContextService participantContextService = mock(a -> ServiceResult.success(IdentityHubParticipantContext.Builder.newInstance()
             .participantContextId(a.getArgument(0).toString())
             .apiTokenAlias("test-alias")
@@ -99,6 +105,7 @@ class PresentationApiControllerTest extends RestControllerTestBase {
         assertThatThrownBy(() -> controller().queryPresentation(PARTICIPANT_ID, createObjectBuilder().build(), null))
                 .isInstanceOf(AuthenticationFailedException.class)
                 .hasMessage("Authorization header missing");
+        assertThat(metrics.count(PRESENTATION_QUERY_COUNT, TAG_OUTCOME, "unauthenticated")).isEqualTo(1);
     }
 
     @ParameterizedTest
@@ -177,6 +184,7 @@ class PresentationApiControllerTest extends RestControllerTestBase {
                 .isInstanceOf(NotAuthorizedException.class)
                 .hasMessage("test-failure");
         verifyNoInteractions(generator);
+        assertThat(metrics.count(PRESENTATION_QUERY_COUNT, TAG_OUTCOME, "unauthorized")).isEqualTo(1);
     }
 
     @ParameterizedTest
@@ -221,12 +229,13 @@ class PresentationApiControllerTest extends RestControllerTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(200);
         assertThat(response.getEntity()).isEqualTo(jsonResponse);
-
+        assertThat(metrics.count(PRESENTATION_QUERY_COUNT, TAG_OUTCOME, OUTCOME_SUCCESS)).isEqualTo(1);
+        assertThat(metrics.durations(PRESENTATION_QUERY_DURATION, TAG_OUTCOME, OUTCOME_SUCCESS)).hasSize(1);
     }
 
     @Override
     protected PresentationApiController controller() {
-        return new PresentationApiController(validatorRegistryMock, typeTransformerRegistry, queryResolver, selfIssuedTokenVerifier, generator, mock(), participantContextService, jsonLd);
+        return new PresentationApiController(validatorRegistryMock, typeTransformerRegistry, queryResolver, selfIssuedTokenVerifier, generator, mock(), participantContextService, jsonLd, jsonLd::expand, metrics);
     }
 
     private String generateAuthToken() {
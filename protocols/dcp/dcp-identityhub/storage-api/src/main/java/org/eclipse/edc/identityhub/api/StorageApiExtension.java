@@ -19,12 +19,12 @@ import org.eclipse.edc.iam.decentralizedclaims.transform.to.JwtToVerifiableCrede
 import org.eclipse.edc.identityhub.api.storage.StorageApiController;
 import org.eclipse.edc.identityhub.api.validation.CredentialMessageValidator;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpIssuerTokenVerifier;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpMessageExpander;
 import org.eclipse.edc.identityhub.protocols.dcp.transform.from.JsonObjectFromCredentialMessageTransformer;
 import org.eclipse.edc.identityhub.protocols.dcp.transform.from.JsonObjectFromCredentialRequestMessageTransformer;
 import org.eclipse.edc.identityhub.protocols.dcp.transform.to.JsonObjectToCredentialMessageTransformer;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.generator.CredentialWriter;
-import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -58,7 +58,7 @@ public class StorageApiExtension implements ServiceExtension {
     @Inject
     private WebService webService;
     @Inject
-    private JsonLd jsonLd;
+    private DcpMessageExpander messageExpander;
     @Inject
     private TypeManager typeManager;
     @Inject
@@ -82,7 +82,7 @@ public class StorageApiExtension implements ServiceExtension {
 
         validatorRegistry.register(DSPACE_DCP_NAMESPACE_V_1_0.toIri(CREDENTIAL_MESSAGE_TERM), new CredentialMessageValidator());
 
-        var controller = new StorageApiController(validatorRegistry, typeTransformer, jsonLd, writer, context.getMonitor().withPrefix("StorageAPI"), issuerTokenVerifier, participantContextService);
+        var controller = new StorageApiController(validatorRegistry, typeTransformer, messageExpander, writer, context.getMonitor().withPrefix("StorageAPI"), issuerTokenVerifier, participantContextService);
         webService.registerResource(contextString, new ObjectMapperProvider(typeManager, JSON_LD));
         webService.registerResource(contextString, controller);
 
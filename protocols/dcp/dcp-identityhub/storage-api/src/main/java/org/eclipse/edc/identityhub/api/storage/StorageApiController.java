@@ -23,12 +23,12 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpIssuerTokenVerifier;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpMessageExpander;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.model.CredentialMessage;
 import org.eclipse.edc.identityhub.spi.credential.request.model.HolderRequestState;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.generator.CredentialWriteRequest;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.generator.CredentialWriter;
-import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
@@ -50,7 +50,7 @@ public class StorageApiController implements StorageApi {
 
     private final JsonObjectValidatorRegistry validatorRegistry;
     private final TypeTransformerRegistry transformerRegistry;
-    private final JsonLd jsonLd;
+    private final DcpMessageExpander messageExpander;
     private final CredentialWriter credentialWriter;
     private final Monitor monitor;
     private final DcpIssuerTokenVerifier issuerTokenVerifier;
@@ -58,14 +58,14 @@ public class StorageApiController implements StorageApi {
 
     public StorageApiController(JsonObjectValidatorRegistry validatorRegistry,
                                 TypeTransformerRegistry transformerRegistry,
-                                JsonLd jsonLd,
+                                DcpMessageExpander messageExpander,
                                 CredentialWriter credentialWriter,
                                 Monitor monitor,
                                 DcpIssuerTokenVerifier issuerTokenVerifier,
                                 IdentityHubParticipantContextService participantContextService) {
         this.validatorRegistry = validatorRegistry;
         this.transformerRegistry = transformerRegistry;
-        this.jsonLd = jsonLd;
+        this.messageExpander = messageExpander;
         this.credentialWriter = credentialWriter;
         this.monitor = monitor;
         this.issuerTokenVerifier = issuerTokenVerifier;
@@ -83,7 +83,7 @@ public class StorageApiController implements StorageApi {
             throw new AuthenticationFailedException("Invalid authorization header, must start with 'Bearer'");
         }
         var authToken = authHeader.replace("Bearer ", "").trim();
-        var expanded = jsonLd.expand(credentialMessageJson).orElseThrow(InvalidRequestException::new);
+        var expanded = messageExpander.expand(credentialMessageJson).orElseThrow(InvalidRequestException::new);
         validatorRegistry.validate(DSPACE_DCP_NAMESPACE_V_1_0.toIri(CREDENTIAL_MESSAGE_TERM), expanded).orElseThrow(ValidationFailureException::new);
         var protocolRegistry = transformerRegistry.forContext(DCP_SCOPE_V_1_0);
 
@@ -208,7 +208,7 @@ class StorageApiControllerTest extends RestControllerTestBase {
     protected Object controller() {
         return new StorageApiController(validatorRegistry,
                 transformerRegistry,
-                new TitaniumJsonLd(monitor),
+                new TitaniumJsonLd(monitor)::expand,
                 credentialWriter,
                 mock(),
                 issuerTokenVerifier,
@@ -28,7 +28,9 @@ import org.eclipse.edc.identityhub.protocols.dcp.transform.from.JsonObjectFromCr
 import org.eclipse.edc.identityhub.protocols.dcp.transform.from.JsonObjectFromIssuerMetadataTransformer;
 import org.eclipse.edc.identityhub.protocols.dcp.transform.to.JsonObjectToCredentialRequestMessageTransformer;
 import org.eclipse.edc.identityhub.protocols.dcp.validation.CredentialRequestMessageValidator;
+import org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextDeleted;
 import org.eclipse.edc.issuerservice.spi.issuance.process.IssuanceProcessService;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.jsonld.spi.JsonLdNamespace;
@@ -68,6 +70,7 @@ public class IssuerApiExtension implements ServiceExtension {
     public static final String NAME = "Issuer API extension";
 
     private static final String API_VERSION_JSON_FILE = "issuer-api-version.json";
+    private static final String SUBSCRIBER_ID = "issuer-metadata-api";
 
     @Inject
     private TypeManager typeManager;
@@ -105,6 +108,9 @@ public class IssuerApiExtension implements ServiceExtension {
     @Inject
     private DcpIssuerMetadataService issuerMetadataService;
 
+    @Inject
+    private EventDispatchRegistry eventDispatchRegistry;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
 
@@ -116,7 +122,9 @@ public class IssuerApiExtension implements ServiceExtension {
 
         webService.registerResource(ISSUANCE_API, new CredentialRequestApiController(participantContextService, dcpIssuerService, dcpHolderTokenVerifier, validatorRegistry, dcpRegistry, DSPACE_DCP_NAMESPACE_V_1_0));
         webService.registerResource(ISSUANCE_API, new CredentialRequestStatusApiController(participantContextService, dcpHolderTokenVerifier, issuanceProcessService, dcpRegistry));
-        webService.registerResource(ISSUANCE_API, new IssuerMetadataApiController(participantContextService, issuerMetadataService, dcpRegistry));
+        var issuerMetadataController = new IssuerMetadataApiController(participantContextService, issuerMetadataService, dcpRegistry);
+        eventDispatchRegistry.register(ParticipantContextDeleted.class, SUBSCRIBER_ID, issuerMetadataController);
+        webService.registerResource(ISSUANCE_API, issuerMetadataController);
 
         webService.registerResource(ISSUANCE_API, new ObjectMapperProvider(typeManager, JSON_LD));
         webService.registerResource(ISSUANCE_API, new JerseyJsonLdInterceptor(jsonLd, typeManager, JSON_LD, DCP_SCOPE_V_1_0));
@@ -21,7 +21,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.identityhub.protocols.dcp.issuer.api.v1beta.ApiSchema;
 
 @OpenAPIDefinition(
@@ -37,8 +37,9 @@ public interface IssuerMetadataApi {
             operationId = "getIssuerMetadata",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Gets the issuer metadata.",
-                            content = @Content(schema = @Schema(implementation = ApiSchema.IssuerMetadataSchema.class)))
+                            content = @Content(schema = @Schema(implementation = ApiSchema.IssuerMetadataSchema.class))),
+                    @ApiResponse(responseCode = "304", description = "The issuer metadata has not changed since the version identified by the If-None-Match header.")
             }
     )
-    JsonObject getIssuerMetadata(String participantContextId, String token);
+    Response getIssuerMetadata(String participantContextId, String token, String ifNoneMatch);
 }
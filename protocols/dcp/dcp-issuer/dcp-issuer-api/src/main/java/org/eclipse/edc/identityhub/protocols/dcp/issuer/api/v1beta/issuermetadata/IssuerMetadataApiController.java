@@ -21,23 +21,46 @@ import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.identityhub.protocols.dcp.issuer.spi.DcpIssuerMetadataService;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.model.IssuerMetadata;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextDeleted;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.spi.exception.AuthenticationFailedException;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Consumes(APPLICATION_JSON)
 @Produces(APPLICATION_JSON)
 @Path("/v1beta/participants/{participantContextId}/metadata")
-public class IssuerMetadataApiController implements IssuerMetadataApi {
+public class IssuerMetadataApiController implements IssuerMetadataApi, EventSubscriber {
 
     private final IdentityHubParticipantContextService participantContextService;
     private final DcpIssuerMetadataService issuerMetadataService;
     private final TypeTransformerRegistry dcpRegistry;
+    /**
+     * Last rendered response body per participant context. As long as the metadata service hands out the same (cached)
+     * {@link IssuerMetadata} instance, the JSON body and its ETag are reused instead of being transformed and hashed again. The entry
+     * of a participant context is removed when the participant context is deleted.
+     */
+    private final Map<String, RenderedMetadata> renderedMetadata = new ConcurrentHashMap<>();
 
 
     public IssuerMetadataApiController(IdentityHubParticipantContextService participantContextService, DcpIssuerMetadataService issuerMetadataService, TypeTransformerRegistry dcpRegistry) {
@@ -49,7 +72,8 @@ public class IssuerMetadataApiController implements IssuerMetadataApi {
     @GET
     @Path("/")
     @Override
-    public JsonObject getIssuerMetadata(@PathParam("participantContextId") String participantContextId, @HeaderParam(AUTHORIZATION) String authHeader) {
+    public Response getIssuerMetadata(@PathParam("participantContextId") String participantContextId, @HeaderParam(AUTHORIZATION) String authHeader,
+                                      @HeaderParam(IF_NONE_MATCH) String ifNoneMatch) {
 
         var participantContext = participantContextService.getParticipantContext(participantContextId)
                 .orElseThrow((f) -> new AuthenticationFailedException("Invalid issuer"));
@@ -57,9 +81,56 @@ public class IssuerMetadataApiController implements IssuerMetadataApi {
         var metadata = issuerMetadataService.getIssuerMetadata(participantContext)
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
 
+        var rendered = render(participantContextId, metadata);
+        var cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+
+        if (matches(ifNoneMatch, rendered.etag())) {
+            return Response.notModified(rendered.etag()).cacheControl(cacheControl).build();
+        }
+        return Response.ok(rendered.json()).tag(rendered.etag()).cacheControl(cacheControl).build();
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof ParticipantContextDeleted deleted) {
+            renderedMetadata.remove(deleted.getParticipantContextId());
+        }
+    }
+
+    private RenderedMetadata render(String participantContextId, IssuerMetadata metadata) {
+        var rendered = renderedMetadata.get(participantContextId);
+        if (rendered != null && rendered.source() == metadata) {
+            return rendered;
+        }
 
-        return dcpRegistry.transform(metadata, JsonObject.class)
+        var json = dcpRegistry.transform(metadata, JsonObject.class)
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
+        rendered = new RenderedMetadata(metadata, json, new EntityTag(hash(json.toString())));
+        renderedMetadata.put(participantContextId, rendered);
+        return rendered;
+    }
+
+    private boolean matches(String ifNoneMatch, EntityTag etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        // If-None-Match uses weak comparison, so a W/ prefix is ignored
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals("\"" + etag.getValue() + "\""));
+    }
+
+    private String hash(String body) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(body.getBytes(UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
 
+    private record RenderedMetadata(IssuerMetadata source, JsonObject json, EntityTag etag) {
     }
 }
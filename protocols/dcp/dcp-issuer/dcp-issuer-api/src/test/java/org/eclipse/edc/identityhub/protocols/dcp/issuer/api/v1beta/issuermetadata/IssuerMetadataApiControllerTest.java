@@ -22,9 +22,11 @@ import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpHolderTokenVerifier;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.model.DcpRequestContext;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.model.IssuerMetadata;
 import org.eclipse.edc.identityhub.spi.participantcontext.IdentityHubParticipantContextService;
+import org.eclipse.edc.identityhub.spi.participantcontext.events.ParticipantContextDeleted;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
 import org.eclipse.edc.issuerservice.spi.holder.model.Holder;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -48,6 +50,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -73,16 +77,16 @@ public class IssuerMetadataApiControllerTest extends RestControllerTestBase {
         when(participantContextService.getParticipantContext(eq(participantContextId))).thenReturn(ServiceResult.success(createParticipantContext()));
         when(issuerMetadataService.getIssuerMetadata(argThat(p -> p.getParticipantContextId().equals(participantContextId)))).thenReturn(ServiceResult.success(metadata));
         when(typeTransformerRegistry.transform(eq(metadata), eq(JsonObject.class))).thenReturn(Result.success(object));
-        var response = controller().getIssuerMetadata(participantContextId, emptyAuthHeader);
+        var response = controller().getIssuerMetadata(participantContextId, emptyAuthHeader, null);
 
-        assertThat(response).isEqualTo(object);
+        assertThat(response.getEntity()).isEqualTo(object);
     }
 
     @Test
     void issuerMetadata_participantNotFound_shouldReturn401() {
         when(participantContextService.getParticipantContext(eq(participantContextId))).thenReturn(ServiceResult.notFound("not found"));
 
-        assertThatThrownBy(() -> controller().getIssuerMetadata(participantContextId, generateJwt()))
+        assertThatThrownBy(() -> controller().getIssuerMetadata(participantContextId, generateJwt(), null))
                 .isExactlyInstanceOf(AuthenticationFailedException.class)
                 .hasMessageContaining("Invalid issuer");
 
@@ -101,12 +105,80 @@ public class IssuerMetadataApiControllerTest extends RestControllerTestBase {
         when(participantContextService.getParticipantContext(eq(participantContextId))).thenReturn(ServiceResult.success(createParticipantContext()));
         when(issuerMetadataService.getIssuerMetadata(argThat(p -> p.getParticipantContextId().equals(participantContextId)))).thenReturn(ServiceResult.success(metadata));
         when(typeTransformerRegistry.transform(eq(metadata), eq(JsonObject.class))).thenReturn(Result.success(object));
-        var response = controller().getIssuerMetadata(participantContextId, generateJwt());
+        var response = controller().getIssuerMetadata(participantContextId, generateJwt(), null);
 
-        assertThat(response).isEqualTo(object);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntity()).isEqualTo(object);
+        assertThat(response.getEntityTag()).isNotNull();
 
     }
 
+    @Test
+    void issuerMetadata_sameMetadata_shouldReuseRenderedBody() {
+        var object = Json.createObjectBuilder().add("issuer", "did").build();
+        var metadata = IssuerMetadata.Builder.newInstance().build();
+        when(participantContextService.getParticipantContext(eq(participantContextId))).thenReturn(ServiceResult.success(createParticipantContext()));
+        when(issuerMetadataService.getIssuerMetadata(any())).thenReturn(ServiceResult.success(metadata));
+        when(typeTransformerRegistry.transform(eq(metadata), eq(JsonObject.class))).thenReturn(Result.success(object));
+        var controller = controller();
+
+        var first = controller.getIssuerMetadata(participantContextId, null, null);
+        var second = controller.getIssuerMetadata(participantContextId, null, null);
+
+        assertThat(second.getEntityTag()).isEqualTo(first.getEntityTag());
+        verify(typeTransformerRegistry, times(1)).transform(eq(metadata), eq(JsonObject.class));
+    }
+
+    @Test
+    void issuerMetadata_participantContextDeleted_shouldDropRenderedBody() {
+        var object = Json.createObjectBuilder().add("issuer", "did").build();
+        var metadata = IssuerMetadata.Builder.newInstance().build();
+        when(participantContextService.getParticipantContext(eq(participantContextId))).thenReturn(ServiceResult.success(createParticipantContext()));
+        when(issuerMetadataService.getIssuerMetadata(any())).thenReturn(ServiceResult.success(metadata));
+        when(typeTransformerRegistry.transform(eq(metadata), eq(JsonObject.class))).thenReturn(Result.success(object));
+        var controller = controller();
+        controller.getIssuerMetadata(participantContextId, null, null);
+
+        controller.on(EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(ParticipantContextDeleted.Builder.newInstance().participantContextId(participantContextId).build())
+                .build());
+        controller.getIssuerMetadata(participantContextId, null, null);
+
+        verify(typeTransformerRegistry, times(2)).transform(eq(metadata), eq(JsonObject.class));
+    }
+
+    @Test
+    void issuerMetadata_ifNoneMatch_shouldReturn304() {
+        var object = Json.createObjectBuilder().add("issuer", "did").build();
+        var metadata = IssuerMetadata.Builder.newInstance().build();
+        when(participantContextService.getParticipantContext(eq(participantContextId))).thenReturn(ServiceResult.success(createParticipantContext()));
+        when(issuerMetadataService.getIssuerMetadata(any())).thenReturn(ServiceResult.success(metadata));
+        when(typeTransformerRegistry.transform(eq(metadata), eq(JsonObject.class))).thenReturn(Result.success(object));
+        var controller = controller();
+        var etag = controller.getIssuerMetadata(participantContextId, null, null).getEntityTag();
+
+        var response = controller.getIssuerMetadata(participantContextId, null, "\"" + etag.getValue() + "\"");
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.hasEntity()).isFalse();
+        assertThat(response.getEntityTag()).isEqualTo(etag);
+    }
+
+    @Test
+    void issuerMetadata_staleIfNoneMatch_shouldReturnBody() {
+        var object = Json.createObjectBuilder().add("issuer", "did").build();
+        var metadata = IssuerMetadata.Builder.newInstance().build();
+        when(participantContextService.getParticipantContext(eq(participantContextId))).thenReturn(ServiceResult.success(createParticipantContext()));
+        when(issuerMetadataService.getIssuerMetadata(any())).thenReturn(ServiceResult.success(metadata));
+        when(typeTransformerRegistry.transform(eq(metadata), eq(JsonObject.class))).thenReturn(Result.success(object));
+
+        var response = controller().getIssuerMetadata(participantContextId, null, "\"stale\"");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntity()).isEqualTo(object);
+    }
+
     @Override
     protected IssuerMetadataApiController controller() {
         return new IssuerMetadataApiController(participantContextService, issuerMetadataService, typeTransformerRegistry);
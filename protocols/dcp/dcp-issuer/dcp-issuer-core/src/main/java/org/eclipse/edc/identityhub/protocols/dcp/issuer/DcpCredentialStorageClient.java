@@ -160,6 +160,6 @@ public class DcpCredentialStorageClient implements CredentialStorageClient {
                 ISSUER, myOwnDid,
                 SUBJECT, myOwnDid,
                 EXPIRATION_TIME, Instant.now().plus(5, ChronoUnit.MINUTES).toString());
-        return secureTokenService.createToken(participantContextId, siTokenClaims, null);
+        return secureTokenService.createReusableToken(participantContextId, siTokenClaims, null);
     }
 }
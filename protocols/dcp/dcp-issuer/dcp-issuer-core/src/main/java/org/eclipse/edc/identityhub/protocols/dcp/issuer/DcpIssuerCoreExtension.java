@@ -25,6 +25,7 @@ import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpProfileRegistry;
 import org.eclipse.edc.identityhub.spi.authentication.ParticipantSecureTokenService;
 import org.eclipse.edc.issuerservice.spi.holder.store.HolderStore;
 import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationPipeline;
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionObservable;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionService;
 import org.eclipse.edc.issuerservice.spi.issuance.delivery.CredentialStorageClient;
 import org.eclipse.edc.issuerservice.spi.issuance.events.IssuanceObservable;
@@ -51,6 +52,7 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.verifiablecredentials.jwt.rules.IssuerEqualsSubjectRule;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 import static org.eclipse.edc.spi.result.Result.failure;
@@ -61,6 +63,7 @@ public class DcpIssuerCoreExtension implements ServiceExtension {
 
     public static final String DCP_ISSUER_SELF_ISSUED_TOKEN_CONTEXT = "dcp-issuer-si";
     static final String ACCESSTOKEN_JTI_VALIDATION_ACTIVATE = "edc.iam.accesstoken.jti.validation";
+    static final long DEFAULT_METADATA_CACHE_TTL_SECONDS = 300;
     private static final String CREDENTIAL_SERVICE_TYPE = "CredentialService";
 
     @Inject
@@ -123,6 +126,13 @@ public class DcpIssuerCoreExtension implements ServiceExtension {
     private Telemetry telemetry;
     @Inject
     private IssuanceObservable issuanceObservable;
+    @Inject
+    private CredentialDefinitionObservable credentialDefinitionObservable;
+    @Setting(description = "Time (in seconds) for which the issuer metadata of a participant context is cached. Changes of credential definitions made on this node " +
+            "take effect immediately, changes made on other nodes after at most this time. 0 disables the cache.",
+            min = 0, defaultValue = DEFAULT_METADATA_CACHE_TTL_SECONDS + "", key = "edc.issuer.metadata.cache.ttl")
+    private long metadataCacheTtlSeconds;
+    private DcpIssuerMetadataServiceImpl issuerMetadataService;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -156,7 +166,11 @@ public class DcpIssuerCoreExtension implements ServiceExtension {
 
     @Provider
     public DcpIssuerMetadataService createIssuerMetadataService() {
-        return new DcpIssuerMetadataServiceImpl(credentialDefinitionService, profileRegistry);
+        if (issuerMetadataService == null) {
+            issuerMetadataService = new DcpIssuerMetadataServiceImpl(credentialDefinitionService, profileRegistry, clock, Duration.ofSeconds(metadataCacheTtlSeconds));
+            credentialDefinitionObservable.registerListener(issuerMetadataService);
+        }
+        return issuerMetadataService;
     }
 
     // TODO: refactor to use upstream DidCredentialServiceUrlResolver
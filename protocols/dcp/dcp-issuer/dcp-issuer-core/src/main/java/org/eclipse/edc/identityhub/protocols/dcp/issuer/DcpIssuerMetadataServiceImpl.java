@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.identityhub.protocols.dcp.issuer;
 
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.presentationdefinition.PresentationDefinition;
 import org.eclipse.edc.identityhub.protocols.dcp.issuer.spi.DcpIssuerMetadataService;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpProfileRegistry;
@@ -21,62 +22,167 @@ import org.eclipse.edc.identityhub.protocols.dcp.spi.model.CredentialObject;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.model.DcpProfile;
 import org.eclipse.edc.identityhub.protocols.dcp.spi.model.IssuerMetadata;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionListener;
 import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionService;
 import org.eclipse.edc.issuerservice.spi.issuance.model.CredentialDefinition;
 import org.eclipse.edc.spi.result.ServiceResult;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toMap;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.queryByParticipantContextId;
 
-
-public class DcpIssuerMetadataServiceImpl implements DcpIssuerMetadataService {
+/**
+ * Creates the {@link IssuerMetadata} of a participant context from its credential definitions and the registered DCP profiles.
+ * <p>
+ * Holders poll the issuer metadata frequently, so the metadata is materialized per participant context and served from memory.
+ * An entry is rebuilt when a credential definition of the participant context is created, updated or deleted on this node, when
+ * the DCP profiles or the DID of the participant context change, and after the configured time-to-live, which bounds the staleness
+ * in clustered deployments. A TTL of zero disables the cache.
+ * <p>
+ * The metadata is deterministic: credential objects are ordered by the ID of their credential definition, and the issuance
+ * policies have stable IDs, so that the same credential definitions always result in the same metadata.
+ */
+public class DcpIssuerMetadataServiceImpl implements DcpIssuerMetadataService, CredentialDefinitionListener {
 
     private final CredentialDefinitionService credentialDefinitionService;
 
     private final DcpProfileRegistry profileRegistry;
 
+    private final Clock clock;
+
+    private final Duration timeToLive;
+
+    private final Map<String, CachedIssuerMetadata> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong invalidations = new AtomicLong();
+
     public DcpIssuerMetadataServiceImpl(CredentialDefinitionService credentialDefinitionService, DcpProfileRegistry profileRegistry) {
+        this(credentialDefinitionService, profileRegistry, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    public DcpIssuerMetadataServiceImpl(CredentialDefinitionService credentialDefinitionService, DcpProfileRegistry profileRegistry, Clock clock, Duration timeToLive) {
         this.credentialDefinitionService = credentialDefinitionService;
         this.profileRegistry = profileRegistry;
+        this.clock = clock;
+        this.timeToLive = timeToLive;
     }
 
     @Override
     public ServiceResult<IssuerMetadata> getIssuerMetadata(IdentityHubParticipantContext participantContext) {
-        return credentialDefinitionService.queryCredentialDefinitions(queryByParticipantContextId(participantContext.getParticipantContextId()).build())
-                .compose(credentialDefinitions -> createIssuerMetadata(participantContext, credentialDefinitions));
+        var participantContextId = participantContext.getParticipantContextId();
+        var profiles = currentProfiles();
+
+        var cached = isCacheEnabled() ? cache.get(participantContextId) : null;
+        if (cached != null && cached.isValid(participantContext.getDid(), profiles, clock.instant())) {
+            return ServiceResult.success(cached.metadata());
+        }
+
+        // obtained before reading, so that a concurrent invalidation is not overwritten with stale metadata
+        var generation = invalidations.get();
+        return credentialDefinitionService.queryCredentialDefinitions(queryByParticipantContextId(participantContextId).build())
+                .compose(credentialDefinitions -> createIssuerMetadata(participantContext, credentialDefinitions))
+                .onSuccess(metadata -> {
+                    if (isCacheEnabled() && invalidations.get() == generation) {
+                        cache.put(participantContextId, new CachedIssuerMetadata(metadata, participantContext.getDid(), profiles, clock.instant().plus(timeToLive)));
+                    }
+                });
     }
 
     public ServiceResult<IssuerMetadata> createIssuerMetadata(IdentityHubParticipantContext participantContext, Collection<CredentialDefinition> credentialDefinitions) {
-        var issuerMetadata = IssuerMetadata.Builder.newInstance().issuer(participantContext.getDid());
-        for (var credentialDefinition : credentialDefinitions) {
+        var credentialsSupported = new ArrayList<CredentialObject>();
+        var sortedDefinitions = credentialDefinitions.stream()
+                .sorted(Comparator.comparing(CredentialDefinition::getId))
+                .toList();
+        for (var credentialDefinition : sortedDefinitions) {
             var credentialObject = toCredentialObject(credentialDefinition);
             if (credentialObject.failed()) {
                 return credentialObject.mapFailure();
             }
-            credentialObject.getContent().forEach(issuerMetadata::credentialSupported);
+            credentialsSupported.addAll(credentialObject.getContent());
         }
-        return ServiceResult.success(issuerMetadata.build());
+        return ServiceResult.success(IssuerMetadata.Builder.newInstance()
+                .issuer(participantContext.getDid())
+                .credentialsSupported(List.copyOf(credentialsSupported))
+                .build());
     }
 
     public ServiceResult<List<CredentialObject>> toCredentialObject(CredentialDefinition credentialDefinition) {
 
         var credentialObjects = profileRegistry.profilesFor(credentialDefinition.getFormatAsEnum()).stream()
                 .map(DcpProfile::name)
+                .sorted()
                 .map(profile -> CredentialObject.Builder.newInstance()
                         .id(credentialDefinition.getId())
                         .credentialType(credentialDefinition.getCredentialType())
                         .bindingMethod("did:web")
                         .offerReason("reissue") // todo hardcoded?
                         .profile(profile)
-                        .issuancePolicy(PresentationDefinition.Builder.newInstance().id(UUID.randomUUID().toString()).build())
+                        .issuancePolicy(PresentationDefinition.Builder.newInstance().id(issuancePolicyId(credentialDefinition, profile)).build())
                         .build())
                 .toList();
 
         return ServiceResult.success(credentialObjects);
     }
 
+    @Override
+    public void created(CredentialDefinition credentialDefinition) {
+        invalidate(credentialDefinition.getParticipantContextId());
+    }
 
+    @Override
+    public void updated(CredentialDefinition credentialDefinition) {
+        // the participant context of a credential definition could have changed, so all entries are dropped
+        invalidations.incrementAndGet();
+        cache.clear();
+    }
+
+    @Override
+    public void deleted(CredentialDefinition credentialDefinition) {
+        invalidate(credentialDefinition.getParticipantContextId());
+    }
+
+    private void invalidate(String participantContextId) {
+        invalidations.incrementAndGet();
+        cache.remove(participantContextId);
+    }
+
+    private boolean isCacheEnabled() {
+        return !timeToLive.isZero() && !timeToLive.isNegative();
+    }
+
+    private Map<CredentialFormat, Set<DcpProfile>> currentProfiles() {
+        return Arrays.stream(CredentialFormat.values())
+                .collect(toMap(Function.identity(), format -> Set.copyOf(profileRegistry.profilesFor(format))));
+    }
+
+    /**
+     * The ID of the issuance policy is derived from the credential definition and the profile, so that it does not change between
+     * requests, nodes or restarts.
+     */
+    private String issuancePolicyId(CredentialDefinition credentialDefinition, String profile) {
+        return UUID.nameUUIDFromBytes((credentialDefinition.getId() + "|" + profile).getBytes(UTF_8)).toString();
+    }
+
+    private record CachedIssuerMetadata(IssuerMetadata metadata, String did, Map<CredentialFormat, Set<DcpProfile>> profiles, Instant expiresAt) {
+
+        boolean isValid(String currentDid, Map<CredentialFormat, Set<DcpProfile>> currentProfiles, Instant now) {
+            return now.isBefore(expiresAt) && Objects.equals(did, currentDid) && profiles.equals(currentProfiles);
+        }
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.identityhub.protocols.dcp.issuer;
 
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionObservable;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.token.rules.ExpirationIssuedAtValidationRule;
@@ -36,10 +37,12 @@ public class DcpIssuerCoreExtensionTest {
 
 
     private final TokenValidationRulesRegistry tokenValidationRulesRegistry = mock();
+    private final CredentialDefinitionObservable credentialDefinitionObservable = mock();
 
     @BeforeEach
     void setUp(ServiceExtensionContext context) {
         context.registerService(TokenValidationRulesRegistry.class, tokenValidationRulesRegistry);
+        context.registerService(CredentialDefinitionObservable.class, credentialDefinitionObservable);
     }
 
     @Test
@@ -49,6 +52,17 @@ public class DcpIssuerCoreExtensionTest {
         assertThat(extension.createTokenVerifier()).isInstanceOf(DcpHolderTokenVerifierImpl.class);
     }
 
+    @Test
+    void verifyIssuerMetadataService_observesCredentialDefinitions(ServiceExtensionContext context, ObjectFactory factory) {
+        var extension = factory.constructInstance(DcpIssuerCoreExtension.class);
+
+        var service = extension.createIssuerMetadataService();
+
+        assertThat(service).isInstanceOf(DcpIssuerMetadataServiceImpl.class);
+        assertThat(extension.createIssuerMetadataService()).isSameAs(service);
+        verify(credentialDefinitionObservable).registerListener((DcpIssuerMetadataServiceImpl) service);
+    }
+
     @Test
     void verifyTokenValidationRules(ServiceExtensionContext context, ObjectFactory factory) {
         var extension = factory.constructInstance(DcpIssuerCoreExtension.class);
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.protocols.dcp.issuer;
+
+import org.eclipse.edc.identityhub.protocols.dcp.spi.DcpProfileRegistry;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.model.CredentialObject;
+import org.eclipse.edc.identityhub.protocols.dcp.spi.model.DcpProfile;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityHubParticipantContext;
+import org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition.CredentialDefinitionService;
+import org.eclipse.edc.issuerservice.spi.issuance.model.CredentialDefinition;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat.VC1_0_JWT;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DcpIssuerMetadataServiceImplTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private final CredentialDefinitionService credentialDefinitionService = mock();
+    private final DcpProfileRegistry profileRegistry = mock();
+    private final Clock clock = mock();
+    private final DcpIssuerMetadataServiceImpl service = new DcpIssuerMetadataServiceImpl(credentialDefinitionService, profileRegistry, clock, TTL);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(Instant.parse("2026-01-01T00:00:00Z"));
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(profileRegistry.profilesFor(VC1_0_JWT)).thenReturn(List.of(new DcpProfile("profile", VC1_0_JWT, "statusType")));
+        when(credentialDefinitionService.queryCredentialDefinitions(any()))
+                .thenReturn(ServiceResult.success(List.of(credentialDefinition("def-b"), credentialDefinition("def-a"))));
+    }
+
+    @Test
+    void getIssuerMetadata_shouldBeDeterministic() {
+        var uncached = new DcpIssuerMetadataServiceImpl(credentialDefinitionService, profileRegistry);
+
+        var first = uncached.getIssuerMetadata(participantContext("did:web:issuer"));
+        var second = uncached.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        assertThat(first).isSucceeded().satisfies(metadata -> {
+            assertThat(metadata.getIssuer()).isEqualTo("did:web:issuer");
+            assertThat(metadata.getCredentialsSupported()).extracting(CredentialObject::getId).containsExactly("def-a", "def-b");
+        });
+        assertThat(first.getContent().getCredentialsSupported()).extracting(o -> o.getIssuancePolicy().getId())
+                .doesNotHaveDuplicates()
+                .containsExactlyElementsOf(second.getContent().getCredentialsSupported().stream().map(o -> o.getIssuancePolicy().getId()).toList());
+        verify(credentialDefinitionService, times(2)).queryCredentialDefinitions(any());
+    }
+
+    @Test
+    void getIssuerMetadata_shouldBeCached() {
+        var first = service.getIssuerMetadata(participantContext("did:web:issuer"));
+        var second = service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(credentialDefinitionService, times(1)).queryCredentialDefinitions(any());
+    }
+
+    @Test
+    void getIssuerMetadata_whenExpired_shouldRebuild() {
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+        when(clock.instant()).thenReturn(Instant.parse("2026-01-01T00:00:00Z").plus(TTL));
+
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        verify(credentialDefinitionService, times(2)).queryCredentialDefinitions(any());
+    }
+
+    @Test
+    void getIssuerMetadata_whenDidChanged_shouldRebuild() {
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        var result = service.getIssuerMetadata(participantContext("did:web:other"));
+
+        assertThat(result).isSucceeded().satisfies(metadata -> assertThat(metadata.getIssuer()).isEqualTo("did:web:other"));
+        verify(credentialDefinitionService, times(2)).queryCredentialDefinitions(any());
+    }
+
+    @Test
+    void getIssuerMetadata_whenProfilesChanged_shouldRebuild() {
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+        when(profileRegistry.profilesFor(VC1_0_JWT)).thenReturn(List.of(new DcpProfile("profile", VC1_0_JWT, "statusType"),
+                new DcpProfile("another-profile", VC1_0_JWT, "statusType")));
+
+        var result = service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        assertThat(result).isSucceeded().satisfies(metadata -> assertThat(metadata.getCredentialsSupported()).hasSize(4));
+        verify(credentialDefinitionService, times(2)).queryCredentialDefinitions(any());
+    }
+
+    @Test
+    void created_shouldInvalidateParticipantContext() {
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        service.created(credentialDefinition("def-c"));
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        verify(credentialDefinitionService, times(2)).queryCredentialDefinitions(any());
+    }
+
+    @Test
+    void deleted_shouldInvalidateParticipantContext() {
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        service.deleted(credentialDefinition("def-a"));
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        verify(credentialDefinitionService, times(2)).queryCredentialDefinitions(any());
+    }
+
+    @Test
+    void updated_shouldInvalidateCache() {
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        service.updated(credentialDefinition("def-a"));
+        service.getIssuerMetadata(participantContext("did:web:issuer"));
+
+        verify(credentialDefinitionService, times(2)).queryCredentialDefinitions(any());
+    }
+
+    @Test
+    void getIssuerMetadata_whenQueryFails_shouldNotCache() {
+        when(credentialDefinitionService.queryCredentialDefinitions(any())).thenReturn(ServiceResult.unexpected("error"));
+
+        assertThat(service.getIssuerMetadata(participantContext("did:web:issuer"))).isFailed();
+        assertThat(service.getIssuerMetadata(participantContext("did:web:issuer"))).isFailed();
+
+        verify(credentialDefinitionService, times(2)).queryCredentialDefinitions(any());
+    }
+
+    private IdentityHubParticipantContext participantContext(String did) {
+        return IdentityHubParticipantContext.Builder.newInstance()
+                .participantContextId("participantContextId")
+                .did(did)
+                .apiTokenAlias("apiTokenAlias")
+                .build();
+    }
+
+    private CredentialDefinition credentialDefinition(String id) {
+        return CredentialDefinition.Builder.newInstance()
+                .id(id)
+                .credentialType("MembershipCredential")
+                .jsonSchemaUrl("http://example.org/schema")
+                .jsonSchema("{}")
+                .participantContextId("participantContextId")
+                .formatFrom(VC1_0_JWT)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.protocols.dcp.spi;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.result.Result;
+
+/**
+ * Expands inbound DCP messages from their compacted JSON-LD representation. Implementations may take shortcuts for well-known
+ * message shapes, but the result must always be identical to the one of {@link org.eclipse.edc.jsonld.spi.JsonLd#expand(JsonObject)}.
+ */
+@ExtensionPoint
+@FunctionalInterface
+public interface DcpMessageExpander {
+
+    /**
+     * Expands the given message.
+     *
+     * @param message the message in compacted form, as received on the wire
+     * @return the expanded message, or a failure if the message could not be expanded
+     */
+    Result<JsonObject> expand(JsonObject message);
+}
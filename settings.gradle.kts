@@ -19,6 +19,7 @@ include(":spi:keypair-spi")
 include(":spi:did-spi")
 include(":spi:holder-credential-request-spi")
 include(":spi:sts-spi")
+include(":spi:metrics-spi")
 
 // IssuerService SPI modules
 include(":spi:issuerservice:issuerservice-holder-spi")
@@ -44,6 +45,9 @@ include(":core:lib:keypair-lib")
 include(":core:lib:accesstoken-lib")
 include(":core:lib:common-lib")
 include(":core:lib:issuerservice-common-lib")
+include(":core:lib:sql-lib")
+include(":core:lib:sql-metrics-lib")
+include(":core:lib:sql-replica-lib")
 
 // extension modules
 include(":extensions:store:sql:identity-hub-did-store-sql")
@@ -56,9 +60,13 @@ include(":extensions:store:sql:issuerservice-credential-definition-store-sql")
 include(":extensions:store:sql:issuerservice-attestation-definition-store-sql")
 include(":extensions:store:sql:issuance-process-store-sql")
 include(":extensions:store:sql:sts-client-store-sql")
+include(":extensions:store:sql:identity-hub-event-outbox-store-sql")
 include(":extensions:did:local-did-publisher")
 include(":extensions:credentials:credential-offer-handler")
 include(":extensions:common:credential-watchdog")
+include(":extensions:common:keypair-rotation-scheduler")
+include(":extensions:common:event-outbox")
+include(":extensions:common:metrics-micrometer")
 include(":extensions:sts:sts-account-provisioner")
 include(":extensions:sts:sts-account-service-local")
 include(":extensions:sts:sts-core")
@@ -91,6 +99,7 @@ include(":extensions:api:identity-api:keypair-api")
 include(":extensions:api:identityhub-api-authentication")
 include(":extensions:api:identityhub-api-authorization")
 include(":extensions:api:lib:identityhub-api-authentication-lib")
+include(":extensions:api:lib:identityhub-api-streaming-lib")
 
 // Issuer Admin API
 include(":extensions:api:issuer-admin-api:issuer-admin-api-configuration")
@@ -128,11 +137,15 @@ include(":e2e-tests:dcp-issuance-tests")
 include(":e2e-tests:identity-api-tests")
 include(":e2e-tests:identityhub-test-fixtures")
 include(":e2e-tests:launcher-tests")
+include(":e2e-tests:load-tests")
 include(":e2e-tests:runtimes:sts")
 include(":e2e-tests:sts-api-tests")
 include(":e2e-tests:tck-tests:presentation")
 include(":e2e-tests:tck-tests:test-attestations")
 
+// benchmark modules
+include(":benchmarks")
+
 // BOM modules
 include(":dist:bom:identityhub-base-bom")
 include(":dist:bom:identityhub-bom")
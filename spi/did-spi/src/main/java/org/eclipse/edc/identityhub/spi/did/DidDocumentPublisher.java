@@ -15,6 +15,8 @@
 package org.eclipse.edc.identityhub.spi.did;
 
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.identityhub.spi.did.model.DidResource;
+import org.eclipse.edc.identityhub.spi.did.store.DidResourceStore;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
 
@@ -43,6 +45,24 @@ public interface DidDocumentPublisher {
      */
     Result<Void> publish(String did);
 
+    /**
+     * Publishes a {@link DidResource} whose document was modified, but not yet stored. The publisher is responsible for storing the
+     * modified resource. Publishers that keep the publication state in the {@link DidResourceStore} should override this method to store
+     * the modification and the new state with a single write.
+     * <p>
+     * The default implementation stores the modified resource and then delegates to {@link #publish(String)}.
+     *
+     * @param didResource      the modified DID resource
+     * @param didResourceStore the store in which the resource is kept
+     * @return a {@link Result} object indicating the success or failure of the operation.
+     */
+    default Result<Void> publish(DidResource didResource, DidResourceStore didResourceStore) {
+        var updateResult = didResourceStore.update(didResource);
+        return updateResult.succeeded() ?
+                publish(didResource.getDid()) :
+                Result.failure(updateResult.getFailureDetail());
+    }
+
     /**
      * Unpublishes a given {@link DidDocument} from a verifiable data registry (VDR).
      *
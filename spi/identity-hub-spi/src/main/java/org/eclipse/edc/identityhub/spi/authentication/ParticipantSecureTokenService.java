@@ -37,4 +37,20 @@ public interface ParticipantSecureTokenService {
      * @return A result containing the token representation, or a failure
      */
     Result<TokenRepresentation> createToken(String participantContextId, Map<String, String> claims, @Nullable String bearerAccessScope);
+
+    /**
+     * Creates a self-issued ID token ("SI token") that the caller is willing to share with other requests for the same participant context,
+     * the same claims and the same bearer access scope, i.e. the token does not have to carry a unique {@code jti}. Time-based claims
+     * ({@code iat}, {@code nbf}, {@code exp}) are not considered when determining whether a previously issued token can be reused.
+     * <p>
+     * Implementations are free to always create a new token, which is what the default implementation does.
+     *
+     * @param participantContextId The ID of the participant context on behalf of whom the token is generated
+     * @param claims               a set of claims, that are to be included in the SI token. MUST include {@code iss}, {@code sub} and {@code aud}.
+     * @param bearerAccessScope    if non-null, must be a space-separated list of scopes as per DCP specification
+     * @return A result containing the token representation, or a failure
+     */
+    default Result<TokenRepresentation> createReusableToken(String participantContextId, Map<String, String> claims, @Nullable String bearerAccessScope) {
+        return createToken(participantContextId, claims, bearerAccessScope);
+    }
 }
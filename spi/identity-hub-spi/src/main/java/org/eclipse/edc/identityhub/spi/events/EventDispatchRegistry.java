@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.events;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+/**
+ * Registry for {@link EventSubscriber}s that perform follow-up actions in response to an event, for example creating the DID document
+ * and key pairs of a newly created participant context.
+ * <p>
+ * By default, subscribers are invoked synchronously, i.e. in the thread and the transaction of the code that published the event. Other
+ * implementations may dispatch events asynchronously, in which case subscribers must not rely on the publisher's transaction, and they
+ * must be prepared to receive the same event more than once. Asynchronous implementations must preserve the order of the events that
+ * relate to the same participant context.
+ */
+@ExtensionPoint
+public interface EventDispatchRegistry {
+
+    /**
+     * Registers a subscriber for a particular kind of event.
+     * <p>
+     * The subscriber ID identifies the subscriber in events that are waiting for delivery, so it must be stable across releases and
+     * runtimes, and it must be unique. The same subscriber may be registered for several kinds of events with the same ID.
+     *
+     * @param eventKind    the event class. Subclasses are dispatched as well.
+     * @param subscriberId the stable ID of the subscriber. Must not contain a {@code /}.
+     * @param subscriber   the subscriber
+     */
+    <E extends Event> void register(Class<E> eventKind, String subscriberId, EventSubscriber subscriber);
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.events.outbox;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.result.StoreResult;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Durable store for events that are waiting to be delivered to their subscribers (the "outbox"). Entries are saved in the transaction
+ * of the code that publishes the event, and they are removed once they were delivered successfully.
+ */
+@ExtensionPoint
+public interface EventOutboxStore {
+
+    /**
+     * Saves a new entry and assigns its sequence number. If an entry with the same idempotency key exists, nothing is saved.
+     * <p>
+     * Within a lane, sequence numbers must follow the commit order of the transactions that save the entries. Otherwise, an entry with a
+     * lower sequence number could become visible after an entry with a higher one was already delivered. Stores that assign sequence
+     * numbers when the row is inserted must therefore serialize the saving transactions per lane.
+     *
+     * @param entry the entry
+     * @return always success, unless a database error occurred
+     */
+    StoreResult<Void> save(OutboxEntry entry);
+
+    /**
+     * Leases the oldest non-failed entry of up to {@code max} lanes, if that entry is due and not currently leased. Leased entries are
+     * not returned by subsequent calls until they are {@link #delete(String) deleted}, {@link #update(OutboxEntry) updated}, or until
+     * the lease expires. This guarantees that at most one entry per lane is being delivered at any time, across all runtimes that share
+     * the store.
+     *
+     * @param max           the maximum number of entries (= lanes) to lease
+     * @param leaseHolder   the identifier of the runtime that leases the entries
+     * @param leaseDuration the duration of the lease
+     * @return the leased entries, at most one per lane
+     */
+    List<OutboxEntry> leaseNext(int max, String leaseHolder, Duration leaseDuration);
+
+    /**
+     * Deletes an entry after it was delivered.
+     *
+     * @param id the ID of the entry
+     * @return success, or not-found if no entry exists with that ID
+     */
+    StoreResult<Void> delete(String id);
+
+    /**
+     * Stores the delivery state (attempts, next attempt, failed, last error) of an entry, and releases its lease.
+     *
+     * @param entry the entry
+     * @return success, or not-found if the entry does not exist
+     */
+    StoreResult<Void> update(OutboxEntry entry);
+}
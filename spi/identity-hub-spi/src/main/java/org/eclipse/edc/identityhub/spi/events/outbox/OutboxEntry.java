@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.events.outbox;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An event that is waiting to be delivered to one particular subscriber.
+ * <p>
+ * Entries of the same {@link #getLane() lane} (typically: the participant context ID) are delivered in the order of their
+ * {@link #getSequenceNumber() sequence number}, one at a time. Entries of different lanes may be delivered in parallel.
+ */
+public class OutboxEntry {
+    private String id;
+    private long sequenceNumber;
+    private String idempotencyKey;
+    private String lane;
+    private String subscriber;
+    private String eventType;
+    private String payload;
+    private long createdAt;
+    private int attempts;
+    private long nextAttemptAt;
+    private boolean failed;
+    private String lastError;
+
+    private OutboxEntry() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Monotonically increasing number that determines the order of delivery within a lane. Assigned by the store, in the order in which
+     * the transactions that saved the entries of a lane are committed.
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Unique key of this entry, derived from the event envelope ID and the subscriber. Saving an entry with an idempotency key that
+     * already exists is a no-op, and subscribers can use it to detect duplicate deliveries.
+     */
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * The ordering lane of this entry, typically the participant context ID.
+     */
+    public String getLane() {
+        return lane;
+    }
+
+    /**
+     * ID of the subscriber to which the event is delivered, see {@link org.eclipse.edc.identityhub.spi.events.EventDispatchRegistry}.
+     */
+    public String getSubscriber() {
+        return subscriber;
+    }
+
+    /**
+     * Fully-qualified class name of the event.
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * The serialized event.
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Number of failed delivery attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Epoch millis before which the entry must not be delivered.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    /**
+     * Whether delivery was given up on. Failed entries do not block their lane anymore, they are kept for manual inspection.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public @Nullable String getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Records a failed delivery attempt.
+     *
+     * @param error         the error message
+     * @param nextAttemptAt epoch millis at which the next attempt may be made
+     */
+    public void attemptFailed(String error, long nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * Marks the entry as permanently failed.
+     */
+    public void giveUp(String error) {
+        this.attempts++;
+        this.lastError = error;
+        this.failed = true;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .sequenceNumber(sequenceNumber)
+                .idempotencyKey(idempotencyKey)
+                .lane(lane)
+                .subscriber(subscriber)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(createdAt)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .failed(failed)
+                .lastError(lastError);
+    }
+
+    public static final class Builder {
+        private final OutboxEntry entry;
+
+        private Builder() {
+            entry = new OutboxEntry();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            entry.id = id;
+            return this;
+        }
+
+        public Builder sequenceNumber(long sequenceNumber) {
+            entry.sequenceNumber = sequenceNumber;
+            return this;
+        }
+
+        public Builder idempotencyKey(String idempotencyKey) {
+            entry.idempotencyKey = idempotencyKey;
+            return this;
+        }
+
+        public Builder lane(String lane) {
+            entry.lane = lane;
+            return this;
+        }
+
+        public Builder subscriber(String subscriber) {
+            entry.subscriber = subscriber;
+            return this;
+        }
+
+        public Builder eventType(String eventType) {
+            entry.eventType = eventType;
+            return this;
+        }
+
+        public Builder payload(String payload) {
+            entry.payload = payload;
+            return this;
+        }
+
+        public Builder createdAt(long createdAt) {
+            entry.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            entry.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            entry.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder failed(boolean failed) {
+            entry.failed = failed;
+            return this;
+        }
+
+        public Builder lastError(String lastError) {
+            entry.lastError = lastError;
+            return this;
+        }
+
+        public OutboxEntry build() {
+            if (entry.id == null) {
+                entry.id = UUID.randomUUID().toString();
+            }
+            Objects.requireNonNull(entry.idempotencyKey, "idempotencyKey");
+            Objects.requireNonNull(entry.lane, "lane");
+            Objects.requireNonNull(entry.subscriber, "subscriber");
+            Objects.requireNonNull(entry.eventType, "eventType");
+            Objects.requireNonNull(entry.payload, "payload");
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.store;
+
+import java.util.function.Supplier;
+
+/**
+ * Routing hint for stores that are backed by a primary and a read replica datasource. By default, all store operations use the primary
+ * datasource. Read-only operations that are executed within {@link #allow(Supplier)} on the same thread may instead be served by the
+ * replica, if one is configured.
+ * <p>
+ * Reads from the replica may lag behind the primary, so only code that neither writes nor depends on a preceding write may be wrapped,
+ * for example serving published documents to external parties.
+ */
+public final class ReplicaReads {
+    private static final ThreadLocal<Boolean> ALLOWED = new ThreadLocal<>();
+
+    private ReplicaReads() {
+    }
+
+    /**
+     * Executes the given reads, allowing stores to serve them from a read replica.
+     *
+     * @param reads the read-only code
+     * @return the result of the reads
+     */
+    public static <T> T allow(Supplier<T> reads) {
+        var previous = ALLOWED.get();
+        ALLOWED.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                ALLOWED.remove();
+            } else {
+                ALLOWED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Whether the current thread executes reads that may be served from a read replica.
+     */
+    public static boolean isAllowed() {
+        return Boolean.TRUE.equals(ALLOWED.get());
+    }
+}
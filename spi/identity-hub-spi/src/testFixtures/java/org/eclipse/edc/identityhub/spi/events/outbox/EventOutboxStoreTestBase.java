@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.events.outbox;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
+public abstract class EventOutboxStoreTestBase {
+
+    protected static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Test
+    void save_duplicateIdempotencyKey_isNoop() {
+        assertThat(getStore().save(entry("lane1", "key1"))).isSucceeded();
+        assertThat(getStore().save(entry("lane1", "key1"))).isSucceeded();
+
+        assertThat(getStore().leaseNext(10, "holder", LEASE)).hasSize(1);
+        assertThat(getStore().leaseNext(10, "holder", LEASE)).isEmpty();
+    }
+
+    @Test
+    void leaseNext_returnsHeadOfEachLane() {
+        var first = entry("lane1", "key1");
+        getStore().save(first);
+        getStore().save(entry("lane1", "key2"));
+        var other = entry("lane2", "key3");
+        getStore().save(other);
+
+        var leased = getStore().leaseNext(10, "holder", LEASE);
+
+        assertThat(leased).extracting(OutboxEntry::getId).containsExactlyInAnyOrder(first.getId(), other.getId());
+    }
+
+    @Test
+    void leaseNext_laneBlockedWhileLeased() {
+        var first = entry("lane1", "key1");
+        getStore().save(first);
+        getStore().save(entry("lane1", "key2"));
+
+        assertThat(getStore().leaseNext(10, "holder", LEASE)).hasSize(1);
+        assertThat(getStore().leaseNext(10, "other-holder", LEASE)).isEmpty();
+
+        assertThat(getStore().delete(first.getId())).isSucceeded();
+        assertThat(getStore().leaseNext(10, "holder", LEASE)).extracting(OutboxEntry::getIdempotencyKey).containsExactly("key2");
+    }
+
+    @Test
+    void leaseNext_leaseExpired_leasedAgain() {
+        getStore().save(entry("lane1", "key1"));
+
+        assertThat(getStore().leaseNext(10, "holder", Duration.ofMillis(-1))).hasSize(1);
+        assertThat(getStore().leaseNext(10, "other-holder", LEASE)).hasSize(1);
+    }
+
+    @Test
+    void leaseNext_respectsMax() {
+        getStore().save(entry("lane1", "key1"));
+        getStore().save(entry("lane2", "key2"));
+        getStore().save(entry("lane3", "key3"));
+
+        assertThat(getStore().leaseNext(2, "holder", LEASE)).hasSize(2);
+        assertThat(getStore().leaseNext(2, "holder", LEASE)).hasSize(1);
+    }
+
+    @Test
+    void update_notDue_blocksLane() {
+        var first = entry("lane1", "key1");
+        getStore().save(first);
+        getStore().save(entry("lane1", "key2"));
+
+        var leased = getStore().leaseNext(10, "holder", LEASE).get(0);
+        leased.attemptFailed("error", Instant.now().plus(Duration.ofHours(1)).toEpochMilli());
+        assertThat(getStore().update(leased)).isSucceeded();
+
+        assertThat(getStore().leaseNext(10, "holder", LEASE)).isEmpty();
+    }
+
+    @Test
+    void update_due_releasesLease() {
+        getStore().save(entry("lane1", "key1"));
+
+        var leased = getStore().leaseNext(10, "holder", LEASE).get(0);
+        leased.attemptFailed("error", 0);
+        getStore().update(leased);
+
+        assertThat(getStore().leaseNext(10, "holder", LEASE)).hasSize(1)
+                .first()
+                .satisfies(e -> {
+                    assertThat(e.getAttempts()).isEqualTo(1);
+                    assertThat(e.getLastError()).isEqualTo("error");
+                });
+    }
+
+    @Test
+    void update_failed_unblocksLane() {
+        getStore().save(entry("lane1", "key1"));
+        getStore().save(entry("lane1", "key2"));
+
+        var leased = getStore().leaseNext(10, "holder", LEASE).get(0);
+        leased.giveUp("error");
+        getStore().update(leased);
+
+        assertThat(getStore().leaseNext(10, "holder", LEASE)).extracting(OutboxEntry::getIdempotencyKey).containsExactly("key2");
+    }
+
+    @Test
+    void update_notFound() {
+        assertThat(getStore().update(entry("lane1", "key1"))).isFailed();
+    }
+
+    @Test
+    void delete_notFound() {
+        assertThat(getStore().delete("not-exist")).isFailed();
+    }
+
+    protected OutboxEntry entry(String lane, String idempotencyKey) {
+        return OutboxEntry.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .idempotencyKey(idempotencyKey)
+                .lane(lane)
+                .subscriber("test-subscriber")
+                .eventType("test.Event")
+                .payload("{}")
+                .createdAt(Instant.now().toEpochMilli())
+                .build();
+    }
+
+    protected abstract EventOutboxStore getStore();
+}
@@ -22,6 +22,7 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * Service to revoke, suspend, resume and query the status of VerifiableCredentials. This is agnostic of the status list
@@ -87,6 +88,16 @@ public interface CredentialStatusService {
 
     ServiceResult<Collection<VerifiableCredentialResource>> queryCredentials(QuerySpec query);
 
+    /**
+     * Same as {@link #queryCredentials(QuerySpec)}, but returns a lazily populated stream. The stream <em>must</em> be closed by the caller.
+     *
+     * @param query The query.
+     * @return A stream of credential resources, or a failure to indicate an error.
+     */
+    default ServiceResult<Stream<VerifiableCredentialResource>> streamCredentials(QuerySpec query) {
+        return queryCredentials(query).map(Collection::stream);
+    }
+
     /**
      * Obtains a single credential by its ID.
      *
@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 public interface HolderService {
 
@@ -30,5 +31,12 @@ public interface HolderService {
 
     ServiceResult<Collection<Holder>> queryHolders(QuerySpec querySpec);
 
+    /**
+     * Same as {@link #queryHolders(QuerySpec)}, but returns a lazily populated stream. The stream <em>must</em> be closed by the caller.
+     */
+    default ServiceResult<Stream<Holder>> streamHolders(QuerySpec querySpec) {
+        return queryHolders(querySpec).map(Collection::stream);
+    }
+
     ServiceResult<Holder> findById(String holderId);
 }
@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * Stores {@link Holder} objects and provides basic CRUD operations
@@ -56,6 +57,18 @@ public interface HolderStore {
      */
     StoreResult<Collection<Holder>> query(QuerySpec querySpec);
 
+    /**
+     * Queries for holders and returns them as a lazily populated stream. Callers <em>must</em> close the stream, as it may hold
+     * on to a database connection and transaction. Implementations must not tie the stream to a transaction of the transaction context,
+     * which may end before the stream is read. The default implementation delegates to {@link #query(QuerySpec)}.
+     *
+     * @param querySpec the query to use.
+     * @return A (potentially empty) stream of holders.
+     */
+    default StoreResult<Stream<Holder>> stream(QuerySpec querySpec) {
+        return query(querySpec).map(Collection::stream);
+    }
+
     /**
      * Deletes a holder with the given ID
      *
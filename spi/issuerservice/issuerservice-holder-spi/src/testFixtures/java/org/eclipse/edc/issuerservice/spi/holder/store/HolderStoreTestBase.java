@@ -119,6 +119,23 @@ public abstract class HolderStoreTestBase {
                 .containsExactlyInAnyOrder(resources.toArray(new Holder[0]));
     }
 
+    @Test
+    void stream() {
+        var resources = range(0, 5)
+                .mapToObj(i -> createHolder("p" + i, "did:web:" + i, "participant" + i))
+                .toList();
+        resources.forEach(getStore()::create);
+
+        var result = getStore().stream(QuerySpec.max());
+
+        assertThat(result).isSucceeded();
+        try (var stream = result.getContent()) {
+            assertThat(stream)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrder(resources.toArray(new Holder[0]));
+        }
+    }
+
     @Test
     void query_whenNotFound() {
         var resources = range(0, 5)
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.issuerservice.spi.issuance.credentialdefinition;
+
+import org.eclipse.edc.issuerservice.spi.issuance.model.CredentialDefinition;
+import org.eclipse.edc.spi.observe.Observable;
+
+/**
+ * Interface implemented by listeners registered to observe changes of credential definitions via {@link Observable#registerListener}.
+ * The listener is called after the change was persisted.
+ */
+public interface CredentialDefinitionListener {
+
+    /**
+     * A credential definition was created.
+     */
+    default void created(CredentialDefinition credentialDefinition) {
+
+    }
+
+    /**
+     * A credential definition was updated.
+     */
+    default void updated(CredentialDefinition credentialDefinition) {
+
+    }
+
+    /**
+     * A credential definition was deleted.
+     */
+    default void deleted(CredentialDefinition credentialDefinition) {
+
+    }
+}
@@ -53,6 +53,23 @@ public interface KeyPairService {
      */
     ServiceResult<Void> rotateKeyPair(String oldId, KeyDescriptor newKeySpec, long duration);
 
+    /**
+     * Rotates several key pairs of the same participant context at once. All rotations are executed in a single transaction, and if one of them fails,
+     * the entire operation fails. The successor of each key is derived from the old key, i.e. it has the same usage, the same type and
+     * the same algorithm (and curve) as the old key.
+     * <p>
+     * Key pairs for which no successor can be derived, for example, because their public key was imported in PEM format, cannot be rotated with this method.
+     * <p>
+     * Private keys of the successors that were already stored in the vault are removed again if the operation fails, and the private keys of the
+     * old key pairs are only removed once the transaction has completed.
+     *
+     * @param participantContextId the ID of the participant context that owns all the key pairs
+     * @param keyPairIds           the (database) IDs of the keys that are supposed to be rotated out.
+     * @param duration             Specifies the time (in millis) how long the old keys should stay in rotation before getting expunged.
+     * @return success if all key pairs were rotated, a failure indicating the problem otherwise.
+     */
+    ServiceResult<Void> rotateKeyPairs(String participantContextId, Collection<String> keyPairIds, long duration);
+
     /**
      * Immediately deactivates a key pair and bars it from further use by deleting the private key from the {@link Vault} and removing the public key from
      * the DID document.
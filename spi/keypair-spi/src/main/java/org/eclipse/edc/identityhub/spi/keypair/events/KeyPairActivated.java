@@ -57,6 +57,16 @@ public class KeyPairActivated extends KeyPairEvent {
             return this;
         }
 
+        public Builder publicKeySerialized(String publicKeySerialized) {
+            event.publicKeySerialized = publicKeySerialized;
+            return this;
+        }
+
+        public Builder keyType(String type) {
+            event.type = type;
+            return this;
+        }
+
         @Override
         public KeyPairActivated.Builder self() {
             return this;
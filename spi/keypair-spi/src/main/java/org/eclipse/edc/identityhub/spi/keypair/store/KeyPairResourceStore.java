@@ -50,6 +50,16 @@ public interface KeyPairResourceStore {
      */
     StoreResult<Void> update(KeyPairResource keyPairResource);
 
+    /**
+     * Updates a given KeyPairResource, if the stored KeyPairResource is in the expected state. The check and the update are atomic, so
+     * that of several concurrent updates that expect the same state, only one succeeds.
+     *
+     * @param keyPairResource The updated KeyPairResource. Will overwrite existing data in the database.
+     * @param expectedState   The state code that the stored KeyPairResource must have.
+     * @return failure if a KeyPairResource with the same ID does not yet exist, or is not in the expected state.
+     */
+    StoreResult<Void> updateIfInState(KeyPairResource keyPairResource, int expectedState);
+
     /**
      * Deletes a KeyPairResource with the given ID, if it exists.
      *
@@ -57,4 +67,12 @@ public interface KeyPairResourceStore {
      * @return failure if the specified KeyPairResource does not exist.
      */
     StoreResult<Void> deleteById(String id);
+
+    /**
+     * Deletes all KeyPairResources that match the given {@link QuerySpec}. Note that the limit and offset of the query are honored.
+     *
+     * @param query the query
+     * @return the number of deleted KeyPairResources.
+     */
+    StoreResult<Integer> deleteByQuery(QuerySpec query);
 }
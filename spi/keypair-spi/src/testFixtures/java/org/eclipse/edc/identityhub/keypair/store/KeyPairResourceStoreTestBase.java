@@ -175,6 +175,35 @@ public abstract class KeyPairResourceStoreTestBase {
         assertThat(updateRes).isFailed().detail().matches(".* with ID .* does not exist.");
     }
 
+    @Test
+    void updateIfInState() {
+        var keyPairResource = createKeyPairResource().state(KeyPairState.ACTIVATED);
+        getStore().create(keyPairResource.build());
+
+        var updateRes = getStore().updateIfInState(keyPairResource.state(KeyPairState.ROTATED).build(), KeyPairState.ACTIVATED.code());
+
+        assertThat(updateRes).isSucceeded();
+        assertThat(getStore().query(QuerySpec.max())).isSucceeded()
+                .satisfies(keyPairs -> assertThat(keyPairs).extracting(KeyPairResource::getState).containsExactly(KeyPairState.ROTATED.code()));
+    }
+
+    @Test
+    void updateIfInState_whenInOtherState_fails() {
+        var keyPairResource = createKeyPairResource().state(KeyPairState.ROTATED);
+        getStore().create(keyPairResource.build());
+
+        var updateRes = getStore().updateIfInState(keyPairResource.state(KeyPairState.ROTATED).build(), KeyPairState.ACTIVATED.code());
+
+        assertThat(updateRes).isFailed().detail().contains("is expected to be in state");
+    }
+
+    @Test
+    void updateIfInState_whenNotExists() {
+        var updateRes = getStore().updateIfInState(createKeyPairResource().build(), KeyPairState.ACTIVATED.code());
+
+        assertThat(updateRes).isFailed().detail().matches(".* with ID .* does not exist.");
+    }
+
     @Test
     void delete() {
         var keyPairResource = createKeyPairResource().build();
@@ -190,6 +219,26 @@ public abstract class KeyPairResourceStoreTestBase {
                 .detail().contains("with ID 'not-exist' does not exist.");
     }
 
+    @Test
+    void deleteByQuery() {
+        range(0, 3).mapToObj(i -> createKeyPairResource().build()).forEach(getStore()::create);
+        var other = createKeyPairResource().participantContextId("other-participant").build();
+        getStore().create(other);
+
+        var result = getStore().deleteByQuery(queryByParticipantContextId("test-participant").build());
+
+        assertThat(result).isSucceeded().isEqualTo(3);
+        assertThat(getStore().query(QuerySpec.none())).isSucceeded()
+                .satisfies(list -> assertThat(list).extracting(KeyPairResource::getId).containsExactly(other.getId()));
+    }
+
+    @Test
+    void deleteByQuery_whenNoneMatches() {
+        getStore().create(createKeyPairResource().build());
+
+        assertThat(getStore().deleteByQuery(queryByParticipantContextId("not-exist").build())).isSucceeded().isEqualTo(0);
+    }
+
     protected abstract KeyPairResourceStore getStore();
 
     private KeyPairResource.Builder createKeyPairResource() {
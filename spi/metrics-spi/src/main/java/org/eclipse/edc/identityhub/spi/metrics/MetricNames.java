@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.metrics;
+
+/**
+ * Names and tag keys of the metrics that are recorded by IdentityHub and IssuerService.
+ */
+public final class MetricNames {
+
+    /**
+     * Duration of presentation queries. Tags: {@link #TAG_OUTCOME}.
+     */
+    public static final String PRESENTATION_QUERY_DURATION = "identityhub.presentation.query.duration";
+    /**
+     * Number of presentation queries. Tags: {@link #TAG_OUTCOME}.
+     */
+    public static final String PRESENTATION_QUERY_COUNT = "identityhub.presentation.query.count";
+    /**
+     * Number of issuance processes that reached a final state. Tags: {@link #TAG_OUTCOME} ({@code delivered} or {@code error}).
+     */
+    public static final String ISSUANCE_PROCESS_COUNT = "issuerservice.issuance.process.count";
+    /**
+     * Duration of one state machine batch, i.e. leasing and processing the entities of one state. Tags: {@link #TAG_MANAGER},
+     * {@link #TAG_STATE}.
+     */
+    public static final String STATE_MACHINE_BATCH_DURATION = "identityhub.statemachine.batch.duration";
+    /**
+     * Number of entities that were processed by a state machine. Tags: {@link #TAG_MANAGER}, {@link #TAG_STATE}.
+     */
+    public static final String STATE_MACHINE_PROCESSED_COUNT = "identityhub.statemachine.processed.count";
+    /**
+     * Number of status list updates. Tags: {@link #TAG_OPERATION}, {@link #TAG_OUTCOME}.
+     */
+    public static final String STATUS_LIST_UPDATE_COUNT = "issuerservice.statuslist.update.count";
+    /**
+     * Duration of status list updates. Tags: {@link #TAG_OPERATION}, {@link #TAG_OUTCOME}.
+     */
+    public static final String STATUS_LIST_UPDATE_DURATION = "issuerservice.statuslist.update.duration";
+    /**
+     * Duration of signing operations with a private key. Tags: {@link #TAG_ALGORITHM}, {@link #TAG_OUTCOME}.
+     */
+    public static final String SIGNING_DURATION = "identityhub.signing.duration";
+    /**
+     * Duration of SQL statements. Tags: {@link #TAG_STORE}, {@link #TAG_OPERATION}.
+     */
+    public static final String SQL_QUERY_DURATION = "identityhub.sql.query.duration";
+    /**
+     * Number of lookups in an in-memory cache. Tags: {@link #TAG_CACHE}, {@link #TAG_OUTCOME} ({@link #OUTCOME_HIT} or {@link #OUTCOME_MISS}).
+     */
+    public static final String CACHE_REQUEST_COUNT = "identityhub.cache.request.count";
+
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_MANAGER = "manager";
+    public static final String TAG_STATE = "state";
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_ALGORITHM = "algorithm";
+    public static final String TAG_STORE = "store";
+    public static final String TAG_CACHE = "cache";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_HIT = "hit";
+    public static final String OUTCOME_MISS = "miss";
+
+    private MetricNames() {
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.metrics;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Records application metrics, such as counters and timers. Implementations forward the measurements to a metrics backend, for
+ * example Micrometer. If no backend is configured, a {@link #noop()} recorder is used.
+ * <p>
+ * Tags are passed as alternating key/value pairs, e.g. {@code increment("name", "outcome", "success")}. The set of tag values of a
+ * metric should be bounded, so participant context IDs, credential IDs etc. must not be used as tag values.
+ */
+@ExtensionPoint
+public interface MetricRecorder {
+
+    /**
+     * A recorder that discards all measurements.
+     */
+    static MetricRecorder noop() {
+        return NoopMetricRecorder.INSTANCE;
+    }
+
+    /**
+     * Increments a counter.
+     *
+     * @param name   the name of the counter
+     * @param amount the amount by which the counter is incremented
+     * @param tags   alternating tag keys and values
+     */
+    void increment(String name, long amount, String... tags);
+
+    /**
+     * Increments a counter by one.
+     *
+     * @param name the name of the counter
+     * @param tags alternating tag keys and values
+     */
+    default void increment(String name, String... tags) {
+        increment(name, 1, tags);
+    }
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param name     the name of the timer
+     * @param duration the duration of the operation
+     * @param tags     alternating tag keys and values
+     */
+    void record(String name, Duration duration, String... tags);
+
+    /**
+     * Executes an operation and records its duration, also if it throws an exception.
+     *
+     * @param name      the name of the timer
+     * @param operation the operation
+     * @param tags      alternating tag keys and values
+     * @return the result of the operation
+     */
+    default <T> T time(String name, Supplier<T> operation, String... tags) {
+        var start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            record(name, Duration.ofNanos(System.nanoTime() - start), tags);
+        }
+    }
+}
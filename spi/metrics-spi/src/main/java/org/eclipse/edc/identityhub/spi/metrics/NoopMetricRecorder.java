@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.metrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * {@link MetricRecorder} that discards all measurements.
+ */
+final class NoopMetricRecorder implements MetricRecorder {
+    static final NoopMetricRecorder INSTANCE = new NoopMetricRecorder();
+
+    private NoopMetricRecorder() {
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+    }
+
+    @Override
+    public void record(String name, Duration duration, String... tags) {
+    }
+
+    @Override
+    public <T> T time(String name, Supplier<T> operation, String... tags) {
+        return operation.get();
+    }
+}
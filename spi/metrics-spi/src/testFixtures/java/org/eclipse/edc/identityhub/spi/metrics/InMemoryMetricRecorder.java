@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link MetricRecorder} that keeps all measurements in memory, for use in tests.
+ */
+public class InMemoryMetricRecorder implements MetricRecorder {
+    private final Map<Key, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<Key, List<Duration>> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        counters.computeIfAbsent(new Key(name, List.of(tags)), k -> new AtomicLong()).addAndGet(amount);
+    }
+
+    @Override
+    public void record(String name, Duration duration, String... tags) {
+        timers.computeIfAbsent(new Key(name, List.of(tags)), k -> new CopyOnWriteArrayList<>()).add(duration);
+    }
+
+    /**
+     * Returns the value of the counter with the given name and tags, or zero if it was never incremented.
+     */
+    public long count(String name, String... tags) {
+        var counter = counters.get(new Key(name, Arrays.asList(tags)));
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * Returns the durations that were recorded for the timer with the given name and tags.
+     */
+    public List<Duration> durations(String name, String... tags) {
+        return timers.getOrDefault(new Key(name, Arrays.asList(tags)), List.of());
+    }
+
+    /**
+     * Returns the total number of durations that were recorded for the timer with the given name, regardless of the tags.
+     */
+    public long timerCount(String name) {
+        return timers.entrySet().stream()
+                .filter(e -> e.getKey().name().equals(name))
+                .mapToLong(e -> e.getValue().size())
+                .sum();
+    }
+
+    private record Key(String name, List<String> tags) {
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.participantcontext;
+
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantManifest;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingResult;
+import org.eclipse.edc.identityhub.spi.participantcontext.model.ParticipantOnboardingSummary;
+import org.eclipse.edc.spi.result.ServiceResult;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Creates large numbers of participant contexts, for example when migrating tenants into a new IdentityHub.
+ */
+public interface ParticipantOnboardingService {
+
+    /**
+     * Creates a participant context for every manifest of the stream, in the same way as
+     * {@link IdentityHubParticipantContextService#createParticipantContext(ParticipantManifest)}, but in batches and in parallel.
+     * <p>
+     * Manifests whose participant context already exists are skipped, so a run that was interrupted can be resumed by submitting the same
+     * manifests again. The stream is read completely, and duplicate participant context IDs or DIDs are reported as failed, before the
+     * first participant context is created. The result of every manifest is reported to the {@code resultConsumer} exactly once, after it
+     * was committed. The consumer is never invoked concurrently, but results are not necessarily reported in the order of the input. If
+     * the consumer throws an exception, the run is not aborted, but no further results are passed to it.
+     *
+     * @param manifests      the manifests
+     * @param resultConsumer receives the result of every manifest
+     * @return the totals of the run
+     */
+    ServiceResult<ParticipantOnboardingSummary> onboard(Stream<ParticipantManifest> manifests, Consumer<ParticipantOnboardingResult> resultConsumer);
+}
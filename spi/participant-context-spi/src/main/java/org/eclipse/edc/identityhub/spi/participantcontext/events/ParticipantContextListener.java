@@ -63,4 +63,13 @@ public interface ParticipantContextListener {
     default void deleted(IdentityHubParticipantContext deletedContext) {
 
     }
+
+    /**
+     * Notifies about the fact that the API token of a {@link IdentityHubParticipantContext} has been regenerated, and the previous one is not valid anymore.
+     *
+     * @param participantContext The participant context whose API token was regenerated
+     */
+    default void apiTokenRegenerated(IdentityHubParticipantContext participantContext) {
+
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.participantcontext.model;
+
+/**
+ * Outcome of onboarding one participant through the bulk onboarding API.
+ *
+ * @param participantContextId the ID of the participant context, or null if the input could not be parsed
+ * @param status               the outcome
+ * @param error                the reason for a {@link Status#FAILED} outcome
+ * @param response             the API key and STS credentials of a {@link Status#CREATED} participant context
+ */
+public record ParticipantOnboardingResult(String participantContextId, Status status, String error, CreateParticipantContextResponse response) {
+
+    public static ParticipantOnboardingResult created(String participantContextId, CreateParticipantContextResponse response) {
+        return new ParticipantOnboardingResult(participantContextId, Status.CREATED, null, response);
+    }
+
+    public static ParticipantOnboardingResult skipped(String participantContextId) {
+        return new ParticipantOnboardingResult(participantContextId, Status.SKIPPED, null, null);
+    }
+
+    public static ParticipantOnboardingResult failed(String participantContextId, String error) {
+        return new ParticipantOnboardingResult(participantContextId, Status.FAILED, error, null);
+    }
+
+    public enum Status {
+        /**
+         * The participant context was created.
+         */
+        CREATED,
+        /**
+         * A participant context with the same ID already exists, for example because a previous onboarding run was interrupted.
+         */
+        SKIPPED,
+        /**
+         * The participant context could not be created.
+         */
+        FAILED
+    }
+}
@@ -14,9 +14,11 @@
 
 package org.eclipse.edc.identityhub.spi.verifiablecredentials;
 
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Checks if a {@link VerifiableCredentialResource} is revoked, expired, not-yet-valid or suspended. Once a credential is {@link VcStatus#EXPIRED},
@@ -33,5 +35,16 @@ public interface CredentialStatusCheckService {
      * @param resource The resource to check. {@link VerifiableCredentialResource#getVerifiableCredential()} cannot be null.
      * @return A successful result with the new status, or a failure if a check (e.g. a remote call) failed.
      */
-    Result<VcStatus> checkStatus(VerifiableCredentialResource resource);
+    default Result<VcStatus> checkStatus(VerifiableCredentialResource resource) {
+        return checkStatus(resource.getVerifiableCredential().credential());
+    }
+
+    /**
+     * Checks the current status of a parsed {@link VerifiableCredential}. Note that the status returned by this method
+     * is not an indicator of a state transition, so client code should check for a change.
+     *
+     * @param credential The credential to check. If null, the credential is considered {@link VcStatus#ISSUED}.
+     * @return A successful result with the new status, or a failure if a check (e.g. a remote call) failed.
+     */
+    Result<VcStatus> checkStatus(@Nullable VerifiableCredential credential);
 }
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identityhub.spi.verifiablecredentials.model;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-only view of a {@link VerifiableCredentialResource} without the raw representation of the credential, for callers that only need
+ * the parsed credential and the metadata. As it can't be converted back into a resource, it can't be passed to a store update by accident.
+ *
+ * @param id                   the ID of the credential resource
+ * @param participantContextId the ID of the participant context that owns the credential
+ * @param issuerId             the ID of the issuer
+ * @param holderId             the ID of the holder
+ * @param state                the state of the credential, c.f. {@link VcStatus#code()}
+ * @param usage                the usage of the credential
+ * @param metadata             the metadata of the credential resource
+ * @param format               the format of the credential
+ * @param credential           the parsed credential
+ */
+public record VerifiableCredentialProjection(String id, String participantContextId, String issuerId, String holderId, int state,
+                                             CredentialUsage usage, Map<String, Object> metadata, CredentialFormat format,
+                                             @Nullable VerifiableCredential credential) {
+
+    public VerifiableCredentialProjection {
+        metadata = metadata == null ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(metadata));
+    }
+
+    /**
+     * Creates the projection of the given credential resource.
+     */
+    public static VerifiableCredentialProjection from(VerifiableCredentialResource resource) {
+        var container = resource.getVerifiableCredential();
+        return new VerifiableCredentialProjection(resource.getId(), resource.getParticipantContextId(), resource.getIssuerId(), resource.getHolderId(),
+                resource.getState(), resource.getUsage(), resource.getMetadata(), container.format(), container.credential());
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.identityhub.spi.verifiablecredentials.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredentialContainer;
 import org.eclipse.edc.identityhub.spi.participantcontext.model.IdentityResource;
 import org.eclipse.edc.policy.model.Policy;
@@ -23,6 +24,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus.EXPIRED;
 import static org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus.REVOKED;
 import static org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus.SUSPENDED;
@@ -33,6 +35,10 @@ import static org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStat
  * specifically the issuance and re-issuance policies as well as a representation of the VC
  */
 public class VerifiableCredentialResource extends IdentityResource {
+    /**
+     * Query property of the expiration date of the credential, c.f. {@link #getExpirationTimestamp()}.
+     */
+    public static final String EXPIRATION_TIMESTAMP = "expirationTimestamp";
     private Map<String, Object> metadata = new HashMap<>();
     private int state;
     private Instant timeOfLastStatusUpdate;
@@ -106,6 +112,19 @@ public class VerifiableCredentialResource extends IdentityResource {
         return timeOfLastStatusUpdate;
     }
 
+    /**
+     * The expiration date of the credential in epoch milliseconds, or null if the credential does not expire. Stores make this value
+     * queryable as {@link #EXPIRATION_TIMESTAMP}, so that expiring credentials can be selected without loading all credentials.
+     */
+    @JsonIgnore
+    public Long getExpirationTimestamp() {
+        return ofNullable(verifiableCredential)
+                .map(VerifiableCredentialContainer::credential)
+                .map(VerifiableCredential::getExpirationDate)
+                .map(Instant::toEpochMilli)
+                .orElse(null);
+    }
+
 
     public void setCredentialStatus(VcStatus status) {
         state = status.code();
@@ -116,6 +135,29 @@ public class VerifiableCredentialResource extends IdentityResource {
         return new Builder(this);
     }
 
+    /**
+     * Creates a copy of this resource, which can be modified without affecting the holders of this instance. The metadata map is copied,
+     * the credential and the policies are shared, because they are not modified in place.
+     */
+    public VerifiableCredentialResource copy() {
+        var copy = Builder.newInstance()
+                .id(id)
+                .participantContextId(participantContextId)
+                .timestamp(timestamp)
+                .issuerId(issuerId)
+                .holderId(holderId)
+                .metadata(metadata == null ? null : new HashMap<>(metadata))
+                .issuancePolicy(issuancePolicy)
+                .reissuancePolicy(reissuancePolicy)
+                .credential(verifiableCredential)
+                .usage(usage)
+                .build();
+        copy.clock = clock;
+        copy.state = state;
+        copy.timeOfLastStatusUpdate = timeOfLastStatusUpdate;
+        return copy;
+    }
+
     public CredentialUsage getUsage() {
         return usage;
     }
@@ -15,11 +15,15 @@
 package org.eclipse.edc.identityhub.spi.verifiablecredentials.store;
 
 
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VcStatus;
+import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialProjection;
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCredentialResource;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * The CredentialStore interface represents a store that manages verifiable credentials.
@@ -34,6 +38,14 @@ public interface CredentialStore {
      */
     StoreResult<Void> create(VerifiableCredentialResource credentialResource);
 
+    /**
+     * Creates several verifiable credential resources in one operation. Either all resources are created, or none.
+     *
+     * @param credentialResources The verifiable credential resources to create.
+     * @return A StoreResult object indicating the result of the operation, already-exists if any of the IDs exists already.
+     */
+    StoreResult<Void> createAll(Collection<VerifiableCredentialResource> credentialResources);
+
     /**
      * Queries the store for verifiable credentials based on the given query specification.
      *
@@ -42,6 +54,31 @@ public interface CredentialStore {
      */
     StoreResult<Collection<VerifiableCredentialResource>> query(QuerySpec querySpec);
 
+    /**
+     * Queries the store for verifiable credentials based on the given query specification, and returns the results as a lazily
+     * populated stream. Callers <em>must</em> close the stream, as it may hold on to a database connection and transaction.
+     * Implementations must not tie the stream to a transaction of the transaction context, which may end before the stream is read.
+     * The default implementation delegates to {@link #query(QuerySpec)}.
+     *
+     * @param querySpec The {@link QuerySpec} indicating the criteria for the query.
+     * @return A {@link StoreResult} object containing a stream of {@link VerifiableCredentialResource} objects that match the query.
+     */
+    default StoreResult<Stream<VerifiableCredentialResource>> stream(QuerySpec querySpec) {
+        return query(querySpec).map(Collection::stream);
+    }
+
+    /**
+     * Queries the store like {@link #query(QuerySpec)}, for callers that only need the parsed credential and the metadata, but not the raw
+     * representation of the credential. The results are read-only projections, so that stores don't need to read potentially large
+     * payloads. The default implementation delegates to {@link #query(QuerySpec)}.
+     *
+     * @param querySpec The {@link QuerySpec} indicating the criteria for the query.
+     * @return A {@link StoreResult} object containing a list of {@link VerifiableCredentialProjection} objects that match the query.
+     */
+    default StoreResult<Collection<VerifiableCredentialProjection>> queryWithoutRawVc(QuerySpec querySpec) {
+        return query(querySpec).map(resources -> resources.stream().map(VerifiableCredentialProjection::from).toList());
+    }
+
     /**
      * Updates a verifiable credential resource in the store.
      *
@@ -50,6 +87,15 @@ public interface CredentialStore {
      */
     StoreResult<Void> update(VerifiableCredentialResource credentialResource);
 
+    /**
+     * Updates the state of several verifiable credential resources in one operation. No other fields are modified.
+     *
+     * @param states The new state of each credential, keyed by credential ID.
+     * @return A {@link StoreResult} object indicating the result of the operation, not-found if any of the credentials does not exist.
+     *         The states of the other credentials are updated nonetheless.
+     */
+    StoreResult<Void> updateStates(Map<String, VcStatus> states);
+
     /**
      * Deletes a verifiable credential resource from the store based on the given ID.
      *
@@ -58,6 +104,15 @@ public interface CredentialStore {
      */
     StoreResult<Void> deleteById(String id);
 
+    /**
+     * Deletes all verifiable credential resources that match the given query specification. Note that the limit and offset of the
+     * query are honored.
+     *
+     * @param querySpec The {@link QuerySpec} indicating the criteria for the deletion.
+     * @return A {@link StoreResult} object containing the number of deleted resources.
+     */
+    StoreResult<Integer> deleteByQuery(QuerySpec querySpec);
+
     default String alreadyExistsErrorMessage(String id) {
         return "A VerifiableCredentialResource with ID '%s' already exists.".formatted(id);
     }
@@ -25,6 +25,7 @@ import org.eclipse.edc.identityhub.spi.verifiablecredentials.model.VerifiableCre
 import org.eclipse.edc.identityhub.spi.verifiablecredentials.store.CredentialStore;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -116,6 +117,38 @@ public abstract class CredentialStoreTestBase {
         assertThat(result2).isFailed().detail().contains("already exists");
     }
 
+    @Test
+    void createAll() {
+        var credentials = createCredentials();
+
+        assertThat(getStore().createAll(credentials)).isSucceeded();
+
+        assertThat(getStore().query(QuerySpec.max())).isSucceeded()
+                .satisfies(all -> Assertions.assertThat(all).extracting(VerifiableCredentialResource::getId)
+                        .containsExactlyInAnyOrder("id0", "id1", "id2", "id3", "id4"));
+    }
+
+    @Test
+    void createAll_whenOneExists_shouldCreateNone() {
+        var credentials = createCredentials();
+        getStore().create(credentials.get(2));
+
+        assertThat(getStore().createAll(credentials)).isFailed().detail().contains("already exists");
+
+        assertThat(getStore().query(QuerySpec.max())).isSucceeded()
+                .satisfies(all -> Assertions.assertThat(all).hasSize(1));
+    }
+
+    @Test
+    void createAll_whenDuplicateIds_shouldCreateNone() {
+        var credentials = List.of(createCredentialBuilder().id("id1").build(), createCredentialBuilder().id("id1").build());
+
+        assertThat(getStore().createAll(credentials)).isFailed();
+
+        assertThat(getStore().query(QuerySpec.max())).isSucceeded()
+                .satisfies(all -> Assertions.assertThat(all).isEmpty());
+    }
+
     @Test
     void query_byId() {
         range(0, 5)
@@ -130,6 +163,27 @@ public abstract class CredentialStoreTestBase {
                 .satisfies(str -> Assertions.assertThat(str).hasSize(1));
     }
 
+    @Test
+    void stream_keysetPagination() {
+        range(0, 5)
+                .mapToObj(i -> createCredentialBuilder().id("id" + i).build())
+                .forEach(getStore()::create);
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("id", ">", "id1"))
+                .sortField("id")
+                .sortOrder(SortOrder.ASC)
+                .limit(2)
+                .build();
+
+        var result = getStore().stream(query);
+
+        assertThat(result).isSucceeded();
+        try (var stream = result.getContent()) {
+            Assertions.assertThat(stream).extracting(VerifiableCredentialResource::getId).containsExactly("id2", "id3");
+        }
+    }
+
     @Test
     void query_byParticipantId() {
         range(0, 5)
@@ -347,6 +401,57 @@ public abstract class CredentialStoreTestBase {
                         .containsExactly(expectedCred));
     }
 
+    @Test
+    void query_byExpirationTimestamp() {
+        var now = Instant.now();
+        var expiring = range(0, 3)
+                .mapToObj(i -> createCredentialBuilder()
+                        .id("expiring" + i)
+                        .credential(new VerifiableCredentialContainer(EXAMPLE_VC, CredentialFormat.VC1_0_LD, createVerifiableCredential()
+                                .expirationDate(now.plusSeconds(60 + i))
+                                .build()))
+                        .build())
+                .toList();
+        var notExpiring = createCredentialBuilder()
+                .credential(new VerifiableCredentialContainer(EXAMPLE_VC, CredentialFormat.VC1_0_LD, createVerifiableCredential()
+                        .expirationDate(now.plusSeconds(3600))
+                        .build()))
+                .build();
+        var noExpiry = createCredential();
+        expiring.forEach(getStore()::create);
+        getStore().create(notExpiring);
+        getStore().create(noExpiry);
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion(VerifiableCredentialResource.EXPIRATION_TIMESTAMP, "<=", now.plusSeconds(120).toEpochMilli()))
+                .filter(new Criterion("id", ">", "expiring0"))
+                .sortField("id")
+                .sortOrder(SortOrder.ASC)
+                .build();
+
+        assertThat(getStore().query(query)).isSucceeded()
+                .satisfies(str -> Assertions.assertThat(str).extracting(VerifiableCredentialResource::getId)
+                        .containsExactly("expiring1", "expiring2"));
+    }
+
+    @Test
+    void queryWithoutRawVc() {
+        var creds = createCredentials();
+        creds.forEach(getStore()::create);
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("id", "in", List.of("id1", "id2")))
+                .build();
+
+        assertThat(getStore().queryWithoutRawVc(query)).isSucceeded()
+                .satisfies(str -> Assertions.assertThat(str).hasSize(2)
+                        .allSatisfy(projection -> {
+                            Assertions.assertThat(projection.credential()).isNotNull();
+                            Assertions.assertThat(projection.format()).isEqualTo(CredentialFormat.VC1_0_LD);
+                            Assertions.assertThat(projection.metadata()).containsEntry("foo", "bar");
+                        }));
+    }
+
     @Test
     void query_byMetadata() {
 
@@ -507,6 +612,30 @@ public abstract class CredentialStoreTestBase {
         assertThat(updateRes).isFailed().detail().contains("with ID 'another-id' does not exist.");
     }
 
+    @Test
+    void updateStates() {
+        var credentials = createCredentials();
+        credentials.forEach(getStore()::create);
+
+        var result = getStore().updateStates(Map.of("id1", REVOKED, "id3", VcStatus.EXPIRED));
+
+        assertThat(result).isSucceeded();
+        assertThat(getStore().findById("id1")).isSucceeded().satisfies(c -> Assertions.assertThat(c.getStateAsEnum()).isEqualTo(REVOKED));
+        assertThat(getStore().findById("id3")).isSucceeded().satisfies(c -> Assertions.assertThat(c.getStateAsEnum()).isEqualTo(VcStatus.EXPIRED));
+        assertThat(getStore().findById("id2")).isSucceeded().satisfies(c -> Assertions.assertThat(c.getStateAsEnum()).isEqualTo(VcStatus.ISSUED));
+    }
+
+    @Test
+    void updateStates_whenOneNotExists_updatesOthers() {
+        var credentials = createCredentials();
+        credentials.forEach(getStore()::create);
+
+        var result = getStore().updateStates(Map.of("id1", REVOKED, "not-exist", REVOKED));
+
+        assertThat(result).isFailed().detail().contains("not-exist");
+        assertThat(getStore().findById("id1")).isSucceeded().satisfies(c -> Assertions.assertThat(c.getStateAsEnum()).isEqualTo(REVOKED));
+    }
+
     @Test
     void delete() {
         var credential = createCredential();
@@ -522,6 +651,39 @@ public abstract class CredentialStoreTestBase {
                 .detail().contains("with ID 'not-exist' does not exist.");
     }
 
+    @Test
+    void deleteByQuery() {
+        var credentials = createCredentials();
+        credentials.forEach(getStore()::create);
+        getStore().create(createCredentialBuilder().id("other").participantContextId("other-participant").build());
+
+        var result = getStore().deleteByQuery(queryByParticipantContextId(TEST_PARTICIPANT_CONTEXT_ID).build());
+
+        assertThat(result).isSucceeded().isEqualTo(credentials.size());
+        assertThat(getStore().query(QuerySpec.max())).isSucceeded()
+                .satisfies(all -> Assertions.assertThat(all).extracting(VerifiableCredentialResource::getId).containsExactly("other"));
+    }
+
+    @Test
+    void deleteByQuery_honorsLimit() {
+        createCredentials().forEach(getStore()::create);
+
+        var result = getStore().deleteByQuery(QuerySpec.Builder.newInstance().limit(2).build());
+
+        assertThat(result).isSucceeded().isEqualTo(2);
+        assertThat(getStore().query(QuerySpec.max())).isSucceeded()
+                .satisfies(all -> Assertions.assertThat(all).hasSize(3));
+    }
+
+    @Test
+    void deleteByQuery_whenNoneMatches() {
+        createCredentials().forEach(getStore()::create);
+
+        var result = getStore().deleteByQuery(QuerySpec.Builder.newInstance().filter(new Criterion("id", "=", "not-exist")).build());
+
+        assertThat(result).isSucceeded().isEqualTo(0);
+    }
+
     protected abstract CredentialStore getStore();
 
     protected VerifiableCredentialResource createCredential() {
@@ -548,7 +710,7 @@ public abstract class CredentialStoreTestBase {
                 .toList());
     }
 
-    private VerifiableCredential.Builder createVerifiableCredential() {
+    protected VerifiableCredential.Builder createVerifiableCredential() {
         return VerifiableCredential.Builder.newInstance()
                 .credentialSubject(CredentialSubject.Builder.newInstance().id("test-subject").claim("test-key", "test-val").build())
                 .issuanceDate(Instant.now())